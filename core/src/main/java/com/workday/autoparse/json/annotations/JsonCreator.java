@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicate to Autoparse that instances of a class annotated with {@link JsonObject} should be
+ * created through this constructor or static factory method, rather than a no-argument
+ * constructor followed by assignments to fields and setters. This allows the class to be
+ * immutable, with {@code final} fields.
+ * <p/>
+ * Every parameter must be annotated with {@link JsonValue}. The values are collected while the
+ * JSON object is parsed, and the constructor or method is called once with all of them. A
+ * parameter whose name is not found receives {@code null}, or the default value of its primitive
+ * type.
+ * <p/>
+ * A class may have at most one constructor or method annotated with {@literal@}JsonCreator. The
+ * constructor or method must not be private, and a method must be static and return the class
+ * itself. A class with a {@literal@}JsonCreator receives all of its values through it, so it may
+ * not also have fields or setters annotated with {@link JsonValue}, {@link DiscrimValue} or {@link
+ * JsonSelfValues}, or methods annotated with {@link JsonPostCreateChild}. Its generated {@link
+ * com.workday.autoparse.json.updater.InstanceUpdater} cannot update instances, but it can get the
+ * value of each parameter from the non-private field of the same name, or else from a getter named
+ * after the parameter.
+ *
+ * @since 2026-10-19.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.CONSTRUCTOR, ElementType.METHOD})
+public @interface JsonCreator {
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the target enum constant should be used for strings that do not match any
+ * constant of the enum. Without this annotation, such strings are parsed into {@code null}. At most
+ * one constant of an enum may have this annotation.
+ *
+ * @see JsonEnumValue
+ * @since 2026-10-19.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface JsonEnumDefault {
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gives an enum constant additional names by which it may appear in a JSON document. Autoparse
+ * parses an enum from a string that matches the name of one of its constants or any of the values
+ * listed here.
+ * <p/>
+ * Each name may only be used by one constant of the enum.
+ *
+ * @see JsonEnumDefault
+ * @since 2026-10-19.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface JsonEnumValue {
+
+    /**
+     * The names, in addition to the name of the constant, that are parsed into this constant.
+     */
+    String[] value();
+}
@@ -9,7 +9,10 @@ package com.workday.autoparse.json.annotations;
 
 import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
 import com.workday.autoparse.json.parser.JsonObjectParser;
+import com.workday.autoparse.json.parser.LazyValue;
 import com.workday.autoparse.json.parser.NoJsonObjectParser;
+import com.workday.autoparse.json.parser.SizeHint;
+import com.workday.autoparse.json.parser.StringPool;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -22,8 +25,8 @@ import java.util.Collection;
 
 /**
  * Indicate to Autoparse that this field or setter corresponds to a name-value pair in a JSON
- * object. This annotation is only valid on non-private, non-final fields and non-private, single
- * argument methods (setters).
+ * object. This annotation is only valid on non-private, non-final fields, non-private, single
+ * argument methods (setters) and the parameters of a {@link JsonCreator}.
  * <p/>
  * When a matching name is found, Autoparse will attempt to coerce the value into the type required
  * by the field or setter (e.g. if a String is required, a String will be returned, if a float, a
@@ -47,7 +50,7 @@ import java.util.Collection;
  * @since 2014-10-09
  */
 @Retention(RetentionPolicy.SOURCE)
-@Target({ElementType.FIELD, ElementType.METHOD})
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
 public @interface JsonValue {
 
     /**
@@ -99,4 +102,59 @@ public @interface JsonValue {
      * other cases.
      */
     boolean convertJsonTypes() default true;
+
+    /**
+     * If set to {@code true}, the parsed values are canonicalized through the {@link StringPool}
+     * of the {@link com.workday.autoparse.json.context.JsonParserContext}, so that equal values
+     * share one instance. Use this for members whose values repeat often, such as codes or
+     * identifiers, in objects that are retained. To pool all strings, use {@link
+     * JsonParserSettingsBuilder#withStringPooling(boolean)} instead.
+     * <p/>
+     * This option applies to String and CharSequence fields and setters, and to arrays and
+     * collections of them. A warning is generated in all other cases.
+     */
+    boolean poolStrings() default false;
+
+    /**
+     * If set to {@code true}, the value is not bound when the containing object is parsed. Only
+     * its text is kept, and it is bound to the type of the member, with the same options, the first
+     * time {@link LazyValue#get()} is called. Use this for members that are expensive to bind but
+     * rarely read.
+     * <p/>
+     * The value is still read token by token and copied when the containing object is parsed, so
+     * this saves only the cost of binding, i.e. of creating its objects and converting its values.
+     * A value that is read anyway costs more when it is lazy.
+     * <p/>
+     * The field or the parameter of the setter must be of type {@link LazyValue}, and the value is
+     * bound to its type argument. {@link JsonPostCreateChild} is not called for lazily bound
+     * values. A compilation error will be generated if the type is not a LazyValue, and if a
+     * LazyValue is used without this option.
+     */
+    boolean lazy() default false;
+
+    /**
+     * If set to {@code true}, the parsed collection or map is replaced with an immutable copy of
+     * exactly its size once it has been parsed. See {@link
+     * com.workday.autoparse.json.utils.FrozenCollections}. Use this for long-lived data that is
+     * cached and shared between threads. To freeze all collections, use {@link
+     * JsonParserSettingsBuilder#withFrozenCollections(boolean)} instead.
+     * <p/>
+     * This option applies to fields and setters of type {@link java.util.Collection}, {@link
+     * java.util.List}, {@link java.util.Set} and {@link java.util.Map}, which is what the frozen
+     * copies implement. A warning is generated in all other cases.
+     */
+    boolean freeze() default false;
+
+    /**
+     * The number of elements that the parsed collection or map is expected to hold, so that it is
+     * created with room for them. By default ({@code -1}), the size is estimated from the sizes of
+     * the collections that were parsed for this member before. See {@link SizeHint}.
+     * <p/>
+     * This option applies to fields and setters of collections, maps and arrays of objects that
+     * Autoparse creates with an {@link java.util.ArrayList}, a {@link java.util.HashSet}, a {@link
+     * java.util.LinkedHashSet}, a {@link java.util.HashMap}, a {@link java.util.LinkedHashMap} or a
+     * {@link com.workday.autoparse.json.utils.CompactMap}. A warning is generated in all other
+     * cases.
+     */
+    int expectedSize() default -1;
 }
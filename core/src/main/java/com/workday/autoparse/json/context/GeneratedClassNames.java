@@ -9,6 +9,7 @@ package com.workday.autoparse.json.context;
 
 import com.workday.autoparse.json.parser.JsonObjectParser;
 import com.workday.autoparse.json.parser.JsonObjectParserTable;
+import com.workday.autoparse.json.serializer.JsonObjectSerializer;
 import com.workday.autoparse.json.updater.InstanceUpdaterTable;
 import com.workday.autoparse.json.updater.InstanceUpdaters;
 
@@ -29,9 +30,16 @@ public final class GeneratedClassNames {
     public static final String PACKAGE_INSTANCE_UPDATER_TABLE =
             InstanceUpdaters.class.getPackage().getName();
     public static final String CLASS_JSON_OBJECT_PARSER_TABLE = "GeneratedJsonObjectParserTable";
+    public static final String CLASS_JSON_OBJECT_PARSER_TABLE_MANIFEST =
+            CLASS_JSON_OBJECT_PARSER_TABLE + "Manifest";
     public static final String PACKAGE_JSON_OBJECT_PARSER_TABLE =
             JsonObjectParserTable.class.getPackage().getName();
     public static final String PARSER_SUFFIX = "$$" + JsonObjectParser.class.getSimpleName();
+    public static final String CLASS_JSON_OBJECT_SERIALIZER_TABLE =
+            "GeneratedJsonObjectSerializerTable";
+    public static final String SERIALIZER_SUFFIX =
+            "$$" + JsonObjectSerializer.class.getSimpleName();
+    public static final String CLASS_PARTITION_REGISTRY = "GeneratedPartitionRegistry";
 
     public static String getQualifiedName(String packageName, String className) {
         return String.format(Locale.US, "%s.%s", packageName, className);
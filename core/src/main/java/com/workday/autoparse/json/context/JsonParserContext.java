@@ -8,16 +8,23 @@
 package com.workday.autoparse.json.context;
 
 import com.workday.autoparse.json.parser.CompositeJsonObjectParserTable;
+import com.workday.autoparse.json.parser.CopyOnWriteJsonObjectParserTable;
 import com.workday.autoparse.json.parser.JsonObjectParser;
 import com.workday.autoparse.json.parser.JsonObjectParserTable;
+import com.workday.autoparse.json.parser.JsonObjectParserTableManifest;
 import com.workday.autoparse.json.parser.JsonObjectParserTables;
 import com.workday.autoparse.json.parser.JsonParserUtils;
 import com.workday.autoparse.json.parser.KeyCollisionTester;
+import com.workday.autoparse.json.parser.StringPool;
+import com.workday.autoparse.json.serializer.CompositeJsonObjectSerializerTable;
+import com.workday.autoparse.json.serializer.JsonObjectSerializerTable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A holder of information required by the {@link JsonObjectParser}s and {@link JsonParserUtils}.
@@ -27,32 +34,84 @@ import java.util.List;
  */
 public class JsonParserContext {
 
-    private JsonObjectParserTable parserTable;
+    private CopyOnWriteJsonObjectParserTable parserTable;
     private JsonParserSettings settings;
+    private List<PartitionRegistry> partitions;
+    private volatile JsonObjectSerializerTable serializerTable;
+    private volatile StringPool stringPool;
 
     public JsonParserContext(JsonParserSettings settings) {
         this.settings = settings;
-        parserTable = constructParserTable(settings.getPartitionPackages());
+        partitions = getPartitions(settings);
+        parserTable = new CopyOnWriteJsonObjectParserTable(constructParserTable(partitions));
     }
 
-    private JsonObjectParserTable constructParserTable(Collection<String> packageNames) {
-        if (packageNames.isEmpty()) {
-            packageNames =
-                    Collections.singletonList(JsonParserSettingsBuilder
-                                                      .DEFAULT_OBJECT_PARSER_PACKAGE);
+    private static JsonObjectParserTable constructParserTable(List<PartitionRegistry> partitions) {
+        if (partitions.size() == 1) {
+            return partitions.get(0).newParserTable();
         }
-        if (packageNames.size() == 1) {
-            return JsonObjectParserTables.getParserTable(packageNames.iterator().next());
+
+        final Map<String, JsonObjectParserTableManifest> manifests = new LinkedHashMap<>();
+        for (PartitionRegistry partition : partitions) {
+            manifests.put(partition.getPackageName(), partition.getParserTableManifest());
         }
+        KeyCollisionTester.validateManifests(manifests);
 
+        // Partitions are only loaded once one of their discrimination values is looked up.
         final List<JsonObjectParserTable> components = new ArrayList<>();
-        for (String packageName : packageNames) {
-            components.add(JsonObjectParserTables.getParserTable((packageName)));
+        for (PartitionRegistry partition : partitions) {
+            components.add(JsonObjectParserTables.getLazyParserTable(partition));
         }
-        KeyCollisionTester.validateMaps(components);
         return new CompositeJsonObjectParserTable(components);
     }
 
+    /**
+     * @return The registries given to the settings, followed by those of the partitions given by
+     * name, without duplicates. If there are none, the registry of the default partition.
+     */
+    private static List<PartitionRegistry> getPartitions(JsonParserSettings settings) {
+        Map<String, PartitionRegistry> partitions = new LinkedHashMap<>();
+        for (PartitionRegistry partition : settings.getPartitionRegistries()) {
+            partitions.put(partition.getPackageName(), partition);
+        }
+        Collection<String> packageNames = settings.getPartitionPackages();
+        if (partitions.isEmpty() && packageNames.isEmpty()) {
+            packageNames = Collections.singletonList(JsonParserSettingsBuilder
+                                                             .DEFAULT_OBJECT_PARSER_PACKAGE);
+        }
+        for (String packageName : packageNames) {
+            if (!partitions.containsKey(packageName)) {
+                partitions.put(packageName, getPartitionRegistry(packageName));
+            }
+        }
+        return new ArrayList<>(partitions.values());
+    }
+
+    private static PartitionRegistry getPartitionRegistry(String packageName) {
+        try {
+            String className = GeneratedClassNames.getQualifiedName(
+                    packageName, GeneratedClassNames.CLASS_PARTITION_REGISTRY);
+            return (PartitionRegistry) Class.forName(className).newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        } catch (InstantiationException e) {
+            throw new RuntimeException(e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private JsonObjectSerializerTable constructSerializerTable() {
+        if (partitions.size() == 1) {
+            return partitions.get(0).newSerializerTable();
+        }
+        final List<JsonObjectSerializerTable> components = new ArrayList<>();
+        for (PartitionRegistry partition : partitions) {
+            components.add(partition.newSerializerTable());
+        }
+        return new CompositeJsonObjectSerializerTable(components);
+    }
+
     public JsonParserSettings getSettings() {
         return settings;
     }
@@ -60,4 +119,66 @@ public class JsonParserContext {
     public JsonObjectParserTable getJsonObjectParserTable() {
         return parserTable;
     }
+
+    /**
+     * @return The serializers generated for the partitions of this context. They are only loaded
+     * the first time this is called, so contexts that are only used for parsing never load them.
+     */
+    public JsonObjectSerializerTable getJsonObjectSerializerTable() {
+        JsonObjectSerializerTable table = serializerTable;
+        if (table == null) {
+            synchronized (this) {
+                table = serializerTable;
+                if (table == null) {
+                    table = constructSerializerTable();
+                    serializerTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return The pool that string values parsed with this context are canonicalized through, if
+     * pooling is enabled for them. It is created the first time this is called.
+     * @see JsonParserSettingsBuilder#withStringPooling(boolean)
+     */
+    public StringPool getStringPool() {
+        StringPool pool = stringPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = stringPool;
+                if (pool == null) {
+                    pool = new StringPool(settings.getStringPoolCapacity());
+                    stringPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Register a parser for a discrimination value that is not known to the generated tables of
+     * this context, e.g. for a model in a module loaded after startup. This may be called while
+     * other threads are parsing with this context. They are never blocked and will see the new
+     * parser on their next lookup.
+     *
+     * @throws IllegalArgumentException if {@code discriminationValue} is already mapped.
+     */
+    public void registerParser(String discriminationValue, JsonObjectParser<?> parser) {
+        parserTable.register(Collections.singletonMap(discriminationValue, parser));
+    }
+
+    /**
+     * Register several parsers at once. Concurrent parses see either all of them or none.
+     *
+     * @param parsers The parsers to add, keyed by discrimination value.
+     *
+     * @throws IllegalArgumentException if any of the discrimination values is already mapped, in
+     * which case none of the parsers are registered.
+     * @see #registerParser(String, JsonObjectParser)
+     */
+    public void registerParsers(Map<String, ? extends JsonObjectParser<?>> parsers) {
+        parserTable.register(parsers);
+    }
 }
@@ -8,8 +8,12 @@
 package com.workday.autoparse.json.context;
 
 import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.parser.JsonNumber;
 import com.workday.autoparse.json.parser.JsonObjectParser;
 import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.StringPool;
+import com.workday.autoparse.json.tree.LazyJsonValue;
+import com.workday.autoparse.json.utils.FrozenCollections;
 
 import org.json.JSONObject;
 
@@ -28,6 +32,26 @@ import java.util.Collection;
  * does not contain a Discrimination Name-Value Pair or the Discrimination Value does not match any
  * known one, then this {@link JsonObjectParser} will be used to parse the object. If no such parser
  * is provided, then Autoparse will try to return a {@link JSONObject} for the unknown object.
+ * <p/>
+ * <h3>Discrimination Prescan</h3> If enabled, the raw document is scanned before parsing and the
+ * Discrimination Name-Value Pair of every object is moved to the front of that object, so that
+ * objects whose discrimination name appears late do not need to be buffered before they can be
+ * bound to a custom type. This holds the whole document in memory, and is often slower than
+ * parsing without it. See {@link JsonParserSettingsBuilder#withDiscriminationPrescan(boolean)}.
+ * <p/>
+ * <h3>String Pooling</h3> If enabled, every string value read from the document is canonicalized
+ * through the {@link StringPool} of the context, so that repeated values share one instance. The
+ * capacity of the pool may also be configured.
+ * <p/>
+ * <h3>Lazy JSON Trees</h3> If enabled, objects and arrays that are parsed without converting JSON
+ * types are kept as {@link LazyJsonValue}s instead of {@link JSONObject}s and JSONArrays.
+ * <p/>
+ * <h3>Frozen Collections</h3> If enabled, members of type Collection, List, Set and Map are
+ * replaced with exact-size immutable copies once they have been parsed. See {@link
+ * FrozenCollections}.
+ * <p/>
+ * <h3>Typed Numbers</h3> If enabled, numbers with no declared type are read as {@link
+ * JsonNumber}s instead of Strings.
  *
  * @author nathan.taylor
  * @since 2014-10-09
@@ -38,15 +62,36 @@ public class JsonParserSettings {
     private JsonObjectParser<?> unknownObjectParser;
     private Class<?> unknownObjectClass;
     private Collection<String> partitionPackages;
+    private Collection<PartitionRegistry> partitionRegistries;
+    private boolean discriminationPrescanEnabled;
+    private boolean stringPoolingEnabled;
+    private int stringPoolCapacity;
+    private boolean lazyJsonTreesEnabled;
+    private boolean frozenCollectionsEnabled;
+    private boolean typedNumbersEnabled;
 
     JsonParserSettings(String discriminationName,
                        JsonObjectParser<?> unknownObjectParser,
                        Class<?> unknownObjectClass,
-                       Collection<String> partitionPackages) {
+                       Collection<String> partitionPackages,
+                       Collection<PartitionRegistry> partitionRegistries,
+                       boolean discriminationPrescanEnabled,
+                       boolean stringPoolingEnabled,
+                       int stringPoolCapacity,
+                       boolean lazyJsonTreesEnabled,
+                       boolean frozenCollectionsEnabled,
+                       boolean typedNumbersEnabled) {
         this.discriminationKeyName = discriminationName;
         this.unknownObjectParser = unknownObjectParser;
         this.unknownObjectClass = unknownObjectClass;
         this.partitionPackages = partitionPackages;
+        this.partitionRegistries = partitionRegistries;
+        this.discriminationPrescanEnabled = discriminationPrescanEnabled;
+        this.stringPoolingEnabled = stringPoolingEnabled;
+        this.stringPoolCapacity = stringPoolCapacity;
+        this.lazyJsonTreesEnabled = lazyJsonTreesEnabled;
+        this.frozenCollectionsEnabled = frozenCollectionsEnabled;
+        this.typedNumbersEnabled = typedNumbersEnabled;
     }
 
     public String getDiscriminationName() {
@@ -61,7 +106,39 @@ public class JsonParserSettings {
         return unknownObjectClass;
     }
 
+    /**
+     * @return The packages of the partitions that were given by name. Partitions that were given by
+     * their {@link PartitionRegistry} are not included.
+     */
     public Collection<String> getPartitionPackages() {
         return partitionPackages;
     }
+
+    public Collection<PartitionRegistry> getPartitionRegistries() {
+        return partitionRegistries;
+    }
+
+    public boolean isDiscriminationPrescanEnabled() {
+        return discriminationPrescanEnabled;
+    }
+
+    public boolean isStringPoolingEnabled() {
+        return stringPoolingEnabled;
+    }
+
+    public int getStringPoolCapacity() {
+        return stringPoolCapacity;
+    }
+
+    public boolean isLazyJsonTreesEnabled() {
+        return lazyJsonTreesEnabled;
+    }
+
+    public boolean isFrozenCollectionsEnabled() {
+        return frozenCollectionsEnabled;
+    }
+
+    public boolean isTypedNumbersEnabled() {
+        return typedNumbersEnabled;
+    }
 }
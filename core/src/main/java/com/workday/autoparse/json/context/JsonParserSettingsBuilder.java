@@ -9,11 +9,21 @@ package com.workday.autoparse.json.context;
 
 import com.workday.autoparse.json.annotations.JsonObject;
 import com.workday.autoparse.json.annotations.JsonParserPartition;
+import com.workday.autoparse.json.annotations.JsonSelfValues;
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.parser.JsonNumber;
 import com.workday.autoparse.json.parser.JsonObjectParser;
 import com.workday.autoparse.json.parser.JsonObjectParserTable;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.StringPool;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+import com.workday.autoparse.json.tree.LazyJsonObjectParser;
 import com.workday.autoparse.json.updater.InstanceUpdaterTable;
 import com.workday.meta.ConcreteTypeNames;
 
+import org.json.JSONObject;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -32,6 +42,13 @@ public class JsonParserSettingsBuilder {
     private JsonObjectParser<?> unknownObjectParser;
     private Class<?> unknownObjectClass;
     private List<String> partitionPackages = new ArrayList<>();
+    private List<PartitionRegistry> partitionRegistries = new ArrayList<>();
+    private boolean discriminationPrescanEnabled;
+    private boolean stringPoolingEnabled;
+    private int stringPoolCapacity = StringPool.DEFAULT_CAPACITY;
+    private boolean lazyJsonTreesEnabled;
+    private boolean frozenCollectionsEnabled;
+    private boolean typedNumbersEnabled;
 
     public JsonParserSettingsBuilder withDiscriminationName(String discriminationName) {
         this.discriminationName = discriminationName;
@@ -53,7 +70,13 @@ public class JsonParserSettingsBuilder {
      * <p/>
      * When the {@link JsonParserSettings} instance is created, a validation is performed to ensure
      * that there are no name collisions (multiple classes mapping to the same discrimination name)
-     * among the partitions. If there are, an {@link IllegalArgumentException} is thrown.
+     * among the partitions. If there are, an {@link IllegalArgumentException} is thrown. The
+     * validation only reads the key manifests generated for each partition and a successful
+     * result is cached, and the parsers of a partition are not loaded until one of its
+     * discrimination values is encountered.
+     * <p/>
+     * Each package is resolved to the {@link PartitionRegistry} generated in it by reflection. Use
+     * {@link #withPartitions(PartitionRegistry...)} to avoid that.
      *
      * @param partitionPackages The fully qualified names of the packages that hold the partitions.
      * These are packages annotated with {@literal@}{@link JsonParserPartition}.
@@ -65,9 +88,133 @@ public class JsonParserSettingsBuilder {
         return this;
     }
 
+    /**
+     * Same as {@link #withPartitions(String...)}, but takes the {@link PartitionRegistry}s that
+     * were generated for the partitions, e.g. {@code com.example.models.GeneratedPartitionRegistry.INSTANCE}.
+     * Partitions given this way are resolved without reflection. To include the default partition,
+     * include the registry generated in {@link #DEFAULT_OBJECT_PARSER_PACKAGE}. Both forms may be
+     * combined.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withPartitions(PartitionRegistry... partitionRegistries) {
+        this.partitionRegistries.addAll(Arrays.asList(partitionRegistries));
+        return this;
+    }
+
+    /**
+     * Enable or disable the discrimination prescan. It is disabled by default.
+     * <p/>
+     * When enabled, a {@link JsonStreamParser} reads the whole document into memory, and a
+     * bracket-aware scan of the raw bytes moves the Discrimination Name-Value Pair of every object to
+     * the front of that object, if it begins within the first few kilobytes of the object. The right
+     * parser can then bind each object from its start in a single pass. Without the prescan, an
+     * object whose discrimination name is not its first member is buffered into a {@link JSONObject}
+     * until the discrimination name is found. The document must be encoded as UTF-8 or another
+     * ASCII-compatible encoding.
+     * <p/>
+     * The prescan is often slower than parsing without it, because the document is scanned and
+     * copied once more before it is parsed. It is clearly slower when discrimination names already
+     * come first, and at best about even when they come last. It also holds the whole document, and a
+     * rewritten copy of it, in memory, where parsing without it streams. Only enable it after
+     * measuring that it helps with your documents.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withDiscriminationPrescan(boolean discriminationPrescanEnabled) {
+        this.discriminationPrescanEnabled = discriminationPrescanEnabled;
+        return this;
+    }
+
+    /**
+     * Enable or disable pooling of all string values. It is disabled by default.
+     * <p/>
+     * When enabled, every string value read from a document, including those of untyped values and
+     * {@link JSONObject}s, is canonicalized through the {@link StringPool} of the {@link
+     * JsonParserContext}, so that equal values parsed from the same context share one instance.
+     * This costs a lookup per string, and saves memory if the parsed objects are retained and many
+     * of their values repeat. To pool the values of only some members, use {@link
+     * JsonValue#poolStrings()} instead. The hit rate of the pool is available from {@link
+     * JsonParserContext#getStringPool()}, once {@link StringPool#setStatisticsEnabled(boolean)} is
+     * turned on.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withStringPooling(boolean stringPoolingEnabled) {
+        this.stringPoolingEnabled = stringPoolingEnabled;
+        return this;
+    }
+
+    /**
+     * Set the number of strings that the {@link StringPool} of the context can hold. The default is
+     * {@link StringPool#DEFAULT_CAPACITY}.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withStringPoolCapacity(int stringPoolCapacity) {
+        if (stringPoolCapacity <= 0) {
+            throw new IllegalArgumentException("stringPoolCapacity must be positive, but was "
+                                                       + stringPoolCapacity);
+        }
+        this.stringPoolCapacity = stringPoolCapacity;
+        return this;
+    }
+
+    /**
+     * Enable or disable lazy JSON trees. They are disabled by default.
+     * <p/>
+     * When enabled, objects and arrays parsed into members of type {@link Object} with {@link
+     * JsonValue#convertJsonTypes()} set to {@code false}, or into {@link JsonSelfValues} maps that
+     * do not convert JSON types, are kept as {@link LazyJsonObject}s and {@link LazyJsonArray}s
+     * rather than {@link JSONObject}s and {@link org.json.JSONArray}s. These hold the text of the
+     * value and only materialize what is accessed, which makes them much cheaper to keep and
+     * forward. To keep unknown objects as LazyJsonObjects as well, pass {@link
+     * LazyJsonObjectParser#INSTANCE} to {@link #withUnknownObjectParser(JsonObjectParser, Class)}.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withLazyJsonTrees(boolean lazyJsonTreesEnabled) {
+        this.lazyJsonTreesEnabled = lazyJsonTreesEnabled;
+        return this;
+    }
+
+    /**
+     * Enable or disable frozen collections. They are disabled by default.
+     * <p/>
+     * When enabled, members declared as {@link java.util.Collection}, {@link java.util.List},
+     * {@link java.util.Set} or {@link java.util.Map} are replaced with exact-size immutable copies
+     * once they have been parsed, as if each had {@link JsonValue#freeze()} set. Use this for
+     * long-lived data that is cached and shared between threads. Members of concrete collection
+     * types are left as they are.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withFrozenCollections(boolean frozenCollectionsEnabled) {
+        this.frozenCollectionsEnabled = frozenCollectionsEnabled;
+        return this;
+    }
+
+    /**
+     * Enable or disable typed numbers. They are disabled by default.
+     * <p/>
+     * When enabled, numbers with no declared type, such as in members of type Object, in {@link
+     * JsonSelfValues} maps and in collections of Objects, are read as {@link JsonNumber}s instead
+     * of Strings. A JsonNumber is decoded once, into the narrowest of Integer, Long and Double,
+     * and {@link com.workday.autoparse.json.updater.MapValueGetter} reads it without parsing its
+     * text again.
+     *
+     * @return This JsonParserSettingsBuilder.
+     */
+    public JsonParserSettingsBuilder withTypedNumbers(boolean typedNumbersEnabled) {
+        this.typedNumbersEnabled = typedNumbersEnabled;
+        return this;
+    }
+
     /**
      * You can use this method to set the unknown object parser if that parser was generated by
-     * Autoparse.
+     * Autoparse. The parser is looked up by reflection. To avoid that, pass the generated parser
+     * to {@link #withUnknownObjectParser(JsonObjectParser, Class)} instead, e.g. {@code
+     * withUnknownObjectParser(Foo$$JsonObjectParser.INSTANCE, Foo.class)}.
      *
      * @param unknownObjectClass The type of object that will be created when an unknown object is
      * encountered in the JSON document. This class must be annotated with {@literal@}{@link
@@ -104,6 +251,13 @@ public class JsonParserSettingsBuilder {
         return new JsonParserSettings(discriminationName,
                                       unknownObjectParser,
                                       unknownObjectClass,
-                                      partitionPackages);
+                                      partitionPackages,
+                                      partitionRegistries,
+                                      discriminationPrescanEnabled,
+                                      stringPoolingEnabled,
+                                      stringPoolCapacity,
+                                      lazyJsonTreesEnabled,
+                                      frozenCollectionsEnabled,
+                                      typedNumbersEnabled);
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.context;
+
+import com.workday.autoparse.json.annotations.JsonParserPartition;
+import com.workday.autoparse.json.parser.JsonObjectParserTable;
+import com.workday.autoparse.json.parser.JsonObjectParserTableManifest;
+import com.workday.autoparse.json.serializer.JsonObjectSerializerTable;
+import com.workday.autoparse.json.updater.InstanceUpdaterTable;
+
+/**
+ * The entry point to the generated tables of one partition. Autoparse generates an implementation
+ * named {@value GeneratedClassNames#CLASS_PARTITION_REGISTRY} in the package of each partition (or
+ * in {@link JsonParserSettingsBuilder#DEFAULT_OBJECT_PARSER_PACKAGE} for the default partition),
+ * with a {@code public static final INSTANCE}.
+ * <p/>
+ * Passing that instance to {@link JsonParserSettingsBuilder#withPartitions(PartitionRegistry...)}
+ * rather than the name of its package means that no generated class is ever looked up by name.
+ * This saves the reflective lookups at startup, and lets code shrinkers and ahead-of-time compilers
+ * see every generated class that is used. Each table is still only created, and its classes only
+ * loaded, when it is first needed.
+ *
+ * @since 2026-10-19.
+ */
+public interface PartitionRegistry {
+
+    /**
+     * @return The package of the partition, i.e. the package annotated with {@link
+     * JsonParserPartition}.
+     */
+    String getPackageName();
+
+    JsonObjectParserTableManifest getParserTableManifest();
+
+    JsonObjectParserTable newParserTable();
+
+    JsonObjectSerializerTable newSerializerTable();
+
+    InstanceUpdaterTable newInstanceUpdaterTable();
+}
@@ -7,6 +7,8 @@
 
 package com.workday.autoparse.json.initializers;
 
+import com.workday.autoparse.json.utils.CompactMap;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -43,7 +45,7 @@ public final class CollectionInitializerFactory {
         } else if (LinkedHashSet.class.equals(clazz)) {
             return LinkedHashSetInitializer.INSTANCE;
         } else if (Map.class.equals(clazz)) {
-            return HashMapInitializer.INSTANCE;
+            return CompactMapInitializer.INSTANCE;
         } else if (HashMap.class.equals(clazz)) {
             return HashMapInitializer.INSTANCE;
         } else if (LinkedHashMap.class.equals(clazz)) {
@@ -132,6 +134,19 @@ public final class CollectionInitializerFactory {
         }
     }
 
+    public static class CompactMapInitializer implements CollectionInitializer {
+
+        public static final CompactMapInitializer INSTANCE = new CompactMapInitializer();
+
+        private CompactMapInitializer() {
+        }
+
+        @Override
+        public Object newInstance() {
+            return new CompactMap<>();
+        }
+    }
+
     private CollectionInitializerFactory() {
     }
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parses {@link BigDecimal}s and {@link BigInteger}s from text. Numbers with at most {@value #MAX_FAST_DIGITS} digits
+ * are accumulated straight into a long and built with {@link BigDecimal#valueOf(long, int)} or {@link
+ * BigInteger#valueOf(long)}, which keep small values in a compact form instead of a magnitude array. Anything else,
+ * including text that is not a number, falls back to the constructors, so the results and the exceptions are exactly
+ * those of {@code new BigDecimal(text)} and {@code new BigInteger(text)}.
+ *
+ * @since 2026-10-19.
+ */
+public final class BigNumbers {
+
+    /**
+     * Any number with this many digits fits in a long.
+     */
+    static final int MAX_FAST_DIGITS = 18;
+
+    /**
+     * Any exponent with this many digits fits in an int, even after the scale of the digits is subtracted from it.
+     */
+    private static final int MAX_FAST_EXPONENT_DIGITS = 9;
+
+    private BigNumbers() {
+    }
+
+    public static BigDecimal parseBigDecimal(String text) {
+        final int length = text.length();
+        int position = 0;
+        boolean negative = false;
+        if (position < length && text.charAt(position) == '-') {
+            negative = true;
+            position++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_FAST_DIGITS) {
+                    return new BigDecimal(text);
+                }
+                unscaled = 10 * unscaled + (c - '0');
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return new BigDecimal(text);
+        }
+
+        if (position < length) {
+            char c = text.charAt(position);
+            if (c != 'e' && c != 'E') {
+                return new BigDecimal(text);
+            }
+            position++;
+            boolean negativeExponent = false;
+            if (position < length && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+                negativeExponent = text.charAt(position) == '-';
+                position++;
+            }
+            int exponent = 0;
+            int exponentDigits = 0;
+            for (; position < length; position++) {
+                c = text.charAt(position);
+                if (c < '0' || c > '9' || ++exponentDigits > MAX_FAST_EXPONENT_DIGITS) {
+                    return new BigDecimal(text);
+                }
+                exponent = 10 * exponent + (c - '0');
+            }
+            if (exponentDigits == 0) {
+                return new BigDecimal(text);
+            }
+            scale -= negativeExponent ? -exponent : exponent;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    public static BigInteger parseBigInteger(String text) {
+        final int length = text.length();
+        int position = 0;
+        boolean negative = false;
+        if (position < length && text.charAt(position) == '-') {
+            negative = true;
+            position++;
+        }
+        if (position == length || length - position > MAX_FAST_DIGITS) {
+            return new BigInteger(text);
+        }
+
+        long value = 0;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c < '0' || c > '9') {
+                return new BigInteger(text);
+            }
+            value = 10 * value + (c - '0');
+        }
+        return BigInteger.valueOf(negative ? -value : value);
+    }
+}
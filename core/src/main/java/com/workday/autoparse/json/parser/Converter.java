@@ -8,12 +8,14 @@
 package com.workday.autoparse.json.parser;
 
 /**
- * Converts a {@link String} to another type.
+ * Converts a {@link String} to another type. Generated parsers implement this for the enums they
+ * parse, and register their implementations with {@link JsonParserUtils#registerConverter(Class,
+ * Converter)}.
  *
  * @author nathan.taylor
  * @since 2014-10-13.
  */
-interface Converter<T> {
+public interface Converter<T> {
 
     public T convert(String value);
 }
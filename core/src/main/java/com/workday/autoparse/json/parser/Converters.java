@@ -9,6 +9,8 @@ package com.workday.autoparse.json.parser;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Utility class for creating {@link Converter}s.
@@ -18,9 +20,20 @@ import java.math.BigInteger;
  */
 final class Converters {
 
+    private static final ConcurrentMap<Class<?>, Converter<?>> REGISTERED_CONVERTERS =
+            new ConcurrentHashMap<>();
+
     private Converters() {
     }
 
+    /**
+     * Make {@code converter} the {@link Converter} for {@code toClass}, unless one is already
+     * registered.
+     */
+    public static <T> void register(Class<T> toClass, Converter<T> converter) {
+        REGISTERED_CONVERTERS.putIfAbsent(toClass, converter);
+    }
+
     /**
      * Get the instance of a {@link Converter} that will convert from a String to the provided
      * class.
@@ -28,7 +41,10 @@ final class Converters {
     // We are checking classes; casting is safe.
     @SuppressWarnings("unchecked")
     public static <T> Converter<T> getConverter(Class<T> toClass) {
-        if (Byte.class.equals(toClass)) {
+        Converter<?> registered = REGISTERED_CONVERTERS.get(toClass);
+        if (registered != null) {
+            return (Converter<T>) registered;
+        } else if (Byte.class.equals(toClass)) {
             return (Converter<T>) ByteConverter.INSTANCE;
         } else if (Character.class.equals(toClass)) {
             return (Converter<T>) CharacterConverter.INSTANCE;
@@ -52,7 +68,8 @@ final class Converters {
     }
 
     public static boolean isConvertibleFromString(Class<?> clazz) {
-        return Number.class.isAssignableFrom(clazz) || Character.class.equals(clazz);
+        return Number.class.isAssignableFrom(clazz) || Character.class.equals(clazz)
+                || REGISTERED_CONVERTERS.containsKey(clazz);
     }
 
     public static class ByteConverter implements Converter<Byte> {
@@ -155,7 +172,7 @@ final class Converters {
 
         @Override
         public BigDecimal convert(String value) {
-            return new BigDecimal(value);
+            return BigNumbers.parseBigDecimal(value);
         }
     }
 
@@ -168,7 +185,7 @@ final class Converters {
 
         @Override
         public BigInteger convert(String value) {
-            return new BigInteger(value);
+            return BigNumbers.parseBigInteger(value);
         }
     }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import com.workday.autoparse.json.utils.Preconditions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link JsonObjectParserTable} that wraps the generated tables of a context and accepts
+ * additional {@link JsonObjectParser}s at runtime, e.g. for models in modules that are loaded after
+ * the context was created.
+ * <p/>
+ * Registered parsers are held in an immutable map that is replaced as a whole on every
+ * registration. Lookups read a single volatile reference and never block, and they always see
+ * either all or none of the parsers from one call to {@link #register(Map)}. Registrations are
+ * serialized with each other.
+ *
+ * @since 2026-10-19.
+ */
+public final class CopyOnWriteJsonObjectParserTable implements JsonObjectParserTable {
+
+    private final JsonObjectParserTable base;
+    private volatile Map<String, JsonObjectParser<?>> registeredParsers = Collections.emptyMap();
+
+    public CopyOnWriteJsonObjectParserTable(JsonObjectParserTable base) {
+        this.base = base;
+    }
+
+    @Override
+    public JsonObjectParser<?> get(String discriminationValue) {
+        JsonObjectParser<?> parser = base.get(discriminationValue);
+        return parser != null ? parser : registeredParsers.get(discriminationValue);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> keySet = new HashSet<>(base.keySet());
+        keySet.addAll(registeredParsers.keySet());
+        return keySet;
+    }
+
+    /**
+     * Add parsers for new discrimination values. Either all of the parsers are added or, if any of
+     * them is invalid, none are.
+     *
+     * @param parsers The parsers to add, keyed by discrimination value.
+     *
+     * @throws IllegalArgumentException if a discrimination value is already mapped, either by a
+     * generated table or by an earlier registration, or if a key or parser is null.
+     */
+    public synchronized void register(Map<String, ? extends JsonObjectParser<?>> parsers) {
+        Map<String, JsonObjectParser<?>> current = registeredParsers;
+        Set<String> baseKeys = base.keySet();
+        for (Map.Entry<String, ? extends JsonObjectParser<?>> entry : parsers.entrySet()) {
+            String discriminationValue = entry.getKey();
+            Preconditions.checkNotNull(discriminationValue, "discriminationValue");
+            Preconditions.checkNotNull(entry.getValue(), "parser");
+            Preconditions.checkArgument(!baseKeys.contains(discriminationValue)
+                                                && !current.containsKey(discriminationValue),
+                                        "A parser is already registered for discrimination value '"
+                                                + discriminationValue + "'.");
+        }
+
+        Map<String, JsonObjectParser<?>> copy = new HashMap<>(current);
+        copy.putAll(parsers);
+        registeredParsers = Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import com.workday.autoparse.json.utils.Preconditions;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A small inline cache of discrimination values to {@link JsonObjectParser}s for a single field or
+ * setter. Generated parsers keep one of these for every member whose parser cannot be determined
+ * at compile time, such as members typed as an interface or a collection of one. In most documents
+ * only one or two discrimination values appear at such a member, so they are resolved here by
+ * comparing the length and then the characters of a handful of strings instead of asking the
+ * {@link JsonObjectParserTable}.
+ * <p/>
+ * A cache holds at most {@value #MAX_ENTRIES} discrimination values for each table. Once it is
+ * full, any other value goes to the table each time. Only values that have a parser are cached.
+ * Values are cached separately for each of the last {@value #MAX_TABLES} tables that the cache was
+ * used with, e.g. from {@link com.workday.autoparse.json.context.JsonParserContext}s with other
+ * partitions, so that parsing with a few contexts in turn does not evict the values of the others.
+ * Caches are static, so they refer to tables and cached parsers only weakly. A table that is no
+ * longer used, along with any parsers that were registered only with it, can still be collected,
+ * and its place in the cache is the first to be reused.
+ * <p/>
+ * To see how well caches are doing, turn on {@link #setStatisticsEnabled(boolean)}, and use {@link
+ * #getHitCount()}, {@link #getMissCount()} and {@link #getHitRate()}, and {@link #getAllCaches()}
+ * to find the caches that have been created. Lookups are not counted otherwise, since the caches
+ * are shared by every thread that parses.
+ *
+ * @since 2026-10-19.
+ */
+public final class DiscriminationCache {
+
+    /**
+     * The maximum number of discrimination values that a cache holds for each table.
+     */
+    public static final int MAX_ENTRIES = 4;
+
+    /**
+     * The maximum number of tables that a cache holds values for. The values of the table that was
+     * added first are dropped to make room for another.
+     */
+    public static final int MAX_TABLES = 4;
+
+    private static final List<DiscriminationCache> ALL_CACHES = new CopyOnWriteArrayList<>();
+    private static volatile boolean statisticsEnabled;
+
+    private final String name;
+    private volatile Entries[] tables = new Entries[0];
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param name A name for this cache, used when reporting its hit rate. Generated parsers use
+     * the name of the class and member that the cache belongs to.
+     */
+    public DiscriminationCache(String name) {
+        Preconditions.checkNotNull(name, "name");
+        this.name = name;
+        ALL_CACHES.add(this);
+    }
+
+    /**
+     * @return Every cache that has been created so far, in order of creation.
+     */
+    public static List<DiscriminationCache> getAllCaches() {
+        return Collections.unmodifiableList(new ArrayList<>(ALL_CACHES));
+    }
+
+    /**
+     * Turn on or off counting the hits and misses of all caches. This is off by default, and is
+     * meant for debugging and benchmarks.
+     */
+    public static void setStatisticsEnabled(boolean enabled) {
+        statisticsEnabled = enabled;
+    }
+
+    public static boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    /**
+     * Find the parser for {@code discriminationValue}, looking in this cache first and in {@code
+     * table} on a miss.
+     *
+     * @return The parser for {@code discriminationValue}, or null if {@code table} has none.
+     */
+    public JsonObjectParser<?> get(String discriminationValue, JsonObjectParserTable table) {
+        final Entries[] tables = this.tables;
+        for (int i = 0; i < tables.length; i++) {
+            final Entries entries = tables[i];
+            if (entries.table.get() == table) {
+                JsonObjectParser<?> parser = entries.find(discriminationValue);
+                if (parser != null) {
+                    if (statisticsEnabled) {
+                        hitCount.incrementAndGet();
+                    }
+                    return parser;
+                }
+                break;
+            }
+        }
+
+        if (statisticsEnabled) {
+            missCount.incrementAndGet();
+        }
+        JsonObjectParser<?> parser = table.get(discriminationValue);
+        if (parser != null) {
+            add(discriminationValue, parser, table);
+        }
+        return parser;
+    }
+
+    private synchronized void add(String discriminationValue,
+                                  JsonObjectParser<?> parser,
+                                  JsonObjectParserTable table) {
+        Entries[] current = removeCollectedTables(tables);
+        int index = 0;
+        while (index < current.length && current[index].table.get() != table) {
+            index++;
+        }
+
+        if (index == current.length) {
+            Entries entries = new Entries(new WeakReference<>(table),
+                                          new String[]{discriminationValue},
+                                          new WeakReference<?>[]{new WeakReference<>(parser)});
+            Entries[] updated;
+            if (current.length < MAX_TABLES) {
+                updated = Arrays.copyOf(current, current.length + 1);
+            } else {
+                updated = new Entries[current.length];
+                System.arraycopy(current, 1, updated, 0, current.length - 1);
+            }
+            updated[updated.length - 1] = entries;
+            tables = updated;
+            return;
+        }
+
+        Entries entries = current[index];
+        int size = entries.keys.length;
+        if (size >= MAX_ENTRIES || entries.find(discriminationValue) != null) {
+            // Full, or another thread added it first.
+            tables = current;
+            return;
+        }
+        String[] keys = Arrays.copyOf(entries.keys, size + 1);
+        WeakReference<?>[] parsers = Arrays.copyOf(entries.parsers, size + 1);
+        keys[size] = discriminationValue;
+        parsers[size] = new WeakReference<>(parser);
+        Entries[] updated = current.clone();
+        updated[index] = new Entries(entries.table, keys, parsers);
+        tables = updated;
+    }
+
+    /**
+     * @return {@code current}, without the values of tables that have been collected.
+     */
+    private static Entries[] removeCollectedTables(Entries[] current) {
+        int live = 0;
+        for (Entries entries : current) {
+            if (entries.table.get() != null) {
+                live++;
+            }
+        }
+        if (live == current.length) {
+            return current;
+        }
+        Entries[] result = new Entries[live];
+        int index = 0;
+        for (Entries entries : current) {
+            if (entries.table.get() != null) {
+                result[index++] = entries;
+            }
+        }
+        return result;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of lookups that were answered by this cache while statistics were enabled.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return The number of lookups that had to go to the table while statistics were enabled.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return The fraction of lookups that were answered by this cache, or 0 if none have been
+     * counted.
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return The number of discrimination values currently held by this cache, for all tables
+     * that have not been collected.
+     */
+    public int size() {
+        int size = 0;
+        for (Entries entries : tables) {
+            if (entries.table.get() != null) {
+                size += entries.keys.length;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Set the hit and miss counts back to zero. The cached parsers are kept.
+     */
+    public void resetCounts() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                             "%s: %d hits, %d misses, %d entries",
+                             name,
+                             hitCount.get(),
+                             missCount.get(),
+                             size());
+    }
+
+    private static final class Entries {
+
+        final WeakReference<JsonObjectParserTable> table;
+        final String[] keys;
+        /**
+         * Weak references to the parser for each key. A parser is held strongly by its table for
+         * as long as the table can be looked up.
+         */
+        final WeakReference<?>[] parsers;
+
+        Entries(WeakReference<JsonObjectParserTable> table, String[] keys, WeakReference<?>[] parsers) {
+            this.table = table;
+            this.keys = keys;
+            this.parsers = parsers;
+        }
+
+        /**
+         * @return The cached parser for {@code discriminationValue}, or null if there is none.
+         */
+        JsonObjectParser<?> find(String discriminationValue) {
+            final int length = discriminationValue.length();
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i];
+                if (key == discriminationValue
+                        || (key.length() == length && key.equals(discriminationValue))) {
+                    return (JsonObjectParser<?>) parsers[i].get();
+                }
+            }
+            return null;
+        }
+    }
+}
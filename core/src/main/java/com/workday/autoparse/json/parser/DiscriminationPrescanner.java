@@ -0,0 +1,401 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Rewrites a raw JSON document so that, in every object, the Discrimination Name-Value Pair comes
+ * before all other members. When the discrimination name is always first, {@link
+ * JsonParserUtils#parseJsonObject(android.util.JsonReader, JsonObjectParser, String, Class)} can
+ * pick the right {@link JsonObjectParser} as soon as the object begins and bind it in a single pass,
+ * instead of buffering the leading members into a {@link org.json.JSONObject} first.
+ * <p/>
+ * The scan works directly on the bytes of the document and only tracks strings and bracket depth.
+ * For each object whose first member is not the discrimination name, it looks ahead among that
+ * object's own members, stopping at the discrimination name, the object's closing brace, or {@link
+ * #MAX_LOOK_AHEAD} bytes past the start of the object, whichever comes first. Only string
+ * discrimination values are moved. Objects whose discrimination name is not found are left as they
+ * are, and are searched while they are parsed, as without the prescan. Whitespace between members
+ * is dropped, but no other content is changed. The document must use an ASCII-compatible encoding
+ * such as UTF-8.
+ * <p/>
+ * The whole document is read into memory and copied before parsing begins, and every byte of it is
+ * scanned at least once more than without the prescan.
+ * <p/>
+ * If the document is not well-formed, it is returned unchanged so that the JsonReader reports the
+ * error.
+ *
+ * @since 2026-10-19.
+ */
+final class DiscriminationPrescanner {
+
+    /**
+     * The number of bytes past the start of an object within which its discrimination name must
+     * begin to be moved. This bounds the extra scanning of large objects.
+     */
+    static final int MAX_LOOK_AHEAD = 4096;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final byte[] in;
+    private final byte[] discriminationName;
+    private final String discriminationNameString;
+    private byte[] out;
+    private int outPosition;
+
+    private DiscriminationPrescanner(byte[] in, String discriminationName) {
+        this.in = in;
+        this.discriminationNameString = discriminationName;
+        this.discriminationName = discriminationName.getBytes(UTF_8);
+    }
+
+    /**
+     * Read {@code in} to the end and return a document with every discrimination name moved to the
+     * front of its object.
+     */
+    static byte[] prescan(InputStream in, String discriminationName) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int count;
+        while ((count = in.read(chunk)) != -1) {
+            buffer.write(chunk, 0, count);
+        }
+        return prescan(buffer.toByteArray(), discriminationName);
+    }
+
+    static byte[] prescan(byte[] document, String discriminationName) {
+        if (discriminationName == null) {
+            return document;
+        }
+        try {
+            return new DiscriminationPrescanner(document, discriminationName).rewrite();
+        } catch (MalformedDocumentException | ArrayIndexOutOfBoundsException e) {
+            // Reading past the end of the document also means it is malformed.
+            return document;
+        }
+    }
+
+    private byte[] rewrite() {
+        out = new byte[in.length];
+        outPosition = 0;
+        int start = skipWhitespace(0);
+        if (start == in.length) {
+            return in;
+        }
+        copy(0, start);
+        int end = rewriteValue(start);
+        copy(end, in.length);
+        return outPosition == out.length ? out : Arrays.copyOf(out, outPosition);
+    }
+
+    private int rewriteValue(int position) {
+        switch (byteAt(position)) {
+            case '{':
+                return rewriteObject(position);
+            case '[':
+                return rewriteArray(position);
+            default:
+                int end = skipValue(position);
+                copy(position, end);
+                return end;
+        }
+    }
+
+    private int rewriteObject(int position) {
+        int memberStart = skipWhitespace(position + 1);
+        write('{');
+        if (byteAt(memberStart) == '}') {
+            write('}');
+            return memberStart + 1;
+        }
+
+        int discriminationStart = -1;
+        if (!isDiscriminationName(memberStart, skipString(memberStart))) {
+            discriminationStart = findDiscriminationMember(memberStart,
+                                                           (int) Math.min((long) position + MAX_LOOK_AHEAD, in.length));
+        }
+
+        boolean first = true;
+        if (discriminationStart >= 0) {
+            int valueStart = skipWhitespace(skipColon(skipString(discriminationStart)));
+            copy(discriminationStart, skipString(valueStart));
+            first = false;
+        }
+
+        while (true) {
+            int valueStart = skipWhitespace(skipColon(skipString(memberStart)));
+            int valueEnd;
+            if (memberStart == discriminationStart) {
+                valueEnd = skipValue(valueStart);
+            } else {
+                if (!first) {
+                    write(',');
+                }
+                first = false;
+                copy(memberStart, valueStart);
+                valueEnd = rewriteValue(valueStart);
+            }
+
+            int next = skipWhitespace(valueEnd);
+            if (byteAt(next) == ',') {
+                memberStart = skipWhitespace(next + 1);
+            } else if (byteAt(next) == '}') {
+                write('}');
+                return next + 1;
+            } else {
+                throw new MalformedDocumentException();
+            }
+        }
+    }
+
+    private int rewriteArray(int position) {
+        int valueStart = skipWhitespace(position + 1);
+        write('[');
+        if (byteAt(valueStart) == ']') {
+            write(']');
+            return valueStart + 1;
+        }
+
+        while (true) {
+            int next = skipWhitespace(rewriteValue(valueStart));
+            if (byteAt(next) == ',') {
+                write(',');
+                valueStart = skipWhitespace(next + 1);
+            } else if (byteAt(next) == ']') {
+                write(']');
+                return next + 1;
+            } else {
+                throw new MalformedDocumentException();
+            }
+        }
+    }
+
+    /**
+     * Look ahead among the members of the current object, starting at {@code memberStart}, for a
+     * discrimination name with a string value that begins before {@code limit}.
+     *
+     * @return The position of the opening quote of the discrimination name, or -1 if none was
+     * found.
+     */
+    private int findDiscriminationMember(int memberStart, int limit) {
+        while (memberStart < limit) {
+            int nameEnd = skipString(memberStart);
+            int valueStart = skipWhitespace(skipColon(nameEnd));
+            if (isDiscriminationName(memberStart, nameEnd) && byteAt(valueStart) == '"') {
+                return memberStart;
+            }
+            int valueEnd = skipValue(valueStart, limit);
+            if (valueEnd < 0) {
+                return -1;
+            }
+            int next = skipWhitespace(valueEnd);
+            if (byteAt(next) == ',') {
+                memberStart = skipWhitespace(next + 1);
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isDiscriminationName(int nameStart, int nameEnd) {
+        int length = nameEnd - nameStart - 2;
+        boolean escaped = false;
+        for (int i = nameStart + 1; i < nameEnd - 1; i++) {
+            if (in[i] == '\\') {
+                escaped = true;
+                break;
+            }
+        }
+        if (escaped) {
+            return discriminationNameString.equals(unescape(nameStart + 1, nameEnd - 1));
+        }
+        if (length != discriminationName.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in[nameStart + 1 + i] != discriminationName[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String unescape(int start, int end) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(end - start);
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            if (in[i] != '\\') {
+                bytes.write(in[i]);
+                continue;
+            }
+            sb.append(new String(bytes.toByteArray(), UTF_8));
+            bytes.reset();
+            char escape = (char) byteAt(++i);
+            switch (escape) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 >= end) {
+                        throw new MalformedDocumentException();
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(new String(in, i + 1, 4, UTF_8), 16));
+                    } catch (NumberFormatException e) {
+                        throw new MalformedDocumentException();
+                    }
+                    i += 4;
+                    break;
+                default:
+                    sb.append(escape);
+                    break;
+            }
+        }
+        sb.append(new String(bytes.toByteArray(), UTF_8));
+        return sb.toString();
+    }
+
+    private int skipColon(int nameEnd) {
+        int colon = skipWhitespace(nameEnd);
+        if (byteAt(colon) != ':') {
+            throw new MalformedDocumentException();
+        }
+        return colon + 1;
+    }
+
+    /**
+     * @return The position just after the closing quote of the string beginning at {@code
+     * position}.
+     */
+    private int skipString(int position) {
+        if (byteAt(position) != '"') {
+            throw new MalformedDocumentException();
+        }
+        final byte[] in = this.in;
+        int i = position + 1;
+        while (true) {
+            byte b = in[i];
+            if (b == '"') {
+                return i + 1;
+            }
+            i += b == '\\' ? 2 : 1;
+        }
+    }
+
+    /**
+     * @return The position just after the value beginning at {@code position}. Nested objects and
+     * arrays are skipped by tracking bracket depth.
+     */
+    private int skipValue(int position) {
+        int end = skipValue(position, in.length);
+        if (end < 0) {
+            throw new MalformedDocumentException();
+        }
+        return end;
+    }
+
+    /**
+     * Same as {@link #skipValue(int)}, but an object or array that does not end before {@code
+     * limit} is not scanned any further.
+     *
+     * @return The position just after the value, or -1 if it is an object or array that does not
+     * end before {@code limit}.
+     */
+    private int skipValue(int position, int limit) {
+        byte first = byteAt(position);
+        if (first == '"') {
+            return skipString(position);
+        }
+        if (first != '{' && first != '[') {
+            int i = position;
+            while (i < in.length && !isValueTerminator(in[i])) {
+                i++;
+            }
+            if (i == position) {
+                throw new MalformedDocumentException();
+            }
+            return i;
+        }
+
+        final byte[] in = this.in;
+        int depth = 0;
+        int i = position;
+        while (i < limit) {
+            byte b = in[i];
+            if (b == '"') {
+                i = skipString(i);
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private int skipWhitespace(int position) {
+        int i = position;
+        while (i < in.length && isWhitespace(in[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isValueTerminator(byte b) {
+        return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+    }
+
+    private byte byteAt(int position) {
+        if (position >= in.length) {
+            throw new MalformedDocumentException();
+        }
+        return in[position];
+    }
+
+    private void write(char c) {
+        out[outPosition++] = (byte) c;
+    }
+
+    private void copy(int start, int end) {
+        System.arraycopy(in, start, out, outPosition, end - start);
+        outPosition += end - start;
+    }
+
+    private static class MalformedDocumentException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+
+/**
+ * A number read from a JSON document where no type was declared for it, such as in a member of type Object, a {@link
+ * com.workday.autoparse.json.annotations.JsonSelfValues} map or a collection of Objects. These are created instead of
+ * Strings if enabled with {@link JsonParserSettingsBuilder#withTypedNumbers(boolean)}.
+ * <p/>
+ * The literal text is kept, and is decoded on first use into the narrowest of Integer, Long and Double that fits it.
+ * Every later use reads the decoded value. The exact conversions, such as {@link #intValueExact()}, parse the text
+ * only if the decoded value does not already have the requested type. {@link #toString()} returns the literal text,
+ * so the number is written out as it was read.
+ * <p/>
+ * Instances are immutable and thread-safe. Two JsonNumbers are equal if their texts are equal.
+ *
+ * @since 2026-10-19.
+ */
+public final class JsonNumber extends Number {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Any integer with this many digits fits in a long, so it is decoded without {@link Long#parseLong(String)}.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final String text;
+    private transient Number value;
+
+    public JsonNumber(String text) {
+        this.text = text;
+    }
+
+    /**
+     * @return The decoded value: an Integer or a Long for integers that fit in one, or a Double otherwise.
+     *
+     * @throws NumberFormatException If the text is not a number.
+     */
+    public Number getValue() {
+        Number result = value;
+        if (result == null) {
+            // The decoded values are immutable, so racing threads can only store equal values.
+            result = decode(text);
+            value = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int intValue() {
+        return getValue().intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return getValue().longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return getValue().floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return getValue().doubleValue();
+    }
+
+    /**
+     * @return The value as an int.
+     *
+     * @throws NumberFormatException If the value is not an integer that fits in an int, as {@link
+     * Integer#parseInt(String)} would.
+     */
+    public int intValueExact() {
+        Number result = getValue();
+        if (result instanceof Integer) {
+            return (int) result;
+        }
+        return Integer.parseInt(text);
+    }
+
+    /**
+     * @return The value as a long.
+     *
+     * @throws NumberFormatException If the value is not an integer that fits in a long, as {@link
+     * Long#parseLong(String)} would.
+     */
+    public long longValueExact() {
+        Number result = getValue();
+        if (result instanceof Integer || result instanceof Long) {
+            return result.longValue();
+        }
+        return Long.parseLong(text);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof JsonNumber && text.equals(((JsonNumber) o).text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    private static Number decode(String text) {
+        final int length = text.length();
+        int position = text.startsWith("-") ? 1 : 0;
+        if (position == length) {
+            return Double.parseDouble(text);
+        }
+        final boolean longer = length - position > MAX_LONG_DIGITS;
+        long integer = 0;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c < '0' || c > '9') {
+                return Double.parseDouble(text);
+            }
+            integer = 10 * integer + (c - '0');
+        }
+        if (longer) {
+            // A longer integer may still fit in a long, such as a 19 digit ID.
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return Double.parseDouble(text);
+            }
+        }
+        if (text.charAt(0) == '-') {
+            integer = -integer;
+        }
+        if (integer >= Integer.MIN_VALUE && integer <= Integer.MAX_VALUE) {
+            return (int) integer;
+        }
+        return integer;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import java.util.Set;
+
+/**
+ * Lists the discrimination values of a {@link JsonObjectParserTable} without referencing any of its
+ * {@link JsonObjectParser}s, so that partitions can be validated and selected without loading
+ * their parser classes. The implementation of this class is generated by Autoparse alongside each
+ * {@link JsonObjectParserTable}.
+ *
+ * @since 2026-10-19.
+ */
+public interface JsonObjectParserTableManifest {
+
+    Set<String> keySet();
+
+    /**
+     * @return The fully qualified name of the model class mapped to this discrimination value, or
+     * null if there is none.
+     */
+    String getModelName(String discriminationValue);
+}
@@ -8,6 +8,7 @@
 package com.workday.autoparse.json.parser;
 
 import com.workday.autoparse.json.context.GeneratedClassNames;
+import com.workday.autoparse.json.context.PartitionRegistry;
 
 /**
  * @author nathan.taylor
@@ -19,11 +20,37 @@ public class JsonObjectParserTables {
     }
 
     public static JsonObjectParserTable getParserTable(String packageName) {
+        return (JsonObjectParserTable) newGeneratedInstance(
+                packageName, GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE);
+    }
+
+    public static JsonObjectParserTableManifest getParserTableManifest(String packageName) {
+        return (JsonObjectParserTableManifest) newGeneratedInstance(
+                packageName, GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE_MANIFEST);
+    }
+
+    /**
+     * @return A {@link JsonObjectParserTable} for the partition in {@code packageName} that does
+     * not load the generated table, or any of its parsers, until a lookup hits one of the keys
+     * listed in {@code manifest}.
+     */
+    public static JsonObjectParserTable getLazyParserTable(String packageName,
+                                                           JsonObjectParserTableManifest manifest) {
+        return new LazyJsonObjectParserTable(packageName, manifest);
+    }
+
+    /**
+     * Same as {@link #getLazyParserTable(String, JsonObjectParserTableManifest)}, but neither the
+     * manifest nor the table are looked up by name.
+     */
+    public static JsonObjectParserTable getLazyParserTable(PartitionRegistry partition) {
+        return new LazyJsonObjectParserTable(partition);
+    }
+
+    private static Object newGeneratedInstance(String packageName, String simpleName) {
         try {
-            String parserMapSimpleName = GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE;
-            String parserMapFullName =
-                    GeneratedClassNames.getQualifiedName(packageName, parserMapSimpleName);
-            return (JsonObjectParserTable) Class.forName(parserMapFullName).newInstance();
+            String fullName = GeneratedClassNames.getQualifiedName(packageName, simpleName);
+            return Class.forName(fullName).newInstance();
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         } catch (InstantiationException e) {
@@ -10,11 +10,19 @@ package com.workday.autoparse.json.parser;
 import android.util.JsonReader;
 import android.util.JsonToken;
 
+import com.workday.autoparse.json.annotations.JsonValue;
 import com.workday.autoparse.json.context.ContextHolder;
 import com.workday.autoparse.json.context.JsonParserContext;
 import com.workday.autoparse.json.context.JsonParserSettings;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
 import com.workday.autoparse.json.initializers.CollectionInitializer;
 import com.workday.autoparse.json.initializers.CollectionInitializerFactory;
+import com.workday.autoparse.json.serializer.JsonSerializerUtils;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+import com.workday.autoparse.json.tree.LazyJsonValue;
+import com.workday.autoparse.json.utils.CompactMap;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -26,7 +34,6 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -41,7 +48,8 @@ import java.util.Set;
  * {@link JsonToken#NULL}. For instance, if a call to {@link #nextInt(JsonReader, String)} and the
  * next value is null, then a value of 0 will be returned. The {@code key} parameter is used to
  * generate more useful error messages in the case that the next value pointed to by the JsonReader
- * is not of the correct type.
+ * is not of the correct type. Methods of the form {@code next[Primitive]Value} behave the same way,
+ * but return a primitive instead of a boxed value.
  *
  * @author nathan.taylor
  * @since 2014-10-09
@@ -77,10 +85,25 @@ public class JsonParserUtils {
      * appropriate object type. If {@code false}, a raw JSONArray or JSONObject will be returned.
      *
      * @return The next value. If the next value is {@link JsonToken#NULL}, then {@code null} is
-     * returned.
+     * returned. Numbers are returned as their text, or as {@link JsonNumber}s if typed numbers are
+     * enabled.
      */
     public static Object parseNextValue(JsonReader reader, boolean convertJsonTypes)
             throws IOException {
+        return parseNextValue(reader, convertJsonTypes, null);
+    }
+
+    /**
+     * Same as {@link #parseNextValue(JsonReader, boolean)}, but if the next value is an object
+     * whose type is found by its discrimination value, the parser is looked up through {@code
+     * discriminationCache} first.
+     *
+     * @param discriminationCache The cache of the member being parsed. May be null.
+     */
+    public static Object parseNextValue(JsonReader reader,
+                                        boolean convertJsonTypes,
+                                        DiscriminationCache discriminationCache)
+            throws IOException {
         JsonToken nextToken = reader.peek();
         switch (nextToken) {
             case BEGIN_ARRAY:
@@ -93,15 +116,16 @@ public class JsonParserUtils {
                 }
             case BEGIN_OBJECT:
                 if (convertJsonTypes) {
-                    return parseJsonObject(reader, null, null, null);
+                    return parseJsonObject(reader, null, null, null, discriminationCache);
                 } else {
                     return parseAsJsonObject(reader, null);
                 }
             case BOOLEAN:
                 return reader.nextBoolean();
             case NUMBER:
+                return toNumberIfEnabled(reader.nextString());
             case STRING:
-                return reader.nextString();
+                return poolStringIfEnabled(reader.nextString());
             case NULL:
                 reader.nextNull();
                 return null;
@@ -156,10 +180,26 @@ public class JsonParserUtils {
      */
     public static <T> void parseAsMap(JsonReader reader, Map<String, T> map, Class<T> valueClass,
                                       JsonObjectParser<T> parser, String key) throws IOException {
+        parseAsMap(reader, map, valueClass, parser, key, null);
+    }
+
+    /**
+     * Same as {@link #parseAsMap(JsonReader, Map, Class, JsonObjectParser, String)}, but when
+     * {@code parser} is null, the parsers of the values are looked up through {@code
+     * discriminationCache} first.
+     *
+     * @param discriminationCache The cache of the member being parsed. May be null.
+     */
+    public static <T> void parseAsMap(JsonReader reader, Map<String, T> map, Class<T> valueClass,
+                                      JsonObjectParser<T> parser, String key,
+                                      DiscriminationCache discriminationCache) throws IOException {
         if (handleNull(reader)) {
             return;
         }
 
+        final Converter<T> converter = Converters.isConvertibleFromString(valueClass)
+                ? Converters.getConverter(valueClass)
+                : null;
         final String discriminationName =
                 ContextHolder.getContext().getSettings().getDiscriminationName();
         assertType(reader, key, JsonToken.BEGIN_OBJECT);
@@ -171,8 +211,11 @@ public class JsonParserUtils {
                 reader.beginObject();
                 value = parser.parseJsonObject(null, reader, discriminationName, null);
                 reader.endObject();
+            } else if (converter != null && (reader.peek() == JsonToken.STRING
+                    || reader.peek() == JsonToken.NUMBER)) {
+                value = converter.convert(reader.nextString());
             } else {
-                Object o = parseNextValue(reader, true);
+                Object o = adaptNumber(parseNextValue(reader, true, discriminationCache), valueClass);
                 if (!valueClass.isInstance(o)) {
                     throwMapException(name, key, valueClass, o);
                 }
@@ -270,12 +313,21 @@ public class JsonParserUtils {
                                                    JsonObjectParserTable parserTable)
             throws IOException {
 
+        final Converter<T> converter = Converters.isConvertibleFromString(valueClass)
+                ? Converters.getConverter(valueClass)
+                : null;
         @SuppressWarnings("unchecked")
         Iterator<String> names = jsonObject.keys();
         while (names.hasNext()) {
             T result = null;
             String name = names.next();
-            Object o = jsonObject.opt(name);
+            Object o = adaptNumber(jsonObject.opt(name), valueClass);
+
+            if ((o instanceof String || o instanceof JsonNumber) && converter != null) {
+                // A converter may return null, such as for a string that matches no enum constant.
+                map.put(name, converter.convert(o.toString()));
+                continue;
+            }
 
             if (o instanceof JSONObject) {
                 result = convertJsonObject((JSONObject) o,
@@ -341,7 +393,7 @@ public class JsonParserUtils {
     public static Map<String, Object> convertMapValues(Map<String, Object> original,
                                                        JsonParserContext context)
             throws IOException {
-        final Map<String, Object> result = new HashMap<>(original);
+        final Map<String, Object> result = new CompactMap<>(original);
         for (Map.Entry<String, Object> entry : original.entrySet()) {
             if (entry.getValue() instanceof JSONObject) {
                 result.put(entry.getKey(),
@@ -417,6 +469,9 @@ public class JsonParserUtils {
         if (desiredClass.equals(JSONObject.class)) {
             return cast(jsonObject);
         }
+        if (desiredClass.equals(LazyJsonObject.class)) {
+            return cast(LazyJsonObject.of(jsonObject));
+        }
 
         final String discriminationValue = getDiscriminationValue(jsonObject, discriminationName);
 
@@ -521,39 +576,69 @@ public class JsonParserUtils {
     public static Object parseJsonObject(JsonReader reader, JsonObjectParser<?> parser, String key,
                                          Class<?> expectedType)
             throws IOException, IllegalStateException {
+        return parseJsonObject(reader, parser, key, expectedType, null);
+    }
+
+    /**
+     * Same as {@link #parseJsonObject(JsonReader, JsonObjectParser, String, Class)}, but when
+     * {@code parser} is null, the parser for the discrimination value is looked up through {@code
+     * discriminationCache} first.
+     *
+     * @param discriminationCache The cache of the member being parsed. May be null.
+     */
+    public static Object parseJsonObject(JsonReader reader, JsonObjectParser<?> parser, String key,
+                                         Class<?> expectedType,
+                                         DiscriminationCache discriminationCache)
+            throws IOException, IllegalStateException {
         if (handleNull(reader)) {
             return null;
         }
         assertType(reader, key, JsonToken.BEGIN_OBJECT);
 
-        final String discriminationName =
-                ContextHolder.getContext().getSettings().getDiscriminationName();
+        final JsonParserSettings settings = ContextHolder.getContext().getSettings();
+        final String discriminationName = settings.getDiscriminationName();
+        final JsonObjectParser<?> unknownObjectParser = settings.getUnknownObjectParser();
         String discriminationValue = null;
         Object result = null;
+        boolean parsedAsUnknownObject = false;
         reader.beginObject();
         if (parser != null) {
             result = parser.parseJsonObject(null, reader, discriminationName, null);
         } else if (reader.hasNext()) {
             String firstName = reader.nextName();
-            final String discriminationKeyName =
-                    ContextHolder.getContext().getSettings().getDiscriminationName();
-            if (discriminationKeyName.equals(firstName)) {
+            if (discriminationName.equals(firstName)) {
                 discriminationValue = reader.nextString();
-                parser = ContextHolder.getContext()
-                                      .getJsonObjectParserTable()
-                                      .get(discriminationValue);
+                parser = getParser(discriminationValue, discriminationCache);
                 if (parser != null) {
                     result = parser.parseJsonObject(null,
                                                     reader,
                                                     discriminationName,
                                                     discriminationValue);
+                } else if (unknownObjectParser != null) {
+                    // The discrimination value is already known not to match any parser, so the
+                    // unknown object parser can read the rest of the object directly. The consumed
+                    // name and value are handed over first, just as if the object had been buffered.
+                    JSONObject discriminationMember = new JSONObject();
+                    try {
+                        discriminationMember.put(discriminationName, discriminationValue);
+                    } catch (JSONException e) {
+                        throw new RuntimeException("This should be impossible.", e);
+                    }
+                    result = unknownObjectParser.parseJsonObject(discriminationMember,
+                                                                 reader,
+                                                                 discriminationName,
+                                                                 discriminationValue);
+                    parsedAsUnknownObject = true;
                 } else {
                     result = parseSpecificJsonObjectDelayed(reader,
-                                                            discriminationKeyName,
-                                                            discriminationValue);
+                                                            discriminationName,
+                                                            discriminationValue,
+                                                            discriminationCache);
                 }
             } else {
-                result = parseSpecificJsonObjectDelayed(reader, firstName, null);
+                // Search the rest of the object, even after a prescan, which only moves string
+                // discrimination values. A non-string value must fail here just as without it.
+                result = parseSpecificJsonObjectDelayed(reader, firstName, null, discriminationCache);
             }
 
         }
@@ -563,9 +648,7 @@ public class JsonParserUtils {
             result = new JSONObject();
         }
 
-        JsonObjectParser<?> unknownObjectParser =
-                ContextHolder.getContext().getSettings().getUnknownObjectParser();
-        if (result instanceof JSONObject && unknownObjectParser != null) {
+        if (!parsedAsUnknownObject && result instanceof JSONObject && unknownObjectParser != null) {
             result = unknownObjectParser.parseJsonObject((JSONObject) result,
                                                          null,
                                                          discriminationName,
@@ -594,12 +677,14 @@ public class JsonParserUtils {
      * in the JsonReader should be a {@link JsonToken#NAME}.
      * @param firstValue The first value parse in this object so far. May be null, and if {@code
      * firstName} is not null, the next token in the JsonReader should be a value type.
+     * @param discriminationCache The cache to look up parsers through. May be null.
      *
      * @return A custom object or a JSONObject if no appropriate parser was found.
      */
     private static Object parseSpecificJsonObjectDelayed(JsonReader reader,
                                                          String firstName,
-                                                         Object firstValue)
+                                                         Object firstValue,
+                                                         DiscriminationCache discriminationCache)
             throws IOException {
         final String discriminationName =
                 ContextHolder.getContext().getSettings().getDiscriminationName();
@@ -620,9 +705,7 @@ public class JsonParserUtils {
                     throwDiscriminationValueException(discriminationName, value);
                 }
                 final String discriminationValue = (String) value;
-                JsonObjectParser<?> parser = ContextHolder.getContext()
-                                                          .getJsonObjectParserTable()
-                                                          .get(discriminationValue);
+                JsonObjectParser<?> parser = getParser(discriminationValue, discriminationCache);
                 if (parser != null) {
                     return parser.parseJsonObject(jsonObject,
                                                   reader,
@@ -651,6 +734,14 @@ public class JsonParserUtils {
         return jsonObject;
     }
 
+    private static JsonObjectParser<?> getParser(String discriminationValue,
+                                                 DiscriminationCache discriminationCache) {
+        JsonObjectParserTable table = ContextHolder.getContext().getJsonObjectParserTable();
+        return discriminationCache != null
+                ? discriminationCache.get(discriminationValue, table)
+                : table.get(discriminationValue);
+    }
+
     /**
      * Parse the next value as an array, but do not attempt to convert it into a {@link Collection},
      * or to convert any children into known types. The returned object will be a {@link JSONArray}
@@ -676,6 +767,120 @@ public class JsonParserUtils {
         return jsonArray;
     }
 
+    /**
+     * Parse the next value as a {@link LazyJsonObject}, which keeps the text of the object and only
+     * materializes the members that are accessed.
+     *
+     * @param key The key corresponding to the current value. This is used to make more useful error
+     * messages.
+     */
+    public static LazyJsonObject parseAsLazyJsonObject(JsonReader reader, String key)
+            throws IOException {
+        if (handleNull(reader)) {
+            return null;
+        }
+        assertType(reader, key, JsonToken.BEGIN_OBJECT);
+        return (LazyJsonObject) LazyJsonValue.read(reader);
+    }
+
+    /**
+     * Parse the next value as a {@link LazyJsonArray}, which keeps the text of the array and only
+     * materializes the items that are accessed.
+     *
+     * @param key The key corresponding to the current value. This is used to make more useful error
+     * messages.
+     */
+    public static LazyJsonArray parseAsLazyJsonArray(JsonReader reader, String key)
+            throws IOException {
+        if (handleNull(reader)) {
+            return null;
+        }
+        assertType(reader, key, JsonToken.BEGIN_ARRAY);
+        return (LazyJsonArray) LazyJsonValue.read(reader);
+    }
+
+    /**
+     * Same as {@link #parseNextValue(JsonReader, boolean)} without converting JSON types, but if
+     * lazy JSON trees are enabled, objects and arrays are returned as {@link LazyJsonValue}s.
+     *
+     * @see JsonParserSettingsBuilder#withLazyJsonTrees(boolean)
+     */
+    public static Object parseNextUnconvertedValue(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if ((token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY)
+                && isLazyJsonTreesEnabled()) {
+            return LazyJsonValue.read(reader);
+        }
+        return parseNextValue(reader, false);
+    }
+
+    /**
+     * Given a value that was parsed without converting JSON types, e.g. a member of a {@link
+     * JSONObject}, convert it to what {@link #parseNextUnconvertedValue(JsonReader)} would have
+     * returned for it.
+     */
+    public static Object toUnconvertedValue(Object value) throws IOException {
+        if ((value instanceof JSONObject || value instanceof JSONArray) && isLazyJsonTreesEnabled()) {
+            return value instanceof JSONObject
+                    ? LazyJsonObject.of((JSONObject) value)
+                    : LazyJsonArray.of((JSONArray) value);
+        }
+        return value;
+    }
+
+    private static boolean isLazyJsonTreesEnabled() {
+        JsonParserContext context = ContextHolder.getContext();
+        return context != null && context.getSettings().isLazyJsonTreesEnabled();
+    }
+
+    /**
+     * Read the next value as the text of a {@link LazyValue}, which is bound with {@code binder}
+     * and the current context when it is first accessed. This is used for members with {@link
+     * JsonValue#lazy()}. The value is read in full and copied here; only binding it is deferred.
+     *
+     * @param key The key corresponding to the current value. This is used to make more useful error
+     * messages.
+     */
+    public static <T> LazyValue<T> nextLazyValue(JsonReader reader, String key, LazyValue.Binder<T> binder)
+            throws IOException {
+        if (handleNull(reader)) {
+            return null;
+        }
+        assertType(reader, key, JsonToken.BEGIN_OBJECT, JsonToken.BEGIN_ARRAY, JsonToken.STRING,
+                   JsonToken.NUMBER, JsonToken.BOOLEAN);
+        // The reader cannot hand out the raw text of a value, so it is tokenized and written back out.
+        Utf8JsonWriter writer = new Utf8JsonWriter(256);
+        LazyJsonValue.copyValue(reader, writer);
+        return new LazyValue<>(writer.toByteArray(), ContextHolder.getContext(), binder);
+    }
+
+    /**
+     * Same as {@link #toLazyValue(Object, LazyValue.Binder, JsonParserContext)} with the current
+     * context.
+     */
+    public static <T> LazyValue<T> toLazyValue(Object value, LazyValue.Binder<T> binder) throws IOException {
+        return toLazyValue(value, binder, ContextHolder.getContext());
+    }
+
+    /**
+     * Given a value that was parsed without converting JSON types, e.g. a member of a {@link
+     * JSONObject}, write it out as the text of a {@link LazyValue}, which is bound with {@code
+     * binder} and {@code context} when it is first accessed.
+     *
+     * @return The LazyValue, or null if {@code value} is null.
+     */
+    public static <T> LazyValue<T> toLazyValue(Object value,
+                                               LazyValue.Binder<T> binder,
+                                               JsonParserContext context)
+            throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            return null;
+        }
+        Utf8JsonWriter writer = new Utf8JsonWriter(256);
+        JsonSerializerUtils.writeValue(writer, value, null);
+        return new LazyValue<>(writer.toByteArray(), context, binder);
+    }
+
     /**
      * Parse an array that has only non-array children into a {@link Collection}.
      *
@@ -688,12 +893,15 @@ public class JsonParserUtils {
      * Object.class.
      * @param key The key corresponding to the current value. This is used to make more useful error
      * messages.
+     * @param discriminationCache The cache to look up item parsers through when {@code itemParser}
+     * is null. May be null.
      */
     private static <T> void parseFlatJsonArray(JsonReader reader,
                                                Collection<T> collection,
                                                JsonObjectParser<T> itemParser,
                                                Class<T> typeClass,
-                                               String key)
+                                               String key,
+                                               DiscriminationCache discriminationCache)
             throws IOException {
         if (handleNull(reader)) {
             return;
@@ -719,7 +927,7 @@ public class JsonParserUtils {
                     || nextToken == JsonToken.STRING)) {
                 nextValue = converter.convert(reader.nextString());
             } else {
-                nextValue = parseNextValue(reader);
+                nextValue = adaptNumber(parseNextValue(reader, true, discriminationCache), typeClass);
             }
 
             if (typeClass.isInstance(nextValue)) {
@@ -770,6 +978,25 @@ public class JsonParserUtils {
                                           Class<T> itemType,
                                           List<Class<?>> innerCollectionClasses,
                                           String key) throws IOException {
+        parseJsonArray(reader, collection, itemParser, itemType, innerCollectionClasses, key, null);
+    }
+
+    /**
+     * Same as {@link #parseJsonArray(JsonReader, Collection, JsonObjectParser, Class, List,
+     * String)}, but when {@code itemParser} is null, the parsers of the items are looked up
+     * through {@code discriminationCache} first.
+     *
+     * @param discriminationCache The cache of the member being parsed. May be null.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> void parseJsonArray(JsonReader reader,
+                                          Collection collection,
+                                          JsonObjectParser<T> itemParser,
+                                          Class<T> itemType,
+                                          List<Class<?>> innerCollectionClasses,
+                                          String key,
+                                          DiscriminationCache discriminationCache)
+            throws IOException {
         if (handleNull(reader)) {
             return;
         }
@@ -788,13 +1015,15 @@ public class JsonParserUtils {
                             itemParser,
                             itemType,
                             innerCollectionClasses.subList(1, innerCollectionClasses.size()),
-                            key);
+                            key,
+                            discriminationCache);
                 } else if (nextCollection instanceof Map) {
                     parseCollectionMap(reader,
                             ((Map) nextCollection),
                             itemParser,
                             itemType,
-                            key);
+                            key,
+                            discriminationCache);
                 } else {
                     throw new IllegalStateException(
                             String.format(Locale.US,
@@ -808,17 +1037,51 @@ public class JsonParserUtils {
             }
             reader.endArray();
         } else {
-            parseFlatJsonArray(reader, collection, itemParser, itemType, key);
+            parseFlatJsonArray(reader, collection, itemParser, itemType, key, discriminationCache);
         }
 
     }
 
+    /**
+     * Parse the next item of an array whose items should be of type {@code itemType}. Generated
+     * parsers read the items of their collections themselves, and call this only for items that
+     * they cannot read directly, such as items whose parser is found by discrimination value.
+     *
+     * @param reader The reader to use, positioned at the item.
+     * @param itemType The type of items to expect in the array. May be Object.class.
+     * @param key The key corresponding to the array. This is used to make more useful error
+     * messages.
+     * @param discriminationCache The cache of the member being parsed. May be null.
+     *
+     * @return The item, or null if the item is {@link JsonToken#NULL}.
+     */
+    public static <T> T nextArrayItem(JsonReader reader,
+                                      Class<T> itemType,
+                                      String key,
+                                      DiscriminationCache discriminationCache)
+            throws IOException {
+        final JsonToken nextToken = reader.peek();
+        Object value = adaptNumber(parseNextValue(reader, true, discriminationCache), itemType);
+        if (itemType.isInstance(value)) {
+            return cast(value);
+        } else if (nextToken == JsonToken.NULL) {
+            return null;
+        }
+        throw new IllegalStateException(
+                String.format(Locale.US,
+                              "Could not convert value in array at \"%s\" to %s from %s.",
+                              key,
+                              itemType.getCanonicalName(),
+                              getClassName(value)));
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static <T> void parseCollectionMap(JsonReader reader,
                                      Map map,
                                      JsonObjectParser<T> itemParser,
                                      Class<T> itemType,
-                                     String key) throws IOException {
+                                     String key,
+                                     DiscriminationCache discriminationCache) throws IOException {
         final String discriminationName =
                 ContextHolder.getContext().getSettings().getDiscriminationName();
         assertType(reader, key, JsonToken.BEGIN_OBJECT);
@@ -831,7 +1094,7 @@ public class JsonParserUtils {
                 value = itemParser.parseJsonObject(null, reader, discriminationName, null);
                 reader.endObject();
             } else {
-                Object o = parseNextValue(reader, true);
+                Object o = adaptNumber(parseNextValue(reader, true, discriminationCache), itemType);
                 if (!itemType.isInstance(o)) {
                     throwMapException(name, key, itemType, o);
                 }
@@ -983,7 +1246,7 @@ public class JsonParserUtils {
             converter = Converters.getConverter(typeClass);
         }
         for (int i = 0; i < jsonArray.length(); i++) {
-            Object o = jsonArray.opt(i);
+            Object o = adaptNumber(jsonArray.opt(i), typeClass);
             T parsedItem = null;
             if (typeClass.isInstance(o)) {
                 @SuppressWarnings("unchecked")
@@ -991,8 +1254,10 @@ public class JsonParserUtils {
                 parsedItem = castItem;
             } else if (o instanceof JSONObject) {
                 parsedItem = convertJsonObject((JSONObject) o, typeClass, itemParser, context);
-            } else if (o instanceof String && converter != null) {
-                parsedItem = converter.convert((String) o);
+            } else if ((o instanceof String || o instanceof JsonNumber) && converter != null) {
+                // A converter may return null, such as for a string that matches no enum constant.
+                collection.add(converter.convert(o.toString()));
+                continue;
             } else if (o == null) {
                 //The parsed array has an explicit null, so add a null to the collection.
                 collection.add(null);
@@ -1116,12 +1381,22 @@ public class JsonParserUtils {
         return result;
     }
 
+    /**
+     * Register the {@link Converter} to use for values of type {@code toClass} wherever this class
+     * converts strings, such as for the items of collections and the values of maps. Generated
+     * parsers register a converter for each enum they parse. Only the first converter registered
+     * for a class is kept.
+     */
+    public static <T> void registerConverter(Class<T> toClass, Converter<T> converter) {
+        Converters.register(toClass, converter);
+    }
+
     public static BigDecimal nextBigDecimal(JsonReader reader, String name) throws IOException {
         if (handleNull(reader)) {
             return BigDecimal.ZERO;
         }
         assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
-        return new BigDecimal(reader.nextString());
+        return BigNumbers.parseBigDecimal(reader.nextString());
     }
 
     public static BigInteger nextBigInteger(JsonReader reader, String name) throws IOException {
@@ -1129,7 +1404,7 @@ public class JsonParserUtils {
             return BigInteger.ZERO;
         }
         assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
-        return new BigInteger(reader.nextString());
+        return BigNumbers.parseBigInteger(reader.nextString());
     }
 
     public static Boolean nextBoolean(JsonReader reader, String name) throws IOException {
@@ -1196,6 +1471,83 @@ public class JsonParserUtils {
         return Short.valueOf(reader.nextString());
     }
 
+    /**
+     * Same as {@link #nextBoolean(JsonReader, String)}, but returns a primitive.
+     */
+    public static boolean nextBooleanValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return false;
+        }
+        assertType(reader, name, JsonToken.BOOLEAN);
+        return reader.nextBoolean();
+    }
+
+    /**
+     * Same as {@link #nextByte(JsonReader, String)}, but returns a primitive.
+     */
+    public static byte nextByteValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return 0;
+        }
+        assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
+        return Byte.parseByte(reader.nextString());
+    }
+
+    /**
+     * Same as {@link #nextDouble(JsonReader, String)}, but returns a primitive.
+     */
+    public static double nextDoubleValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return 0d;
+        }
+        assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
+        return Double.parseDouble(reader.nextString());
+    }
+
+    /**
+     * Same as {@link #nextFloat(JsonReader, String)}, but returns a primitive.
+     */
+    public static float nextFloatValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return 0f;
+        }
+        assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
+        return Float.parseFloat(reader.nextString());
+    }
+
+    /**
+     * Same as {@link #nextInt(JsonReader, String)}, but returns a primitive.
+     */
+    public static int nextIntValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return 0;
+        }
+        assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
+        return Integer.parseInt(reader.nextString());
+    }
+
+    /**
+     * Same as {@link #nextLong(JsonReader, String)}, but returns a primitive.
+     */
+    public static long nextLongValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return 0L;
+        }
+        assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
+        return Long.parseLong(reader.nextString());
+    }
+
+    /**
+     * Same as {@link #nextShort(JsonReader, String)}, but returns a primitive.
+     */
+    public static short nextShortValue(JsonReader reader, String name) throws IOException {
+        if (handleNull(reader)) {
+            return 0;
+        }
+        assertType(reader, name, JsonToken.NUMBER, JsonToken.STRING);
+        return Short.parseShort(reader.nextString());
+    }
+
     public static String nextString(JsonReader reader, String name) throws IOException {
         if (handleNull(reader)) {
             return null;
@@ -1209,6 +1561,98 @@ public class JsonParserUtils {
         return reader.nextString();
     }
 
+    /**
+     * Same as {@link #nextString(JsonReader, String)}, but the value is canonicalized through
+     * {@code stringPool} unless it is null. Generated parsers look up the pool once per object with
+     * {@link #getStringPoolIfEnabled()}, so that members are read without a lookup of the context
+     * when string pooling is disabled.
+     *
+     * @see JsonParserSettingsBuilder#withStringPooling(boolean)
+     */
+    public static String nextString(JsonReader reader, String name, StringPool stringPool)
+            throws IOException {
+        String value = nextString(reader, name);
+        return stringPool == null ? value : stringPool.canonicalize(value);
+    }
+
+    /**
+     * Same as {@link #nextString(JsonReader, String)}, but the value is always canonicalized
+     * through the {@link StringPool} of the context. This is used for members with {@link
+     * JsonValue#poolStrings()}.
+     */
+    public static String nextPooledString(JsonReader reader, String name) throws IOException {
+        return poolString(nextString(reader, name));
+    }
+
+    /**
+     * @return The {@link StringPool} of the current context if pooling of all strings is enabled for
+     * it, or null otherwise.
+     *
+     * @see JsonParserSettingsBuilder#withStringPooling(boolean)
+     */
+    public static StringPool getStringPoolIfEnabled() {
+        JsonParserContext context = ContextHolder.getContext();
+        if (context == null || !context.getSettings().isStringPoolingEnabled()) {
+            return null;
+        }
+        return context.getStringPool();
+    }
+
+    /**
+     * @return The string from the {@link StringPool} of the current context that is equal to
+     * {@code value}, or {@code value} itself if there is none or there is no current context.
+     */
+    public static String poolString(String value) {
+        JsonParserContext context = ContextHolder.getContext();
+        return context == null ? value : context.getStringPool().canonicalize(value);
+    }
+
+    /**
+     * @return {@code value}, or its text if it is a {@link JsonNumber} and {@code type} is String
+     * or CharSequence, which is what it would have been with typed numbers disabled.
+     */
+    private static Object adaptNumber(Object value, Class<?> type) {
+        if (value instanceof JsonNumber && !type.isInstance(value) && type.isAssignableFrom(String.class)) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    /**
+     * @return A {@link JsonNumber} if typed numbers are enabled, or {@code text} otherwise.
+     */
+    private static Object toNumberIfEnabled(String text) {
+        JsonParserContext context = ContextHolder.getContext();
+        if (context == null || !context.getSettings().isTypedNumbersEnabled()) {
+            return text;
+        }
+        return new JsonNumber(text);
+    }
+
+    private static String poolStringIfEnabled(String value) {
+        StringPool stringPool = getStringPoolIfEnabled();
+        return stringPool == null ? value : stringPool.canonicalize(value);
+    }
+
+    /**
+     * Collections and maps that a generated parser would create for a field are filled in place
+     * instead if the field already holds one that is empty and of exactly the class the parser
+     * creates, such as one cleared by {@link RecyclingJsonObjectParser#reset(Object)}.
+     *
+     * @param current The current value of the field, a {@link Collection} or a {@link Map}. May be
+     * null.
+     * @param createdClass The class of the collections or maps that the parser creates for the
+     * field.
+     */
+    public static boolean isReusable(Object current, Class<?> createdClass) {
+        if (current == null || current.getClass() != createdClass) {
+            return false;
+        }
+        return current instanceof Collection
+                ? ((Collection<?>) current).isEmpty()
+                : ((Map<?, ?>) current).isEmpty();
+    }
+
     public static char getCharFromString(String stringValue) {
         if (stringValue != null && stringValue.length() == 1) {
             return stringValue.charAt(0);
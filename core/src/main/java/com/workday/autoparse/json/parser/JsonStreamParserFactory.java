@@ -22,6 +22,14 @@ public class JsonStreamParserFactory {
         return new StandardJsonStreamParser(new JsonParserContext(settings));
     }
 
+    /**
+     * Create a parser that uses an existing context. Keep a reference to the context to register
+     * parsers with it later, via {@link JsonParserContext#registerParser(String, JsonObjectParser)}.
+     */
+    public static JsonStreamParser newJsonStreamParser(JsonParserContext context) {
+        return new StandardJsonStreamParser(context);
+    }
+
     private JsonStreamParserFactory() {
     }
 }
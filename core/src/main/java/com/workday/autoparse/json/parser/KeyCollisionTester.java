@@ -11,8 +11,12 @@ import com.workday.autoparse.json.context.GeneratedClassNames;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author travis.westbrook
@@ -20,6 +24,14 @@ import java.util.Map;
  */
 public class KeyCollisionTester {
 
+    /**
+     * Combinations of partition packages that have already passed {@link
+     * #validateManifests(Map)}. Partitions are fixed at build time, so a combination only ever
+     * needs to be checked once per process.
+     */
+    private static final Set<Set<String>> VALIDATED_PARTITIONS =
+            Collections.newSetFromMap(new ConcurrentHashMap<Set<String>, Boolean>());
+
     private KeyCollisionTester() {
     }
 
@@ -39,6 +51,43 @@ public class KeyCollisionTester {
             }
         }
 
+        throwIfNotEmpty(errorMessages);
+    }
+
+    /**
+     * Validates the partitions using only their generated {@link JsonObjectParserTableManifest}s,
+     * so no parser classes are loaded. A successful result is cached for the given set of
+     * partition packages.
+     *
+     * @param manifests The manifest of each partition, keyed by partition package name.
+     *
+     * @throws IllegalArgumentException if multiple models map to the same discrimination value.
+     */
+    public static void validateManifests(Map<String, JsonObjectParserTableManifest> manifests) {
+        Set<String> partitions = new HashSet<>(manifests.keySet());
+        if (VALIDATED_PARTITIONS.contains(partitions)) {
+            return;
+        }
+
+        Map<String, Collection<String>> validationMap = new HashMap<>();
+        for (JsonObjectParserTableManifest manifest : manifests.values()) {
+            for (String key : manifest.keySet()) {
+                putInMap(validationMap, key, manifest.getModelName(key));
+            }
+        }
+
+        Collection<String> errorMessages = new ArrayList<>();
+        for (Map.Entry<String, Collection<String>> entry : validationMap.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                errorMessages.add(getErrorMessageForModels(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        throwIfNotEmpty(errorMessages);
+        VALIDATED_PARTITIONS.add(Collections.unmodifiableSet(partitions));
+    }
+
+    private static void throwIfNotEmpty(Collection<String> errorMessages) {
         if (!errorMessages.isEmpty()) {
             StringBuilder sb = new StringBuilder(
                     "Multiple models map to the same key. The following lists all violations:\n");
@@ -50,10 +99,8 @@ public class KeyCollisionTester {
         }
     }
 
-    private static void putInMap(Map<String, Collection<JsonObjectParserTable>> map,
-                                 String key,
-                                 JsonObjectParserTable value) {
-        Collection<JsonObjectParserTable> collection = map.get(key);
+    private static <T> void putInMap(Map<String, Collection<T>> map, String key, T value) {
+        Collection<T> collection = map.get(key);
         if (collection == null) {
             collection = new ArrayList<>();
             map.put(key, collection);
@@ -63,7 +110,7 @@ public class KeyCollisionTester {
 
     private static String getErrorMessage(String key,
                                           Collection<JsonObjectParserTable> parserMaps) {
-        StringBuilder sb = new StringBuilder("'").append(key).append("' =>\n");
+        Collection<String> modelNames = new ArrayList<>();
         for (JsonObjectParserTable parserMap : parserMaps) {
             String parserName = parserMap.get(key).getClass().getCanonicalName();
             String modelName =
@@ -72,6 +119,14 @@ public class KeyCollisionTester {
                                            parserName.length()
                                                    - GeneratedClassNames.PARSER_SUFFIX.length())
                     : parserName;
+            modelNames.add(modelName);
+        }
+        return getErrorMessageForModels(key, modelNames);
+    }
+
+    private static String getErrorMessageForModels(String key, Collection<String> modelNames) {
+        StringBuilder sb = new StringBuilder("'").append(key).append("' =>\n");
+        for (String modelName : modelNames) {
             sb.append("   ").append(modelName).append('\n');
         }
         return sb.toString();
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import com.workday.autoparse.json.context.PartitionRegistry;
+
+import java.util.Set;
+
+/**
+ * A {@link JsonObjectParserTable} that answers {@link #keySet()} from the partition's {@link
+ * JsonObjectParserTableManifest} and only loads the generated table the first time one of its
+ * discrimination values is looked up.
+ *
+ * @since 2026-10-19.
+ */
+final class LazyJsonObjectParserTable implements JsonObjectParserTable {
+
+    private final String packageName;
+    private final PartitionRegistry partition;
+    private final JsonObjectParserTableManifest manifest;
+    private volatile JsonObjectParserTable table;
+
+    LazyJsonObjectParserTable(String packageName, JsonObjectParserTableManifest manifest) {
+        this.packageName = packageName;
+        this.partition = null;
+        this.manifest = manifest;
+    }
+
+    /**
+     * The table is created through {@code partition}, so it is never looked up by name.
+     */
+    LazyJsonObjectParserTable(PartitionRegistry partition) {
+        this.packageName = partition.getPackageName();
+        this.partition = partition;
+        this.manifest = partition.getParserTableManifest();
+    }
+
+    @Override
+    public JsonObjectParser<?> get(String discriminationValue) {
+        if (!manifest.keySet().contains(discriminationValue)) {
+            return null;
+        }
+        return getTable().get(discriminationValue);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return manifest.keySet();
+    }
+
+    private JsonObjectParserTable getTable() {
+        JsonObjectParserTable result = table;
+        if (result == null) {
+            synchronized (this) {
+                result = table;
+                if (result == null) {
+                    result = partition != null
+                             ? partition.newParserTable()
+                             : JsonObjectParserTables.getParserTable(packageName);
+                    table = result;
+                }
+            }
+        }
+        return result;
+    }
+}
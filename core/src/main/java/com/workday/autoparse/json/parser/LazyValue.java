@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import android.util.JsonReader;
+
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.context.ContextHolder;
+import com.workday.autoparse.json.context.JsonParserContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * A value that is bound on first access. Members declared as a LazyValue and annotated with {@link
+ * JsonValue#lazy()} keep only the text of their value when the containing object is parsed. The text is bound to
+ * the declared type, exactly as the member would have been, the first time {@link #get()} is called.
+ * <p/>
+ * Only binding is deferred. The value is still read token by token when the containing object is parsed, in order to
+ * find its end and to copy it, so malformed JSON fails the parse as usual. What is saved is creating the objects,
+ * collections and converted values of the member, and what it costs instead is a copy of its text, which is read
+ * again when it is bound.
+ * <p/>
+ * Binding happens at most once, even when several threads call {@link #get()} at the same time. The text, and the
+ * {@link JsonParserContext} it is bound with, are released once the value is bound.
+ *
+ * @param <T> The type of the value.
+ *
+ * @since 2026-10-19.
+ */
+public final class LazyValue<T> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * The number of bytes of the text that an error message includes.
+     */
+    private static final int MAX_MESSAGE_TEXT_LENGTH = 64;
+
+    /**
+     * Binds the text of a lazy value to its type. Autoparse generates one for each lazy member.
+     *
+     * @param <T> The type of the value.
+     */
+    public interface Binder<T> {
+
+        /**
+         * @param reader A reader positioned at the value, which is never null.
+         */
+        T bind(JsonReader reader) throws IOException;
+    }
+
+    private byte[] bytes;
+    private JsonParserContext context;
+    private Binder<T> binder;
+    private T value;
+    private volatile boolean bound;
+
+    LazyValue(byte[] bytes, JsonParserContext context, Binder<T> binder) {
+        this.bytes = bytes;
+        this.context = context;
+        this.binder = binder;
+    }
+
+    private LazyValue(T value) {
+        this.value = value;
+        bound = true;
+    }
+
+    /**
+     * @return A LazyValue that is already bound to {@code value}.
+     */
+    public static <T> LazyValue<T> of(T value) {
+        return new LazyValue<>(value);
+    }
+
+    /**
+     * @return The value, binding it first if this is the first access.
+     *
+     * @throws RuntimeException If the value cannot be bound to its type. The next call will try again.
+     */
+    public T get() {
+        if (!bound) {
+            synchronized (this) {
+                if (!bound) {
+                    value = bind();
+                    bytes = null;
+                    context = null;
+                    binder = null;
+                    bound = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return True if the value has already been bound.
+     */
+    public boolean isBound() {
+        return bound;
+    }
+
+    private T bind() {
+        JsonParserContext oldContext = ContextHolder.getContext();
+        JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(bytes), UTF_8));
+        // The text may be a single number or string, which strict readers only allow inside an object or array.
+        reader.setLenient(true);
+        try {
+            ContextHolder.setContext(context);
+            return binder.bind(reader);
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException(getBindFailureMessage(), e);
+        } finally {
+            if (oldContext != null) {
+                ContextHolder.setContext(oldContext);
+            } else {
+                ContextHolder.removeContext();
+            }
+        }
+    }
+
+    private String getBindFailureMessage() {
+        // A cut through a multi-byte character decodes to a replacement character, which is fine here.
+        String text = bytes.length <= MAX_MESSAGE_TEXT_LENGTH
+                ? new String(bytes, UTF_8)
+                : new String(bytes, 0, MAX_MESSAGE_TEXT_LENGTH, UTF_8) + "...";
+        return "Could not bind lazy value of " + bytes.length + " bytes: " + text;
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Reads and converts arrays of primitives for generated parsers, so that array members never hold
+ * a boxed object per item.
+ * <p/>
+ * The length of an array in a stream is not known until its end is reached, so the {@code next}
+ * methods read items into a scratch buffer that belongs to the current thread and grows as needed.
+ * Once the array ends, the items are copied once into an array of exactly the right length. A
+ * buffer that grew beyond {@link #MAX_RETAINED_LENGTH} is dropped afterwards, so that one huge
+ * array does not pin its memory to the thread.
+ * <p/>
+ * As with single values, a null item becomes zero, or false.
+ *
+ * @since 2026-10-19.
+ */
+public class PrimitiveArrays {
+
+    private static final int INITIAL_LENGTH = 32;
+    private static final int MAX_RETAINED_LENGTH = 1 << 16;
+
+    private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+
+    /**
+     * Items of every integral type, and booleans, are read into {@link #ints}; floats are read into
+     * {@link #doubles}.
+     */
+    private static class Buffers {
+
+        int[] ints = new int[INITIAL_LENGTH];
+        long[] longs = new long[INITIAL_LENGTH];
+        double[] doubles = new double[INITIAL_LENGTH];
+
+        int[] growInts() {
+            ints = Arrays.copyOf(ints, ints.length * 2);
+            return ints;
+        }
+
+        long[] growLongs() {
+            longs = Arrays.copyOf(longs, longs.length * 2);
+            return longs;
+        }
+
+        double[] growDoubles() {
+            doubles = Arrays.copyOf(doubles, doubles.length * 2);
+            return doubles;
+        }
+
+        void trim() {
+            if (ints.length > MAX_RETAINED_LENGTH) {
+                ints = new int[INITIAL_LENGTH];
+            }
+            if (longs.length > MAX_RETAINED_LENGTH) {
+                longs = new long[INITIAL_LENGTH];
+            }
+            if (doubles.length > MAX_RETAINED_LENGTH) {
+                doubles = new double[INITIAL_LENGTH];
+            }
+        }
+    }
+
+    private PrimitiveArrays() {
+    }
+
+    public static int[] nextIntArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        int[] items = buffers.ints;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growInts();
+            }
+            items[size++] = JsonParserUtils.nextIntValue(reader, key);
+        }
+        reader.endArray();
+        int[] result = Arrays.copyOf(items, size);
+        buffers.trim();
+        return result;
+    }
+
+    public static long[] nextLongArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        long[] items = buffers.longs;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growLongs();
+            }
+            items[size++] = JsonParserUtils.nextLongValue(reader, key);
+        }
+        reader.endArray();
+        long[] result = Arrays.copyOf(items, size);
+        buffers.trim();
+        return result;
+    }
+
+    public static double[] nextDoubleArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        double[] items = buffers.doubles;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growDoubles();
+            }
+            items[size++] = JsonParserUtils.nextDoubleValue(reader, key);
+        }
+        reader.endArray();
+        double[] result = Arrays.copyOf(items, size);
+        buffers.trim();
+        return result;
+    }
+
+    public static float[] nextFloatArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        double[] items = buffers.doubles;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growDoubles();
+            }
+            items[size++] = JsonParserUtils.nextFloatValue(reader, key);
+        }
+        reader.endArray();
+        float[] result = new float[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (float) items[i];
+        }
+        buffers.trim();
+        return result;
+    }
+
+    public static short[] nextShortArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        int[] items = buffers.ints;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growInts();
+            }
+            items[size++] = JsonParserUtils.nextShortValue(reader, key);
+        }
+        reader.endArray();
+        short[] result = new short[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (short) items[i];
+        }
+        buffers.trim();
+        return result;
+    }
+
+    public static byte[] nextByteArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        int[] items = buffers.ints;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growInts();
+            }
+            items[size++] = JsonParserUtils.nextByteValue(reader, key);
+        }
+        reader.endArray();
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (byte) items[i];
+        }
+        buffers.trim();
+        return result;
+    }
+
+    public static char[] nextCharArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        int[] items = buffers.ints;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growInts();
+            }
+            items[size++] = JsonParserUtils.nextChar(reader, key);
+        }
+        reader.endArray();
+        char[] result = new char[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (char) items[i];
+        }
+        buffers.trim();
+        return result;
+    }
+
+    public static boolean[] nextBooleanArray(JsonReader reader, String key) throws IOException {
+        if (!beginArray(reader, key)) {
+            return null;
+        }
+        Buffers buffers = BUFFERS.get();
+        int[] items = buffers.ints;
+        int size = 0;
+        while (reader.hasNext()) {
+            if (size == items.length) {
+                items = buffers.growInts();
+            }
+            items[size++] = JsonParserUtils.nextBooleanValue(reader, key) ? 1 : 0;
+        }
+        reader.endArray();
+        boolean[] result = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = items[i] != 0;
+        }
+        buffers.trim();
+        return result;
+    }
+
+    /**
+     * Convert a value that has already been parsed, such as a value from a {@link JSONObject} or
+     * from the map passed to an {@link com.workday.autoparse.json.updater.InstanceUpdater}.
+     *
+     * @param value Null, an {@code int[]}, a {@link JSONArray}, or a {@link Collection}. Items may
+     * be Numbers or Strings.
+     *
+     * @throws IllegalArgumentException If {@code value} or one of its items cannot be converted.
+     */
+    public static int[] toIntArray(Object value, String key) {
+        if (value instanceof int[]) {
+            return (int[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        int[] result = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Number) {
+                result[i] = ((Number) item).intValue();
+            } else if (item != null) {
+                result[i] = Integer.parseInt(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see #toIntArray(Object, String)
+     */
+    public static long[] toLongArray(Object value, String key) {
+        if (value instanceof long[]) {
+            return (long[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        long[] result = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Number) {
+                result[i] = ((Number) item).longValue();
+            } else if (item != null) {
+                result[i] = Long.parseLong(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see #toIntArray(Object, String)
+     */
+    public static double[] toDoubleArray(Object value, String key) {
+        if (value instanceof double[]) {
+            return (double[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        double[] result = new double[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Number) {
+                result[i] = ((Number) item).doubleValue();
+            } else if (item != null) {
+                result[i] = Double.parseDouble(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see #toIntArray(Object, String)
+     */
+    public static float[] toFloatArray(Object value, String key) {
+        if (value instanceof float[]) {
+            return (float[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        float[] result = new float[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Number) {
+                result[i] = ((Number) item).floatValue();
+            } else if (item != null) {
+                result[i] = Float.parseFloat(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see #toIntArray(Object, String)
+     */
+    public static short[] toShortArray(Object value, String key) {
+        if (value instanceof short[]) {
+            return (short[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        short[] result = new short[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Number) {
+                result[i] = ((Number) item).shortValue();
+            } else if (item != null) {
+                result[i] = Short.parseShort(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see #toIntArray(Object, String)
+     */
+    public static byte[] toByteArray(Object value, String key) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        byte[] result = new byte[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Number) {
+                result[i] = ((Number) item).byteValue();
+            } else if (item != null) {
+                result[i] = Byte.parseByte(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items may be Characters or one-character Strings.
+     *
+     * @see #toIntArray(Object, String)
+     */
+    public static char[] toCharArray(Object value, String key) {
+        if (value instanceof char[]) {
+            return (char[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        char[] result = new char[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Character) {
+                result[i] = (char) item;
+            } else if (item != null) {
+                result[i] = JsonParserUtils.getCharFromString(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items may be Booleans or Strings.
+     *
+     * @see #toIntArray(Object, String)
+     */
+    public static boolean[] toBooleanArray(Object value, String key) {
+        if (value instanceof boolean[]) {
+            return (boolean[]) value;
+        }
+        Object[] items = toItems(value, key);
+        if (items == null) {
+            return null;
+        }
+        boolean[] result = new boolean[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Object item = items[i];
+            if (item instanceof Boolean) {
+                result[i] = (boolean) item;
+            } else if (item != null) {
+                result[i] = Boolean.parseBoolean(toString(item, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return False if the next value is null, in which case it has been consumed.
+     */
+    private static boolean beginArray(JsonReader reader, String key) throws IOException {
+        if (JsonParserUtils.handleNull(reader)) {
+            return false;
+        }
+        JsonParserUtils.assertType(reader, key, JsonToken.BEGIN_ARRAY);
+        reader.beginArray();
+        return true;
+    }
+
+    /**
+     * @return The items of {@code value}, with {@link JSONObject#NULL} replaced by null, or null if
+     * {@code value} is null.
+     */
+    private static Object[] toItems(Object value, String key) {
+        if (value == null || value == JSONObject.NULL) {
+            return null;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).toArray();
+        }
+        if (value instanceof JSONArray) {
+            JSONArray jsonArray = (JSONArray) value;
+            Object[] items = new Object[jsonArray.length()];
+            for (int i = 0; i < items.length; i++) {
+                Object item = jsonArray.opt(i);
+                items[i] = item == JSONObject.NULL ? null : item;
+            }
+            return items;
+        }
+        throw new IllegalArgumentException(
+                String.format(Locale.US, "Cannot convert value of \"%s\" from %s to an array.", key,
+                              value.getClass().getCanonicalName()));
+    }
+
+    private static String toString(Object item, String key) {
+        if (item instanceof String) {
+            return (String) item;
+        }
+        throw new IllegalArgumentException(
+                String.format(Locale.US, "Cannot convert item of \"%s\" from %s to a primitive.", key,
+                              item.getClass().getCanonicalName()));
+    }
+}
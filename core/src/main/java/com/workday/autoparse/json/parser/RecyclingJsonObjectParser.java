@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import android.util.JsonReader;
+
+import com.workday.autoparse.json.context.ContextHolder;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+/**
+ * A {@link JsonObjectParser} that can also parse into an existing instance, so that instances can be
+ * pooled and reused instead of being allocated for every object that is parsed. Autoparse generates
+ * parsers that implement this interface for all classes that are not created through a {@link
+ * com.workday.autoparse.json.annotations.JsonCreator}.
+ * <p/>
+ * A typical loop over a large array of records looks like this:
+ * <pre>
+ * ContextHolder.setContext(context);
+ * reader.beginArray();
+ * while (reader.hasNext()) {
+ *     reader.beginObject();
+ *     parser.parseJsonObjectInto(record, null, reader, discriminationName, null);
+ *     reader.endObject();
+ *     process(record);
+ *     parser.reset(record);
+ * }
+ * reader.endArray();
+ * </pre>
+ * Collections and maps held by fields are cleared by {@link #reset(Object)} rather than dropped, and
+ * are filled again by the next parse, so that they keep their capacity.
+ *
+ * @param <T> The type of object that is produced by this parser.
+ *
+ * @since 2026-10-19.
+ */
+public interface RecyclingJsonObjectParser<T> extends JsonObjectParser<T> {
+
+    /**
+     * Same as {@link #parseJsonObject(JSONObject, JsonReader, String, String)}, but assigns the
+     * values to {@code instance} instead of a new instance. Members that do not appear in the JSON
+     * object keep their values, so instances should normally be {@link #reset(Object)} first.
+     * <p/>
+     * Like the other parsing methods, this must be called with the {@link
+     * com.workday.autoparse.json.context.JsonParserContext} of the parse set in {@link
+     * ContextHolder}.
+     *
+     * @param instance The object to assign values to.
+     *
+     * @throws IOException If the JsonReader throws an exception.
+     */
+    void parseJsonObjectInto(T instance,
+                             JSONObject jsonObject,
+                             JsonReader reader,
+                             String discriminationName,
+                             String discriminationValue)
+            throws IOException;
+
+    /**
+     * Reset the fields of {@code instance} that are assigned by this parser to their Java defaults
+     * (null, zero or false), except for collections and maps, which are cleared in place. Members
+     * that are assigned through setters are left as they are.
+     *
+     * @param instance The object to reset.
+     */
+    void reset(T instance);
+}
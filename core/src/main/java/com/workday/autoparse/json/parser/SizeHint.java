@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import com.workday.autoparse.json.utils.Preconditions;
+
+/**
+ * The expected size of the collections or maps that are parsed for a single field or setter. Generated parsers keep
+ * one of these for every collection or map member whose class can be created with an initial capacity, pass {@link
+ * #get()} or {@link #getHashCapacity()} to the constructor, and {@link #record(int)} the size of each collection once
+ * it has been filled. Arrays are then read into a collection that already has room for them, instead of one that
+ * is copied each time it grows.
+ * <p/>
+ * The estimate is a running average that moves halfway to each recorded size, so it follows the sizes that a member
+ * usually has. A recorded size counts as at most twice the current estimate, so a single large collection barely
+ * changes the capacity of the collections after it, while a large size that repeats is reached after a few dozen
+ * parses. A hint created with an expected size, such as for {@link
+ * com.workday.autoparse.json.annotations.JsonValue#expectedSize()}, always returns that size. The estimate is
+ * approximate when a hint is used from several threads at once.
+ *
+ * @since 2026-10-19.
+ */
+public final class SizeHint {
+
+    /**
+     * The estimate before any size has been recorded. This is the initial capacity of an {@link java.util.ArrayList}.
+     */
+    static final int INITIAL_ESTIMATE = 10;
+
+    private static final float HASH_LOAD_FACTOR = 0.75f;
+
+    private final boolean fixed;
+    private int estimate;
+
+    /**
+     * Creates a hint that estimates the size from the sizes recorded so far.
+     */
+    public SizeHint() {
+        fixed = false;
+        estimate = INITIAL_ESTIMATE;
+    }
+
+    /**
+     * Creates a hint that always returns {@code expectedSize}.
+     */
+    public SizeHint(int expectedSize) {
+        Preconditions.checkArgument(expectedSize >= 0, "Size must be nonnegative but was " + expectedSize);
+        fixed = true;
+        estimate = expectedSize;
+    }
+
+    /**
+     * @return The expected number of elements, which is the initial capacity to give a list or a {@link
+     * com.workday.autoparse.json.utils.CompactMap}.
+     */
+    public int get() {
+        return estimate;
+    }
+
+    /**
+     * @return The initial capacity to give a {@link java.util.HashMap} or {@link java.util.HashSet} so that it holds
+     * the expected number of elements without being rehashed.
+     */
+    public int getHashCapacity() {
+        return (int) Math.min((long) (estimate / HASH_LOAD_FACTOR) + 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Record the size of a collection or map that was just parsed. This has no effect on a hint with a fixed size.
+     */
+    public void record(int size) {
+        if (!fixed) {
+            // Limit the growth, so that an outlier does not over-allocate the collections after it.
+            int limited = (int) Math.min(size, Math.max(2L * estimate, INITIAL_ESTIMATE));
+            // Round towards the size, so that the estimate reaches a size that repeats.
+            int sum = estimate + limited;
+            estimate = limited > estimate ? (sum + 1) >>> 1 : sum >>> 1;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import android.util.JsonReader;
 import com.workday.autoparse.json.context.ContextHolder;
 import com.workday.autoparse.json.context.JsonParserContext;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 
@@ -34,6 +36,9 @@ class StandardJsonStreamParser implements JsonStreamParser {
         JsonParserContext oldContext = null;
         try {
             oldContext = ContextHolder.getContext();
+            if (context.getSettings().isDiscriminationPrescanEnabled()) {
+                in = prescan(in);
+            }
             reader = new JsonReader(new InputStreamReader(in));
             ContextHolder.setContext(context);
             result = JsonParserUtils.parseNextValue(reader);
@@ -48,4 +53,13 @@ class StandardJsonStreamParser implements JsonStreamParser {
         }
         return result;
     }
+
+    private InputStream prescan(InputStream in) throws IOException {
+        try {
+            return new ByteArrayInputStream(DiscriminationPrescanner.prescan(
+                    in, context.getSettings().getDiscriminationName()));
+        } finally {
+            in.close();
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of string values, so that documents that repeat the same values many times (e.g.
+ * status or currency codes) hold a single instance of each value instead of one per occurrence.
+ * Each {@link JsonParserContext} has one, which is used for members with {@link
+ * JsonValue#poolStrings()}, or for all strings if enabled with {@link
+ * JsonParserSettingsBuilder#withStringPooling(boolean)}.
+ * <p/>
+ * The pool is a fixed-size table indexed by the hash of each string. A string that is not found
+ * replaces whatever was in its slot, so the pool never holds more than its capacity, and values
+ * that stop repeating are eventually evicted. Strings longer than {@value #MAX_POOLED_LENGTH}
+ * characters are rarely repeated, so they are returned without being pooled.
+ * <p/>
+ * To see how well a pool is doing, turn on {@link #setStatisticsEnabled(boolean)}, and use {@link
+ * #getHitCount()}, {@link #getMissCount()} and {@link #getHitRate()}. Lookups are not counted
+ * otherwise, since a pool is shared by every thread that parses with its context.
+ * <p/>
+ * This class is thread-safe. Concurrent callers may occasionally evict each other's entries, which
+ * only costs a miss.
+ *
+ * @since 2026-10-19.
+ */
+public final class StringPool {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int MAX_POOLED_LENGTH = 64;
+
+    private final String[] table;
+    private final int mask;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile boolean statisticsEnabled;
+
+    /**
+     * @param capacity The number of strings the pool can hold. This is rounded up to a power of
+     * two.
+     */
+    public StringPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, but was " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        table = new String[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @return The pooled string equal to {@code value}, or {@code value} itself if there is none, in
+     * which case {@code value} is pooled. Null is returned as is.
+     */
+    public String canonicalize(String value) {
+        if (value == null || value.length() > MAX_POOLED_LENGTH) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String pooled = table[index];
+        if (pooled != null && pooled.hashCode() == hash && pooled.equals(value)) {
+            if (statisticsEnabled) {
+                hitCount.incrementAndGet();
+            }
+            return pooled;
+        }
+        // Strings are immutable, so one written here is safe to read from other threads.
+        table[index] = value;
+        if (statisticsEnabled) {
+            missCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Turn on or off counting the hits and misses of this pool. This is off by default, and is
+     * meant for debugging and for tuning the capacity.
+     */
+    public void setStatisticsEnabled(boolean enabled) {
+        statisticsEnabled = enabled;
+    }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public int getCapacity() {
+        return table.length;
+    }
+
+    /**
+     * @return The number of strings that were replaced by a pooled string while statistics were
+     * enabled.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return The number of strings that were not found in the pool, and were added to it, while
+     * statistics were enabled.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return The fraction of pooled strings that were found in the pool, or 0 if none have been
+     * pooled yet.
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A {@link JsonObjectSerializerTable} that combines the tables of several partitions.
+ *
+ * @since 2026-10-19.
+ */
+public class CompositeJsonObjectSerializerTable implements JsonObjectSerializerTable {
+
+    private final Collection<JsonObjectSerializerTable> components;
+
+    public CompositeJsonObjectSerializerTable(Collection<JsonObjectSerializerTable> components) {
+        this.components = Collections.unmodifiableCollection(new ArrayList<>(components));
+    }
+
+    @Override
+    public <T> JsonObjectSerializer<T> getSerializerForClass(Class<T> clazz) {
+        for (JsonObjectSerializerTable table : components) {
+            JsonObjectSerializer<T> serializer = table.getSerializerForClass(clazz);
+            if (serializer != null) {
+                return serializer;
+            }
+        }
+        return null;
+    }
+}
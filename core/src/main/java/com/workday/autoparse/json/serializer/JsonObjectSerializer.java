@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import android.util.JsonWriter;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.parser.JsonObjectParser;
+
+import java.io.IOException;
+
+/**
+ * An object that can write a custom object as a JSON object. This is the counterpart of {@link
+ * JsonObjectParser}: the JSON object written for an instance should parse back into an equal
+ * instance. Autoparse generates an implementation for every class annotated with {@link
+ * JsonObject} that does not declare a custom parser.
+ * <p/>
+ * As with parsers, implementers must declare a {@code public static} field named {@code INSTANCE}.
+ * A custom parser declared in {@link JsonObject#parser()} may implement this interface as well, in
+ * which case it will be used to write instances of that class.
+ *
+ * @param <T> The type of object that is written by this serializer.
+ *
+ * @since 2026-10-19.
+ */
+public interface JsonObjectSerializer<T> {
+
+    /**
+     * Write {@code object} as a JSON object, including the calls to {@link JsonWriter#beginObject()}
+     * and {@link JsonWriter#endObject()}.
+     *
+     * @param object The object to write. Never null.
+     * @param writer The JsonWriter to write to.
+     * @param discriminationName The name under which to write the discrimination value of the
+     * object, if it has one. May be null, in which case no discrimination value is written.
+     *
+     * @throws IOException If the JsonWriter throws an exception.
+     */
+    void serializeJsonObject(T object, JsonWriter writer, String discriminationName)
+            throws IOException;
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+/**
+ * A holder for a map from class to {@link JsonObjectSerializer} instance. The implementation of
+ * this class is generated by Autoparse, next to the generated {@link
+ * com.workday.autoparse.json.parser.JsonObjectParserTable} of each partition.
+ *
+ * @since 2026-10-19.
+ */
+public interface JsonObjectSerializerTable {
+
+    /**
+     * @return The serializer for exactly {@code clazz}, or null if there is none.
+     */
+    <T> JsonObjectSerializer<T> getSerializerForClass(Class<T> clazz);
+}
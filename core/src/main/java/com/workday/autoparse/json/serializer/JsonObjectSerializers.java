@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import com.workday.autoparse.json.context.GeneratedClassNames;
+
+/**
+ * @since 2026-10-19.
+ */
+public class JsonObjectSerializers {
+
+    private JsonObjectSerializers() {
+    }
+
+    /**
+     * @param packageName The package of the partition, or {@link
+     * com.workday.autoparse.json.context.JsonParserSettingsBuilder#DEFAULT_OBJECT_PARSER_PACKAGE}
+     * for the default partition. Serializer tables are generated in the same package as parser
+     * tables.
+     */
+    public static JsonObjectSerializerTable getSerializerTableForPackage(String packageName) {
+        try {
+            String tableClassName = GeneratedClassNames.getQualifiedName(
+                    packageName, GeneratedClassNames.CLASS_JSON_OBJECT_SERIALIZER_TABLE);
+            return (JsonObjectSerializerTable) Class.forName(tableClassName).newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        } catch (InstantiationException e) {
+            throw new RuntimeException(e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
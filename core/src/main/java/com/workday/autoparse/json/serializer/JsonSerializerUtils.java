@@ -0,0 +1,563 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import android.util.JsonWriter;
+
+import com.workday.autoparse.json.context.ContextHolder;
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.parser.JsonParserUtils;
+import com.workday.autoparse.json.parser.LazyValue;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+import com.workday.autoparse.json.tree.LazyJsonValue;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The counterpart of {@link JsonParserUtils} for writing. Generated {@link JsonObjectSerializer}s
+ * call these methods for any value that is not a primitive or a String. Each method has an
+ * overload for {@link JsonWriter} and one for {@link Utf8JsonWriter}.
+ * <p/>
+ * Values are written so that they parse back into the same values: numbers that JSON cannot
+ * represent, such as {@link Double#NaN}, are written as strings, which the parser accepts for every
+ * numeric type, and a {@code char} is written as a one-character string.
+ *
+ * @since 2026-10-19.
+ */
+public class JsonSerializerUtils {
+
+    private JsonSerializerUtils() {
+    }
+
+    /**
+     * Write any value. Custom objects are written with the {@link JsonObjectSerializer} registered
+     * for their exact class in the {@link JsonObjectSerializerTable} of the current {@link
+     * JsonParserContext}.
+     *
+     * @param value The value to write. May be null, a CharSequence, a Boolean, a Character, a Number, an
+     * Enum (written as its name), a {@link JSONObject}, a {@link JSONArray}, a {@link
+     * LazyJsonValue}, a {@link LazyValue} (which is bound first), a {@link Map} with String keys,
+     * a {@link Collection}, a Java array, or a custom object.
+     * @param discriminationName The name under which to write discrimination values. May be null.
+     *
+     * @throws IllegalStateException If {@code value} is a custom object with no serializer.
+     */
+    public static void writeValue(JsonWriter writer, Object value, String discriminationName)
+            throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            writer.nullValue();
+        } else if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Boolean) {
+            writer.value((boolean) value);
+        } else if (value instanceof CharSequence) {
+            writer.value(value.toString());
+        } else if (value instanceof Character) {
+            writer.value(String.valueOf((char) value));
+        } else if (value instanceof Number) {
+            writeNumber(writer, (Number) value);
+        } else if (value instanceof Enum) {
+            writer.value(((Enum<?>) value).name());
+        } else if (value instanceof JSONObject) {
+            writeJsonObject(writer, (JSONObject) value, discriminationName);
+        } else if (value instanceof JSONArray) {
+            writeJsonArray(writer, (JSONArray) value, discriminationName);
+        } else if (value instanceof LazyJsonObject) {
+            writeJsonObject(writer, ((LazyJsonObject) value).toJSONObject(), discriminationName);
+        } else if (value instanceof LazyJsonArray) {
+            writeJsonArray(writer, ((LazyJsonArray) value).toJSONArray(), discriminationName);
+        } else if (value instanceof LazyValue) {
+            writeValue(writer, ((LazyValue<?>) value).get(), discriminationName);
+        } else if (value instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, ?> map = (Map<String, ?>) value;
+            writeMap(writer, map, null, discriminationName);
+        } else if (value instanceof Collection) {
+            writeCollection(writer, (Collection<?>) value, null, discriminationName);
+        } else if (value.getClass().isArray()) {
+            writeArray(writer, value, discriminationName);
+        } else {
+            writeJsonObject(writer, value, null, discriminationName);
+        }
+    }
+
+    /**
+     * Write a custom object.
+     *
+     * @param serializer The serializer to use, or null to look one up by the class of {@code
+     * value}.
+     */
+    public static <T> void writeJsonObject(JsonWriter writer,
+                                           T value,
+                                           JsonObjectSerializer<? super T> serializer,
+                                           String discriminationName)
+            throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        if (serializer == null) {
+            serializer = getSerializer(value);
+        }
+        serializer.serializeJsonObject(value, writer, discriminationName);
+    }
+
+    /**
+     * Write a Collection as an array. Nested Collections and Maps are written recursively.
+     *
+     * @param itemSerializer The serializer for the custom objects in the most deeply nested
+     * Collections, or null to write items with {@link #writeValue(JsonWriter, Object, String)}.
+     */
+    public static void writeCollection(JsonWriter writer,
+                                       Collection<?> collection,
+                                       JsonObjectSerializer<?> itemSerializer,
+                                       String discriminationName)
+            throws IOException {
+        if (collection == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginArray();
+        for (Object item : collection) {
+            writeItem(writer, item, itemSerializer, discriminationName);
+        }
+        writer.endArray();
+    }
+
+    /**
+     * Write a Map as an object.
+     *
+     * @param valueSerializer The serializer for the custom objects among the values, or null to
+     * write values with {@link #writeValue(JsonWriter, Object, String)}.
+     */
+    public static void writeMap(JsonWriter writer,
+                                Map<String, ?> map,
+                                JsonObjectSerializer<?> valueSerializer,
+                                String discriminationName)
+            throws IOException {
+        if (map == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            writer.name(entry.getKey());
+            writeItem(writer, entry.getValue(), valueSerializer, discriminationName);
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Write the entries of a Map as members of the object that is currently being written. This is
+     * used for {@link com.workday.autoparse.json.annotations.JsonSelfValues}. An entry for {@code
+     * discriminationName} is skipped, since the serializer of the object writes the discrimination
+     * value itself.
+     */
+    public static void writeMembers(JsonWriter writer,
+                                    Map<String, ?> members,
+                                    String discriminationName)
+            throws IOException {
+        if (members == null) {
+            return;
+        }
+        for (Map.Entry<String, ?> entry : members.entrySet()) {
+            if (entry.getKey().equals(discriminationName)) {
+                continue;
+            }
+            writer.name(entry.getKey());
+            writeValue(writer, entry.getValue(), discriminationName);
+        }
+    }
+
+    /**
+     * Write a Java array, of primitives or of objects, as a JSON array. Items of object arrays are
+     * written with {@link #writeValue(JsonWriter, Object, String)}.
+     *
+     * @throws IllegalArgumentException If {@code array} is not an array.
+     */
+    public static void writeArray(JsonWriter writer, Object array, String discriminationName)
+            throws IOException {
+        if (array == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginArray();
+        if (array instanceof int[]) {
+            for (int item : (int[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof long[]) {
+            for (long item : (long[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof double[]) {
+            for (double item : (double[]) array) {
+                writeDouble(writer, item);
+            }
+        } else if (array instanceof float[]) {
+            for (float item : (float[]) array) {
+                writeFloat(writer, item);
+            }
+        } else if (array instanceof short[]) {
+            for (short item : (short[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof byte[]) {
+            for (byte item : (byte[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof char[]) {
+            for (char item : (char[]) array) {
+                writer.value(String.valueOf(item));
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean item : (boolean[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof Object[]) {
+            for (Object item : (Object[]) array) {
+                writeValue(writer, item, discriminationName);
+            }
+        } else {
+            throw new IllegalArgumentException("Not an array: " + array.getClass().getCanonicalName());
+        }
+        writer.endArray();
+    }
+
+    public static void writeDouble(JsonWriter writer, double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writer.value(Double.toString(value));
+        } else {
+            writer.value(value);
+        }
+    }
+
+    public static void writeFloat(JsonWriter writer, float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writer.value(Float.toString(value));
+        } else {
+            // Float.toString gives the shortest representation that parses back to the same float.
+            writer.value(Float.valueOf(value));
+        }
+    }
+
+    public static void writeNumber(JsonWriter writer, Number value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+        } else if (value instanceof Double) {
+            writeDouble(writer, (double) value);
+        } else if (value instanceof Float) {
+            writeFloat(writer, (float) value);
+        } else {
+            writer.value(value);
+        }
+    }
+
+    /**
+     * Write any value to a {@link Utf8JsonWriter}.
+     *
+     * @see #writeValue(JsonWriter, Object, String)
+     */
+    public static void writeValue(Utf8JsonWriter writer, Object value, String discriminationName)
+            throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            writer.nullValue();
+        } else if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Boolean) {
+            writer.value((boolean) value);
+        } else if (value instanceof CharSequence) {
+            writer.value(value.toString());
+        } else if (value instanceof Character) {
+            writer.value(String.valueOf((char) value));
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else if (value instanceof Enum) {
+            writer.value(((Enum<?>) value).name());
+        } else if (value instanceof JSONObject) {
+            writeJsonObject(writer, (JSONObject) value, discriminationName);
+        } else if (value instanceof JSONArray) {
+            writeJsonArray(writer, (JSONArray) value, discriminationName);
+        } else if (value instanceof LazyJsonValue) {
+            // The text of a lazy value is already valid JSON, so it is copied without being materialized.
+            writer.rawValue(((LazyJsonValue) value).toByteArray());
+        } else if (value instanceof LazyValue) {
+            writeValue(writer, ((LazyValue<?>) value).get(), discriminationName);
+        } else if (value instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, ?> map = (Map<String, ?>) value;
+            writeMap(writer, map, null, discriminationName);
+        } else if (value instanceof Collection) {
+            writeCollection(writer, (Collection<?>) value, null, discriminationName);
+        } else if (value.getClass().isArray()) {
+            writeArray(writer, value, discriminationName);
+        } else {
+            writeJsonObject(writer, value, null, discriminationName);
+        }
+    }
+
+    /**
+     * Write a custom object to a {@link Utf8JsonWriter}. If {@code serializer} is not a {@link
+     * Utf8JsonObjectSerializer}, the object is written with an {@link JsonWriter} and then copied.
+     *
+     * @see #writeJsonObject(JsonWriter, Object, JsonObjectSerializer, String)
+     */
+    public static <T> void writeJsonObject(Utf8JsonWriter writer,
+                                           T value,
+                                           JsonObjectSerializer<? super T> serializer,
+                                           String discriminationName)
+            throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        if (serializer == null) {
+            serializer = getSerializer(value);
+        }
+        if (serializer instanceof Utf8JsonObjectSerializer) {
+            @SuppressWarnings("unchecked")
+            Utf8JsonObjectSerializer<? super T> utf8Serializer =
+                    (Utf8JsonObjectSerializer<? super T>) serializer;
+            utf8Serializer.serializeJsonObject(value, writer, discriminationName);
+        } else {
+            StringWriter json = new StringWriter();
+            JsonWriter jsonWriter = new JsonWriter(json);
+            serializer.serializeJsonObject(value, jsonWriter, discriminationName);
+            jsonWriter.flush();
+            writer.rawValue(json.toString());
+        }
+    }
+
+    /**
+     * @see #writeCollection(JsonWriter, Collection, JsonObjectSerializer, String)
+     */
+    public static void writeCollection(Utf8JsonWriter writer,
+                                       Collection<?> collection,
+                                       JsonObjectSerializer<?> itemSerializer,
+                                       String discriminationName)
+            throws IOException {
+        if (collection == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginArray();
+        for (Object item : collection) {
+            writeItem(writer, item, itemSerializer, discriminationName);
+        }
+        writer.endArray();
+    }
+
+    /**
+     * @see #writeMap(JsonWriter, Map, JsonObjectSerializer, String)
+     */
+    public static void writeMap(Utf8JsonWriter writer,
+                                Map<String, ?> map,
+                                JsonObjectSerializer<?> valueSerializer,
+                                String discriminationName)
+            throws IOException {
+        if (map == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            writer.name(entry.getKey());
+            writeItem(writer, entry.getValue(), valueSerializer, discriminationName);
+        }
+        writer.endObject();
+    }
+
+    /**
+     * @see #writeMembers(JsonWriter, Map, String)
+     */
+    public static void writeMembers(Utf8JsonWriter writer,
+                                    Map<String, ?> members,
+                                    String discriminationName)
+            throws IOException {
+        if (members == null) {
+            return;
+        }
+        for (Map.Entry<String, ?> entry : members.entrySet()) {
+            if (entry.getKey().equals(discriminationName)) {
+                continue;
+            }
+            writer.name(entry.getKey());
+            writeValue(writer, entry.getValue(), discriminationName);
+        }
+    }
+
+    /**
+     * @see #writeArray(JsonWriter, Object, String)
+     */
+    public static void writeArray(Utf8JsonWriter writer, Object array, String discriminationName)
+            throws IOException {
+        if (array == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginArray();
+        if (array instanceof int[]) {
+            for (int item : (int[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof long[]) {
+            for (long item : (long[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof double[]) {
+            for (double item : (double[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof float[]) {
+            for (float item : (float[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof short[]) {
+            for (short item : (short[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof byte[]) {
+            for (byte item : (byte[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof char[]) {
+            for (char item : (char[]) array) {
+                writer.value(String.valueOf(item));
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean item : (boolean[]) array) {
+                writer.value(item);
+            }
+        } else if (array instanceof Object[]) {
+            for (Object item : (Object[]) array) {
+                writeValue(writer, item, discriminationName);
+            }
+        } else {
+            throw new IllegalArgumentException("Not an array: " + array.getClass().getCanonicalName());
+        }
+        writer.endArray();
+    }
+
+    private static void writeItem(Utf8JsonWriter writer,
+                                  Object item,
+                                  JsonObjectSerializer<?> serializer,
+                                  String discriminationName)
+            throws IOException {
+        if (item instanceof Collection) {
+            writeCollection(writer, (Collection<?>) item, serializer, discriminationName);
+        } else if (item instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, ?> map = (Map<String, ?>) item;
+            writeMap(writer, map, serializer, discriminationName);
+        } else if (item != null && serializer != null) {
+            @SuppressWarnings("unchecked")
+            JsonObjectSerializer<Object> objectSerializer = (JsonObjectSerializer<Object>) serializer;
+            writeJsonObject(writer, item, objectSerializer, discriminationName);
+        } else {
+            writeValue(writer, item, discriminationName);
+        }
+    }
+
+    private static void writeJsonObject(Utf8JsonWriter writer,
+                                        JSONObject jsonObject,
+                                        String discriminationName)
+            throws IOException {
+        writer.beginObject();
+        Iterator<String> keys = jsonObject.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            writer.name(key);
+            writeValue(writer, jsonObject.opt(key), discriminationName);
+        }
+        writer.endObject();
+    }
+
+    private static void writeJsonArray(Utf8JsonWriter writer,
+                                       JSONArray jsonArray,
+                                       String discriminationName)
+            throws IOException {
+        writer.beginArray();
+        for (int i = 0; i < jsonArray.length(); i++) {
+            writeValue(writer, jsonArray.opt(i), discriminationName);
+        }
+        writer.endArray();
+    }
+
+    private static void writeItem(JsonWriter writer,
+                                  Object item,
+                                  JsonObjectSerializer<?> serializer,
+                                  String discriminationName)
+            throws IOException {
+        if (item instanceof Collection) {
+            writeCollection(writer, (Collection<?>) item, serializer, discriminationName);
+        } else if (item instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, ?> map = (Map<String, ?>) item;
+            writeMap(writer, map, serializer, discriminationName);
+        } else if (item != null && serializer != null) {
+            // The generated serializers pass the serializer for the declared item type.
+            @SuppressWarnings("unchecked")
+            JsonObjectSerializer<Object> objectSerializer = (JsonObjectSerializer<Object>) serializer;
+            objectSerializer.serializeJsonObject(item, writer, discriminationName);
+        } else {
+            writeValue(writer, item, discriminationName);
+        }
+    }
+
+    private static void writeJsonObject(JsonWriter writer,
+                                        JSONObject jsonObject,
+                                        String discriminationName)
+            throws IOException {
+        writer.beginObject();
+        Iterator<String> keys = jsonObject.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            writer.name(key);
+            writeValue(writer, jsonObject.opt(key), discriminationName);
+        }
+        writer.endObject();
+    }
+
+    private static void writeJsonArray(JsonWriter writer,
+                                       JSONArray jsonArray,
+                                       String discriminationName)
+            throws IOException {
+        writer.beginArray();
+        for (int i = 0; i < jsonArray.length(); i++) {
+            writeValue(writer, jsonArray.opt(i), discriminationName);
+        }
+        writer.endArray();
+    }
+
+    private static <T> JsonObjectSerializer<? super T> getSerializer(T value) {
+        JsonParserContext context = ContextHolder.getContext();
+        if (context == null) {
+            throw new IllegalStateException(
+                    "No JsonParserContext is set, so no serializer can be found for "
+                            + value.getClass().getCanonicalName()
+                            + ". Use a JsonStreamSerializer.");
+        }
+        @SuppressWarnings("unchecked")
+        Class<T> valueClass = (Class<T>) value.getClass();
+        JsonObjectSerializer<T> serializer =
+                context.getJsonObjectSerializerTable().getSerializerForClass(valueClass);
+        if (serializer == null) {
+            throw new IllegalStateException("No JsonObjectSerializer found for class "
+                                                    + valueClass.getCanonicalName());
+        }
+        return serializer;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import com.workday.autoparse.json.parser.JsonStreamParser;
+
+import java.io.OutputStream;
+
+/**
+ * An object that writes an object to a JSON output stream. This is the counterpart of {@link
+ * JsonStreamParser}.
+ *
+ * @since 2026-10-19.
+ */
+public interface JsonStreamSerializer {
+
+    /**
+     * Write {@code object} to {@code out} as UTF-8 and close {@code out}.
+     *
+     * @param object A custom object with a {@link JsonObjectSerializer}, or any value that {@link
+     * JsonSerializerUtils#writeValue(android.util.JsonWriter, Object, String)} can write.
+     */
+    void serializeJsonStream(Object object, OutputStream out) throws Exception;
+
+    /**
+     * Write {@code object} to {@code writer} as a complete document. The writer is not reset first,
+     * so call {@link Utf8JsonWriter#reset()} before reusing it for another document.
+     *
+     * @param object A custom object with a {@link JsonObjectSerializer}, or any value that {@link
+     * JsonSerializerUtils#writeValue(Utf8JsonWriter, Object, String)} can write.
+     */
+    void serializeJsonStream(Object object, Utf8JsonWriter writer) throws Exception;
+}
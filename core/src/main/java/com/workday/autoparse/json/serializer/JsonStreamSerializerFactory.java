@@ -0,0 +1,30 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettings;
+
+/**
+ * The standard way to create new instances of {@link JsonStreamSerializer}.
+ *
+ * @since 2026-10-19.
+ */
+public class JsonStreamSerializerFactory {
+
+    public static JsonStreamSerializer newJsonStreamSerializer(JsonParserSettings settings) {
+        return new StandardJsonStreamSerializer(new JsonParserContext(settings));
+    }
+
+    public static JsonStreamSerializer newJsonStreamSerializer(JsonParserContext context) {
+        return new StandardJsonStreamSerializer(context);
+    }
+
+    private JsonStreamSerializerFactory() {
+    }
+}
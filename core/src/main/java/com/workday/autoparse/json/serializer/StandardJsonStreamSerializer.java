@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import com.workday.autoparse.json.context.ContextHolder;
+import com.workday.autoparse.json.context.JsonParserContext;
+
+import java.io.OutputStream;
+
+/**
+ * @since 2026-10-19.
+ */
+class StandardJsonStreamSerializer implements JsonStreamSerializer {
+
+    private final JsonParserContext context;
+
+    StandardJsonStreamSerializer(JsonParserContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void serializeJsonStream(Object object, OutputStream out) throws Exception {
+        try {
+            Utf8JsonWriter writer = new Utf8JsonWriter();
+            serializeJsonStream(object, writer);
+            writer.writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public void serializeJsonStream(Object object, Utf8JsonWriter writer) throws Exception {
+        JsonParserContext oldContext = ContextHolder.getContext();
+        try {
+            ContextHolder.setContext(context);
+            JsonSerializerUtils.writeValue(writer,
+                                           object,
+                                           context.getSettings().getDiscriminationName());
+        } finally {
+            ContextHolder.removeContext();
+            if (oldContext != null) {
+                ContextHolder.setContext(oldContext);
+            }
+        }
+    }
+}
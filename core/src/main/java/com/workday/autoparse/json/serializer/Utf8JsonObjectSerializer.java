@@ -0,0 +1,31 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import java.io.IOException;
+
+/**
+ * A {@link JsonObjectSerializer} that can also write straight to a {@link Utf8JsonWriter}. Every
+ * generated serializer implements this. Custom serializers that do not are still supported by
+ * {@link JsonSerializerUtils}, but each of their objects is written through an {@link
+ * android.util.JsonWriter} first and then copied.
+ *
+ * @param <T> The type of object that is written by this serializer.
+ *
+ * @since 2026-10-19.
+ */
+public interface Utf8JsonObjectSerializer<T> extends JsonObjectSerializer<T> {
+
+    /**
+     * Write {@code object} as a JSON object.
+     *
+     * @see JsonObjectSerializer#serializeJsonObject(Object, android.util.JsonWriter, String)
+     */
+    void serializeJsonObject(T object, Utf8JsonWriter writer, String discriminationName)
+            throws IOException;
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Writes JSON as UTF-8 directly into a growable byte array. Unlike {@link android.util.JsonWriter}, there is no {@link
+ * java.io.Writer} and no separate pass to encode chars into bytes.
+ * <p/>
+ * Generated {@link Utf8JsonObjectSerializer}s keep the names of their members pre-encoded with {@link
+ * #encodeName(String)}, so writing a name is a single array copy. Integers are formatted straight into the buffer, and
+ * strings that need no escaping are copied in bulk.
+ * <p/>
+ * A writer can be reused for any number of documents: call {@link #writeTo(OutputStream)} or {@link
+ * #writeTo(ByteBuffer)} and then {@link #reset()}. Instances are not thread-safe.
+ *
+ * @since 2026-10-19.
+ */
+public final class Utf8JsonWriter {
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    /**
+     * The replacement for each ASCII character that must be escaped, or null if it can be written as is.
+     */
+    private static final byte[][] ASCII_ESCAPES = new byte[128][];
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    /**
+     * Integral doubles and floats below this magnitude are formatted like Double.toString() would, as digits followed
+     * by ".0". Above it, Double.toString() switches to scientific notation.
+     */
+    private static final long MAX_PLAIN_INTEGRAL = 10000000;
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ASCII_ESCAPES[c] = new byte[]{'\\', 'u', '0', '0', HEX[c >> 4], HEX[c & 0xf]};
+        }
+        ASCII_ESCAPES['"'] = new byte[]{'\\', '"'};
+        ASCII_ESCAPES['\\'] = new byte[]{'\\', '\\'};
+        ASCII_ESCAPES['\t'] = new byte[]{'\\', 't'};
+        ASCII_ESCAPES['\b'] = new byte[]{'\\', 'b'};
+        ASCII_ESCAPES['\n'] = new byte[]{'\\', 'n'};
+        ASCII_ESCAPES['\r'] = new byte[]{'\\', 'r'};
+        ASCII_ESCAPES['\f'] = new byte[]{'\\', 'f'};
+    }
+
+    private byte[] buffer;
+    private int count;
+    private int[] stack = new int[32];
+    private int stackSize;
+
+    public Utf8JsonWriter() {
+        this(1024);
+    }
+
+    public Utf8JsonWriter(int initialCapacity) {
+        buffer = new byte[Math.max(initialCapacity, 16)];
+        reset();
+    }
+
+    /**
+     * Encode {@code name} as it is written in front of a value, i.e. quoted, escaped and followed by a colon. The
+     * result can be passed to {@link #name(byte[])} any number of times.
+     */
+    public static byte[] encodeName(String name) {
+        Utf8JsonWriter writer = new Utf8JsonWriter(name.length() + 16);
+        writer.writeString(name);
+        writer.write((byte) ':');
+        return writer.toByteArray();
+    }
+
+    /**
+     * Discard everything written so far, keeping the buffer for the next document.
+     */
+    public void reset() {
+        count = 0;
+        stackSize = 0;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * @return The number of bytes written since the last {@link #reset()}.
+     */
+    public int size() {
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, count);
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException If {@code out} has less than {@link #size()} bytes remaining.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.put(buffer, 0, count);
+    }
+
+    public Utf8JsonWriter beginObject() {
+        beforeValue();
+        write((byte) '{');
+        push(EMPTY_OBJECT);
+        return this;
+    }
+
+    public Utf8JsonWriter endObject() {
+        int state = peek();
+        if (state != EMPTY_OBJECT && state != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stackSize--;
+        write((byte) '}');
+        return this;
+    }
+
+    public Utf8JsonWriter beginArray() {
+        beforeValue();
+        write((byte) '[');
+        push(EMPTY_ARRAY);
+        return this;
+    }
+
+    public Utf8JsonWriter endArray() {
+        int state = peek();
+        if (state != EMPTY_ARRAY && state != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stackSize--;
+        write((byte) ']');
+        return this;
+    }
+
+    public Utf8JsonWriter name(String name) {
+        beforeName();
+        writeString(name);
+        write((byte) ':');
+        return this;
+    }
+
+    /**
+     * @param encodedName A name encoded with {@link #encodeName(String)}.
+     */
+    public Utf8JsonWriter name(byte[] encodedName) {
+        beforeName();
+        write(encodedName, 0, encodedName.length);
+        return this;
+    }
+
+    public Utf8JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public Utf8JsonWriter nullValue() {
+        beforeValue();
+        write(NULL, 0, NULL.length);
+        return this;
+    }
+
+    public Utf8JsonWriter value(boolean value) {
+        beforeValue();
+        byte[] literal = value ? TRUE : FALSE;
+        write(literal, 0, literal.length);
+        return this;
+    }
+
+    public Utf8JsonWriter value(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * NaN and the infinities have no JSON representation, so they are written as strings, which the parser accepts
+     * for every numeric type.
+     */
+    public Utf8JsonWriter value(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return value(Double.toString(value));
+        }
+        beforeValue();
+        long integral = (long) value;
+        if (integral == value && integral != 0 && Math.abs(integral) < MAX_PLAIN_INTEGRAL) {
+            writeLong(integral);
+            write((byte) '.');
+            write((byte) '0');
+        } else {
+            writeAscii(Double.toString(value));
+        }
+        return this;
+    }
+
+    /**
+     * Floats are formatted with {@link Float#toString(float)}, which gives the shortest text that parses back to the
+     * same float.
+     *
+     * @see #value(double)
+     */
+    public Utf8JsonWriter value(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return value(Float.toString(value));
+        }
+        beforeValue();
+        long integral = (long) value;
+        if (integral == value && integral != 0 && Math.abs(integral) < MAX_PLAIN_INTEGRAL) {
+            writeLong(integral);
+            write((byte) '.');
+            write((byte) '0');
+        } else {
+            writeAscii(Float.toString(value));
+        }
+        return this;
+    }
+
+    public Utf8JsonWriter value(Number value) {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof Double) {
+            return value(value.doubleValue());
+        }
+        if (value instanceof Float) {
+            return value(value.floatValue());
+        }
+        beforeValue();
+        writeAscii(value.toString());
+        return this;
+    }
+
+    /**
+     * Write the literal text of a number, such as {@link android.util.JsonReader#nextString()} returns for a {@link
+     * android.util.JsonToken#NUMBER}, as is. The text is not checked.
+     */
+    public Utf8JsonWriter numberValue(String number) {
+        if (number == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeAscii(number);
+        return this;
+    }
+
+    /**
+     * Write {@code json} as the next value without checking or escaping it.
+     */
+    Utf8JsonWriter rawValue(String json) {
+        beforeValue();
+        writeChars(json, 0, false);
+        return this;
+    }
+
+    /**
+     * Write the UTF-8 encoded {@code json} as the next value without checking it.
+     */
+    Utf8JsonWriter rawValue(byte[] json) {
+        beforeValue();
+        write(json, 0, json.length);
+        return this;
+    }
+
+    private void beforeName() {
+        int state = peek();
+        if (state == NONEMPTY_OBJECT) {
+            write((byte) ',');
+        } else if (state != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stack[stackSize - 1] = DANGLING_NAME;
+    }
+
+    private void beforeValue() {
+        switch (peek()) {
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                write((byte) ',');
+                break;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON must have only one top-level value.");
+            default:
+                throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private int peek() {
+        return stack[stackSize - 1];
+    }
+
+    private void push(int state) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = state;
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        int position = count + digits;
+        count = position;
+        do {
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+    }
+
+    /**
+     * Write a quoted and escaped string. The leading run of characters that need neither escaping nor multi-byte
+     * encoding is copied in bulk.
+     */
+    @SuppressWarnings("deprecation")
+    private void writeString(String value) {
+        final int length = value.length();
+        int plain = 0;
+        while (plain < length) {
+            char c = value.charAt(plain);
+            if (c >= 0x80 || ASCII_ESCAPES[c] != null) {
+                break;
+            }
+            plain++;
+        }
+        ensureCapacity(plain + 2);
+        buffer[count++] = '"';
+        // Copies the low byte of each char, which is the whole char for ASCII.
+        value.getBytes(0, plain, buffer, count);
+        count += plain;
+        if (plain < length) {
+            writeChars(value, plain, true);
+        }
+        write((byte) '"');
+    }
+
+    /**
+     * @param escape Whether to escape the characters that may not appear unescaped inside a JSON string.
+     */
+    private void writeChars(String value, int start, boolean escape) {
+        final int length = value.length();
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte[] escaped = escape ? ASCII_ESCAPES[c] : null;
+                if (escaped == null) {
+                    write((byte) c);
+                } else {
+                    write(escaped, 0, escaped.length);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[count++] = (byte) (0xc0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3f));
+            } else if (escape && (c == '\u2028' || c == '\u2029')) {
+                // Valid JSON, but not valid JavaScript. Escape them like android.util.JsonWriter does.
+                ensureCapacity(6);
+                buffer[count++] = '\\';
+                buffer[count++] = 'u';
+                buffer[count++] = '2';
+                buffer[count++] = '0';
+                buffer[count++] = '2';
+                buffer[count++] = c == '\u2028' ? (byte) '8' : (byte) '9';
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[count++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate cannot be encoded as UTF-8.
+                write((byte) '?');
+            } else {
+                ensureCapacity(3);
+                buffer[count++] = (byte) (0xe0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[count++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        value.getBytes(0, length, buffer, count);
+        count += length;
+    }
+
+    private void write(byte b) {
+        ensureCapacity(1);
+        buffer[count++] = b;
+    }
+
+    private void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = count + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.tree;
+
+/**
+ * A read-only view over ASCII text inside the bytes of a {@link LazyJsonValue}. String values with no escapes and no
+ * multi-byte characters are returned as these by {@link LazyJsonObject#optCharSequence(String)} and {@link
+ * LazyJsonArray#optCharSequence(int)}, so that nothing is copied until {@link #toString()} is called. The bytes of a
+ * LazyJsonValue are never modified or reused, so a view stays valid for as long as it is referenced.
+ * <p/>
+ * Two views are equal if they have the same characters, and {@link #hashCode()} is the hash code of the equal
+ * String. As with StringBuilder, a view is never equal to a String; compare them with {@link
+ * String#contentEquals(CharSequence)}.
+ *
+ * @since 2026-10-19.
+ */
+public final class AsciiCharSequence implements CharSequence {
+
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+    private int hash;
+
+    AsciiCharSequence(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index=" + index + " length=" + (end - start));
+        }
+        return (char) bytes[start + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + " to=" + to + " length=" + (end - start));
+        }
+        return new AsciiCharSequence(bytes, start + from, start + to);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String toString() {
+        // The high byte of every ASCII char is zero.
+        return new String(bytes, 0, start, end - start);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AsciiCharSequence)) {
+            return false;
+        }
+        AsciiCharSequence other = (AsciiCharSequence) o;
+        return LazyJsonValue.regionMatches(bytes, start, end - start, other.bytes, other.start, other.length());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            for (int i = start; i < end; i++) {
+                result = 31 * result + bytes[i];
+            }
+            hash = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.tree;
+
+import com.workday.autoparse.json.serializer.JsonSerializerUtils;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A JSON array that materializes its items only when they are accessed. See {@link LazyJsonValue}.
+ *
+ * @since 2026-10-19.
+ */
+public final class LazyJsonArray extends LazyJsonValue {
+
+    /**
+     * For each item: its offset, and the offset just past it.
+     */
+    private static final int STRIDE = 2;
+
+    LazyJsonArray(byte[] bytes, int start, int end) {
+        super(bytes, start, end);
+    }
+
+    /**
+     * @return A LazyJsonArray with the same items as {@code jsonArray}.
+     */
+    public static LazyJsonArray of(JSONArray jsonArray) throws IOException {
+        Utf8JsonWriter writer = new Utf8JsonWriter(256);
+        JsonSerializerUtils.writeValue(writer, jsonArray, null);
+        byte[] bytes = writer.toByteArray();
+        return new LazyJsonArray(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @return The item at {@code position}, or null if there is none or it is null.
+     */
+    public Object opt(int position) {
+        int[] index = getIndex();
+        int item = position * STRIDE;
+        if (position < 0 || item >= index.length) {
+            return null;
+        }
+        return materialize(bytes, index[item], index[item + 1]);
+    }
+
+    /**
+     * @return The item at {@code position} as text, or null if there is none or it is null. Strings with no escapes
+     * and only ASCII characters are returned as {@link AsciiCharSequence}s, without copying.
+     */
+    public CharSequence optCharSequence(int position) {
+        int[] index = getIndex();
+        int item = position * STRIDE;
+        if (position < 0 || item >= index.length) {
+            return null;
+        }
+        return materializeCharSequence(bytes, index[item], index[item + 1]);
+    }
+
+    /**
+     * @return A JSONArray with the same items, converting nested objects and arrays as well.
+     */
+    public JSONArray toJSONArray() {
+        JSONArray result = new JSONArray();
+        int[] index = getIndex();
+        try {
+            for (int item = 0; item < index.length; item += STRIDE) {
+                result.put(toJsonValue(materialize(bytes, index[item], index[item + 1])));
+            }
+        } catch (JSONException e) {
+            throw new RuntimeException("This should be impossible.", e);
+        }
+        return result;
+    }
+
+    @Override
+    int getIndexStride() {
+        return STRIDE;
+    }
+
+    @Override
+    int[] buildIndex() {
+        int[] offsets = new int[4 * STRIDE];
+        int count = 0;
+        int position = start + 1;
+        while (bytes[position] != ']') {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * count);
+            }
+            offsets[count++] = position;
+            position = skipValue(bytes, position);
+            offsets[count++] = position;
+            if (bytes[position] == ',') {
+                position++;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+}
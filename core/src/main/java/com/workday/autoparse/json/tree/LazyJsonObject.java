@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.tree;
+
+import com.workday.autoparse.json.serializer.JsonSerializerUtils;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A JSON object that materializes its members only when they are accessed. See {@link LazyJsonValue}.
+ * <p/>
+ * Members are looked up by comparing the encoded name with the encoded names of the members in turn, so nothing is
+ * decoded unless it is returned.
+ *
+ * @since 2026-10-19.
+ */
+public final class LazyJsonObject extends LazyJsonValue {
+
+    /**
+     * For each member: the offset of the opening quote of its name, the offset of its value, and the offset just past
+     * its value. The name, quoted and followed by a colon, spans from the first offset to the second.
+     */
+    private static final int STRIDE = 3;
+
+    LazyJsonObject(byte[] bytes, int start, int end) {
+        super(bytes, start, end);
+    }
+
+    /**
+     * @return A LazyJsonObject with the same members as {@code jsonObject}.
+     */
+    public static LazyJsonObject of(JSONObject jsonObject) throws IOException {
+        Utf8JsonWriter writer = new Utf8JsonWriter(256);
+        JsonSerializerUtils.writeValue(writer, jsonObject, null);
+        byte[] bytes = writer.toByteArray();
+        return new LazyJsonObject(bytes, 0, bytes.length);
+    }
+
+    public boolean has(String name) {
+        return find(name) >= 0;
+    }
+
+    /**
+     * @return The value of the member called {@code name}, or null if there is none or its value is null.
+     */
+    public Object opt(String name) {
+        int member = find(name);
+        if (member < 0) {
+            return null;
+        }
+        int[] index = getIndex();
+        return materialize(bytes, index[member + 1], index[member + 2]);
+    }
+
+    /**
+     * @return The value of the member called {@code name} as text, or null if there is none or its value is null.
+     * Strings with no escapes and only ASCII characters are returned as {@link AsciiCharSequence}s, without copying.
+     */
+    public CharSequence optCharSequence(String name) {
+        int member = find(name);
+        if (member < 0) {
+            return null;
+        }
+        int[] index = getIndex();
+        return materializeCharSequence(bytes, index[member + 1], index[member + 2]);
+    }
+
+    /**
+     * @return The names of the members, in the order they appear in the text.
+     */
+    public List<String> names() {
+        int[] index = getIndex();
+        List<String> names = new ArrayList<>(index.length / STRIDE);
+        for (int member = 0; member < index.length; member += STRIDE) {
+            // Exclude the colon after the name.
+            names.add(decodeString(bytes, index[member], index[member + 1] - 1));
+        }
+        return names;
+    }
+
+    /**
+     * @return A JSONObject with the same members, converting nested objects and arrays as well. Members whose value
+     * is null are left out, as {@link JSONObject#put(String, Object)} does.
+     */
+    public JSONObject toJSONObject() {
+        JSONObject result = new JSONObject();
+        int[] index = getIndex();
+        try {
+            for (int member = 0; member < index.length; member += STRIDE) {
+                result.put(decodeString(bytes, index[member], index[member + 1] - 1),
+                           toJsonValue(materialize(bytes, index[member + 1], index[member + 2])));
+            }
+        } catch (JSONException e) {
+            throw new RuntimeException("This should be impossible.", e);
+        }
+        return result;
+    }
+
+    @Override
+    int getIndexStride() {
+        return STRIDE;
+    }
+
+    @Override
+    int[] buildIndex() {
+        int[] offsets = new int[4 * STRIDE];
+        int count = 0;
+        int position = start + 1;
+        while (bytes[position] != '}') {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * count);
+            }
+            offsets[count++] = position;
+            // Skip the name and the colon after it.
+            position = skipString(bytes, position) + 1;
+            offsets[count++] = position;
+            position = skipValue(bytes, position);
+            offsets[count++] = position;
+            if (bytes[position] == ',') {
+                position++;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * @return The position in the index of the member called {@code name}, or -1 if there is none.
+     */
+    private int find(String name) {
+        int[] index = getIndex();
+        if (index.length == 0) {
+            return -1;
+        }
+        byte[] encodedName = Utf8JsonWriter.encodeName(name);
+        for (int member = 0; member < index.length; member += STRIDE) {
+            int nameStart = index[member];
+            if (regionMatches(bytes, nameStart, index[member + 1] - nameStart, encodedName, 0, encodedName.length)) {
+                return member;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.tree;
+
+import android.util.JsonReader;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonObjectParser;
+import com.workday.autoparse.json.serializer.JsonSerializerUtils;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Parses objects into {@link LazyJsonObject}s. Pass this to {@link
+ * JsonParserSettingsBuilder#withUnknownObjectParser(JsonObjectParser, Class)} to keep objects with no known type as
+ * LazyJsonObjects instead of {@link JSONObject}s.
+ *
+ * @since 2026-10-19.
+ */
+public final class LazyJsonObjectParser implements JsonObjectParser<LazyJsonObject> {
+
+    public static final LazyJsonObjectParser INSTANCE = new LazyJsonObjectParser();
+
+    private LazyJsonObjectParser() {
+    }
+
+    @Override
+    public LazyJsonObject parseJsonObject(JSONObject jsonObject,
+                                          JsonReader reader,
+                                          String discriminationName,
+                                          String discriminationValue) throws IOException {
+        Utf8JsonWriter writer = new Utf8JsonWriter(256);
+        writer.beginObject();
+        // The discrimination value has already been read from the reader, so it is not copied with the rest.
+        if (discriminationValue != null && (jsonObject == null || !jsonObject.has(discriminationName))) {
+            writer.name(discriminationName).value(discriminationValue);
+        }
+        if (jsonObject != null) {
+            Iterator<String> names = jsonObject.keys();
+            while (names.hasNext()) {
+                String name = names.next();
+                writer.name(name);
+                JsonSerializerUtils.writeValue(writer, jsonObject.opt(name), discriminationName);
+            }
+        }
+        if (reader != null) {
+            while (reader.hasNext()) {
+                writer.name(reader.nextName());
+                LazyJsonValue.copyValue(reader, writer);
+            }
+        }
+        writer.endObject();
+        byte[] bytes = writer.toByteArray();
+        return new LazyJsonObject(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.tree;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * An immutable JSON object or array that is kept as its UTF-8 encoded text, and only materializes the values inside
+ * it when they are accessed. This is much smaller than the equivalent tree of {@link JSONObject}s and {@link
+ * JSONArray}s, and costs nothing beyond the copy of its bytes if it is only stored and written out again.
+ * <p/>
+ * The text is written without whitespace when the value is read. The first access to a child scans the text once to
+ * build an index of the offsets of its children, and each access after that decodes only the child it returns. Nested
+ * objects and arrays share the text of their parent.
+ * <p/>
+ * Values are materialized as they are when a JSON document is parsed without converting JSON types: objects and
+ * arrays as {@link LazyJsonObject}s and {@link LazyJsonArray}s, numbers as their literal text, strings as Strings,
+ * booleans as Booleans, and null as null.
+ * <p/>
+ * Instances are thread-safe.
+ *
+ * @since 2026-10-19.
+ */
+public abstract class LazyJsonValue {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    final byte[] bytes;
+    final int start;
+    final int end;
+    private volatile int[] index;
+
+    LazyJsonValue(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Read the next value from {@code reader}, which must be an object or an array.
+     *
+     * @return A {@link LazyJsonObject} or a {@link LazyJsonArray}.
+     */
+    public static LazyJsonValue read(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY) {
+            throw new IllegalStateException("Expected BEGIN_OBJECT or BEGIN_ARRAY but found " + token);
+        }
+        Utf8JsonWriter writer = new Utf8JsonWriter(256);
+        copyValue(reader, writer);
+        byte[] bytes = writer.toByteArray();
+        return (LazyJsonValue) materialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @return The number of members of this object, or items in this array.
+     */
+    public int length() {
+        return getIndex().length / getIndexStride();
+    }
+
+    /**
+     * @return A copy of the UTF-8 encoded text of this value.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(bytes, start, end);
+    }
+
+    /**
+     * Write the UTF-8 encoded text of this value to {@code out}.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, start, end - start);
+    }
+
+    /**
+     * @return The text of this value.
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, start, end - start, UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LazyJsonValue other = (LazyJsonValue) o;
+        return regionMatches(other.bytes, other.start, other.end - other.start);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = start; i < end; i++) {
+            result = 31 * result + bytes[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return The offsets of the children of this value, as {@link #getIndexStride()} ints per child.
+     */
+    final int[] getIndex() {
+        int[] result = index;
+        if (result == null) {
+            // Building the index twice when two threads race is harmless, since both results are equal.
+            result = buildIndex();
+            index = result;
+        }
+        return result;
+    }
+
+    abstract int getIndexStride();
+
+    abstract int[] buildIndex();
+
+    /**
+     * @return True if {@code length} bytes of {@code other} starting at {@code offset} are equal to the text of this
+     * value.
+     */
+    final boolean regionMatches(byte[] other, int offset, int length) {
+        return regionMatches(bytes, start, end - start, other, offset, length);
+    }
+
+    static boolean regionMatches(byte[] a, int aOffset, int aLength, byte[] b, int bOffset, int bLength) {
+        if (aLength != bLength) {
+            return false;
+        }
+        for (int i = 0; i < aLength; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copy the next value of {@code reader} to {@code writer}, without converting it to any intermediate form.
+     */
+    public static void copyValue(JsonReader reader, Utf8JsonWriter writer) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                writer.beginObject();
+                while (reader.hasNext()) {
+                    writer.name(reader.nextName());
+                    copyValue(reader, writer);
+                }
+                reader.endObject();
+                writer.endObject();
+                break;
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                writer.beginArray();
+                while (reader.hasNext()) {
+                    copyValue(reader, writer);
+                }
+                reader.endArray();
+                writer.endArray();
+                break;
+            case STRING:
+                writer.value(reader.nextString());
+                break;
+            case NUMBER:
+                writer.numberValue(reader.nextString());
+                break;
+            case BOOLEAN:
+                writer.value(reader.nextBoolean());
+                break;
+            case NULL:
+                reader.nextNull();
+                writer.nullValue();
+                break;
+            default:
+                throw new IllegalStateException("Unexpected token: " + token);
+        }
+    }
+
+    /**
+     * @return The value whose text is at {@code [valueStart, valueEnd)} of {@code bytes}.
+     */
+    static Object materialize(byte[] bytes, int valueStart, int valueEnd) {
+        switch (bytes[valueStart]) {
+            case '{':
+                return new LazyJsonObject(bytes, valueStart, valueEnd);
+            case '[':
+                return new LazyJsonArray(bytes, valueStart, valueEnd);
+            case '"':
+                return decodeString(bytes, valueStart, valueEnd);
+            case 't':
+                return Boolean.TRUE;
+            case 'f':
+                return Boolean.FALSE;
+            case 'n':
+                return null;
+            default:
+                return new String(bytes, valueStart, valueEnd - valueStart, UTF_8);
+        }
+    }
+
+    /**
+     * @return The value whose text is at {@code [valueStart, valueEnd)} of {@code bytes} as text: an {@link
+     * AsciiCharSequence} over a string with no escapes and only ASCII characters, a decoded String for any other
+     * string, the text of any other value, or null for null.
+     */
+    static CharSequence materializeCharSequence(byte[] bytes, int valueStart, int valueEnd) {
+        if (bytes[valueStart] != '"') {
+            Object value = materialize(bytes, valueStart, valueEnd);
+            return value == null ? null : value.toString();
+        }
+        int contentStart = valueStart + 1;
+        int contentEnd = valueEnd - 1;
+        for (int i = contentStart; i < contentEnd; i++) {
+            // Multi-byte characters have the high bit set on every byte, so they are negative.
+            if (bytes[i] == '\\' || bytes[i] < 0) {
+                return decodeString(bytes, valueStart, valueEnd);
+            }
+        }
+        return new AsciiCharSequence(bytes, contentStart, contentEnd);
+    }
+
+    /**
+     * @return The value as it would be put into a {@link JSONObject} or {@link JSONArray} by {@link
+     * com.workday.autoparse.json.parser.JsonParserUtils#parseAsJsonObject(JsonReader, String)}.
+     */
+    static Object toJsonValue(Object value) throws JSONException {
+        if (value instanceof LazyJsonObject) {
+            return ((LazyJsonObject) value).toJSONObject();
+        } else if (value instanceof LazyJsonArray) {
+            return ((LazyJsonArray) value).toJSONArray();
+        }
+        return value;
+    }
+
+    /**
+     * @param position The offset of the first byte of a value.
+     *
+     * @return The offset just past the end of the value.
+     */
+    static int skipValue(byte[] bytes, int position) {
+        byte first = bytes[position];
+        if (first == '"') {
+            return skipString(bytes, position);
+        }
+        if (first != '{' && first != '[') {
+            while (position < bytes.length && !isValueTerminator(bytes[position])) {
+                position++;
+            }
+            return position;
+        }
+        int depth = 0;
+        do {
+            byte b = bytes[position];
+            if (b == '"') {
+                position = skipString(bytes, position);
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+            position++;
+        } while (depth > 0);
+        return position;
+    }
+
+    /**
+     * @param position The offset of the opening quote of a string.
+     *
+     * @return The offset just past its closing quote.
+     */
+    static int skipString(byte[] bytes, int position) {
+        position++;
+        while (bytes[position] != '"') {
+            position += bytes[position] == '\\' ? 2 : 1;
+        }
+        return position + 1;
+    }
+
+    private static boolean isValueTerminator(byte b) {
+        return b == ',' || b == '}' || b == ']';
+    }
+
+    /**
+     * @param stringStart The offset of the opening quote.
+     * @param stringEnd The offset just past the closing quote.
+     */
+    static String decodeString(byte[] bytes, int stringStart, int stringEnd) {
+        int contentStart = stringStart + 1;
+        int contentEnd = stringEnd - 1;
+        int escape = contentStart;
+        while (escape < contentEnd && bytes[escape] != '\\') {
+            escape++;
+        }
+        if (escape == contentEnd) {
+            return new String(bytes, contentStart, contentEnd - contentStart, UTF_8);
+        }
+
+        // Escape sequences are ASCII, so the runs between them can be decoded separately.
+        StringBuilder builder = new StringBuilder(contentEnd - contentStart);
+        int runStart = contentStart;
+        int position = escape;
+        while (position < contentEnd) {
+            if (bytes[position] != '\\') {
+                position++;
+                continue;
+            }
+            builder.append(new String(bytes, runStart, position - runStart, UTF_8));
+            byte escaped = bytes[position + 1];
+            position += 2;
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append((char) Integer.parseInt(new String(bytes, position, 4, UTF_8), 16));
+                    position += 4;
+                    break;
+                default:
+                    builder.append((char) escaped);
+                    break;
+            }
+            runStart = position;
+        }
+        builder.append(new String(bytes, runStart, contentEnd - runStart, UTF_8));
+        return builder.toString();
+    }
+}
@@ -7,7 +7,18 @@
 
 package com.workday.autoparse.json.updater;
 
+import com.workday.autoparse.json.parser.BigNumbers;
+import com.workday.autoparse.json.parser.Converter;
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.parser.JsonNumber;
 import com.workday.autoparse.json.parser.JsonParserUtils;
+import com.workday.autoparse.json.parser.LazyValue;
+import com.workday.autoparse.json.tree.LazyJsonValue;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -18,8 +29,9 @@ import java.util.Map;
  * value to the desired type.
  * <p/>
  * Methods that return numbers or boxed primitives will attempt to parse String values into the
- * desired type. If the actual value cannot be converted to the desired type, these methods will
- * throw a {@link WrongTypeException}.
+ * desired type. {@link JsonNumber}s are read from their decoded values where those have the
+ * desired type, and are parsed like Strings otherwise. If the actual value cannot be converted to
+ * the desired type, these methods will throw a {@link WrongTypeException}.
  *
  * @author nathan.taylor
  * @since 2015-08-13.
@@ -49,6 +61,66 @@ public class MapValueGetter {
         throw new WrongTypeException(key, objectType, value);
     }
 
+    /**
+     * Get the value as a constant of the enum {@code enumType}. Strings are converted with {@code
+     * converter}.
+     */
+    public static <E extends Enum<E>> E getAsEnum(Map<String, Object> map,
+                                                  String key,
+                                                  Class<E> enumType,
+                                                  Converter<E> converter) {
+        Object value = map.get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        if (enumType.isInstance(value)) {
+            return enumType.cast(value);
+        }
+
+        if (value instanceof String || value instanceof JsonNumber) {
+            return converter.convert(value.toString());
+        }
+
+        throw new WrongTypeException(key, enumType, value);
+    }
+
+    /**
+     * Get the value for a member with {@link com.workday.autoparse.json.annotations.JsonValue#lazy()}.
+     * LazyValues are returned as they are. {@link JSONObject}s, {@link JSONArray}s and {@link
+     * LazyJsonValue}s are bound with {@code binder} and {@code context} on first access. Any other
+     * value is assumed to be of the type of the member already.
+     */
+    public static <T> LazyValue<T> getAsLazyValue(Map<String, Object> map,
+                                                  String key,
+                                                  LazyValue.Binder<T> binder,
+                                                  JsonParserContext context) {
+        Object value = map.get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof LazyValue) {
+            @SuppressWarnings("unchecked")
+            LazyValue<T> castedValue = (LazyValue<T>) value;
+            return castedValue;
+        }
+
+        if (value instanceof JSONObject || value instanceof JSONArray || value instanceof LazyJsonValue) {
+            try {
+                return JsonParserUtils.toLazyValue(value, binder, context);
+            } catch (IOException e) {
+                throw new RuntimeException("This should be impossible.", e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T castedValue = (T) value;
+        return LazyValue.of(castedValue);
+    }
+
     public static BigDecimal getAsBigDecimal(Map<String, Object> map, String key) {
         Object value = map.get(key);
 
@@ -60,8 +132,8 @@ public class MapValueGetter {
             return BigDecimal.ZERO;
         }
 
-        if (value instanceof String) {
-            return new BigDecimal((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return BigNumbers.parseBigDecimal(value.toString());
         }
 
         throw new WrongTypeException(key, BigDecimal.class, value);
@@ -78,8 +150,8 @@ public class MapValueGetter {
             return BigInteger.ZERO;
         }
 
-        if (value instanceof String) {
-            return new BigInteger((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return BigNumbers.parseBigInteger(value.toString());
         }
 
         throw new WrongTypeException(key, BigInteger.class, value);
@@ -96,8 +168,8 @@ public class MapValueGetter {
             return false;
         }
 
-        if (value instanceof String) {
-            return Boolean.valueOf((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return Boolean.parseBoolean(value.toString());
         }
 
         throw new WrongTypeException(key, "boolean", value);
@@ -114,8 +186,8 @@ public class MapValueGetter {
             return 0;
         }
 
-        if (value instanceof String) {
-            return Byte.valueOf((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return Byte.parseByte(value.toString());
         }
 
         throw new WrongTypeException(key, "byte", value);
@@ -132,8 +204,8 @@ public class MapValueGetter {
             return 0;
         }
 
-        if (value instanceof String) {
-            return JsonParserUtils.getCharFromString((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return JsonParserUtils.getCharFromString(value.toString());
         }
 
         throw new WrongTypeException(key, "char", value);
@@ -146,12 +218,16 @@ public class MapValueGetter {
             return (double) value;
         }
 
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).doubleValue();
+        }
+
         if (value == null) {
             return 0;
         }
 
         if (value instanceof String) {
-            return Double.valueOf((String) value);
+            return Double.parseDouble((String) value);
         }
 
         throw new WrongTypeException(key, "double", value);
@@ -168,8 +244,8 @@ public class MapValueGetter {
             return 0;
         }
 
-        if (value instanceof String) {
-            return Float.valueOf((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return Float.parseFloat(value.toString());
         }
 
         throw new WrongTypeException(key, "float", value);
@@ -182,12 +258,16 @@ public class MapValueGetter {
             return (int) value;
         }
 
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).intValueExact();
+        }
+
         if (value == null) {
             return 0;
         }
 
         if (value instanceof String) {
-            return Integer.valueOf((String) value);
+            return Integer.parseInt((String) value);
         }
 
         throw new WrongTypeException(key, "int", value);
@@ -200,12 +280,16 @@ public class MapValueGetter {
             return (long) value;
         }
 
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).longValueExact();
+        }
+
         if (value == null) {
             return 0;
         }
 
         if (value instanceof String) {
-            return Long.valueOf((String) value);
+            return Long.parseLong((String) value);
         }
 
         throw new WrongTypeException(key, "long", value);
@@ -222,8 +306,8 @@ public class MapValueGetter {
             return 0;
         }
 
-        if (value instanceof String) {
-            return Short.valueOf((String) value);
+        if (value instanceof String || value instanceof JsonNumber) {
+            return Short.parseShort(value.toString());
         }
 
         throw new WrongTypeException(key, "short", value);
@@ -242,4 +326,18 @@ public class MapValueGetter {
 
         return value.toString();
     }
+
+    /**
+     * @return The value as is if it is already a CharSequence, such as an {@link
+     * com.workday.autoparse.json.tree.AsciiCharSequence}, and otherwise as {@link #getAsString(Map, String)}.
+     */
+    public static CharSequence getAsCharSequence(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+
+        if (value instanceof CharSequence) {
+            return (CharSequence) value;
+        }
+
+        return getAsString(map, key);
+    }
 }
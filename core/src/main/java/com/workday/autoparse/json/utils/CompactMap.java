@@ -0,0 +1,417 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.utils;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map} that stores its keys and values in a single flat array instead of allocating an entry object per
+ * mapping. This is the default implementation Autoparse uses for members of type {@link Map}, {@link
+ * com.workday.autoparse.json.annotations.JsonSelfValues} and other maps created while parsing, most of which only
+ * hold a handful of entries.
+ * <p/>
+ * Up to {@value #MAX_LINEAR_SIZE} mappings are found by scanning the array. Larger maps also keep an open-addressing
+ * index of positions in the array, so lookups stay constant time. Mappings are iterated in insertion order. Removing
+ * a mapping from a large map leaves a gap in the array, which is reclaimed the next time the array fills up.
+ * <p/>
+ * Null keys and values are permitted. Like {@link java.util.HashMap}, this class is not thread-safe, and its
+ * iterators are fail-fast.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ *
+ * @since 2026-10-19.
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    /**
+     * The largest number of mappings that are found by a linear scan of the array.
+     */
+    public static final int MAX_LINEAR_SIZE = 8;
+
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final Object[] EMPTY_TABLE = {};
+
+    /**
+     * Marks the key of a mapping that was removed from a large map.
+     */
+    private static final Object REMOVED = new Object();
+
+    /**
+     * The key of the mapping at position {@code i} is at {@code 2 * i}, and its value at {@code 2 * i + 1}.
+     */
+    private transient Object[] table = EMPTY_TABLE;
+
+    /**
+     * For large maps, the positions of the mappings plus one, indexed by the hash of their key. Zero marks an empty
+     * slot. Null for small maps.
+     */
+    private transient int[] index;
+    private transient int used;
+    private transient int size;
+    private transient int modCount;
+    private transient Set<Entry<K, V>> entrySet;
+
+    public CompactMap() {
+    }
+
+    /**
+     * @param expectedSize The number of mappings the map is expected to hold, so that it does not have to grow until
+     * then.
+     */
+    public CompactMap(int expectedSize) {
+        Preconditions.checkArgument(expectedSize >= 0, "Size must be nonnegative but was " + expectedSize);
+        if (expectedSize > 0) {
+            table = new Object[2 * expectedSize];
+        }
+    }
+
+    public CompactMap(Map<? extends K, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findPosition(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int position = findPosition(key);
+        return position >= 0 ? valueAt(position) : null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int position = findPosition(key);
+        if (position >= 0) {
+            V previous = valueAt(position);
+            table[2 * position + 1] = value;
+            return previous;
+        }
+        if (2 * used == table.length) {
+            resize();
+        }
+        position = used++;
+        table[2 * position] = key;
+        table[2 * position + 1] = value;
+        size++;
+        modCount++;
+        if (index != null) {
+            addToIndex(key, position);
+        } else if (size > MAX_LINEAR_SIZE) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int position = findPosition(key);
+        if (position < 0) {
+            return null;
+        }
+        V previous = valueAt(position);
+        removeAt(position);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (used > 0) {
+            Arrays.fill(table, 0, 2 * used, null);
+            index = null;
+            used = 0;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int findPosition(Object key) {
+        if (index == null) {
+            for (int i = 0; i < used; i++) {
+                if (keysEqual(key, table[2 * i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            // Removed mappings keep their slot so that later keys in the same probe sequence are still found.
+            if (keysEqual(key, table[2 * position])) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return True if the mappings after {@code position} were moved down to fill its place, false if it was left
+     * as a gap.
+     */
+    private boolean removeAt(int position) {
+        size--;
+        modCount++;
+        if (index == null) {
+            System.arraycopy(table, 2 * (position + 1), table, 2 * position, 2 * (used - position - 1));
+            used--;
+            table[2 * used] = null;
+            table[2 * used + 1] = null;
+            return true;
+        }
+        table[2 * position] = REMOVED;
+        table[2 * position + 1] = null;
+        return false;
+    }
+
+    /**
+     * Makes room for at least one more mapping, reclaiming removed mappings if they take up at least half of the
+     * array, and growing the array otherwise.
+     */
+    private void resize() {
+        int capacity = table.length / 2;
+        if (capacity == 0) {
+            capacity = DEFAULT_CAPACITY;
+        } else if (size > capacity / 2) {
+            capacity *= 2;
+        }
+        Object[] newTable = new Object[2 * capacity];
+        if (size == used) {
+            System.arraycopy(table, 0, newTable, 0, 2 * used);
+        } else {
+            int newUsed = 0;
+            for (int i = 0; i < used; i++) {
+                if (table[2 * i] != REMOVED) {
+                    newTable[2 * newUsed] = table[2 * i];
+                    newTable[2 * newUsed + 1] = table[2 * i + 1];
+                    newUsed++;
+                }
+            }
+            used = newUsed;
+        }
+        table = newTable;
+        if (index != null) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Sizes the index to at least twice the capacity of the array, so that it is never more than half full.
+     */
+    private void rebuildIndex() {
+        int capacity = table.length / 2;
+        int indexLength = Integer.highestOneBit(capacity) << 2;
+        index = new int[indexLength];
+        for (int i = 0; i < used; i++) {
+            Object key = table[2 * i];
+            if (key != REMOVED) {
+                addToIndex(key, i);
+            }
+        }
+    }
+
+    private void addToIndex(Object key, int position) {
+        int mask = index.length - 1;
+        int slot = hash(key) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int position) {
+        return (K) table[2 * position];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int position) {
+        return (V) table[2 * position + 1];
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean keysEqual(Object key, Object candidate) {
+        return key == candidate || (key != null && key.equals(candidate));
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < used; i++) {
+            if (table[2 * i] != REMOVED) {
+                out.writeObject(table[2 * i]);
+                out.writeObject(table[2 * i + 1]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalStateException("Invalid size: " + count);
+        }
+        table = count == 0 ? EMPTY_TABLE : new Object[2 * count];
+        for (int i = 0; i < count; i++) {
+            put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            skipRemoved();
+            return next < used;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            checkForComodification();
+            skipRemoved();
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new PositionEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (removeAt(last)) {
+                next = last;
+            }
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void skipRemoved() {
+            while (next < used && table[2 * next] == REMOVED) {
+                next++;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * An entry that reads and writes through to the map, as long as the map is not structurally modified.
+     */
+    private final class PositionEntry implements Entry<K, V> {
+
+        private final int position;
+
+        PositionEntry(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public K getKey() {
+            return keyAt(position);
+        }
+
+        @Override
+        public V getValue() {
+            return valueAt(position);
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = valueAt(position);
+            table[2 * position + 1] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return keysEqual(getKey(), other.getKey()) && keysEqual(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            K key = getKey();
+            V value = getValue();
+            return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.utils;
+
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Replaces parsed collections and maps with immutable copies that are exactly as large as their contents. Parsed
+ * collections are grown as items are added, so they may have up to half of their capacity unused, and they stay
+ * mutable. Frozen copies have no slack and may be shared between threads without copying. They are used for members
+ * with {@link JsonValue#freeze()}, or for all members of interface type if enabled with {@link
+ * JsonParserSettingsBuilder#withFrozenCollections(boolean)}.
+ * <p/>
+ * Empty values become the shared empty collections, and all others are instances of private classes of this one.
+ * Lists are backed by an array of exactly their size, and sets and maps by a singleton or a {@link CompactMap} of
+ * exactly their size. Iteration order is kept. {@link #isFrozen(Object)} recognizes only the values that this class
+ * created, so an unmodifiable view of a collection that may still be modified elsewhere is copied like any other.
+ *
+ * @since 2026-10-19.
+ */
+public final class FrozenCollections {
+
+    private FrozenCollections() {
+    }
+
+    /**
+     * @return True if frozen collections are enabled in {@code context}, which may be null.
+     */
+    public static boolean isEnabled(JsonParserContext context) {
+        return context != null && context.getSettings().isFrozenCollectionsEnabled();
+    }
+
+    /**
+     * @return True if {@code value} was frozen by this class, and so cannot be modified.
+     */
+    public static boolean isFrozen(Object value) {
+        return value instanceof FrozenList
+                || value instanceof FrozenSet
+                || value instanceof FrozenMap
+                || value == Collections.emptyList()
+                || value == Collections.emptySet()
+                || value == Collections.emptyMap();
+    }
+
+    /**
+     * Collections are frozen into lists, which keep their order and duplicates.
+     */
+    public static <T> Collection<T> freeze(Collection<T> collection) {
+        if (collection instanceof Set) {
+            return freeze((Set<T>) collection);
+        } else if (collection instanceof List) {
+            return freeze((List<T>) collection);
+        }
+        return collection == null ? null : toList(collection);
+    }
+
+    public static <T> List<T> freeze(List<T> list) {
+        if (list == null || isFrozen(list)) {
+            return list;
+        }
+        return toList(list);
+    }
+
+    public static <T> Set<T> freeze(Set<T> set) {
+        if (set == null || isFrozen(set)) {
+            return set;
+        }
+        switch (set.size()) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return new FrozenSet<>(Collections.singleton(set.iterator().next()));
+            default:
+                Set<T> copy = Collections.newSetFromMap(new CompactMap<T, Boolean>(set.size()));
+                copy.addAll(set);
+                return new FrozenSet<>(Collections.unmodifiableSet(copy));
+        }
+    }
+
+    public static <K, V> Map<K, V> freeze(Map<K, V> map) {
+        if (map == null || isFrozen(map)) {
+            return map;
+        }
+        switch (map.size()) {
+            case 0:
+                return Collections.emptyMap();
+            case 1:
+                Map.Entry<K, V> entry = map.entrySet().iterator().next();
+                return new FrozenMap<>(Collections.singletonMap(entry.getKey(), entry.getValue()));
+            default:
+                return new FrozenMap<>(Collections.unmodifiableMap(new CompactMap<>(map)));
+        }
+    }
+
+    private static <T> List<T> toList(Collection<T> collection) {
+        return collection.isEmpty() ? Collections.<T>emptyList() : new FrozenList<T>(collection.toArray());
+    }
+
+    /**
+     * An unmodifiable list backed by an array of exactly its size.
+     */
+    private static final class FrozenList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] items;
+
+        FrozenList(Object[] items) {
+            this.items = items;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) items[index];
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+    }
+
+    /**
+     * Marks an unmodifiable set as frozen by this class.
+     */
+    private static final class FrozenSet<T> extends AbstractSet<T> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Set<T> items;
+
+        FrozenSet(Set<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return items.iterator();
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return items.contains(o);
+        }
+    }
+
+    /**
+     * Marks an unmodifiable map as frozen by this class.
+     */
+    private static final class FrozenMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<K, V> items;
+
+        FrozenMap(Map<K, V> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return items.entrySet();
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return items.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            return items.get(key);
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return items.keySet();
+        }
+
+        @Override
+        public Collection<V> values() {
+            return items.values();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class BigNumbersTest {
+
+    private static final String[] DECIMALS = {
+            "0", "-0", "0.00", "-0.00", "12.50", "-12.50", "1", "123456789012345678", "-123456789012345678",
+            "1234567890123456789", "12345678901234567.89", "1234567890.123456789", "0.000000000000000001",
+            "000123", ".5", "5.", "1e3", "1E3", "1.5e-3", "-1.5E+3", "1e999999999", "1e1000000000", "9e-999999999"
+    };
+
+    private static final String[] INTEGERS = {
+            "0", "-0", "7", "-7", "000123", "123456789012345678", "-123456789012345678", "1234567890123456789",
+            "-9223372036854775808", "99999999999999999999999"
+    };
+
+    private static final String[] INVALID = {"", "-", ".", "1.2.3", "1e", "1e+", "1x", " 1", "--1", "e3"};
+
+    @Test
+    public void testBigDecimalsMatchConstructor() {
+        for (String text : DECIMALS) {
+            BigDecimal expected = new BigDecimal(text);
+            BigDecimal actual = BigNumbers.parseBigDecimal(text);
+            assertEquals(text, expected, actual);
+            assertEquals(text + " scale", expected.scale(), actual.scale());
+        }
+    }
+
+    @Test
+    public void testBigIntegersMatchConstructor() {
+        for (String text : INTEGERS) {
+            assertEquals(text, new BigInteger(text), BigNumbers.parseBigInteger(text));
+        }
+    }
+
+    @Test
+    public void testInvalidNumbersThrow() {
+        for (String text : INVALID) {
+            try {
+                BigNumbers.parseBigDecimal(text);
+                fail("Expected NumberFormatException for BigDecimal: " + text);
+            } catch (NumberFormatException e) {
+                // Expected.
+            }
+            try {
+                BigNumbers.parseBigInteger(text);
+                fail("Expected NumberFormatException for BigInteger: " + text);
+            } catch (NumberFormatException e) {
+                // Expected.
+            }
+        }
+        try {
+            BigNumbers.parseBigInteger("1.5");
+            fail("Expected NumberFormatException");
+        } catch (NumberFormatException e) {
+            // Expected.
+        }
+    }
+}
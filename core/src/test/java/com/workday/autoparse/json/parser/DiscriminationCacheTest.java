@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class DiscriminationCacheTest {
+
+    private CountingTable table;
+    private DiscriminationCache cache;
+
+    @Before
+    public void setUp() {
+        table = new CountingTable();
+        for (int i = 0; i < DiscriminationCache.MAX_ENTRIES + 1; i++) {
+            table.parsers.put("value" + i, new NoJsonObjectParser());
+        }
+        cache = new DiscriminationCache("test");
+        DiscriminationCache.setStatisticsEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        DiscriminationCache.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void testRepeatedValueIsAnsweredByCache() {
+        JsonObjectParser<?> expected = table.parsers.get("value0");
+        for (int i = 0; i < 10; i++) {
+            // Use a new String every time, as a JsonReader would.
+            assertSame(expected, cache.get(new String("value0"), table));
+        }
+        assertEquals(1, table.lookups);
+        assertEquals(9, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.9, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testFullCacheFallsBackToTable() {
+        for (int i = 0; i < DiscriminationCache.MAX_ENTRIES + 1; i++) {
+            cache.get("value" + i, table);
+        }
+        assertEquals(DiscriminationCache.MAX_ENTRIES, cache.size());
+
+        String overflow = "value" + DiscriminationCache.MAX_ENTRIES;
+        assertSame(table.parsers.get(overflow), cache.get(overflow, table));
+        assertEquals(DiscriminationCache.MAX_ENTRIES + 2, table.lookups);
+    }
+
+    @Test
+    public void testUnknownValueIsNotCached() {
+        assertNull(cache.get("unknown", table));
+        assertNull(cache.get("unknown", table));
+        assertEquals(0, cache.size());
+        assertEquals(2, table.lookups);
+    }
+
+    @Test
+    public void testValuesAreCachedForEachTable() {
+        CountingTable otherTable = new CountingTable();
+        JsonObjectParser<?> otherParser = new NoJsonObjectParser();
+        otherTable.parsers.put("value0", otherParser);
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(table.parsers.get("value0"), cache.get("value0", table));
+            assertSame(otherParser, cache.get("value0", otherTable));
+        }
+        assertEquals(1, table.lookups);
+        assertEquals(1, otherTable.lookups);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testOldestTableIsDroppedWhenFull() {
+        cache.get("value0", table);
+        // Keep the other tables reachable, since the cache would drop them first once collected.
+        List<CountingTable> otherTables = new ArrayList<>();
+        for (int i = 0; i < DiscriminationCache.MAX_TABLES; i++) {
+            CountingTable otherTable = new CountingTable();
+            otherTables.add(otherTable);
+            otherTable.parsers.putAll(table.parsers);
+            cache.get("value0", otherTable);
+            cache.get("value0", otherTable);
+            assertEquals(1, otherTable.lookups);
+        }
+        assertEquals(DiscriminationCache.MAX_TABLES, cache.size());
+
+        cache.get("value0", table);
+        assertEquals(2, table.lookups);
+    }
+
+    @Test
+    public void testCollectedTableAndItsParsersAreNotKept() throws Exception {
+        CountingTable otherTable = new CountingTable();
+        NoJsonObjectParser otherParser = new NoJsonObjectParser();
+        otherTable.parsers.put("value0", otherParser);
+        cache.get("value0", otherTable);
+        assertEquals(1, cache.size());
+
+        WeakReference<CountingTable> tableReference = new WeakReference<>(otherTable);
+        WeakReference<NoJsonObjectParser> parserReference = new WeakReference<>(otherParser);
+        otherTable = null;
+        otherParser = null;
+        for (int i = 0; i < 100 && (tableReference.get() != null || parserReference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(tableReference.get());
+        assertNull(parserReference.get());
+        assertEquals(0, cache.size());
+
+        cache.get("value0", table);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLookupsAreNotCountedWhenStatisticsAreDisabled() {
+        DiscriminationCache.setStatisticsEnabled(false);
+        cache.get("value0", table);
+        cache.get("value0", table);
+        cache.get("unknown", table);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testResetCounts() {
+        cache.get("value0", table);
+        cache.get("value0", table);
+        cache.resetCounts();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getHitRate(), 0);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testGetAllCaches() {
+        assertTrue(DiscriminationCache.getAllCaches().contains(cache));
+    }
+
+    private static class CountingTable implements JsonObjectParserTable {
+
+        final Map<String, JsonObjectParser<?>> parsers = new HashMap<>();
+        int lookups;
+
+        @Override
+        public JsonObjectParser<?> get(String discriminationValue) {
+            lookups++;
+            return parsers.get(discriminationValue);
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return parsers.keySet();
+        }
+    }
+}
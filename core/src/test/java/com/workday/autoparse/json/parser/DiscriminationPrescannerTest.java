@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class DiscriminationPrescannerTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testDiscriminationNameFirstIsUnchanged() {
+        assertPrescan("{\"object\":\"a\",\"b\":1}", "{\"object\":\"a\",\"b\":1}");
+    }
+
+    @Test
+    public void testDiscriminationNameLastIsMovedToFront() {
+        assertPrescan("{\"object\": \"a\",\"b\": 1,\"c\": [1,2]}",
+                      "{ \"b\": 1, \"c\": [1, 2], \"object\": \"a\" }");
+    }
+
+    @Test
+    public void testNestedObjectsAreRewritten() {
+        assertPrescan("{\"object\":\"a\",\"child\":{\"object\":\"b\",\"x\":\"}{\"},"
+                              + "\"list\":[{\"object\":\"c\",\"y\":null}]}",
+                      "{\"child\":{\"x\":\"}{\",\"object\":\"b\"},\"list\":[{\"y\":null,\"object\":\"c\"}],"
+                              + "\"object\":\"a\"}");
+    }
+
+    @Test
+    public void testDiscriminationNameInNestedObjectIsNotHoistedToParent() {
+        assertPrescan("{\"child\":{\"object\":\"b\"},\"x\":1}", "{\"child\":{\"object\":\"b\"},\"x\":1}");
+    }
+
+    @Test
+    public void testNonStringDiscriminationValueIsNotMoved() {
+        assertPrescan("{\"b\":1,\"object\":2}", "{\"b\":1,\"object\":2}");
+    }
+
+    @Test
+    public void testEscapedDiscriminationName() {
+        assertPrescan("{\"obj\\u0065ct\":\"a\",\"b\":\"\\\"\"}", "{\"b\":\"\\\"\",\"obj\\u0065ct\":\"a\"}");
+    }
+
+    @Test
+    public void testMalformedDocumentIsUnchanged() {
+        assertPrescan("{\"b\":1,\"object\":\"a\"", "{\"b\":1,\"object\":\"a\"");
+    }
+
+    @Test
+    public void testDiscriminationNameBeyondLookAheadIsNotMoved() {
+        String big = repeat("x", DiscriminationPrescanner.MAX_LOOK_AHEAD);
+        String document = "{\"big\":\"" + big + "\",\"object\":\"a\"}";
+        assertPrescan(document, document);
+
+        String bigArray = "[" + repeat("1,", DiscriminationPrescanner.MAX_LOOK_AHEAD / 2) + "1]";
+        document = "{\"big\":" + bigArray + ",\"child\":{\"x\":1,\"object\":\"b\"},\"object\":\"a\"}";
+        assertPrescan("{\"big\":" + bigArray + ",\"child\":{\"object\":\"b\",\"x\":1},\"object\":\"a\"}",
+                      document);
+    }
+
+    @Test
+    public void testDiscriminationNameWithinLookAheadIsMoved() {
+        String big = repeat("x", DiscriminationPrescanner.MAX_LOOK_AHEAD - 32);
+        assertPrescan("{\"object\":\"a\",\"big\":\"" + big + "\"}",
+                      "{\"big\":\"" + big + "\",\"object\":\"a\"}");
+    }
+
+    private static String repeat(String s, int count) {
+        StringBuilder sb = new StringBuilder(s.length() * count);
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static void assertPrescan(String expected, String document) {
+        byte[] actual = DiscriminationPrescanner.prescan(document.getBytes(UTF_8), "object");
+        assertEquals(expected, new String(actual, UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class JsonNumberTest {
+
+    @Test
+    public void testDecodesNarrowestType() {
+        assertEquals(12, new JsonNumber("12").getValue());
+        assertEquals(-12, new JsonNumber("-12").getValue());
+        assertEquals(Integer.MIN_VALUE, new JsonNumber("-2147483648").getValue());
+        assertEquals(3000000000L, new JsonNumber("3000000000").getValue());
+        assertEquals(-123456789012345678L, new JsonNumber("-123456789012345678").getValue());
+        assertEquals(1234567890123456789L, new JsonNumber("1234567890123456789").getValue());
+        assertEquals(Long.MAX_VALUE, new JsonNumber("9223372036854775807").getValue());
+        assertEquals(Long.MIN_VALUE, new JsonNumber("-9223372036854775808").getValue());
+        assertEquals(9223372036854775808.0, new JsonNumber("9223372036854775808").getValue());
+        assertEquals(12345678901234567890.0, new JsonNumber("12345678901234567890").getValue());
+        assertEquals(12.5, new JsonNumber("12.50").getValue());
+        assertEquals(1500.0, new JsonNumber("1.5e3").getValue());
+    }
+
+    @Test
+    public void testDecodesOnce() {
+        JsonNumber number = new JsonNumber("3000000000");
+        assertSame(number.getValue(), number.getValue());
+    }
+
+    @Test
+    public void testConversions() {
+        JsonNumber number = new JsonNumber("12.75");
+        assertEquals(12, number.intValue());
+        assertEquals(12L, number.longValue());
+        assertEquals(12.75f, number.floatValue(), 0);
+        assertEquals(12.75, number.doubleValue(), 0);
+    }
+
+    @Test
+    public void testExactConversions() {
+        assertEquals(-7, new JsonNumber("-7").intValueExact());
+        assertEquals(-7L, new JsonNumber("-7").longValueExact());
+        assertEquals(3000000000L, new JsonNumber("3000000000").longValueExact());
+        assertEquals(Long.MIN_VALUE, new JsonNumber("-9223372036854775808").longValueExact());
+        assertEquals(Long.MAX_VALUE, new JsonNumber("9223372036854775807").longValue());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testIntValueExactOutOfRange() {
+        new JsonNumber("3000000000").intValueExact();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testIntValueExactFraction() {
+        new JsonNumber("1.5").intValueExact();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLongValueExactOutOfRange() {
+        new JsonNumber("9223372036854775808").longValueExact();
+    }
+
+    @Test
+    public void testKeepsText() {
+        assertEquals("12.50", new JsonNumber("12.50").toString());
+        assertEquals("1E3", new JsonNumber("1E3").toString());
+    }
+
+    @Test
+    public void testEqualsComparesText() {
+        assertEquals(new JsonNumber("1.0"), new JsonNumber("1.0"));
+        assertEquals(new JsonNumber("1.0").hashCode(), new JsonNumber("1.0").hashCode());
+        assertNotEquals(new JsonNumber("1.0"), new JsonNumber("1"));
+    }
+}
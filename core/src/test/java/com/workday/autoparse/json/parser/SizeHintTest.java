@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class SizeHintTest {
+
+    @Test
+    public void testInitialEstimate() {
+        assertEquals(SizeHint.INITIAL_ESTIMATE, new SizeHint().get());
+    }
+
+    @Test
+    public void testEstimateReachesRepeatedSize() {
+        SizeHint hint = new SizeHint();
+        for (int i = 0; i < 20; i++) {
+            hint.record(100);
+        }
+        assertEquals(100, hint.get());
+
+        for (int i = 0; i < 20; i++) {
+            hint.record(3);
+        }
+        assertEquals(3, hint.get());
+    }
+
+    @Test
+    public void testEstimateConvergesOnRepeatedLargeSize() {
+        SizeHint hint = new SizeHint();
+        int previous = hint.get();
+        for (int i = 0; i < 40; i++) {
+            hint.record(50000);
+            assertTrue(String.valueOf(hint.get()), hint.get() <= 2 * previous);
+            previous = hint.get();
+        }
+        assertEquals(50000, hint.get());
+    }
+
+    @Test
+    public void testOutlierBarelyChangesEstimate() {
+        SizeHint hint = new SizeHint();
+        for (int i = 0; i < 8; i++) {
+            hint.record(4);
+        }
+        assertEquals(4, hint.get());
+
+        hint.record(100000);
+        assertEquals(7, hint.get());
+        hint.record(4);
+        assertEquals(5, hint.get());
+        hint.record(4);
+        assertEquals(4, hint.get());
+    }
+
+    @Test
+    public void testEstimateGrowsFromZero() {
+        SizeHint hint = new SizeHint();
+        for (int i = 0; i < 8; i++) {
+            hint.record(0);
+        }
+        assertEquals(0, hint.get());
+        for (int i = 0; i < 8; i++) {
+            hint.record(40);
+        }
+        assertTrue(String.valueOf(hint.get()), hint.get() > 30);
+    }
+
+    @Test
+    public void testFixedSizeIgnoresRecordedSizes() {
+        SizeHint hint = new SizeHint(64);
+        hint.record(100000);
+        hint.record(0);
+        assertEquals(64, hint.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeFixedSize() {
+        new SizeHint(-1);
+    }
+
+    @Test
+    public void testHashCapacityHoldsExpectedSizeWithoutRehashing() {
+        SizeHint hint = new SizeHint(12);
+        int capacity = hint.getHashCapacity();
+        assertTrue(capacity * 0.75f > 12);
+        assertEquals(1, new SizeHint(0).getHashCapacity());
+    }
+
+    @Test
+    public void testLargeSizesDoNotOverflow() {
+        SizeHint hint = new SizeHint();
+        hint.record(Integer.MAX_VALUE);
+        hint.record(Integer.MAX_VALUE);
+        assertTrue(hint.get() > 0);
+        assertTrue(hint.getHashCapacity() > 0);
+        assertTrue(new SizeHint(Integer.MAX_VALUE).getHashCapacity() > 0);
+    }
+}
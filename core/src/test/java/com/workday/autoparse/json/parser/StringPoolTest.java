@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.parser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class StringPoolTest {
+
+    @Test
+    public void testEqualStringsAreCanonicalized() {
+        StringPool pool = new StringPool(16);
+        pool.setStatisticsEnabled(true);
+        String first = new String("USD");
+        String second = new String("USD");
+        assertSame(first, pool.canonicalize(first));
+        assertSame(first, pool.canonicalize(second));
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(0.5, pool.getHitRate(), 0);
+    }
+
+    @Test
+    public void testLookupsAreNotCountedByDefault() {
+        StringPool pool = new StringPool(16);
+        String first = new String("USD");
+        assertSame(first, pool.canonicalize(first));
+        assertSame(first, pool.canonicalize(new String("USD")));
+        assertFalse(pool.isStatisticsEnabled());
+        assertEquals(0, pool.getHitCount() + pool.getMissCount());
+    }
+
+    @Test
+    public void testLongStringsAreNotPooled() {
+        StringPool pool = new StringPool(16);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i <= StringPool.MAX_POOLED_LENGTH; i++) {
+            builder.append('a');
+        }
+        String first = builder.toString();
+        String second = builder.toString();
+        pool.setStatisticsEnabled(true);
+        pool.canonicalize(first);
+        assertNotSame(first, pool.canonicalize(second));
+        assertEquals(0, pool.getHitCount() + pool.getMissCount());
+    }
+
+    @Test
+    public void testNullIsReturned() {
+        assertNull(new StringPool(16).canonicalize(null));
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        StringPool pool = new StringPool(4);
+        pool.setStatisticsEnabled(true);
+        for (int i = 0; i < 100; i++) {
+            pool.canonicalize(String.valueOf(i));
+        }
+        int hits = 0;
+        for (int i = 0; i < 100; i++) {
+            String value = String.valueOf(i);
+            if (pool.canonicalize(value) != value) {
+                hits++;
+            }
+        }
+        assertEquals(hits, pool.getHitCount());
+        assertTrue(hits <= pool.getCapacity());
+    }
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, new StringPool(1).getCapacity());
+        assertEquals(8, new StringPool(5).getCapacity());
+        assertEquals(8, new StringPool(8).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveCapacityThrows() {
+        new StringPool(0);
+    }
+
+    @Test
+    public void testHitRateWithoutLookupsIsZero() {
+        assertEquals(0, new StringPool(16).getHitRate(), 0);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.serializer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class Utf8JsonWriterTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private Utf8JsonWriter writer;
+
+    @Before
+    public void setUp() {
+        writer = new Utf8JsonWriter(4);
+    }
+
+    @Test
+    public void testObjectsAndArrays() {
+        writer.beginObject();
+        writer.name("a").beginArray().value(1).value(true).nullValue().endArray();
+        writer.name("b").beginObject().endObject();
+        writer.name("c").beginArray().endArray();
+        writer.endObject();
+        assertOutput("{\"a\":[1,true,null],\"b\":{},\"c\":[]}");
+    }
+
+    @Test
+    public void testEncodedNamesMatchNames() {
+        writer.beginObject();
+        writer.name(Utf8JsonWriter.encodeName("quote\"d")).value("x");
+        writer.name("quote\"d").value("y");
+        writer.endObject();
+        assertOutput("{\"quote\\\"d\":\"x\",\"quote\\\"d\":\"y\"}");
+    }
+
+    @Test
+    public void testStringsAreEscaped() {
+        writer.value("a\"b\\c\n\t\u0001</");
+        assertOutput("\"a\\\"b\\\\c\\n\\t\\u0001</\"");
+    }
+
+    @Test
+    public void testStringsAreEncodedAsUtf8() {
+        String value = "caf\u00e9 \u20ac \ud83d\ude00 \u2028";
+        writer.value(value);
+        assertEquals("\"caf\u00e9 \u20ac \ud83d\ude00 \\u2028\"", new String(writer.toByteArray(), UTF_8));
+    }
+
+    @Test
+    public void testUnpairedSurrogateIsReplaced() {
+        writer.value("a\ud83db");
+        assertOutput("\"a?b\"");
+    }
+
+    @Test
+    public void testIntegers() {
+        writer.beginArray()
+              .value(0)
+              .value(-7)
+              .value(1234567890123L)
+              .value(Long.MIN_VALUE)
+              .value(Long.MAX_VALUE)
+              .endArray();
+        assertOutput("[0,-7,1234567890123," + Long.MIN_VALUE + "," + Long.MAX_VALUE + "]");
+    }
+
+    @Test
+    public void testDecimals() {
+        writer.beginArray()
+              .value(1.0)
+              .value(-250.0)
+              .value(0.1)
+              .value(1e20)
+              .value(-0.0)
+              .value(2.5f)
+              .value(3f)
+              .endArray();
+        assertOutput("[1.0,-250.0,0.1,1.0E20,-0.0,2.5,3.0]");
+    }
+
+    @Test
+    public void testNonFiniteNumbersAreWrittenAsStrings() {
+        writer.beginArray()
+              .value(Double.NaN)
+              .value(Double.NEGATIVE_INFINITY)
+              .value(Float.POSITIVE_INFINITY)
+              .endArray();
+        assertOutput("[\"NaN\",\"-Infinity\",\"Infinity\"]");
+    }
+
+    @Test
+    public void testNumberValues() {
+        writer.beginArray()
+              .value(Integer.valueOf(3))
+              .value(new BigDecimal("1.50"))
+              .value((Number) null)
+              .endArray();
+        assertOutput("[3,1.50,null]");
+    }
+
+    @Test
+    public void testResetClearsOutputAndState() {
+        writer.beginObject().name("a");
+        writer.reset();
+        writer.value("b");
+        assertOutput("\"b\"");
+    }
+
+    @Test
+    public void testValueWithoutNameThrows() {
+        writer.beginObject();
+        try {
+            writer.value("a");
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testSecondTopLevelValueThrows() {
+        writer.value(1);
+        try {
+            writer.value(2);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+    }
+
+    private void assertOutput(String expected) {
+        assertEquals(expected, new String(writer.toByteArray(), UTF_8));
+        assertEquals(expected.getBytes(UTF_8).length, writer.size());
+    }
+}
@@ -7,6 +7,8 @@
 
 package com.workday.autoparse.json.updater;
 
+import com.workday.autoparse.json.parser.JsonNumber;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -50,6 +52,14 @@ public class MapValueGetterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testBigDecimalFromJsonNumber() {
+        map.put("value", new JsonNumber("1.10"));
+        BigDecimal actual = MapValueGetter.getAsBigDecimal(map, "value");
+        BigDecimal expected = new BigDecimal("1.10");
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testBigDecimalFromNull() {
         BigDecimal actual = MapValueGetter.getAsBigDecimal(map, "value");
@@ -201,6 +211,14 @@ public class MapValueGetterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testDoubleFromJsonNumber() {
+        map.put("value", new JsonNumber("1.5"));
+        Double actual = MapValueGetter.getAsDouble(map, "value");
+        Double expected = 1.5;
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testDoubleFromNull() {
         Double actual = MapValueGetter.getAsDouble(map, "value");
@@ -259,6 +277,26 @@ public class MapValueGetterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testIntFromJsonNumber() {
+        map.put("value", new JsonNumber("-12"));
+        Integer actual = MapValueGetter.getAsInt(map, "value");
+        Integer expected = -12;
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testIntFromFractionalJsonNumber() {
+        map.put("value", new JsonNumber("1.5"));
+        MapValueGetter.getAsInt(map, "value");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testIntFromLongJsonNumber() {
+        map.put("value", new JsonNumber("3000000000"));
+        MapValueGetter.getAsInt(map, "value");
+    }
+
     @Test
     public void testIntFromNull() {
         Integer actual = MapValueGetter.getAsInt(map, "value");
@@ -288,6 +326,14 @@ public class MapValueGetterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testLongFromJsonNumber() {
+        map.put("value", new JsonNumber("3000000000"));
+        Long actual = MapValueGetter.getAsLong(map, "value");
+        Long expected = 3000000000L;
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testLongFromNull() {
         Long actual = MapValueGetter.getAsLong(map, "value");
@@ -353,6 +399,12 @@ public class MapValueGetterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testStringFromJsonNumber() {
+        map.put("value", new JsonNumber("1.50"));
+        assertEquals("1.50", MapValueGetter.getAsString(map, "value"));
+    }
+
     @Test
     public void testTypeAsType() {
         AtomicBoolean expected = new AtomicBoolean(true);
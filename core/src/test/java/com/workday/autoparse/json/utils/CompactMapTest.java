@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class CompactMapTest {
+
+    @Test
+    public void testPutGetAndRemove() {
+        Map<String, Object> map = new CompactMap<>();
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertEquals(1, map.put("a", 3));
+
+        assertEquals(2, map.size());
+        assertEquals(3, map.get("a"));
+        assertEquals(2, map.get("b"));
+        assertNull(map.get("c"));
+        assertTrue(map.containsKey("b"));
+        assertFalse(map.containsKey("c"));
+
+        assertEquals(3, map.remove("a"));
+        assertNull(map.remove("a"));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    public void testNullKeysAndValues() {
+        Map<String, Object> map = new CompactMap<>();
+        map.put(null, "null key");
+        map.put("null value", null);
+        assertEquals("null key", map.get(null));
+        assertTrue(map.containsKey("null value"));
+        assertNull(map.get("null value"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testIterationIsInInsertionOrder() {
+        List<String> keys = new ArrayList<>();
+        Map<String, Object> map = new CompactMap<>();
+        for (int i = 0; i < 3 * CompactMap.MAX_LINEAR_SIZE; i++) {
+            String key = "key" + (i * 7 % 31);
+            keys.add(key);
+            map.put(key, i);
+        }
+        assertEquals(keys, new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    public void testBehavesLikeHashMap() {
+        Random random = new Random(42);
+        Map<String, Integer> expected = new HashMap<>();
+        Map<String, Integer> actual = new CompactMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // Few enough keys that the maps keep crossing the linear size in both directions.
+            String key = String.valueOf(random.nextInt(2 * CompactMap.MAX_LINEAR_SIZE + 40));
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(key, expected.remove(key), actual.remove(key));
+                    break;
+                default:
+                    assertEquals(key, expected.put(key, i), actual.put(key, i));
+                    break;
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        for (int size : Arrays.asList(CompactMap.MAX_LINEAR_SIZE, 4 * CompactMap.MAX_LINEAR_SIZE)) {
+            Map<Integer, Integer> map = new CompactMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(i, i);
+            }
+            Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getKey() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+            assertEquals(size / 2, map.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(i % 2 != 0, map.containsKey(i));
+            }
+        }
+    }
+
+    @Test
+    public void testEntrySetValueWritesThrough() {
+        Map<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.entrySet().iterator().next().setValue(2);
+        assertEquals(2, map.get("a"));
+    }
+
+    @Test
+    public void testStructuralModificationWhileIteratingThrows() {
+        Map<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("c", 3);
+        try {
+            iterator.next();
+            fail("Expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testClear() {
+        Map<Integer, Object> map = new CompactMap<>(100);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+        map.put(1, "one");
+        assertEquals("one", map.get(1));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Map<String, Object> map = new CompactMap<>();
+        for (int i = 0; i < 2 * CompactMap.MAX_LINEAR_SIZE; i++) {
+            map.put("key" + i, i);
+        }
+        map.remove("key3");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(map);
+        out.close();
+        Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        assertEquals(map, copy);
+        assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(((Map<?, ?>) copy).keySet()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExpectedSizeThrows() {
+        new CompactMap<>(-1);
+    }
+}
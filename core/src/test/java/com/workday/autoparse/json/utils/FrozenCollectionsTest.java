@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class FrozenCollectionsTest {
+
+    @Test
+    public void testLists() {
+        assertSame(Collections.emptyList(), FrozenCollections.freeze(new ArrayList<String>()));
+        assertEquals(Collections.singletonList("a"), FrozenCollections.freeze(new ArrayList<>(Arrays.asList("a"))));
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b", "a"));
+        List<String> frozen = FrozenCollections.freeze(list);
+        assertEquals(list, frozen);
+        assertTrue(FrozenCollections.isFrozen(frozen));
+        assertSame(frozen, FrozenCollections.freeze(frozen));
+        assertUnmodifiable(frozen);
+    }
+
+    @Test
+    public void testSetsKeepTheirOrder() {
+        assertSame(Collections.emptySet(), FrozenCollections.freeze(new LinkedHashSet<String>()));
+        Set<String> set = new LinkedHashSet<>(Arrays.asList("c", "a", "b"));
+        Set<String> frozen = FrozenCollections.freeze(set);
+        assertEquals(set, frozen);
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(frozen));
+        assertTrue(frozen.contains("a"));
+        assertTrue(FrozenCollections.isFrozen(frozen));
+        assertUnmodifiable(frozen);
+    }
+
+    @Test
+    public void testCollections() {
+        Collection<String> set = new LinkedHashSet<>(Arrays.asList("a", "b"));
+        assertTrue(FrozenCollections.freeze(set) instanceof Set);
+        Collection<String> linkedList = new LinkedList<>(Arrays.asList("a", "b", "a"));
+        Collection<String> frozen = FrozenCollections.freeze(linkedList);
+        assertEquals(Arrays.asList("a", "b", "a"), frozen);
+        assertUnmodifiable(frozen);
+    }
+
+    @Test
+    public void testMapsKeepTheirOrder() {
+        assertSame(Collections.emptyMap(), FrozenCollections.freeze(new HashMap<String, Integer>()));
+        assertEquals(Collections.singletonMap("a", 1),
+                     FrozenCollections.freeze(new HashMap<>(Collections.singletonMap("a", 1))));
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("b", 2);
+        map.put("a", 1);
+        map.put("c", null);
+        Map<String, Integer> frozen = FrozenCollections.freeze(map);
+        assertEquals(map, frozen);
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(frozen.keySet()));
+        assertTrue(FrozenCollections.isFrozen(frozen));
+        try {
+            frozen.put("d", 4);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testUnmodifiableViewsAreCopied() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        List<String> unmodifiableList = Collections.unmodifiableList(list);
+        assertFalse(FrozenCollections.isFrozen(unmodifiableList));
+        List<String> frozenList = FrozenCollections.freeze(unmodifiableList);
+        assertNotSame(unmodifiableList, frozenList);
+        list.add("c");
+        assertEquals(Arrays.asList("a", "b"), frozenList);
+
+        Set<String> set = new LinkedHashSet<>(Arrays.asList("a", "b"));
+        Set<String> frozenSet = FrozenCollections.freeze(Collections.unmodifiableSet(set));
+        set.add("c");
+        assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b")), frozenSet);
+
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Map<String, Integer> frozenMap = FrozenCollections.freeze(Collections.unmodifiableMap(map));
+        map.put("c", 3);
+        assertEquals(2, frozenMap.size());
+        assertFalse(frozenMap.containsKey("c"));
+    }
+
+    @Test
+    public void testOnlyValuesFrozenByThisClassAreFrozen() {
+        assertFalse(FrozenCollections.isFrozen(Collections.singletonList("a")));
+        assertFalse(FrozenCollections.isFrozen(Collections.singleton("a")));
+        assertFalse(FrozenCollections.isFrozen(Collections.singletonMap("a", 1)));
+        assertFalse(FrozenCollections.isFrozen(Collections.unmodifiableMap(new CompactMap<String, Integer>())));
+        assertTrue(FrozenCollections.isFrozen(Collections.emptyList()));
+
+        List<String> singletonList = FrozenCollections.freeze(Collections.singletonList("a"));
+        assertTrue(FrozenCollections.isFrozen(singletonList));
+        assertSame(singletonList, FrozenCollections.freeze(singletonList));
+        Set<String> singleton = FrozenCollections.freeze(Collections.singleton("a"));
+        assertTrue(FrozenCollections.isFrozen(singleton));
+        assertSame(singleton, FrozenCollections.freeze(singleton));
+        assertUnmodifiable(singleton);
+        Map<String, Integer> singletonMap = FrozenCollections.freeze(Collections.singletonMap("a", 1));
+        assertTrue(FrozenCollections.isFrozen(singletonMap));
+        assertSame(singletonMap, FrozenCollections.freeze(singletonMap));
+    }
+
+    @Test
+    public void testFrozenValuesCannotBeModifiedThroughViews() {
+        List<String> list = FrozenCollections.freeze(new ArrayList<>(Arrays.asList("a", "b", "c")));
+        try {
+            list.subList(0, 2).clear();
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Map<String, Integer> frozen = FrozenCollections.freeze(map);
+        try {
+            frozen.entrySet().iterator().next().setValue(3);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+        try {
+            frozen.keySet().remove("a");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+        assertEquals(map, frozen);
+    }
+
+    @Test
+    public void testNull() {
+        assertNull(FrozenCollections.freeze((List<String>) null));
+        assertNull(FrozenCollections.freeze((Collection<String>) null));
+        assertNull(FrozenCollections.freeze((Map<String, String>) null));
+        assertFalse(FrozenCollections.isFrozen(null));
+        assertFalse(FrozenCollections.isEnabled(null));
+    }
+
+    private static void assertUnmodifiable(Collection<String> collection) {
+        try {
+            collection.add("d");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("arrayTestObject")
+public class ArrayTestObject {
+
+    @JsonValue("ints")
+    public int[] ints;
+
+    @JsonValue("longs")
+    public long[] longs;
+
+    @JsonValue("floats")
+    public float[] floats;
+
+    @JsonValue("shorts")
+    public short[] shorts;
+
+    @JsonValue("bytes")
+    public byte[] bytes;
+
+    @JsonValue("chars")
+    public char[] chars;
+
+    @JsonValue("booleans")
+    public boolean[] booleans;
+
+    @JsonValue("strings")
+    public String[] strings;
+
+    @JsonValue("objects")
+    public SimpleTestObject[] objects;
+
+    @JsonValue("priorities")
+    public Priority[] priorities;
+
+    private double[] doubles;
+
+    public double[] getDoubles() {
+        return doubles;
+    }
+
+    @JsonValue("doubles")
+    public void setDoubles(double[] doubles) {
+        this.doubles = doubles;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import java.util.List;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("charSequenceTestObject")
+public class CharSequenceTestObject {
+
+    @JsonValue("message")
+    public CharSequence message;
+
+    @JsonValue(value = "level", poolStrings = true)
+    public CharSequence level;
+
+    @JsonValue("lines")
+    public List<CharSequence> lines;
+}
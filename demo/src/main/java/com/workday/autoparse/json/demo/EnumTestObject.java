@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("enumTestObject")
+public class EnumTestObject {
+
+    @JsonValue("priority")
+    public Priority priority;
+
+    @JsonValue("timeUnit")
+    public TimeUnit timeUnit;
+
+    @JsonValue("priorities")
+    public List<Priority> priorities;
+
+    @JsonValue("priorityMap")
+    public Map<String, Priority> priorityMap;
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
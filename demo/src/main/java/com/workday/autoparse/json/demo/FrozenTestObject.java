@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("frozenTestObject")
+public class FrozenTestObject {
+
+    @JsonValue(value = "codes", freeze = true)
+    public List<String> codes;
+
+    @JsonValue("names")
+    public Set<String> names;
+
+    @JsonValue("rates")
+    public Map<String, Double> rates;
+
+    @JsonValue("ids")
+    public ArrayList<String> ids;
+}
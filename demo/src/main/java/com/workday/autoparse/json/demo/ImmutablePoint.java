@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonCreator;
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("immutablePoint")
+public final class ImmutablePoint {
+
+    private final long x;
+    private final long y;
+
+    private ImmutablePoint(long x, long y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @JsonCreator
+    public static ImmutablePoint of(@JsonValue("x") long x, @JsonValue("y") long y) {
+        return new ImmutablePoint(x, y);
+    }
+
+    public long x() {
+        return x;
+    }
+
+    public long getY() {
+        return y;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonCreator;
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.List;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("immutableTestObject")
+public final class ImmutableTestObject {
+
+    public final String name;
+    public final int count;
+    public final Priority priority;
+    public final List<SimpleTestObject> children;
+    public final ImmutablePoint point;
+    private final double[] weights;
+
+    @JsonCreator
+    public ImmutableTestObject(@JsonValue({"name", "title"}) String name,
+                               @JsonValue("count") int count,
+                               @JsonValue("priority") Priority priority,
+                               @JsonValue("children") List<SimpleTestObject> children,
+                               @JsonValue("point") ImmutablePoint point,
+                               @JsonValue("weights") double[] weights) {
+        this.name = name;
+        this.count = count;
+        this.priority = priority;
+        this.children = children;
+        this.point = point;
+        this.weights = weights;
+    }
+
+    public double[] getWeights() {
+        return weights;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("lazyTreeTestObject")
+public class LazyTreeTestObject {
+
+    @JsonValue("details")
+    public LazyJsonObject details;
+
+    @JsonValue("items")
+    public LazyJsonArray items;
+
+    @JsonValue(value = "unconverted", convertJsonTypes = false)
+    public Object unconverted;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.parser.LazyValue;
+
+import java.util.List;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("lazyValueTestObject")
+public class LazyValueTestObject {
+
+    @JsonValue("name")
+    public String name;
+
+    @JsonValue(value = "details", lazy = true)
+    public LazyValue<SimpleTestObject> details;
+
+    @JsonValue(value = "children", lazy = true)
+    public LazyValue<List<SimpleTestObject>> children;
+
+    @JsonValue(value = "count", lazy = true)
+    public LazyValue<Integer> count;
+
+    @JsonValue(value = "label", lazy = true)
+    public LazyValue<String> label;
+
+    public LazyValue<int[]> numbers;
+
+    @JsonValue(value = "numbers", lazy = true)
+    public void setNumbers(LazyValue<int[]> numbers) {
+        this.numbers = numbers;
+    }
+}
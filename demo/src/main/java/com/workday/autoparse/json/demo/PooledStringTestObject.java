@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.List;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("pooledStringTestObject")
+public class PooledStringTestObject {
+
+    @JsonValue(value = "currency", poolStrings = true)
+    public String currency;
+
+    @JsonValue(value = "tags", poolStrings = true)
+    public List<String> tags;
+
+    @JsonValue("name")
+    public String name;
+
+    @JsonValue("children")
+    public List<PooledStringTestObject> children;
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("presizedTestObject")
+public class PresizedTestObject {
+
+    @JsonValue("ids")
+    public List<String> ids;
+
+    @JsonValue(value = "codes", expectedSize = 64)
+    public LinkedHashSet<String> codes;
+
+    @JsonValue("rates")
+    public Map<String, Double> rates;
+
+    @JsonValue("children")
+    public SimpleTestObject[] children;
+
+    @JsonValue("queue")
+    public LinkedList<String> queue;
+}
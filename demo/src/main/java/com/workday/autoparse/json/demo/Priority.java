@@ -0,0 +1,25 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonEnumDefault;
+import com.workday.autoparse.json.annotations.JsonEnumValue;
+
+/**
+ * @since 2026-10-19.
+ */
+public enum Priority {
+    @JsonEnumValue({"low", "minor"})
+    LOW,
+    @JsonEnumValue("normal")
+    NORMAL,
+    @JsonEnumValue("high")
+    HIGH,
+    @JsonEnumDefault
+    UNKNOWN
+}
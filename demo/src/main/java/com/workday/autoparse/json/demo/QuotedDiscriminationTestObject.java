@@ -0,0 +1,25 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+/**
+ * A model whose discrimination value must be escaped in the generated tables.
+ *
+ * @since 2026-10-19.
+ */
+@JsonObject(QuotedDiscriminationTestObject.DISCRIMINATION_VALUE)
+public class QuotedDiscriminationTestObject {
+
+    public static final String DISCRIMINATION_VALUE = "quoted \"model\" \\ path";
+
+    @JsonValue("title")
+    public String title;
+}
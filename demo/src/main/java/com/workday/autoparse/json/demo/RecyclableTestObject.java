@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @since 2026-10-19.
+ */
+@JsonObject("recyclableTestObject")
+public class RecyclableTestObject {
+
+    @JsonValue("count")
+    public int count;
+
+    @JsonValue("active")
+    public boolean active;
+
+    @JsonValue("name")
+    public String name;
+
+    @JsonValue("tags")
+    public List<String> tags;
+
+    @JsonValue("scores")
+    public Map<String, Integer> scores;
+
+    @JsonValue("child")
+    public SimpleTestObject child;
+
+    public String label;
+
+    @JsonValue("label")
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
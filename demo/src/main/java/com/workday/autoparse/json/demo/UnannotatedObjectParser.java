@@ -8,14 +8,17 @@
 package com.workday.autoparse.json.demo;
 
 import android.util.JsonReader;
+import android.util.JsonWriter;
 
 import com.workday.autoparse.json.parser.JsonObjectParser;
+import com.workday.autoparse.json.serializer.JsonObjectSerializer;
 
 import org.json.JSONObject;
 
 import java.io.IOException;
 
-public final class UnannotatedObjectParser implements JsonObjectParser<UnannotatedObject> {
+public final class UnannotatedObjectParser implements JsonObjectParser<UnannotatedObject>,
+        JsonObjectSerializer<UnannotatedObject> {
 
     public static final UnannotatedObjectParser INSTANCE = new UnannotatedObjectParser();
 
@@ -34,6 +37,15 @@ public final class UnannotatedObjectParser implements JsonObjectParser<Unannotat
         return result;
     }
 
+    @Override
+    public void serializeJsonObject(UnannotatedObject object,
+                                    JsonWriter writer,
+                                    String discriminationName) throws IOException {
+        writer.beginObject();
+        writer.name("string").value(object.string);
+        writer.endObject();
+    }
+
     private void parsefromJsonObject(UnannotatedObject out, JSONObject jsonObject)
             throws IOException {
         try {
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A model with enough members of the kinds that generate the most code that its parser has to be split into many
+ * methods to stay small enough for the JIT.
+ *
+ * @since 2026-10-19.
+ */
+@JsonObject("wideTestObject")
+public class WideTestObject {
+
+    @JsonValue("int0")
+    public int int0;
+    @JsonValue("string0")
+    public String string0;
+    @JsonValue("priority0")
+    public Priority priority0;
+    @JsonValue("children0")
+    public List<SimpleTestObject> children0;
+    @JsonValue("priorities0")
+    public Map<String, Priority> priorities0;
+    @JsonValue("tags0")
+    public Set<String> tags0;
+
+    @JsonValue("int1")
+    public int int1;
+    @JsonValue("string1")
+    public String string1;
+    @JsonValue("priority1")
+    public Priority priority1;
+    @JsonValue("children1")
+    public List<SimpleTestObject> children1;
+    @JsonValue("priorities1")
+    public Map<String, Priority> priorities1;
+    @JsonValue("tags1")
+    public Set<String> tags1;
+
+    @JsonValue("int2")
+    public int int2;
+    @JsonValue("string2")
+    public String string2;
+    @JsonValue("priority2")
+    public Priority priority2;
+    @JsonValue("children2")
+    public List<SimpleTestObject> children2;
+    @JsonValue("priorities2")
+    public Map<String, Priority> priorities2;
+    @JsonValue("tags2")
+    public Set<String> tags2;
+
+    @JsonValue("int3")
+    public int int3;
+    @JsonValue("string3")
+    public String string3;
+    @JsonValue("priority3")
+    public Priority priority3;
+    @JsonValue("children3")
+    public List<SimpleTestObject> children3;
+    @JsonValue("priorities3")
+    public Map<String, Priority> priorities3;
+    @JsonValue("tags3")
+    public Set<String> tags3;
+
+    @JsonValue("int4")
+    public int int4;
+    @JsonValue("string4")
+    public String string4;
+    @JsonValue("priority4")
+    public Priority priority4;
+    @JsonValue("children4")
+    public List<SimpleTestObject> children4;
+    @JsonValue("priorities4")
+    public Map<String, Priority> priorities4;
+    @JsonValue("tags4")
+    public Set<String> tags4;
+
+    @JsonValue("int5")
+    public int int5;
+    @JsonValue("string5")
+    public String string5;
+    @JsonValue("priority5")
+    public Priority priority5;
+    @JsonValue("children5")
+    public List<SimpleTestObject> children5;
+    @JsonValue("priorities5")
+    public Map<String, Priority> priorities5;
+    @JsonValue("tags5")
+    public Set<String> tags5;
+
+    @JsonValue("int6")
+    public int int6;
+    @JsonValue("string6")
+    public String string6;
+    @JsonValue("priority6")
+    public Priority priority6;
+    @JsonValue("children6")
+    public List<SimpleTestObject> children6;
+    @JsonValue("priorities6")
+    public Map<String, Priority> priorities6;
+    @JsonValue("tags6")
+    public Set<String> tags6;
+
+    @JsonValue("int7")
+    public int int7;
+    @JsonValue("string7")
+    public String string7;
+    @JsonValue("priority7")
+    public Priority priority7;
+    @JsonValue("children7")
+    public List<SimpleTestObject> children7;
+    @JsonValue("priorities7")
+    public Map<String, Priority> priorities7;
+    @JsonValue("tags7")
+    public Set<String> tags7;
+
+    @JsonValue("int8")
+    public int int8;
+    @JsonValue("string8")
+    public String string8;
+    @JsonValue("priority8")
+    public Priority priority8;
+    @JsonValue("children8")
+    public List<SimpleTestObject> children8;
+    @JsonValue("priorities8")
+    public Map<String, Priority> priorities8;
+    @JsonValue("tags8")
+    public Set<String> tags8;
+
+    @JsonValue("int9")
+    public int int9;
+    @JsonValue("string9")
+    public String string9;
+    @JsonValue("priority9")
+    public Priority priority9;
+    @JsonValue("children9")
+    public List<SimpleTestObject> children9;
+    @JsonValue("priorities9")
+    public Map<String, Priority> priorities9;
+    @JsonValue("tags9")
+    public Set<String> tags9;
+
+    @JsonValue("int10")
+    public int int10;
+    @JsonValue("string10")
+    public String string10;
+    @JsonValue("priority10")
+    public Priority priority10;
+    @JsonValue("children10")
+    public List<SimpleTestObject> children10;
+    @JsonValue("priorities10")
+    public Map<String, Priority> priorities10;
+    @JsonValue("tags10")
+    public Set<String> tags10;
+
+    @JsonValue("int11")
+    public int int11;
+    @JsonValue("string11")
+    public String string11;
+    @JsonValue("priority11")
+    public Priority priority11;
+    @JsonValue("children11")
+    public List<SimpleTestObject> children11;
+    @JsonValue("priorities11")
+    public Map<String, Priority> priorities11;
+    @JsonValue("tags11")
+    public Set<String> tags11;
+
+    @JsonValue("int12")
+    public int int12;
+    @JsonValue("string12")
+    public String string12;
+    @JsonValue("priority12")
+    public Priority priority12;
+    @JsonValue("children12")
+    public List<SimpleTestObject> children12;
+    @JsonValue("priorities12")
+    public Map<String, Priority> priorities12;
+    @JsonValue("tags12")
+    public Set<String> tags12;
+
+    @JsonValue("int13")
+    public int int13;
+    @JsonValue("string13")
+    public String string13;
+    @JsonValue("priority13")
+    public Priority priority13;
+    @JsonValue("children13")
+    public List<SimpleTestObject> children13;
+    @JsonValue("priorities13")
+    public Map<String, Priority> priorities13;
+    @JsonValue("tags13")
+    public Set<String> tags13;
+
+    @JsonValue("int14")
+    public int int14;
+    @JsonValue("string14")
+    public String string14;
+    @JsonValue("priority14")
+    public Priority priority14;
+    @JsonValue("children14")
+    public List<SimpleTestObject> children14;
+    @JsonValue("priorities14")
+    public Map<String, Priority> priorities14;
+    @JsonValue("tags14")
+    public Set<String> tags14;
+
+    @JsonValue("int15")
+    public int int15;
+    @JsonValue("string15")
+    public String string15;
+    @JsonValue("priority15")
+    public Priority priority15;
+    @JsonValue("children15")
+    public List<SimpleTestObject> children15;
+    @JsonValue("priorities15")
+    public Map<String, Priority> priorities15;
+    @JsonValue("tags15")
+    public Set<String> tags15;
+
+    @JsonValue("int16")
+    public int int16;
+    @JsonValue("string16")
+    public String string16;
+    @JsonValue("priority16")
+    public Priority priority16;
+    @JsonValue("children16")
+    public List<SimpleTestObject> children16;
+    @JsonValue("priorities16")
+    public Map<String, Priority> priorities16;
+    @JsonValue("tags16")
+    public Set<String> tags16;
+
+    @JsonValue("int17")
+    public int int17;
+    @JsonValue("string17")
+    public String string17;
+    @JsonValue("priority17")
+    public Priority priority17;
+    @JsonValue("children17")
+    public List<SimpleTestObject> children17;
+    @JsonValue("priorities17")
+    public Map<String, Priority> priorities17;
+    @JsonValue("tags17")
+    public Set<String> tags17;
+
+    @JsonValue("int18")
+    public int int18;
+    @JsonValue("string18")
+    public String string18;
+    @JsonValue("priority18")
+    public Priority priority18;
+    @JsonValue("children18")
+    public List<SimpleTestObject> children18;
+    @JsonValue("priorities18")
+    public Map<String, Priority> priorities18;
+    @JsonValue("tags18")
+    public Set<String> tags18;
+
+    @JsonValue("int19")
+    public int int19;
+    @JsonValue("string19")
+    public String string19;
+    @JsonValue("priority19")
+    public Priority priority19;
+    @JsonValue("children19")
+    public List<SimpleTestObject> children19;
+    @JsonValue("priorities19")
+    public Map<String, Priority> priorities19;
+    @JsonValue("tags19")
+    public Set<String> tags19;
+
+    @JsonValue("int20")
+    public int int20;
+    @JsonValue("string20")
+    public String string20;
+    @JsonValue("priority20")
+    public Priority priority20;
+    @JsonValue("children20")
+    public List<SimpleTestObject> children20;
+    @JsonValue("priorities20")
+    public Map<String, Priority> priorities20;
+    @JsonValue("tags20")
+    public Set<String> tags20;
+
+    @JsonValue("int21")
+    public int int21;
+    @JsonValue("string21")
+    public String string21;
+    @JsonValue("priority21")
+    public Priority priority21;
+    @JsonValue("children21")
+    public List<SimpleTestObject> children21;
+    @JsonValue("priorities21")
+    public Map<String, Priority> priorities21;
+    @JsonValue("tags21")
+    public Set<String> tags21;
+
+    @JsonValue("int22")
+    public int int22;
+    @JsonValue("string22")
+    public String string22;
+    @JsonValue("priority22")
+    public Priority priority22;
+    @JsonValue("children22")
+    public List<SimpleTestObject> children22;
+    @JsonValue("priorities22")
+    public Map<String, Priority> priorities22;
+    @JsonValue("tags22")
+    public Set<String> tags22;
+
+    @JsonValue("int23")
+    public int int23;
+    @JsonValue("string23")
+    public String string23;
+    @JsonValue("priority23")
+    public Priority priority23;
+    @JsonValue("children23")
+    public List<SimpleTestObject> children23;
+    @JsonValue("priorities23")
+    public Map<String, Priority> priorities23;
+    @JsonValue("tags23")
+    public Set<String> tags23;
+
+    @JsonValue("int24")
+    public int int24;
+    @JsonValue("string24")
+    public String string24;
+    @JsonValue("priority24")
+    public Priority priority24;
+    @JsonValue("children24")
+    public List<SimpleTestObject> children24;
+    @JsonValue("priorities24")
+    public Map<String, Priority> priorities24;
+    @JsonValue("tags24")
+    public Set<String> tags24;
+
+    @JsonValue("int25")
+    public int int25;
+    @JsonValue("string25")
+    public String string25;
+    @JsonValue("priority25")
+    public Priority priority25;
+    @JsonValue("children25")
+    public List<SimpleTestObject> children25;
+    @JsonValue("priorities25")
+    public Map<String, Priority> priorities25;
+    @JsonValue("tags25")
+    public Set<String> tags25;
+
+    @JsonValue("int26")
+    public int int26;
+    @JsonValue("string26")
+    public String string26;
+    @JsonValue("priority26")
+    public Priority priority26;
+    @JsonValue("children26")
+    public List<SimpleTestObject> children26;
+    @JsonValue("priorities26")
+    public Map<String, Priority> priorities26;
+    @JsonValue("tags26")
+    public Set<String> tags26;
+
+    @JsonValue("int27")
+    public int int27;
+    @JsonValue("string27")
+    public String string27;
+    @JsonValue("priority27")
+    public Priority priority27;
+    @JsonValue("children27")
+    public List<SimpleTestObject> children27;
+    @JsonValue("priorities27")
+    public Map<String, Priority> priorities27;
+    @JsonValue("tags27")
+    public Set<String> tags27;
+
+    @JsonValue("int28")
+    public int int28;
+    @JsonValue("string28")
+    public String string28;
+    @JsonValue("priority28")
+    public Priority priority28;
+    @JsonValue("children28")
+    public List<SimpleTestObject> children28;
+    @JsonValue("priorities28")
+    public Map<String, Priority> priorities28;
+    @JsonValue("tags28")
+    public Set<String> tags28;
+
+    @JsonValue("int29")
+    public int int29;
+    @JsonValue("string29")
+    public String string29;
+    @JsonValue("priority29")
+    public Priority priority29;
+    @JsonValue("children29")
+    public List<SimpleTestObject> children29;
+    @JsonValue("priorities29")
+    public Map<String, Priority> priorities29;
+    @JsonValue("tags29")
+    public Set<String> tags29;
+
+    @JsonValue("int30")
+    public int int30;
+    @JsonValue("string30")
+    public String string30;
+    @JsonValue("priority30")
+    public Priority priority30;
+    @JsonValue("children30")
+    public List<SimpleTestObject> children30;
+    @JsonValue("priorities30")
+    public Map<String, Priority> priorities30;
+    @JsonValue("tags30")
+    public Set<String> tags30;
+
+    @JsonValue("int31")
+    public int int31;
+    @JsonValue("string31")
+    public String string31;
+    @JsonValue("priority31")
+    public Priority priority31;
+    @JsonValue("children31")
+    public List<SimpleTestObject> children31;
+    @JsonValue("priorities31")
+    public Map<String, Priority> priorities31;
+    @JsonValue("tags31")
+    public Set<String> tags31;
+
+    @JsonValue("int32")
+    public int int32;
+    @JsonValue("string32")
+    public String string32;
+    @JsonValue("priority32")
+    public Priority priority32;
+    @JsonValue("children32")
+    public List<SimpleTestObject> children32;
+    @JsonValue("priorities32")
+    public Map<String, Priority> priorities32;
+    @JsonValue("tags32")
+    public Set<String> tags32;
+
+    @JsonValue("int33")
+    public int int33;
+    @JsonValue("string33")
+    public String string33;
+    @JsonValue("priority33")
+    public Priority priority33;
+    @JsonValue("children33")
+    public List<SimpleTestObject> children33;
+    @JsonValue("priorities33")
+    public Map<String, Priority> priorities33;
+    @JsonValue("tags33")
+    public Set<String> tags33;
+
+    @JsonValue("int34")
+    public int int34;
+    @JsonValue("string34")
+    public String string34;
+    @JsonValue("priority34")
+    public Priority priority34;
+    @JsonValue("children34")
+    public List<SimpleTestObject> children34;
+    @JsonValue("priorities34")
+    public Map<String, Priority> priorities34;
+    @JsonValue("tags34")
+    public Set<String> tags34;
+
+    @JsonValue("int35")
+    public int int35;
+    @JsonValue("string35")
+    public String string35;
+    @JsonValue("priority35")
+    public Priority priority35;
+    @JsonValue("children35")
+    public List<SimpleTestObject> children35;
+    @JsonValue("priorities35")
+    public Map<String, Priority> priorities35;
+    @JsonValue("tags35")
+    public Set<String> tags35;
+
+    @JsonValue("int36")
+    public int int36;
+    @JsonValue("string36")
+    public String string36;
+    @JsonValue("priority36")
+    public Priority priority36;
+    @JsonValue("children36")
+    public List<SimpleTestObject> children36;
+    @JsonValue("priorities36")
+    public Map<String, Priority> priorities36;
+    @JsonValue("tags36")
+    public Set<String> tags36;
+
+    @JsonValue("int37")
+    public int int37;
+    @JsonValue("string37")
+    public String string37;
+    @JsonValue("priority37")
+    public Priority priority37;
+    @JsonValue("children37")
+    public List<SimpleTestObject> children37;
+    @JsonValue("priorities37")
+    public Map<String, Priority> priorities37;
+    @JsonValue("tags37")
+    public Set<String> tags37;
+
+    @JsonValue("int38")
+    public int int38;
+    @JsonValue("string38")
+    public String string38;
+    @JsonValue("priority38")
+    public Priority priority38;
+    @JsonValue("children38")
+    public List<SimpleTestObject> children38;
+    @JsonValue("priorities38")
+    public Map<String, Priority> priorities38;
+    @JsonValue("tags38")
+    public Set<String> tags38;
+
+    @JsonValue("int39")
+    public int int39;
+    @JsonValue("string39")
+    public String string39;
+    @JsonValue("priority39")
+    public Priority priority39;
+    @JsonValue("children39")
+    public List<SimpleTestObject> children39;
+    @JsonValue("priorities39")
+    public Map<String, Priority> priorities39;
+    @JsonValue("tags39")
+    public Set<String> tags39;
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettings;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonStreamSerializer;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+
+import org.json.JSONArray;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.workday.autoparse.json.demo.InstanceUpdaterTestUtils.CONTEXT;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class ArrayJsonParserTest {
+
+    private static final double ERROR = 1e-9;
+
+    private static final String MEMBERS = "\"ints\":[1,null,\"3\"],\"longs\":[12345678901],"
+            + "\"doubles\":[0.5,-2],\"floats\":[1.5],\"shorts\":[7],\"bytes\":[-1],\"chars\":[\"a\",\"b\"],"
+            + "\"booleans\":[true,false],\"strings\":[\"x\",null],"
+            + "\"objects\":[{\"object\":\"simpleTestObject\",\"myString\":\"s\"}],"
+            + "\"priorities\":[\"high\",\"LOW\"]";
+
+    private JsonStreamParser parser;
+    private JsonStreamSerializer serializer;
+
+    @Before
+    public void setUp() {
+        JsonParserSettings settings = new JsonParserSettingsBuilder().withDiscriminationName("object").build();
+        parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+        serializer = JsonStreamSerializerFactory.newJsonStreamSerializer(settings);
+    }
+
+    @Test
+    public void testParseArrays() throws Exception {
+        assertParsedArrays(parse("{\"object\":\"arrayTestObject\"," + MEMBERS + "}"));
+    }
+
+    @Test
+    public void testParseArraysDelayed() throws Exception {
+        assertParsedArrays(parse("{" + MEMBERS + ",\"object\":\"arrayTestObject\"}"));
+    }
+
+    private void assertParsedArrays(ArrayTestObject object) {
+        assertArrayEquals("object.ints", new int[]{1, 0, 3}, object.ints);
+        assertArrayEquals("object.longs", new long[]{12345678901L}, object.longs);
+        assertArrayEquals("object.doubles", new double[]{0.5, -2}, object.getDoubles(), ERROR);
+        assertArrayEquals("object.floats", new float[]{1.5f}, object.floats, (float) ERROR);
+        assertArrayEquals("object.shorts", new short[]{7}, object.shorts);
+        assertArrayEquals("object.bytes", new byte[]{-1}, object.bytes);
+        assertArrayEquals("object.chars", new char[]{'a', 'b'}, object.chars);
+        assertArrayEquals("object.booleans", new boolean[]{true, false}, object.booleans);
+        assertArrayEquals("object.strings", new String[]{"x", null}, object.strings);
+        assertArrayEquals("object.objects",
+                          new SimpleTestObject[]{new SimpleTestObject("s", "simpleTestObject")},
+                          object.objects);
+        assertArrayEquals("object.priorities", new Priority[]{Priority.HIGH, Priority.LOW}, object.priorities);
+    }
+
+    @Test
+    public void testParseLargeArray() throws Exception {
+        StringBuilder json = new StringBuilder("{\"object\":\"arrayTestObject\",\"ints\":[");
+        int[] expected = new int[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 3;
+            json.append(i == 0 ? "" : ",").append(expected[i]);
+        }
+        json.append("]}");
+        assertArrayEquals(expected, parse(json.toString()).ints);
+
+        // The scratch buffer is reused, so a following shorter array must not see stale items.
+        assertArrayEquals(new int[]{5}, parse("{\"object\":\"arrayTestObject\",\"ints\":[5]}").ints);
+    }
+
+    @Test
+    public void testParseNullArray() throws Exception {
+        ArrayTestObject object = parse("{\"object\":\"arrayTestObject\",\"ints\":null,\"strings\":null}");
+        assertNull("object.ints", object.ints);
+        assertNull("object.strings", object.strings);
+    }
+
+    @Test
+    public void testUpdateArrays() {
+        ArrayTestObject object = new ArrayTestObject();
+        long[] longs = {4L, 5L};
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("ints", new JSONArray(Arrays.asList(1, "2")));
+        updates.put("longs", longs);
+        updates.put("doubles", Arrays.asList(1.5, null));
+        updates.put("strings", new String[]{"a", "b"});
+        updates.put("priorities", new JSONArray(Arrays.asList("low")));
+        ArrayTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(object, updates, CONTEXT);
+
+        assertArrayEquals("object.ints", new int[]{1, 2}, object.ints);
+        assertSame("object.longs", longs, object.longs);
+        assertArrayEquals("object.doubles", new double[]{1.5, 0}, object.getDoubles(), ERROR);
+        assertArrayEquals("object.strings", new String[]{"a", "b"}, object.strings);
+        assertArrayEquals("object.priorities", new Priority[]{Priority.LOW}, object.priorities);
+    }
+
+    @Test
+    public void testGetArrayField() throws Exception {
+        ArrayTestObject object = parse("{\"object\":\"arrayTestObject\",\"ints\":[1,2]}");
+        assertSame(object.ints, ArrayTestObject$$JsonObjectParser.INSTANCE.getField(object, "ints"));
+    }
+
+    @Test
+    public void testArraysRoundTrip() throws Exception {
+        ArrayTestObject original = parse("{\"object\":\"arrayTestObject\"," + MEMBERS + "}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeJsonStream(original, out);
+        assertEquals(original, parse(out.toString("UTF-8")));
+    }
+
+    private ArrayTestObject parse(String json) throws Exception {
+        return (ArrayTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+import com.workday.autoparse.json.tree.AsciiCharSequence;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class CharSequenceJsonParserTest {
+
+    private static final String MEMBERS = "\"message\":\"disk full\",\"level\":\"WARN\",\"lines\":[\"a\",\"b\"]";
+
+    @Test
+    public void testCharSequences() throws Exception {
+        assertValues(parse("{\"object\":\"charSequenceTestObject\"," + MEMBERS + "}"));
+    }
+
+    @Test
+    public void testCharSequencesDelayed() throws Exception {
+        assertValues(parse("{" + MEMBERS + ",\"object\":\"charSequenceTestObject\"}"));
+    }
+
+    private void assertValues(CharSequenceTestObject object) {
+        assertEquals("message", "disk full", object.message.toString());
+        assertEquals("level", "WARN", object.level.toString());
+        assertEquals("lines", Arrays.<CharSequence>asList("a", "b"), object.lines);
+    }
+
+    @Test
+    public void testUpdateFromMapKeepsViews() throws Exception {
+        LazyJsonObject source = LazyJsonObject.of(new JSONObject("{\"message\":\"plain\"}"));
+        CharSequence view = source.optCharSequence("message");
+        assertTrue(view instanceof AsciiCharSequence);
+
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("message", view);
+        updates.put("level", 3);
+        CharSequenceTestObject object = new CharSequenceTestObject();
+        CharSequenceTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(
+                object, updates, new JsonParserContext(new JsonParserSettingsBuilder().build()));
+        assertSame(view, object.message);
+        assertEquals("3", object.level);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CharSequenceTestObject object = new CharSequenceTestObject();
+        object.message = LazyJsonObject.of(new JSONObject("{\"message\":\"from a view\"}")).optCharSequence("message");
+        object.level = new StringBuilder("INFO");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamSerializerFactory.newJsonStreamSerializer(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build())
+                                   .serializeJsonStream(object, out);
+        String json = out.toString("UTF-8");
+        assertTrue(json, json.contains("\"message\":\"from a view\""));
+        assertTrue(json, json.contains("\"level\":\"INFO\""));
+    }
+
+    private CharSequenceTestObject parse(String json) throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        return (CharSequenceTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares parsing with the discrimination prescan against the default path, which buffers every
+ * member ahead of the discrimination name into a JSONObject. The discrimination name is placed
+ * first, in the middle, and last among the members of each object.
+ * <p/>
+ * This is a benchmark rather than a test, so it is ignored by default. Remove the {@link Ignore}
+ * annotation to run it and compare the times it prints.
+ *
+ * @since 2026-10-19.
+ */
+@Ignore("Benchmark; run manually.")
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class DiscriminationPrescanBenchmark {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int OBJECT_COUNT = 2000;
+    private static final int MEMBER_COUNT = 20;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    @Test
+    public void benchmarkDiscriminationNameFirst() throws Exception {
+        benchmark("first", 0);
+    }
+
+    @Test
+    public void benchmarkDiscriminationNameMiddle() throws Exception {
+        benchmark("middle", MEMBER_COUNT / 2);
+    }
+
+    @Test
+    public void benchmarkDiscriminationNameLast() throws Exception {
+        benchmark("last", MEMBER_COUNT);
+    }
+
+    private void benchmark(String label, int discriminationPosition) throws Exception {
+        byte[] document = createDocument(discriminationPosition);
+        JsonStreamParser delayedParser = newParser(false);
+        JsonStreamParser prescanParser = newParser(true);
+
+        long delayedNanos = time(delayedParser, document);
+        long prescanNanos = time(prescanParser, document);
+
+        System.out.println(String.format(Locale.US,
+                                         "Discrimination name %s: delayed %.3f ms, prescan %.3f ms",
+                                         label,
+                                         delayedNanos / 1e6 / MEASURED_ITERATIONS,
+                                         prescanNanos / 1e6 / MEASURED_ITERATIONS));
+    }
+
+    private long time(JsonStreamParser parser, byte[] document) throws Exception {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            parse(parser, document);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            parse(parser, document);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void parse(JsonStreamParser parser, byte[] document) throws Exception {
+        Collection<?> result = (Collection<?>) parser.parseJsonStream(new ByteArrayInputStream(document));
+        assertEquals(OBJECT_COUNT, result.size());
+        assertEquals(SimpleTestObject.class, result.iterator().next().getClass());
+    }
+
+    private static JsonStreamParser newParser(boolean prescan) {
+        return JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withDiscriminationPrescan(prescan)
+                                               .build());
+    }
+
+    private static byte[] createDocument(int discriminationPosition) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('{');
+            for (int j = 0; j <= MEMBER_COUNT; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                if (j == discriminationPosition) {
+                    sb.append("\"object\":\"simpleTestObject\"");
+                } else if (j % 2 == 0) {
+                    sb.append("\"myString\":\"value ").append(j).append('"');
+                } else {
+                    sb.append("\"extra").append(j).append("\":{\"a\":[1,2,3],\"b\":\"text\"}");
+                }
+            }
+            sb.append('}');
+        }
+        return sb.append(']').toString().getBytes(UTF_8);
+    }
+}
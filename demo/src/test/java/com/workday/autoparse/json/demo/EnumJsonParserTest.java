@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettings;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonStreamSerializer;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+
+import org.json.JSONArray;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.workday.autoparse.json.demo.InstanceUpdaterTestUtils.CONTEXT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class EnumJsonParserTest {
+
+    private static final String MEMBERS = "\"priority\":\"minor\",\"timeUnit\":\"SECONDS\","
+            + "\"priorities\":[\"LOW\",\"high\",null,\"urgent\"],"
+            + "\"priorityMap\":{\"a\":\"normal\",\"b\":\"urgent\"}";
+
+    private JsonStreamParser parser;
+    private JsonStreamSerializer serializer;
+
+    @Before
+    public void setUp() {
+        JsonParserSettings settings = new JsonParserSettingsBuilder().withDiscriminationName("object").build();
+        parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+        serializer = JsonStreamSerializerFactory.newJsonStreamSerializer(settings);
+    }
+
+    @Test
+    public void testParseEnums() throws Exception {
+        assertParsedEnums(parse("{\"object\":\"enumTestObject\"," + MEMBERS + "}"));
+    }
+
+    @Test
+    public void testParseEnumsDelayed() throws Exception {
+        assertParsedEnums(parse("{" + MEMBERS + ",\"object\":\"enumTestObject\"}"));
+    }
+
+    private void assertParsedEnums(EnumTestObject object) {
+        assertEquals("object.priority", Priority.LOW, object.priority);
+        assertEquals("object.timeUnit", TimeUnit.SECONDS, object.timeUnit);
+        assertEquals("object.priorities",
+                     Arrays.asList(Priority.LOW, Priority.HIGH, null, Priority.UNKNOWN),
+                     object.priorities);
+        Map<String, Priority> expectedMap = new LinkedHashMap<>();
+        expectedMap.put("a", Priority.NORMAL);
+        expectedMap.put("b", Priority.UNKNOWN);
+        assertEquals("object.priorityMap", expectedMap, object.priorityMap);
+    }
+
+    @Test
+    public void testUnknownValueWithoutDefaultIsNull() throws Exception {
+        EnumTestObject object = parse("{\"object\":\"enumTestObject\",\"timeUnit\":\"fortnights\"}");
+        assertNull("object.timeUnit", object.timeUnit);
+    }
+
+    @Test
+    public void testUpdateEnums() {
+        EnumTestObject object = new EnumTestObject();
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("priority", "high");
+        updates.put("timeUnit", TimeUnit.DAYS);
+        updates.put("priorities", new JSONArray(Arrays.asList("normal", "LOW")));
+        EnumTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(object, updates, CONTEXT);
+
+        assertEquals("object.priority", Priority.HIGH, object.priority);
+        assertEquals("object.timeUnit", TimeUnit.DAYS, object.timeUnit);
+        assertEquals("object.priorities", Arrays.asList(Priority.NORMAL, Priority.LOW), object.priorities);
+    }
+
+    @Test
+    public void testEnumsRoundTrip() throws Exception {
+        EnumTestObject original = parse("{\"object\":\"enumTestObject\"," + MEMBERS + "}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeJsonStream(original, out);
+        assertEquals(original, parse(out.toString("UTF-8")));
+    }
+
+    private EnumTestObject parse(String json) throws Exception {
+        return (EnumTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.utils.FrozenCollections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class FrozenCollectionsJsonParserTest {
+
+    private static final String MEMBERS = "\"codes\":[\"USD\",\"EUR\"],\"names\":[\"a\",\"b\",\"c\"],"
+            + "\"rates\":{\"USD\":1.0,\"EUR\":0.9},\"ids\":[\"1\",\"2\"]";
+
+    @Test
+    public void testOnlyAnnotatedMembersAreFrozenByDefault() throws Exception {
+        FrozenTestObject object = parse("{\"object\":\"frozenTestObject\"," + MEMBERS + "}", false);
+        assertValues(object);
+        assertTrue(FrozenCollections.isFrozen(object.codes));
+        assertFalse(FrozenCollections.isFrozen(object.names));
+        assertFalse(FrozenCollections.isFrozen(object.rates));
+    }
+
+    @Test
+    public void testAllInterfaceMembersAreFrozenWhenEnabled() throws Exception {
+        assertAllFrozen(parse("{\"object\":\"frozenTestObject\"," + MEMBERS + "}", true));
+    }
+
+    @Test
+    public void testAllInterfaceMembersAreFrozenWhenEnabledDelayed() throws Exception {
+        assertAllFrozen(parse("{" + MEMBERS + ",\"object\":\"frozenTestObject\"}", true));
+    }
+
+    private void assertAllFrozen(FrozenTestObject object) {
+        assertValues(object);
+        assertTrue(FrozenCollections.isFrozen(object.codes));
+        assertTrue(FrozenCollections.isFrozen(object.names));
+        assertTrue(FrozenCollections.isFrozen(object.rates));
+        // Concrete collections cannot be replaced.
+        object.ids.add("3");
+    }
+
+    private void assertValues(FrozenTestObject object) {
+        assertEquals(Arrays.asList("USD", "EUR"), object.codes);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), object.names);
+        Map<String, Double> rates = new HashMap<>();
+        rates.put("USD", 1.0);
+        rates.put("EUR", 0.9);
+        assertEquals(rates, object.rates);
+        assertEquals(Arrays.asList("1", "2"), object.ids);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFrozenCollectionsCannotBeModified() throws Exception {
+        parse("{\"object\":\"frozenTestObject\"," + MEMBERS + "}", false).codes.add("GBP");
+    }
+
+    @Test
+    public void testUpdateFromMap() throws Exception {
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("codes", Collections.singletonList("USD"));
+        updates.put("names", new LinkedHashSet<>(Arrays.asList("a", "b")));
+        FrozenTestObject object = new FrozenTestObject();
+        FrozenTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(
+                object, updates, new JsonParserContext(new JsonParserSettingsBuilder().build()));
+        assertTrue(FrozenCollections.isFrozen(object.codes));
+        assertFalse(FrozenCollections.isFrozen(object.names));
+
+        FrozenTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(
+                object, updates, new JsonParserContext(new JsonParserSettingsBuilder().withFrozenCollections(true)
+                                                                                     .build()));
+        assertTrue(FrozenCollections.isFrozen(object.names));
+        assertEquals(Arrays.asList("a", "b"), Arrays.asList(object.names.toArray()));
+    }
+
+    @Test
+    public void testResetReleasesFrozenCollections() throws Exception {
+        FrozenTestObject object = parse("{\"object\":\"frozenTestObject\"," + MEMBERS + "}", false);
+        FrozenTestObject$$JsonObjectParser.INSTANCE.reset(object);
+        assertNull(object.codes);
+        assertTrue(object.names.isEmpty());
+        assertTrue(object.ids.isEmpty());
+    }
+
+    private FrozenTestObject parse(String json, boolean frozenCollections) throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withFrozenCollections(frozenCollections)
+                                               .build());
+        return (FrozenTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
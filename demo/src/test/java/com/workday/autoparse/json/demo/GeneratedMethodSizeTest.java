@@ -0,0 +1,218 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the real size of the bytecode of the generated parsers, which the processor can only estimate.
+ *
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class GeneratedMethodSizeTest {
+
+    /**
+     * The largest method, in bytes of bytecode, that HotSpot will compile ({@code -XX:HugeMethodLimit}).
+     */
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    private static final Class<?>[] PARSERS = {
+            WideTestObject$$JsonObjectParser.class,
+            TestObject$$JsonObjectParser.class,
+            ArrayTestObject$$JsonObjectParser.class,
+            FrozenTestObject$$JsonObjectParser.class,
+            ImmutableTestObject$$JsonObjectParser.class,
+            RecyclableTestObject$$JsonObjectParser.class
+    };
+
+    @Test
+    public void testEveryMethodCanBeCompiledByTheJit() throws Exception {
+        for (Class<?> parser : PARSERS) {
+            Map<String, Integer> codeLengths = readCodeLengths(parser);
+            assertFalse(parser.getName(), codeLengths.isEmpty());
+            for (Map.Entry<String, Integer> entry : codeLengths.entrySet()) {
+                assertTrue(parser.getSimpleName() + "." + entry.getKey() + " has " + entry.getValue() + " bytes",
+                           entry.getValue() <= HUGE_METHOD_LIMIT);
+            }
+        }
+    }
+
+    @Test
+    public void testWideObjectIsSplit() throws Exception {
+        Map<String, Integer> codeLengths = readCodeLengths(WideTestObject$$JsonObjectParser.class);
+        assertTrue(hasMethod(codeLengths, "parseFromReader1"));
+        assertTrue(hasMethod(codeLengths, "doInitializeAndGetField1"));
+        assertTrue(hasMethod(codeLengths, "reset1"));
+    }
+
+    private static boolean hasMethod(Map<String, Integer> codeLengths, String name) {
+        for (String method : codeLengths.keySet()) {
+            if (method.startsWith(name + "(")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testParseWideObject() throws Exception {
+        String json = "{\"object\":\"wideTestObject\",\"int0\":1,\"int39\":39,\"string20\":\"twenty\","
+                + "\"priority39\":\"high\",\"tags39\":[\"a\"],\"priorities0\":{\"a\":\"low\"},"
+                + "\"children39\":[{\"object\":\"simpleTestObject\",\"myString\":\"child\"}]}";
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        WideTestObject object = (WideTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+
+        assertEquals(1, object.int0);
+        assertEquals(39, object.int39);
+        assertEquals("twenty", object.string20);
+        assertEquals(Priority.HIGH, object.priority39);
+        assertEquals(Collections.singleton("a"), object.tags39);
+        assertEquals(Collections.singletonMap("a", Priority.LOW), object.priorities0);
+        assertEquals("child", object.children39.get(0).myString);
+
+        assertEquals(object.tags39, WideTestObject$$JsonObjectParser.INSTANCE.getField(object, "tags39"));
+        assertNull(WideTestObject$$JsonObjectParser.INSTANCE.getField(object, "unknown"));
+
+        WideTestObject$$JsonObjectParser.INSTANCE.reset(object);
+        assertEquals(0, object.int39);
+        assertNull(object.priority39);
+        assertTrue(object.tags39.isEmpty());
+    }
+
+    /**
+     * @return The length of the code of each method of {@code type}, by name and descriptor.
+     */
+    private static Map<String, Integer> readCodeLengths(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            DataInputStream data = new DataInputStream(in);
+            data.readInt();
+            data.readUnsignedShort();
+            data.readUnsignedShort();
+            String[] utf8 = readConstantPool(data);
+            data.readUnsignedShort();
+            data.readUnsignedShort();
+            data.readUnsignedShort();
+            skipFully(data, 2 * data.readUnsignedShort());
+            int fieldCount = data.readUnsignedShort();
+            for (int i = 0; i < fieldCount; i++) {
+                skipFully(data, 6);
+                skipAttributes(data);
+            }
+            Map<String, Integer> codeLengths = new LinkedHashMap<>();
+            int methodCount = data.readUnsignedShort();
+            for (int i = 0; i < methodCount; i++) {
+                data.readUnsignedShort();
+                String name = utf8[data.readUnsignedShort()] + utf8[data.readUnsignedShort()];
+                int attributeCount = data.readUnsignedShort();
+                for (int j = 0; j < attributeCount; j++) {
+                    String attributeName = utf8[data.readUnsignedShort()];
+                    int length = data.readInt();
+                    if ("Code".equals(attributeName)) {
+                        data.readUnsignedShort();
+                        data.readUnsignedShort();
+                        codeLengths.put(name, data.readInt());
+                        skipFully(data, length - 8);
+                    } else {
+                        skipFully(data, length);
+                    }
+                }
+            }
+            return codeLengths;
+        }
+    }
+
+    /**
+     * @return The UTF-8 constants in the pool, by index. All other entries are null.
+     */
+    private static String[] readConstantPool(DataInputStream data) throws IOException {
+        int count = data.readUnsignedShort();
+        String[] utf8 = new String[count];
+        for (int i = 1; i < count; i++) {
+            int tag = data.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = data.readUTF();
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    skipFully(data, 2);
+                    break;
+                case 15:
+                    skipFully(data, 3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    skipFully(data, 4);
+                    break;
+                case 5:
+                case 6:
+                    // Longs and doubles take two entries.
+                    skipFully(data, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        return utf8;
+    }
+
+    private static void skipAttributes(DataInputStream data) throws IOException {
+        int count = data.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            data.readUnsignedShort();
+            skipFully(data, data.readInt());
+        }
+    }
+
+    private static void skipFully(DataInputStream data, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = data.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+}
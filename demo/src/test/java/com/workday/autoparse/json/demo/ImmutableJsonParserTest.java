@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettings;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonStreamSerializer;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static com.workday.autoparse.json.demo.InstanceUpdaterTestUtils.CONTEXT;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class ImmutableJsonParserTest {
+
+    private static final String MEMBERS = "\"name\":\"first\",\"count\":3,\"priority\":\"high\","
+            + "\"children\":[{\"object\":\"simpleTestObject\",\"myString\":\"child\"}],"
+            + "\"point\":{\"object\":\"immutablePoint\",\"x\":-1,\"y\":2},\"weights\":[0.5,1.5]";
+
+    private JsonStreamParser parser;
+    private JsonStreamSerializer serializer;
+
+    @Before
+    public void setUp() {
+        JsonParserSettings settings = new JsonParserSettingsBuilder().withDiscriminationName("object").build();
+        parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+        serializer = JsonStreamSerializerFactory.newJsonStreamSerializer(settings);
+    }
+
+    @Test
+    public void testParseThroughCreators() throws Exception {
+        assertParsedObject(parse("{\"object\":\"immutableTestObject\"," + MEMBERS + "}"));
+    }
+
+    @Test
+    public void testParseThroughCreatorsDelayed() throws Exception {
+        assertParsedObject(parse("{" + MEMBERS + ",\"object\":\"immutableTestObject\"}"));
+    }
+
+    private void assertParsedObject(ImmutableTestObject object) {
+        assertEquals("object.name", "first", object.name);
+        assertEquals("object.count", 3, object.count);
+        assertEquals("object.priority", Priority.HIGH, object.priority);
+        assertEquals("object.children", Arrays.asList(new SimpleTestObject("child", "simpleTestObject")),
+                     object.children);
+        assertEquals("object.point", ImmutablePoint.of(-1, 2), object.point);
+        assertArrayEquals("object.weights", new double[]{0.5, 1.5}, object.getWeights(), 0);
+    }
+
+    @Test
+    public void testMissingValuesAreDefaults() throws Exception {
+        ImmutableTestObject object = parse("{\"object\":\"immutableTestObject\",\"title\":\"second\"}");
+        assertEquals("object.name", "second", object.name);
+        assertEquals("object.count", 0, object.count);
+        assertNull("object.priority", object.priority);
+        assertNull("object.children", object.children);
+        assertNull("object.point", object.point);
+        assertNull("object.weights", object.getWeights());
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        ImmutableTestObject original = parse("{\"object\":\"immutableTestObject\"," + MEMBERS + "}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeJsonStream(original, out);
+        assertEquals(original, parse(out.toString("UTF-8")));
+    }
+
+    @Test
+    public void testUpdateIsUnsupported() {
+        try {
+            ImmutablePoint$$JsonObjectParser.INSTANCE.updateInstanceFromMap(ImmutablePoint.of(1, 2),
+                                                                          new HashMap<String, Object>(), CONTEXT);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testGetFieldReadsCreatorParameters() throws Exception {
+        ImmutableTestObject object = parse("{\"object\":\"immutableTestObject\"," + MEMBERS + "}");
+        ImmutableTestObject$$JsonObjectParser objectParser = ImmutableTestObject$$JsonObjectParser.INSTANCE;
+        assertEquals("first", objectParser.getField(object, "name"));
+        assertEquals("first", objectParser.getField(object, "title"));
+        assertEquals(3, objectParser.getField(object, "count"));
+        assertSame(object.point, objectParser.getField(object, "point"));
+        assertSame(object.getWeights(), objectParser.initializeAndGetField(object, "weights"));
+        assertNull(objectParser.getField(object, "unknown"));
+
+        ImmutablePoint point = ImmutablePoint.of(-1, 2);
+        assertEquals(-1L, ImmutablePoint$$JsonObjectParser.INSTANCE.getField(point, "x"));
+        assertEquals(2L, ImmutablePoint$$JsonObjectParser.INSTANCE.getField(point, "y"));
+    }
+
+    @Test
+    public void testGetFieldDoesNotInitializeCreatorParameters() throws Exception {
+        ImmutableTestObject object = parse("{\"object\":\"immutableTestObject\"}");
+        assertNull(ImmutableTestObject$$JsonObjectParser.INSTANCE.initializeAndGetField(object, "children"));
+    }
+
+    private ImmutableTestObject parse(String json) throws Exception {
+        return (ImmutableTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
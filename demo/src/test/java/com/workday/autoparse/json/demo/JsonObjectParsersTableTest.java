@@ -7,10 +7,13 @@
 
 package com.workday.autoparse.json.demo;
 
+import com.workday.autoparse.json.context.JsonParserContext;
 import com.workday.autoparse.json.context.JsonParserSettings;
 import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.context.PartitionRegistry;
 import com.workday.autoparse.json.demo.duplicatepartition.DuplicatePartitionedModel;
 import com.workday.autoparse.json.demo.partition.PartitionedModel;
+import com.workday.autoparse.json.demo.partition2.PartitionedModel2;
 import com.workday.autoparse.json.parser.JsonStreamParser;
 import com.workday.autoparse.json.parser.JsonStreamParserFactory;
 
@@ -22,12 +25,15 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 
 import static junit.framework.TestCase.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author travis.westbrook
@@ -99,6 +105,140 @@ public class JsonObjectParsersTableTest {
                                DuplicatePartitionedModel.class.getPackage().getName());
     }
 
+    @Test
+    public void testDuplicateMappingInSeparatePartitionsThrowsExceptionEveryTime() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                getParserForPartitions(PartitionedModel.class.getPackage().getName(),
+                                       DuplicatePartitionedModel.class.getPackage().getName());
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage()).contains("'partitionedModel'")
+                                          .contains(PartitionedModel.class.getCanonicalName())
+                                          .contains(DuplicatePartitionedModel.class.getCanonicalName());
+            }
+        }
+    }
+
+    @Test
+    public void testMultipleExplicitPartitions() throws Exception {
+        JsonStreamParser parser =
+                getParserForPartitions(PartitionedModel.class.getPackage().getName(),
+                                       PartitionedModel2.class.getPackage().getName(),
+                                       JsonParserSettingsBuilder.DEFAULT_OBJECT_PARSER_PACKAGE);
+
+        PartitionedModel partitionedModel =
+                (PartitionedModel) parser.parseJsonStream(getInputStreamOf("partitioned-model.json"));
+        assertEquals("a string", partitionedModel.string);
+
+        Object result = parser.parseJsonStream(getInputStreamOf("single-object.json"));
+        assertThat(result).isInstanceOf(TestObject.class);
+    }
+
+    @Test
+    public void testPartitionRegistries() throws Exception {
+        JsonParserSettings settings = new JsonParserSettingsBuilder()
+                .withPartitions(com.workday.autoparse.json.demo.partition.GeneratedPartitionRegistry.INSTANCE,
+                                com.workday.autoparse.json.parser.GeneratedPartitionRegistry.INSTANCE)
+                .withDiscriminationName("object")
+                .build();
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+
+        PartitionedModel partitionedModel =
+                (PartitionedModel) parser.parseJsonStream(getInputStreamOf("partitioned-model.json"));
+        assertEquals("a string", partitionedModel.string);
+        assertThat(parser.parseJsonStream(getInputStreamOf("single-object.json"))).isInstanceOf(TestObject.class);
+    }
+
+    @Test
+    public void testPartitionRegistryAndNameOfSamePartitionAreCombined() throws Exception {
+        JsonParserSettings settings = new JsonParserSettingsBuilder()
+                .withPartitions(com.workday.autoparse.json.demo.partition.GeneratedPartitionRegistry.INSTANCE)
+                .withPartitions(PartitionedModel.class.getPackage().getName())
+                .withDiscriminationName("object")
+                .build();
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+
+        assertThat(parser.parseJsonStream(getInputStreamOf("partitioned-model.json")))
+                .isInstanceOf(PartitionedModel.class);
+        assertThat(parser.parseJsonStream(getInputStreamOf("single-object.json"))).isInstanceOf(JSONObject.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateMappingInSeparatePartitionRegistriesThrowsException() {
+        new JsonParserContext(new JsonParserSettingsBuilder()
+                                      .withPartitions(com.workday.autoparse.json.demo.partition
+                                                              .GeneratedPartitionRegistry.INSTANCE,
+                                                      com.workday.autoparse.json.demo.duplicatepartition
+                                                              .GeneratedPartitionRegistry.INSTANCE)
+                                      .build());
+    }
+
+    @Test
+    public void testPartitionRegistryTables() {
+        PartitionRegistry registry = com.workday.autoparse.json.parser.GeneratedPartitionRegistry.INSTANCE;
+        assertEquals(JsonParserSettingsBuilder.DEFAULT_OBJECT_PARSER_PACKAGE, registry.getPackageName());
+        assertTrue(registry.getParserTableManifest().keySet().contains("testObject"));
+        assertNotNull(registry.newParserTable().get("testObject"));
+        assertNotNull(registry.newSerializerTable().getSerializerForClass(SimpleTestObject.class));
+        assertNotNull(registry.newInstanceUpdaterTable().getInstanceUpdaterForClass(TestObject.class));
+    }
+
+    @Test
+    public void testDiscriminationValueWithQuotesAndBackslashes() throws Exception {
+        String value = QuotedDiscriminationTestObject.DISCRIMINATION_VALUE;
+        PartitionRegistry registry = com.workday.autoparse.json.parser.GeneratedPartitionRegistry.INSTANCE;
+        assertTrue(registry.getParserTableManifest().keySet().contains(value));
+        assertNotNull(registry.newParserTable().get(value));
+
+        String json = "{\"object\":\"quoted \\\"model\\\" \\\\ path\",\"title\":\"a title\"}";
+        Object result = parser.parseJsonStream(getInputStreamOfString(json));
+        assertThat(result).isInstanceOf(QuotedDiscriminationTestObject.class);
+        assertEquals("a title", ((QuotedDiscriminationTestObject) result).title);
+    }
+
+    @Test
+    public void testParserRegisteredOnLiveContextIsUsed() throws Exception {
+        JsonParserContext context = new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(context);
+        String json = "{\"object\":\"pluginModel\",\"string\":\"a string\"}";
+        String delayedJson = "{\"string\":\"a string\",\"object\":\"pluginModel\"}";
+
+        assertThat(parser.parseJsonStream(getInputStreamOfString(json))).isInstanceOf(JSONObject.class);
+
+        context.registerParser("pluginModel", UnannotatedObjectParser.INSTANCE);
+
+        assertEquals(new UnannotatedObject("a string"), parser.parseJsonStream(getInputStreamOfString(json)));
+        assertEquals(new UnannotatedObject("a string"),
+                     parser.parseJsonStream(getInputStreamOfString(delayedJson)));
+        assertTrue(context.getJsonObjectParserTable().keySet().contains("pluginModel"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisteringGeneratedDiscriminationValueThrowsException() {
+        JsonParserContext context = new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        context.registerParser("testObject", UnannotatedObjectParser.INSTANCE);
+    }
+
+    @Test
+    public void testRegisteringDuplicateDiscriminationValueThrowsException() {
+        JsonParserContext context = new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        context.registerParser("pluginModel", UnannotatedObjectParser.INSTANCE);
+        try {
+            context.registerParser("pluginModel", UnannotatedObjectParser.INSTANCE);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("pluginModel");
+        }
+    }
+
+    private InputStream getInputStreamOfString(String json) {
+        return new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8")));
+    }
+
     private InputStream getInputStreamOf(String fileName) {
         return new BufferedInputStream(JsonObjectParsersTableTest.class.getResourceAsStream
                 (fileName));
@@ -7,15 +7,20 @@
 
 package com.workday.autoparse.json.demo;
 
+import com.workday.autoparse.json.context.JsonParserContext;
 import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.DiscriminationCache;
 import com.workday.autoparse.json.parser.JsonStreamParser;
 import com.workday.autoparse.json.parser.JsonStreamParserFactory;
 import com.workday.autoparse.json.utils.CollectionUtils;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +40,7 @@ import static junit.framework.Assert.assertNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author nathan.taylor
@@ -69,7 +75,67 @@ public class JsonParserTest {
         testParse("partially-delayed-object.json");
     }
 
+    @Test
+    public void testImmediateParseWithDiscriminationPrescan() throws Exception {
+        testParse(newPrescanParser(), "single-object.json");
+    }
+
+    @Test
+    public void testFullDelayParseWithDiscriminationPrescan() throws Exception {
+        testParse(newPrescanParser(), "delayed-object.json");
+    }
+
+    @Test
+    public void testPartialDelayParseWithDiscriminationPrescan() throws Exception {
+        testParse(newPrescanParser(), "partially-delayed-object.json");
+    }
+
+    @Test
+    public void testDiscriminationNameBeyondPrescanLookAhead() throws Exception {
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longString.append("long ");
+        }
+        String json = "{\"myString\":\"" + longString + "\",\"object\":\"testObject\"}";
+        TestObject testObject = (TestObject) newPrescanParser().parseJsonStream(getInputStreamOfString(json));
+        assertEquals(longString.toString(), testObject.myString);
+    }
+
+    @Test
+    public void testDiscriminationCacheHitsForListByInterface() throws Exception {
+        DiscriminationCache cache = null;
+        for (DiscriminationCache candidate : DiscriminationCache.getAllCaches()) {
+            if ("TestObject.myListByInterface".equals(candidate.getName())) {
+                cache = candidate;
+            }
+        }
+        assertNotNull("cache", cache);
+
+        parser.parseJsonStream(getInputStream("single-object.json"));
+        DiscriminationCache.setStatisticsEnabled(true);
+        try {
+            long hitCount = cache.getHitCount();
+            parser.parseJsonStream(getInputStream("single-object.json"));
+
+            // Both items of myListByInterface share a discrimination value that is cached by now.
+            assertEquals(hitCount + 2, cache.getHitCount());
+        } finally {
+            DiscriminationCache.setStatisticsEnabled(false);
+        }
+    }
+
+    private JsonStreamParser newPrescanParser() {
+        return JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withDiscriminationPrescan(true)
+                                               .build());
+    }
+
     private void testParse(String fileName) throws Exception {
+        testParse(parser, fileName);
+    }
+
+    private void testParse(JsonStreamParser parser, String fileName) throws Exception {
         TestObject testObject = (TestObject) parser.parseJsonStream(getInputStream(fileName));
         assertNotNull("testObject", testObject);
 
@@ -350,10 +416,47 @@ public class JsonParserTest {
         testWithUnknowns("unknowns-delayed.json");
     }
 
+    @Test
+    public void testUnknownsWithDiscriminationPrescan() throws Exception {
+        testWithUnknowns("unknowns.json", true);
+    }
+
+    @Test
+    public void testUnknownsDelayedWithDiscriminationPrescan() throws Exception {
+        testWithUnknowns("unknowns-delayed.json", true);
+    }
+
+    @Test
+    public void testNonStringDiscriminationValuesWithDiscriminationPrescan() throws Exception {
+        // The prescan moves only string discrimination values, so these must still be found where they are.
+        JsonParserContext context = new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withUnknownObjectClass(TestObject.InnerTestObject.class)
+                                               .withDiscriminationPrescan(true)
+                                               .build());
+        context.registerParser("5", UnannotatedObjectParser.INSTANCE);
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(context);
+
+        assertEquals(new UnannotatedObject("a string"),
+                     parser.parseJsonStream(getInputStreamOfString("{\"string\":\"a string\",\"object\":5}")));
+        try {
+            parser.parseJsonStream(getInputStreamOfString("{\"string\":\"a string\",\"object\":true}"));
+            fail("Expected an IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("The value corresponding to the discrimination key name (object) must be a String, but "
+                                 + "instead found java.lang.Boolean.", e.getMessage());
+        }
+    }
+
     private void testWithUnknowns(String fileName) throws Exception {
+        testWithUnknowns(fileName, false);
+    }
+
+    private void testWithUnknowns(String fileName, boolean discriminationPrescan) throws Exception {
         JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
                 new JsonParserSettingsBuilder().withDiscriminationName("object")
                                                .withUnknownObjectClass(TestObject.InnerTestObject.class)
+                                               .withDiscriminationPrescan(discriminationPrescan)
                                                .build());
 
         TestObject actual = (TestObject) parser.parseJsonStream(getInputStream(fileName));
@@ -445,6 +548,52 @@ public class JsonParserTest {
                    testObject instanceof JSONObject);
     }
 
+    @Test
+    public void testNullPrimitivesKeepDefaults() throws Exception {
+        String json = "{\"object\":\"testObject\",\"myBoolean\":null,\"myByte\":null,"
+                + "\"myDouble\":null,\"myFloat\":null,\"myInt\":null,\"myLong\":null,\"myShort\":null}";
+        TestObject testObject = (TestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+
+        assertEquals("testObject.myBoolean", false, testObject.myBoolean);
+        assertEquals("testObject.myByte", 0, testObject.myByte);
+        assertEquals("testObject.myDouble", 0, testObject.myDouble, ERROR);
+        assertEquals("testObject.myFloat", 0, testObject.myFloat, ERROR);
+        assertEquals("testObject.myInt", 0, testObject.myInt);
+        assertEquals("testObject.myLong", 0, testObject.myLong);
+        assertEquals("testObject.myShort", 0, testObject.myShort);
+    }
+
+    @Test
+    public void testNullsInNestedCollections() throws Exception {
+        String json = "{\"object\":\"testObject\",\"myIntCollection\":[1,null,\"3\"],"
+                + "\"myCollectionOfCollections\":[[1,2],null,[null]]}";
+        TestObject testObject = (TestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+
+        assertEquals("testObject.myIntCollection", Arrays.asList(1, null, 3), testObject.myIntCollection);
+        List<List<Integer>> expected = new ArrayList<>();
+        expected.add(Arrays.asList(1, 2));
+        expected.add(new ArrayList<Integer>());
+        expected.add(Collections.<Integer>singletonList(null));
+        assertEquals("testObject.myCollectionOfCollections", expected, testObject.myCollectionOfCollections);
+    }
+
+    @Test
+    public void testWrongItemTypeInCollectionThrows() throws Exception {
+        String json = "{\"object\":\"testObject\",\"myIntCollection\":[1,true]}";
+        try {
+            parser.parseJsonStream(new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+    }
+
+    private InputStream getInputStreamOfString(String json) {
+        return new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8")));
+    }
+
     private InputStream getInputStream(String fileName) {
         return new BufferedInputStream(JsonParserTest.class.getResourceAsStream(fileName));
     }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import android.util.JsonWriter;
+
+import com.workday.autoparse.json.context.JsonParserSettings;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonStreamSerializer;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class JsonSerializerTest {
+
+    private static final float ERROR = 1e-6f;
+
+    private JsonStreamParser parser;
+    private JsonStreamSerializer serializer;
+
+    @Before
+    public void setUp() {
+        JsonParserSettings settings = new JsonParserSettingsBuilder().withDiscriminationName("object").build();
+        parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+        serializer = JsonStreamSerializerFactory.newJsonStreamSerializer(settings);
+    }
+
+    @Test
+    public void testSimpleObjectRoundTrip() throws Exception {
+        SimpleTestObject original = new SimpleTestObject("a string", "simpleTestObject");
+        assertEquals(original, roundTrip(original));
+    }
+
+    @Test
+    public void testDiscriminationValueDefaultsToJsonObjectValue() throws Exception {
+        String json = serialize(new SimpleTestObject("a string"));
+        assertEquals("simpleTestObject", new JSONObject(json).getString("object"));
+    }
+
+    @Test
+    public void testParsedObjectRoundTrip() throws Exception {
+        TestObject original = (TestObject) parser.parseJsonStream(getInputStream("single-object.json"));
+        TestObject copy = (TestObject) roundTrip(original);
+
+        assertEquals("myBoolean", original.myBoolean, copy.myBoolean);
+        assertEquals("myByte", original.myByte, copy.myByte);
+        assertEquals("myChar", original.myChar, copy.myChar);
+        assertEquals("myDouble", original.myDouble, copy.myDouble, ERROR);
+        assertEquals("myFloat", original.myFloat, copy.myFloat, ERROR);
+        assertEquals("myInt", original.myInt, copy.myInt);
+        assertEquals("myLong", original.myLong, copy.myLong);
+        assertEquals("myShort", original.myShort, copy.myShort);
+        assertEquals("myBoxedChar", original.myBoxedChar, copy.myBoxedChar);
+        assertEquals("myBoxedFloat", original.myBoxedFloat, copy.myBoxedFloat);
+        assertEquals("myBigDecimal", original.myBigDecimal, copy.myBigDecimal);
+        assertEquals("myBigInteger", original.myBigInteger, copy.myBigInteger);
+        assertEquals("myString", original.myString, copy.myString);
+        assertEquals("myStringMap", original.myStringMap, copy.myStringMap);
+        assertEquals("myInterfaceMap", original.myInterfaceMap, copy.myInterfaceMap);
+        assertEquals("myIntCollection", original.myIntCollection, copy.myIntCollection);
+        assertEquals("myCharCollection", original.myCharCollection, copy.myCharCollection);
+        assertEquals("myCollectionOfCollections", original.myCollectionOfCollections, copy.myCollectionOfCollections);
+        assertEquals("myCollectionOfMapsOfStrings",
+                     original.myCollectionOfMapsOfStrings,
+                     copy.myCollectionOfMapsOfStrings);
+        assertEquals("myInnerObject", original.myInnerObject, copy.myInnerObject);
+        assertEquals("myListByInterface", original.myListByInterface, copy.myListByInterface);
+        assertEquals("myUnannotatedObject", original.myUnannotatedObject, copy.myUnannotatedObject);
+        assertEquals("myUnannotatedObjectCollection",
+                     original.myUnannotatedObjectCollection,
+                     copy.myUnannotatedObjectCollection);
+        assertEquals("myJsonObject", original.myJsonObject.toString(), copy.myJsonObject.toString());
+        assertEquals("myJsonArray", original.myJsonArray.toString(), copy.myJsonArray.toString());
+        assertEquals("myNullString", original.myNullString, copy.myNullString);
+        assertEquals("myNullCollection", original.myNullCollection, copy.myNullCollection);
+        assertEquals("myCollectionWithNullValues",
+                     original.myCollectionWithNullValues,
+                     copy.myCollectionWithNullValues);
+
+        // Comparing the serialized forms covers every member, including null Collections and Maps nested anywhere.
+        // TestObject's post-create hook prefixes its parsed children once more on every parse, and the hash sets of
+        // children are compared on their own because their order follows the hash codes of the prefixed strings.
+        JSONObject expected = new JSONObject(serialize(original));
+        JSONObject actual = new JSONObject(serialize(copy).replace("post-parse:post-parse:", "post-parse:"));
+        assertEquals("mySetsOfTestObjects",
+                     getStringsOfSets(expected.remove("myCollectionOfSetsOfTestObjects")),
+                     getStringsOfSets(actual.remove("myCollectionOfSetsOfTestObjects")));
+        assertEquals(expected.toString(), actual.toString());
+        assertNull("myNullCollection", copy.myNullCollection);
+        assertNull("myStringMap of nested TestObject", copy.myCollectionOfMapsOfObjects.get(0).get("key1").myStringMap);
+    }
+
+    @Test
+    public void testNonFiniteNumbersRoundTrip() throws Exception {
+        TestObject original = new TestObject("a string", "testObject");
+        original.myDouble = Double.NaN;
+        original.myFloat = Float.NEGATIVE_INFINITY;
+        original.myBoxedDouble = Double.POSITIVE_INFINITY;
+
+        TestObject copy = (TestObject) roundTrip(original);
+        assertTrue("myDouble", Double.isNaN(copy.myDouble));
+        assertEquals("myFloat", Float.NEGATIVE_INFINITY, copy.myFloat, 0);
+        assertEquals("myBoxedDouble", Double.POSITIVE_INFINITY, copy.myBoxedDouble, 0);
+    }
+
+    @Test
+    public void testSelfValuesRoundTrip() throws Exception {
+        SelfMapObject original = new SelfMapObject();
+        original.string = "a string";
+        original.selfValues = new HashMap<>();
+        original.selfValues.put("string2", "another string");
+        original.selfValues.put("number", 12);
+
+        SelfMapObject copy = (SelfMapObject) roundTrip(original);
+        assertEquals("string", "a string", copy.string);
+        assertEquals("selfValues.size", 2, copy.selfValues.size());
+        assertEquals("selfValues.string2", "another string", copy.selfValues.get("string2"));
+        assertEquals("selfValues.number", "12", String.valueOf(copy.selfValues.get("number")));
+    }
+
+    @Test
+    public void testObjectWithoutSerializerThrows() throws Exception {
+        try {
+            serialize(new UnannotatedObject("a string"));
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected: unannotated classes are not in the serializer table.
+        }
+    }
+
+    @Test
+    public void testUtf8OutputMatchesJsonWriterOutput() throws Exception {
+        SimpleTestObject object = new SimpleTestObject("caf\u00e9 \"quoted\"\n", "simpleTestObject");
+
+        StringWriter expected = new StringWriter();
+        JsonWriter jsonWriter = new JsonWriter(expected);
+        SimpleTestObject$$JsonObjectSerializer.INSTANCE.serializeJsonObject(object, jsonWriter, "object");
+        jsonWriter.flush();
+
+        Utf8JsonWriter utf8Writer = new Utf8JsonWriter();
+        SimpleTestObject$$JsonObjectSerializer.INSTANCE.serializeJsonObject(object, utf8Writer, "object");
+
+        assertEquals(expected.toString(), new String(utf8Writer.toByteArray(), "UTF-8"));
+    }
+
+    @Test
+    public void testSerializeToUtf8JsonWriter() throws Exception {
+        TestObject original = (TestObject) parser.parseJsonStream(getInputStream("single-object.json"));
+        Utf8JsonWriter writer = new Utf8JsonWriter();
+        serializer.serializeJsonStream(original, writer);
+        String streamed = serialize(original);
+
+        assertEquals(streamed, new String(writer.toByteArray(), "UTF-8"));
+    }
+
+    private static List<Set<String>> getStringsOfSets(Object sets) throws Exception {
+        List<Set<String>> result = new ArrayList<>();
+        JSONArray array = (JSONArray) sets;
+        for (int i = 0; i < array.length(); i++) {
+            Set<String> strings = new HashSet<>();
+            JSONArray set = array.getJSONArray(i);
+            for (int j = 0; j < set.length(); j++) {
+                strings.add(set.getJSONObject(j).getString("myString"));
+            }
+            result.add(strings);
+        }
+        return result;
+    }
+
+    private Object roundTrip(Object object) throws Exception {
+        String json = serialize(object);
+        return parser.parseJsonStream(new ByteArrayInputStream(json.getBytes("UTF-8")));
+    }
+
+    private String serialize(Object object) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeJsonStream(object, out);
+        return out.toString("UTF-8");
+    }
+
+    private InputStream getInputStream(String fileName) {
+        return new BufferedInputStream(JsonSerializerTest.class.getResourceAsStream(fileName));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+import com.workday.autoparse.json.tree.AsciiCharSequence;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+import com.workday.autoparse.json.tree.LazyJsonObjectParser;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class LazyJsonTreeTest {
+
+    private static final String DETAILS = "{\"name\":\"a \\\"quoted\\\" caf\\u00e9\",\"count\":12.50,\"flag\":true,"
+            + "\"nothing\":null,\"caf\\u00e9\":\"unicode name\",\"nested\":{\"list\":[1,{\"deep\":\"value\"}]}}";
+    private static final String ITEMS = "[\"one\",2,[3],{\"four\":4},null]";
+    private static final String MEMBERS = "\"details\":" + DETAILS + ",\"items\":" + ITEMS
+            + ",\"unconverted\":{\"object\":\"simpleTestObject\",\"myString\":\"kept\"}";
+
+    @Test
+    public void testMembersAreMaterializedOnAccess() throws Exception {
+        LazyJsonObject details = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", false).details;
+        assertEquals("details.length", 6, details.length());
+        assertEquals("details.names", Arrays.asList("name", "count", "flag", "nothing", "caf\u00e9", "nested"),
+                     details.names());
+        assertDetails(details);
+    }
+
+    /**
+     * Members read before the discrimination value are buffered in a JSONObject, which loses their order and null
+     * members, so only their values are compared.
+     */
+    @Test
+    public void testMembersAreMaterializedOnAccessDelayed() throws Exception {
+        assertDetails(parse("{" + MEMBERS + ",\"object\":\"lazyTreeTestObject\"}", false).details);
+    }
+
+    private void assertDetails(LazyJsonObject details) {
+        assertEquals("details.name", "a \"quoted\" caf\u00e9", details.opt("name"));
+        assertEquals("details.count", "12.50", details.opt("count"));
+        assertEquals("details.flag", true, details.opt("flag"));
+        assertNull("details.nothing", details.opt("nothing"));
+        assertFalse("details.has(missing)", details.has("missing"));
+        assertEquals("details.caf\u00e9", "unicode name", details.opt("caf\u00e9"));
+
+        LazyJsonObject nested = (LazyJsonObject) details.opt("nested");
+        LazyJsonArray list = (LazyJsonArray) nested.opt("list");
+        assertEquals("list.length", 2, list.length());
+        assertEquals("list[0]", "1", list.opt(0));
+        assertEquals("list[1].deep", "value", ((LazyJsonObject) list.opt(1)).opt("deep"));
+        assertNull("list[2]", list.opt(2));
+    }
+
+    @Test
+    public void testArrays() throws Exception {
+        LazyJsonArray items = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", false).items;
+        assertEquals(ITEMS, items.toString());
+        assertEquals(5, items.length());
+        assertEquals("one", items.opt(0));
+        assertEquals("2", items.opt(1));
+        assertEquals("[3]", items.opt(2).toString());
+        assertEquals("4", ((LazyJsonObject) items.opt(3)).opt("four"));
+        assertNull(items.opt(4));
+    }
+
+    @Test
+    public void testConversionToJSONObject() throws Exception {
+        LazyJsonObject details = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", false).details;
+        JSONObject jsonObject = details.toJSONObject();
+        assertEquals("a \"quoted\" caf\u00e9", jsonObject.get("name"));
+        assertEquals("12.50", jsonObject.get("count"));
+        assertTrue(details.has("nothing"));
+        assertFalse(jsonObject.has("nothing"));
+        JSONArray list = jsonObject.getJSONObject("nested").getJSONArray("list");
+        assertEquals("value", list.getJSONObject(1).get("deep"));
+        assertEquals("a \"quoted\" caf\u00e9", LazyJsonObject.of(jsonObject).opt("name"));
+    }
+
+    @Test
+    public void testUnconvertedValuesAreJsonObjectsByDefault() throws Exception {
+        LazyTreeTestObject object = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", false);
+        assertTrue(object.unconverted instanceof JSONObject);
+    }
+
+    @Test
+    public void testUnconvertedValuesAreLazyWhenEnabled() throws Exception {
+        assertUnconvertedIsLazy(parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", true));
+    }
+
+    @Test
+    public void testUnconvertedValuesAreLazyWhenEnabledDelayed() throws Exception {
+        assertUnconvertedIsLazy(parse("{" + MEMBERS + ",\"object\":\"lazyTreeTestObject\"}", true));
+    }
+
+    private void assertUnconvertedIsLazy(LazyTreeTestObject object) {
+        assertTrue(object.unconverted instanceof LazyJsonObject);
+        assertEquals("kept", ((LazyJsonObject) object.unconverted).opt("myString"));
+    }
+
+    @Test
+    public void testUnknownObjects() throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withUnknownObjectParser(LazyJsonObjectParser.INSTANCE,
+                                                                        LazyJsonObject.class)
+                                               .build());
+        Collection<?> result = (Collection<?>) parser.parseJsonStream(toStream(
+                "[{\"object\":\"unknown\",\"a\":[1,2]},{\"b\":true,\"object\":\"other\"}]"));
+        Object[] items = result.toArray();
+        assertEquals("{\"object\":\"unknown\",\"a\":[1,2]}", items[0].toString());
+        assertEquals("other", ((LazyJsonObject) items[1]).opt("object"));
+        assertEquals(true, ((LazyJsonObject) items[1]).opt("b"));
+    }
+
+    @Test
+    public void testTextIsWrittenAsIs() throws Exception {
+        LazyTreeTestObject object = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamSerializerFactory.newJsonStreamSerializer(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build())
+                                   .serializeJsonStream(object, out);
+        String json = out.toString("UTF-8");
+        assertTrue(json, json.contains("\"details\":" + object.details));
+        assertTrue(json, json.contains("\"items\":" + ITEMS));
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        LazyJsonObject first = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", false).details;
+        LazyJsonObject second = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", true).details;
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, first.opt("nested"));
+    }
+
+    @Test
+    public void testCharSequences() throws Exception {
+        LazyJsonObject details = parse("{\"object\":\"lazyTreeTestObject\"," + MEMBERS + "}", false).details;
+        assertNull(details.optCharSequence("nothing"));
+        assertNull(details.optCharSequence("missing"));
+        assertEquals("a \"quoted\" caf\u00e9", details.optCharSequence("name"));
+
+        LazyJsonObject object = LazyJsonObject.of(new JSONObject("{\"plain\":\"value\",\"escaped\":\"a\\\"b\","
+                + "\"unicode\":\"caf\u00e9\",\"number\":1}"));
+        CharSequence view = object.optCharSequence("plain");
+        assertTrue(view instanceof AsciiCharSequence);
+        assertEquals("value", view.toString());
+        assertEquals(5, view.length());
+        assertEquals('a', view.charAt(1));
+        assertEquals("alu", view.subSequence(1, 4).toString());
+        assertTrue("value".contentEquals(view));
+        assertEquals("value".hashCode(), view.hashCode());
+        assertEquals(view, LazyJsonObject.of(new JSONObject("{\"other\":\"value\"}")).optCharSequence("other"));
+        assertNotEquals(view, "value");
+
+        assertEquals("a\"b", object.optCharSequence("escaped"));
+        assertEquals("caf\u00e9", object.optCharSequence("unicode"));
+        assertEquals("1", object.optCharSequence("number"));
+        assertEquals("value", LazyJsonArray.of(new JSONArray("[\"value\"]")).optCharSequence(0).toString());
+    }
+
+    private LazyTreeTestObject parse(String json, boolean lazyJsonTrees) throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withLazyJsonTrees(lazyJsonTrees)
+                                               .build());
+        return (LazyTreeTestObject) parser.parseJsonStream(toStream(json));
+    }
+
+    private static ByteArrayInputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8")));
+    }
+}
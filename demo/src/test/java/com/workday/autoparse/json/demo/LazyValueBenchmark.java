@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures what a lazy member costs while parsing and what binding it costs later. Each object has a large lazy
+ * {@code children} member, which is timed three ways:
+ * <ul>
+ * <li>skipped, as an unknown member of {@link SimpleTestObject}, which is the cost of tokenizing it,</li>
+ * <li>parsed into a {@link LazyValueTestObject} that is not read, which adds copying its text, and</li>
+ * <li>parsed into a LazyValueTestObject that is then read, which adds binding it.</li>
+ * </ul>
+ * Lazy members are still tokenized when they are parsed, so the first two are close, and the difference between the
+ * last two is the binding cost that is deferred, and saved when the member is never read.
+ * <p/>
+ * This is a benchmark rather than a test, so it is ignored by default. Remove the {@link Ignore} annotation to run it
+ * and compare the times it prints.
+ *
+ * @since 2026-10-19.
+ */
+@Ignore("Benchmark; run manually.")
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class LazyValueBenchmark {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int OBJECT_COUNT = 200;
+    private static final int CHILD_COUNT = 50;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    @Test
+    public void benchmarkBindingCost() throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        byte[] skipped = createDocument("simpleTestObject");
+        byte[] lazy = createDocument("lazyValueTestObject");
+
+        long skippedNanos = time(parser, skipped, false);
+        long lazyNanos = time(parser, lazy, false);
+        long boundNanos = time(parser, lazy, true);
+
+        System.out.println(String.format(Locale.US,
+                                         "Tokenized and skipped %.3f ms, copied %.3f ms, copied and bound %.3f ms, "
+                                                 + "deferred binding cost %.3f ms",
+                                         skippedNanos / 1e6 / MEASURED_ITERATIONS,
+                                         lazyNanos / 1e6 / MEASURED_ITERATIONS,
+                                         boundNanos / 1e6 / MEASURED_ITERATIONS,
+                                         (boundNanos - lazyNanos) / 1e6 / MEASURED_ITERATIONS));
+    }
+
+    private long time(JsonStreamParser parser, byte[] document, boolean bind) throws Exception {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            parse(parser, document, bind);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            parse(parser, document, bind);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void parse(JsonStreamParser parser, byte[] document, boolean bind) throws Exception {
+        List<?> result = (List<?>) parser.parseJsonStream(new ByteArrayInputStream(document));
+        assertEquals(OBJECT_COUNT, result.size());
+        if (bind) {
+            for (Object object : result) {
+                assertEquals(CHILD_COUNT, ((LazyValueTestObject) object).children.get().size());
+            }
+        }
+    }
+
+    private static byte[] createDocument(String discriminationValue) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"object\":\"").append(discriminationValue).append("\",\"children\":[");
+            for (int j = 0; j < CHILD_COUNT; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"object\":\"simpleTestObject\",\"myString\":\"child ").append(j).append("\"}");
+            }
+            sb.append("]}");
+        }
+        return sb.append(']').toString().getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.parser.LazyValue;
+import com.workday.autoparse.json.serializer.JsonStreamSerializerFactory;
+
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class LazyValueJsonParserTest {
+
+    private static final String MEMBERS = "\"name\":\"eager\","
+            + "\"details\":{\"object\":\"simpleTestObject\",\"myString\":\"lazy\"},"
+            + "\"children\":[{\"myString\":\"first\"},{\"myString\":\"second\"}],"
+            + "\"count\":\"42\","
+            + "\"label\":\"a label\","
+            + "\"numbers\":[1,2,3]";
+
+    @Test
+    public void testValuesAreBoundOnFirstAccess() throws Exception {
+        assertValues(parse("{\"object\":\"lazyValueTestObject\"," + MEMBERS + "}"));
+    }
+
+    @Test
+    public void testValuesAreBoundOnFirstAccessDelayed() throws Exception {
+        assertValues(parse("{" + MEMBERS + ",\"object\":\"lazyValueTestObject\"}"));
+    }
+
+    private void assertValues(LazyValueTestObject object) {
+        assertEquals("name", "eager", object.name);
+        assertFalse("details.isBound", object.details.isBound());
+        assertEquals("details", new SimpleTestObject("lazy", "simpleTestObject"), object.details.get());
+        assertTrue("details.isBound", object.details.isBound());
+        assertSame("details is bound once", object.details.get(), object.details.get());
+        assertEquals("children",
+                     Arrays.asList(new SimpleTestObject("first"), new SimpleTestObject("second")),
+                     object.children.get());
+        assertEquals("count", Integer.valueOf(42), object.count.get());
+        assertEquals("label", "a label", object.label.get());
+        assertArrayEquals("numbers", new int[]{1, 2, 3}, object.numbers.get());
+    }
+
+    @Test
+    public void testLazyStringsArePooledWhenEnabled() throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").withStringPooling(true).build());
+        String json = "{\"object\":\"lazyValueTestObject\"," + MEMBERS + "}";
+        LazyValueTestObject first = (LazyValueTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+        LazyValueTestObject second = (LazyValueTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+        assertSame("label", first.label.get(), second.label.get());
+    }
+
+    @Test
+    public void testNullValuesAreNotAssigned() throws Exception {
+        LazyValueTestObject object = parse("{\"object\":\"lazyValueTestObject\",\"details\":null}");
+        assertNull(object.details);
+    }
+
+    @Test
+    public void testBindingFailsOnAccess() throws Exception {
+        LazyValueTestObject object = parse("{\"object\":\"lazyValueTestObject\",\"count\":\"many\"}");
+        try {
+            object.count.get();
+        } catch (RuntimeException e) {
+            assertFalse(object.count.isBound());
+            return;
+        }
+        throw new AssertionError("Expected binding to fail.");
+    }
+
+    @Test
+    public void testBindFailureMessageIsBounded() throws Exception {
+        StringBuilder count = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            count.append("many");
+        }
+        LazyValueTestObject object = parse("{\"object\":\"lazyValueTestObject\",\"count\":\"" + count + "\"}");
+        try {
+            object.count.get();
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("of 4002 bytes"));
+            assertTrue(e.getMessage(), e.getMessage().length() < 200);
+            assertTrue(e.getCause() instanceof NumberFormatException);
+            return;
+        }
+        throw new AssertionError("Expected binding to fail.");
+    }
+
+    @Test
+    public void testMalformedValueFailsWhenParsed() throws Exception {
+        // Lazy values are still tokenized while the containing object is parsed; only binding is deferred.
+        try {
+            parse("{\"object\":\"lazyValueTestObject\",\"details\":{\"myString\" \"lazy\"}}");
+        } catch (Exception e) {
+            return;
+        }
+        throw new AssertionError("Expected parsing to fail.");
+    }
+
+    @Test
+    public void testConcurrentAccessBindsOnce() throws Exception {
+        final LazyValueTestObject object = parse("{\"object\":\"lazyValueTestObject\"," + MEMBERS + "}");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Callable<SimpleTestObject> task = new Callable<SimpleTestObject>() {
+                @Override
+                public SimpleTestObject call() {
+                    return object.details.get();
+                }
+            };
+            Future<SimpleTestObject> first = executor.submit(task);
+            Future<SimpleTestObject> second = executor.submit(task);
+            assertSame(first.get(), second.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testUpdateFromMap() throws Exception {
+        JsonParserContext context = new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("details", new JSONObject("{\"myString\":\"updated\"}"));
+        updates.put("count", 7);
+        LazyValueTestObject object = new LazyValueTestObject();
+        LazyValueTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(object, updates, context);
+        assertEquals(new SimpleTestObject("updated"), object.details.get());
+        assertEquals(Integer.valueOf(7), object.count.get());
+
+        LazyValue<SimpleTestObject> details = LazyValue.of(new SimpleTestObject("given"));
+        updates.put("details", details);
+        LazyValueTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(object, updates, context);
+        assertSame(details, object.details);
+    }
+
+    @Test
+    public void testSerializationWritesBoundValues() throws Exception {
+        LazyValueTestObject object = parse("{\"object\":\"lazyValueTestObject\"," + MEMBERS + "}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamSerializerFactory.newJsonStreamSerializer(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build())
+                                   .serializeJsonStream(object, out);
+        String json = out.toString("UTF-8");
+        assertTrue(json, json.contains("\"myString\":\"lazy\""));
+        assertTrue(json, json.contains("\"count\":42"));
+    }
+
+    private LazyValueTestObject parse(String json) throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        return (LazyValueTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
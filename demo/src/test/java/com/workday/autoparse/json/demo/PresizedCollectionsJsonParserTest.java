@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.parser.SizeHint;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class PresizedCollectionsJsonParserTest {
+
+    private static final int[] SIZES = {0, 3, 5000, 1, 5000, 5000, 2};
+
+    @Test
+    public void testSizesVaryBetweenParses() throws Exception {
+        for (int size : SIZES) {
+            assertSize(parse(json(size, true)), size);
+        }
+    }
+
+    @Test
+    public void testSizesVaryBetweenParsesDelayed() throws Exception {
+        for (int size : SIZES) {
+            assertSize(parse(json(size, false)), size);
+        }
+    }
+
+    @Test
+    public void testOutlierDoesNotOverAllocateLaterCollections() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            assertSize(parse(json(2, true)), 2);
+        }
+        assertSize(parse(json(10000, true)), 10000);
+
+        int previousCapacity = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int capacity = getIdsSizeHint().get();
+            assertSize(parse(json(2, true)), 2);
+            // The outlier moves the estimate of 2 by no more than the default capacity of an ArrayList.
+            assertTrue(String.valueOf(capacity), capacity < 10);
+            assertTrue(capacity <= previousCapacity);
+            previousCapacity = capacity;
+        }
+        assertEquals(2, previousCapacity);
+    }
+
+    @Test
+    public void testUpdateFromMap() throws Exception {
+        JsonParserContext context = new JsonParserContext(new JsonParserSettingsBuilder().build());
+        for (int size : SIZES) {
+            Map<String, Object> updates = new HashMap<>();
+            updates.put("ids", strings(size));
+            updates.put("codes", strings(size));
+            updates.put("queue", strings(size));
+            PresizedTestObject object = new PresizedTestObject();
+            PresizedTestObject$$JsonObjectParser.INSTANCE.updateInstanceFromMap(object, updates, context);
+            assertEquals(strings(size), object.ids);
+            assertEquals(strings(size), new ArrayList<>(object.codes));
+            assertEquals(strings(size), object.queue);
+        }
+    }
+
+    private void assertSize(PresizedTestObject object, int size) {
+        assertEquals(strings(size), object.ids);
+        assertEquals(strings(size), new ArrayList<>(object.codes));
+        assertEquals(strings(size), object.queue);
+        assertEquals(size, object.rates.size());
+        if (size > 0) {
+            assertEquals(Double.valueOf(size - 1), object.rates.get(String.valueOf(size - 1)));
+        }
+        assertEquals(size, object.children.length);
+        if (size > 0) {
+            assertEquals(String.valueOf(size - 1), object.children[size - 1].myString);
+        }
+    }
+
+    /**
+     * @return The hint that the generated parser passes to the constructor of the list for {@code ids}.
+     */
+    private static SizeHint getIdsSizeHint() throws Exception {
+        Field field = PresizedTestObject$$JsonObjectParser.class.getDeclaredField("SIZE_HINT_0");
+        field.setAccessible(true);
+        return (SizeHint) field.get(null);
+    }
+
+    private static List<String> strings(int size) {
+        List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(String.valueOf(i));
+        }
+        return strings;
+    }
+
+    private static String json(int size, boolean discriminationValueFirst) {
+        StringBuilder array = new StringBuilder("[");
+        StringBuilder rates = new StringBuilder("{");
+        StringBuilder children = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            String separator = i == 0 ? "" : ",";
+            array.append(separator).append('"').append(i).append('"');
+            rates.append(separator).append('"').append(i).append("\":").append(i).append(".0");
+            children.append(separator).append("{\"object\":\"simpleTestObject\",\"myString\":\"").append(i)
+                    .append("\"}");
+        }
+        String members = Arrays.asList("\"ids\":" + array + "]", "\"codes\":" + array + "]",
+                                       "\"queue\":" + array + "]", "\"rates\":" + rates + "}",
+                                       "\"children\":" + children + "]").toString();
+        members = members.substring(1, members.length() - 1);
+        String discrimination = "\"object\":\"presizedTestObject\"";
+        return discriminationValueFirst
+                ? "{" + discrimination + "," + members + "}"
+                : "{" + members + "," + discrimination + "}";
+    }
+
+    private PresizedTestObject parse(String json) throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build());
+        return (PresizedTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import android.util.JsonReader;
+
+import com.workday.autoparse.json.context.ContextHolder;
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.RecyclingJsonObjectParser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class RecyclingJsonParserTest {
+
+    private static final RecyclingJsonObjectParser<RecyclableTestObject> PARSER =
+            RecyclableTestObject$$JsonObjectParser.INSTANCE;
+
+    @Before
+    public void setUp() {
+        ContextHolder.setContext(new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").build()));
+    }
+
+    @After
+    public void tearDown() {
+        ContextHolder.removeContext();
+    }
+
+    @Test
+    public void testRecordsAreParsedIntoOneInstance() throws Exception {
+        JsonReader reader = new JsonReader(new StringReader(
+                "[{\"count\":1,\"active\":true,\"name\":\"first\",\"tags\":[\"a\",\"b\"],\"scores\":{\"x\":1}},"
+                        + "{\"count\":2,\"tags\":[\"c\"],\"scores\":{\"y\":2}}]"));
+        RecyclableTestObject record = new RecyclableTestObject();
+
+        reader.beginArray();
+        reader.beginObject();
+        PARSER.parseJsonObjectInto(record, null, reader, "object", null);
+        reader.endObject();
+        assertEquals(1, record.count);
+        assertTrue(record.active);
+        assertEquals("first", record.name);
+        assertEquals(Arrays.asList("a", "b"), record.tags);
+        assertEquals(Collections.singletonMap("x", 1), record.scores);
+        List<String> tags = record.tags;
+        Map<String, Integer> scores = record.scores;
+
+        PARSER.reset(record);
+        reader.beginObject();
+        PARSER.parseJsonObjectInto(record, null, reader, "object", null);
+        reader.endObject();
+        reader.endArray();
+        assertEquals(2, record.count);
+        assertFalse(record.active);
+        assertNull(record.name);
+        assertEquals(Collections.singletonList("c"), record.tags);
+        assertEquals(Collections.singletonMap("y", 2), record.scores);
+        assertSame("tags are reused", tags, record.tags);
+        assertSame("scores are reused", scores, record.scores);
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        RecyclableTestObject record = PARSER.parseJsonObject(null, null, "object", null);
+        record.count = 5;
+        record.active = true;
+        record.name = "name";
+        record.child = new SimpleTestObject("child");
+        record.tags = new ArrayList<>(Arrays.asList("a"));
+        record.label = "label";
+        List<String> tags = record.tags;
+
+        PARSER.reset(record);
+        assertEquals(0, record.count);
+        assertFalse(record.active);
+        assertNull(record.name);
+        assertNull(record.child);
+        assertSame(tags, record.tags);
+        assertTrue(record.tags.isEmpty());
+        assertNull(record.scores);
+        assertEquals("setters are not reset", "label", record.label);
+    }
+
+    @Test
+    public void testCollectionsOfOtherClassesAreReplaced() throws Exception {
+        RecyclableTestObject record = new RecyclableTestObject();
+        List<String> tags = Collections.emptyList();
+        record.tags = tags;
+        JsonReader reader = new JsonReader(new StringReader("{\"tags\":[\"a\"]}"));
+        reader.beginObject();
+        PARSER.parseJsonObjectInto(record, null, reader, "object", null);
+        reader.endObject();
+        assertEquals(Collections.singletonList("a"), record.tags);
+        assertFalse(tags == record.tags);
+    }
+
+    @Test
+    public void testParsersOfCreatedClassesAreNotRecycling() {
+        assertFalse(((Object) ImmutablePoint$$JsonObjectParser.INSTANCE) instanceof RecyclingJsonObjectParser);
+    }
+}
@@ -10,6 +10,7 @@ package com.workday.autoparse.json.demo;
 import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
 import com.workday.autoparse.json.parser.JsonStreamParser;
 import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.utils.CompactMap;
 
 import org.json.JSONObject;
 import org.junit.Before;
@@ -19,7 +20,9 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -54,6 +57,7 @@ public class SelfValuesJsonParserTest {
         SelfMapObject object = (SelfMapObject) parser.parseJsonStream(getInputStream(fileName));
         assertEquals("object.string", "a string value", object.string);
         assertNotNull("object.selfValues", object.selfValues);
+        assertEquals("object.selfValues.class", CompactMap.class, object.selfValues.getClass());
         assertEquals("object.selfValues.size", 4, object.selfValues.size());
         assertEquals("object.selfValues.string2",
                      "another string",
@@ -99,6 +103,53 @@ public class SelfValuesJsonParserTest {
                                              object.selfValuesUnconverted.get("jsonObject"));
     }
 
+    @Test
+    public void testParseFromJsonObjectLeavesJsonObjectUnchanged() throws Exception {
+        JSONObject jsonObject = new JSONObject("{\"string\":\"a string value\",\"string2\":\"another string\"}");
+        String before = jsonObject.toString();
+
+        SelfMapObjectUnconverted object =
+                SelfMapObjectUnconverted$$JsonObjectParser.INSTANCE.parseJsonObject(jsonObject, null, "object", null);
+
+        assertEquals("object.string", "a string value", object.string);
+        assertEquals("object.selfValuesUnconverted.size", 1, object.selfValuesUnconverted.size());
+        assertEquals("object.selfValuesUnconverted.string2", "another string",
+                     object.selfValuesUnconverted.get("string2"));
+        assertEquals("jsonObject", before, jsonObject.toString());
+    }
+
+    @Test
+    public void testUnknownObjectKeepsLeadingDiscriminationValueInSelfValues() throws Exception {
+        testUnknownObjectSelfValues(false);
+    }
+
+    @Test
+    public void testUnknownObjectKeepsLeadingDiscriminationValueInSelfValuesWithPrescan()
+            throws Exception {
+        testUnknownObjectSelfValues(true);
+    }
+
+    private void testUnknownObjectSelfValues(boolean prescan) throws Exception {
+        JsonStreamParser unknownParser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withUnknownObjectParser(SelfMapObject$$JsonObjectParser.INSTANCE,
+                                                                        SelfMapObject.class)
+                                               .withDiscriminationPrescan(prescan)
+                                               .build());
+        SelfMapObject leading = (SelfMapObject) unknownParser.parseJsonStream(
+                getInputStreamOfString("{\"object\":\"nope\",\"foo\":1}"));
+        SelfMapObject trailing = (SelfMapObject) unknownParser.parseJsonStream(
+                getInputStreamOfString("{\"foo\":1,\"object\":\"nope\"}"));
+
+        assertEquals("leading.selfValues.size", 2, leading.selfValues.size());
+        assertEquals("leading.selfValues.object", "nope", leading.selfValues.get("object"));
+        assertEquals("trailing.selfValues", trailing.selfValues, leading.selfValues);
+    }
+
+    private InputStream getInputStreamOfString(String json) {
+        return new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8")));
+    }
+
     private InputStream getInputStream(String fileName) {
         return new BufferedInputStream(SelfValuesJsonParserTest.class.getResourceAsStream(fileName));
     }
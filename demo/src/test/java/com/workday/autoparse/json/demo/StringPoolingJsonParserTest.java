@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.context.JsonParserSettings;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.parser.StringPool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class StringPoolingJsonParserTest {
+
+    private static final String JSON = "{\"object\":\"pooledStringTestObject\",\"currency\":\"USD\","
+            + "\"tags\":[\"a\",\"b\"],\"name\":\"same\",\"children\":["
+            + "{\"object\":\"pooledStringTestObject\",\"currency\":\"USD\",\"tags\":[\"b\",\"a\"],\"name\":\"same\"}]}";
+
+    @Test
+    public void testAnnotatedMembersArePooled() throws Exception {
+        PooledStringTestObject parent = parse(new JsonParserSettingsBuilder().withDiscriminationName("object"));
+        PooledStringTestObject child = parent.children.get(0);
+
+        assertEquals("child.currency", "USD", child.currency);
+        assertSame("child.currency", parent.currency, child.currency);
+        assertEquals("child.tags", Arrays.asList("b", "a"), child.tags);
+        assertSame("child.tags[0]", parent.tags.get(1), child.tags.get(0));
+        assertSame("child.tags[1]", parent.tags.get(0), child.tags.get(1));
+        assertNotSame("child.name", parent.name, child.name);
+    }
+
+    @Test
+    public void testAllStringsArePooledWhenEnabled() throws Exception {
+        PooledStringTestObject parent = parse(new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                                                             .withStringPooling(true));
+        PooledStringTestObject child = parent.children.get(0);
+
+        assertSame("child.currency", parent.currency, child.currency);
+        assertSame("child.name", parent.name, child.name);
+    }
+
+    @Test
+    public void testEachStringIsLookedUpOnce() throws Exception {
+        JsonParserContext context = new JsonParserContext(
+                new JsonParserSettingsBuilder().withDiscriminationName("object").withStringPooling(true).build());
+        StringPool pool = context.getStringPool();
+        pool.setStatisticsEnabled(true);
+        JsonStreamParserFactory.newJsonStreamParser(context)
+                               .parseJsonStream(new ByteArrayInputStream(JSON.getBytes(Charset.forName("UTF-8"))));
+
+        // Two currencies, four tags and two names, each of which repeats once.
+        assertEquals("misses", 4, pool.getMissCount());
+        assertEquals("hits", 4, pool.getHitCount());
+    }
+
+    private PooledStringTestObject parse(JsonParserSettingsBuilder settingsBuilder) throws Exception {
+        JsonParserSettings settings = settingsBuilder.build();
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(settings);
+        return (PooledStringTestObject) parser.parseJsonStream(
+                new ByteArrayInputStream(JSON.getBytes(Charset.forName("UTF-8"))));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.demo;
+
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonNumber;
+import com.workday.autoparse.json.parser.JsonStreamParser;
+import com.workday.autoparse.json.parser.JsonStreamParserFactory;
+import com.workday.autoparse.json.serializer.JsonSerializerUtils;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class TypedNumbersJsonParserTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String MEMBERS = "\"string\":\"a string value\",\"small\":12,\"big\":3000000000,"
+            + "\"fraction\":12.50,\"list\":[1,2.5]";
+
+    @Test
+    public void testNumbersAreStringsByDefault() throws Exception {
+        SelfMapObject object = parse("{\"object\":\"selfMap\"," + MEMBERS + "}", false);
+        assertEquals("12", object.selfValues.get("small"));
+        assertEquals("12.50", object.selfValues.get("fraction"));
+    }
+
+    @Test
+    public void testSelfValues() throws Exception {
+        SelfMapObject object = parse("{\"object\":\"selfMap\"," + MEMBERS + "}", true);
+        assertTypedNumbers(object);
+        assertEquals(Arrays.asList(new JsonNumber("1"), new JsonNumber("2.5")),
+                     (List<?>) object.selfValues.get("list"));
+    }
+
+    @Test
+    public void testSelfValuesDelayed() throws Exception {
+        assertTypedNumbers(parse("{" + MEMBERS + ",\"object\":\"selfMap\"}", true));
+    }
+
+    @Test
+    public void testSerializationKeepsText() throws Exception {
+        SelfMapObject object = parse("{\"object\":\"selfMap\",\"fraction\":12.50,\"exponent\":1E3}", true);
+        Utf8JsonWriter writer = new Utf8JsonWriter(64);
+        JsonSerializerUtils.writeValue(writer, object.selfValues, null);
+        assertEquals("{\"fraction\":12.50,\"exponent\":1E3}", new String(writer.toByteArray(), UTF_8));
+    }
+
+    private void assertTypedNumbers(SelfMapObject object) {
+        assertEquals("a string value", object.string);
+        assertEquals(new JsonNumber("12"), object.selfValues.get("small"));
+        assertEquals(12, ((JsonNumber) object.selfValues.get("small")).getValue());
+        assertEquals(3000000000L, ((JsonNumber) object.selfValues.get("big")).getValue());
+        assertEquals(12.5, ((JsonNumber) object.selfValues.get("fraction")).getValue());
+        assertEquals("12.50", object.selfValues.get("fraction").toString());
+    }
+
+    private SelfMapObject parse(String json, boolean typedNumbers) throws Exception {
+        JsonStreamParser parser = JsonStreamParserFactory.newJsonStreamParser(
+                new JsonParserSettingsBuilder().withDiscriminationName("object")
+                                               .withTypedNumbers(typedNumbers)
+                                               .build());
+        return (SelfMapObject) parser.parseJsonStream(new ByteArrayInputStream(json.getBytes(UTF_8)));
+    }
+}
@@ -25,4 +25,7 @@ final class AndroidNames {
     public static final String JSON_OBJECT_FULL = "org.json.JSONObject";
     public static final String JSON_READER = "JsonReader";
     public static final String JSON_READER_FULL = "android.util.JsonReader";
+    public static final String JSON_TOKEN_FULL = "android.util.JsonToken";
+    public static final String JSON_WRITER = "JsonWriter";
+    public static final String JSON_WRITER_FULL = "android.util.JsonWriter";
 }
@@ -35,8 +35,10 @@ import javax.tools.Diagnostic;
 /**
  * This is is the root of the code generation. It scans through every class annotated with {@link JsonObject} and
  * generates a {@link JsonObjectParser} via {@link JsonObjectParserGenerator} for each class requiring a parser (i.e. if
- * a custom parser is not declared). An actual static map from discrimination value to parser instance is then generated
- * in code by the {@link JsonObjectParserTableGenerator}.
+ * a custom parser is not declared), along with a matching {@link
+ * com.workday.autoparse.json.serializer.JsonObjectSerializer} via {@link JsonObjectSerializerGenerator}. An actual
+ * static map from discrimination value to parser instance is then generated in code by the {@link
+ * JsonObjectParserTableGenerator}.
  *
  * @author nathan.taylor
  * @since 2014-10-09
@@ -104,7 +106,15 @@ public class AutoparseJsonProcessor extends AbstractProcessor {
 
     private void generateClassParser(TypeElement classElement, Map<String, String> classNameToParserNameMap) {
         try {
-            new JsonObjectParserGenerator(processingEnv, classElement, classNameToParserNameMap).generateParser();
+            JsonObjectParserGenerator parserGenerator =
+                    new JsonObjectParserGenerator(processingEnv, classElement, classNameToParserNameMap);
+            parserGenerator.generateParser();
+            new JsonObjectSerializerGenerator(processingEnv,
+                                              classElement,
+                                              classNameToParserNameMap,
+                                              parserGenerator.getMemberToKeyMap(),
+                                              parserGenerator.getDiscriminationValueMembers(),
+                                              parserGenerator.getSelfValuesMember()).generateSerializer();
         } catch (IOException e) {
             processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), classElement);
         }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.utils.FrozenCollections;
+
+import java.io.IOException;
+
+/**
+ * Writes the statement that replaces a parsed collection or map with its frozen copy. See {@link
+ * FrozenCollections}.
+ *
+ * @since 2026-10-19.
+ */
+class CollectionFreezer {
+
+    /**
+     * Freezes members with {@link com.workday.autoparse.json.annotations.JsonValue#freeze()}.
+     */
+    static final CollectionFreezer ALWAYS = new CollectionFreezer(false);
+
+    /**
+     * Freezes members only if frozen collections are enabled in the settings of the context.
+     */
+    static final CollectionFreezer IF_ENABLED = new CollectionFreezer(true);
+
+    private final boolean conditional;
+
+    private CollectionFreezer(boolean conditional) {
+        this.conditional = conditional;
+    }
+
+    /**
+     * @param variableName The collection or map to freeze, which must be declared as a Collection,
+     * List, Set or Map.
+     * @param contextExpression An expression for the context of the parse.
+     */
+    void writeFreeze(JavaWriter writer, String variableName, String contextExpression) throws IOException {
+        String frozenCollections = writer.compressType(FrozenCollections.class.getCanonicalName());
+        if (conditional) {
+            writer.beginControlFlow("if (%s.isEnabled(%s))", frozenCollections, contextExpression);
+        }
+        writer.emitStatement("%s = %s.freeze(%s)", variableName, frozenCollections, variableName);
+        if (conditional) {
+            writer.endControlFlow();
+        }
+    }
+}
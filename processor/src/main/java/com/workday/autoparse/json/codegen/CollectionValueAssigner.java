@@ -9,8 +9,10 @@ package com.workday.autoparse.json.codegen;
 
 import com.squareup.javawriter.JavaWriter;
 import com.workday.autoparse.json.utils.Preconditions;
+import com.workday.meta.Modifiers;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,9 +30,16 @@ class CollectionValueAssigner implements ValueAssigner {
         private String assignmentPattern;
         private String collectionDeclarationPattern;
         private String parser;
+        private String discriminationCache = "null";
         private List<String> nestedCollectionParameters;
         private PostCreateChildBlockWriter postCreateChildBlockWriter;
         private String itemType;
+        private List<String> innerCollectionDeclarationPatterns = Collections.emptyList();
+        private String innerMapDeclarationPattern;
+        private String itemReaderPattern;
+        private ReusableField reusableField;
+        private CollectionFreezer freezer;
+        private String sizeHint;
 
         /**
          * The reference type of the collection.
@@ -76,6 +85,15 @@ class CollectionValueAssigner implements ValueAssigner {
             return this;
         }
 
+        /**
+         * The name of the {@link com.workday.autoparse.json.parser.DiscriminationCache} to look up
+         * item parsers through, or "null".
+         */
+        public Builder withDiscriminationCache(String discriminationCache) {
+            this.discriminationCache = discriminationCache;
+            return this;
+        }
+
         /**
          * A List of the parameters of the collection. For instance, if the list contains {Set,
          * List, String}, then the declared collection type would be {@code
@@ -87,6 +105,63 @@ class CollectionValueAssigner implements ValueAssigner {
             return this;
         }
 
+        /**
+         * The declaration patterns of the collections nested within the collection, outermost
+         * first. For {@code List<Set<List<String>>>}, these declare a {@code Set<List<String>>}
+         * and a {@code List<String>}. Each must accept one argument, like {@link
+         * #withCollectionDeclarationPattern(String)}.
+         */
+        public Builder withInnerCollectionDeclarationPatterns(List<String> innerCollectionDeclarationPatterns) {
+            this.innerCollectionDeclarationPatterns = innerCollectionDeclarationPatterns;
+            return this;
+        }
+
+        /**
+         * If the most deeply nested collection holds maps, the declaration pattern of those maps.
+         * Otherwise null. Must accept one argument: variableName.
+         */
+        public Builder withInnerMapDeclarationPattern(String innerMapDeclarationPattern) {
+            this.innerMapDeclarationPattern = innerMapDeclarationPattern;
+            return this;
+        }
+
+        /**
+         * If the items can be read straight from the reader, a pattern that reads one. Otherwise
+         * null. Must accept two arguments: (1) readerName and (2) key.
+         */
+        public Builder withItemReaderPattern(String itemReaderPattern) {
+            this.itemReaderPattern = itemReaderPattern;
+            return this;
+        }
+
+        /**
+         * If the member is a field whose collection can be filled in place, that field. Otherwise
+         * null.
+         */
+        public Builder withReusableField(ReusableField reusableField) {
+            this.reusableField = reusableField;
+            return this;
+        }
+
+        /**
+         * If the collection is frozen once it has been parsed, the freezer to write that with. Otherwise
+         * null.
+         */
+        public Builder withFreezer(CollectionFreezer freezer) {
+            this.freezer = freezer;
+            return this;
+        }
+
+        /**
+         * The name of the {@link com.workday.autoparse.json.parser.SizeHint} that the collection
+         * declaration is presized with, or null if it is not presized. The size of each parsed
+         * collection is recorded in it.
+         */
+        public Builder withSizeHint(String sizeHint) {
+            this.sizeHint = sizeHint;
+            return this;
+        }
+
         /**
          * The object that will handle writing post parse calls.
          */
@@ -106,6 +181,8 @@ class CollectionValueAssigner implements ValueAssigner {
             Preconditions.checkNotNull(nestedCollectionParameters, "nestedCollectionParameters");
             Preconditions.checkNotNull(postCreateChildBlockWriter, "postCreateChildBlockWriter");
             Preconditions.checkNotNull(itemType, "itemType");
+            Preconditions.checkNotNull(innerCollectionDeclarationPatterns,
+                                       "innerCollectionDeclarationPatterns");
 
             return new CollectionValueAssigner(this);
         }
@@ -123,15 +200,10 @@ class CollectionValueAssigner implements ValueAssigner {
             throws IOException {
 
         writer.beginControlFlow("if (!JsonParserUtils.handleNull(%s))", readerName);
-        writer.emitStatement(state.collectionDeclarationPattern, "collection");
-        writeParameterList(writer);
-        writer.emitStatement(
-                "JsonParserUtils.parseJsonArray(%1$s, collection, %2$s, %3$s.class, "
-                        + "parameterList, \"%4$s\")",
-                readerName,
-                state.parser,
-                writer.compressType(state.itemType),
-                key);
+        writeCollectionDeclaration(writer, objectName);
+        writeReadArrayBlock(writer, "collection", 0, readerName, key);
+        writeRecordSize(writer, "collection");
+        writeFreeze(writer, "collection", "ContextHolder.getContext()");
         writer.emitStatement(state.assignmentPattern, objectName, "collection");
         state.postCreateChildBlockWriter.writePostCreateCollectionBlock(writer,
                                                                         objectName,
@@ -139,13 +211,113 @@ class CollectionValueAssigner implements ValueAssigner {
         writer.endControlFlow();
     }
 
+    private void writeCollectionDeclaration(JavaWriter writer, String objectName) throws IOException {
+        if (state.reusableField == null) {
+            writer.emitStatement(state.collectionDeclarationPattern, "collection");
+        } else {
+            state.reusableField.writeDeclaration(writer, state.collectionType, objectName, "collection");
+        }
+    }
+
+    /**
+     * Writes a loop that reads an array into {@code collectionName}. The loop is written for the
+     * exact shape of the collection, so nested collections, nested maps and items are each read
+     * with the code for their type, rather than with a description of the shape at runtime.
+     *
+     * @param depth The number of collections that {@code collectionName} is nested within.
+     */
+    private void writeReadArrayBlock(JavaWriter writer,
+                                     String collectionName,
+                                     int depth,
+                                     String readerName,
+                                     String key)
+            throws IOException {
+        writer.emitStatement("JsonParserUtils.assertType(%s, \"%s\", %s.BEGIN_ARRAY)",
+                             readerName,
+                             key,
+                             writer.compressType(AndroidNames.JSON_TOKEN_FULL));
+        writer.emitStatement("%s.beginArray()", readerName);
+        writer.beginControlFlow("while (%s.hasNext())", readerName);
+
+        final int innerDepth = depth + 1;
+        if (depth < state.innerCollectionDeclarationPatterns.size()) {
+            // A null inner array becomes an empty collection.
+            String innerCollectionName = "collection" + innerDepth;
+            writer.emitStatement(state.innerCollectionDeclarationPatterns.get(depth), innerCollectionName);
+            writer.beginControlFlow("if (!JsonParserUtils.handleNull(%s))", readerName);
+            writeReadArrayBlock(writer, innerCollectionName, innerDepth, readerName, key);
+            writer.endControlFlow();
+            writer.emitStatement("%s.add(%s)", collectionName, innerCollectionName);
+        } else if (state.innerMapDeclarationPattern != null) {
+            String mapName = "map" + innerDepth;
+            String itemName = "itemName" + innerDepth;
+            writer.emitStatement(state.innerMapDeclarationPattern, mapName);
+            writer.beginControlFlow("if (!JsonParserUtils.handleNull(%s))", readerName);
+            writer.emitStatement("JsonParserUtils.assertType(%s, \"%s\", %s.BEGIN_OBJECT)",
+                                 readerName,
+                                 key,
+                                 writer.compressType(AndroidNames.JSON_TOKEN_FULL));
+            writer.emitStatement("%s.beginObject()", readerName);
+            writer.beginControlFlow("while (%s.hasNext())", readerName);
+            writer.emitField("String", itemName, Modifiers.NONE, readerName + ".nextName()");
+            writeReadItem(writer, mapName + ".put(" + itemName + ", %s)", readerName, key);
+            writer.endControlFlow();
+            writer.emitStatement("%s.endObject()", readerName);
+            writer.endControlFlow();
+            writer.emitStatement("%s.add(%s)", collectionName, mapName);
+        } else {
+            writeReadItem(writer, collectionName + ".add(%s)", readerName, key);
+        }
+
+        writer.endControlFlow();
+        writer.emitStatement("%s.endArray()", readerName);
+    }
+
+    /**
+     * @param addPattern A statement that adds the item to its container. Must accept one
+     * argument: the item.
+     */
+    private void writeReadItem(JavaWriter writer, String addPattern, String readerName, String key)
+            throws IOException {
+        if (state.itemReaderPattern != null) {
+            writer.beginControlFlow("if (JsonParserUtils.handleNull(%s))", readerName);
+            writer.emitStatement("%s", String.format(addPattern, "null"));
+            writer.nextControlFlow("else");
+            writer.emitStatement("%s", String.format(addPattern,
+                                                     String.format(state.itemReaderPattern, readerName, key)));
+            writer.endControlFlow();
+            return;
+        }
+
+        String nextArrayItem = String.format("JsonParserUtils.nextArrayItem(%s, %s.class, \"%s\", %s)",
+                                             readerName,
+                                             writer.compressType(state.itemType),
+                                             key,
+                                             state.discriminationCache);
+        if ("null".equals(state.parser)) {
+            writer.emitStatement("%s", String.format(addPattern, nextArrayItem));
+            return;
+        }
+
+        writer.beginControlFlow("if (%s.peek() == %s.BEGIN_OBJECT)",
+                                readerName,
+                                writer.compressType(AndroidNames.JSON_TOKEN_FULL));
+        writer.emitStatement("%s.beginObject()", readerName);
+        writer.emitStatement("%s", String.format(addPattern, String.format(
+                "%s.parseJsonObject(null, %s, discriminationName, null)", state.parser, readerName)));
+        writer.emitStatement("%s.endObject()", readerName);
+        writer.nextControlFlow("else");
+        writer.emitStatement("%s", String.format(addPattern, nextArrayItem));
+        writer.endControlFlow();
+    }
+
     @Override
     public void writeFromJsonObjectAssignment(JavaWriter writer,
                                               String objectName,
                                               String jsonObjectName,
                                               String name)
             throws IOException {
-        writer.emitStatement(state.collectionDeclarationPattern, "collection");
+        writeCollectionDeclaration(writer, objectName);
         writeParameterList(writer);
         writer.emitStatement(
                 "JsonParserUtils.convertJsonArrayToCollection(%s.optJSONArray(\"%s\"), "
@@ -155,6 +327,8 @@ class CollectionValueAssigner implements ValueAssigner {
                 state.parser,
                 writer.compressType(state.itemType),
                 name);
+        writeRecordSize(writer, "collection");
+        writeFreeze(writer, "collection", "ContextHolder.getContext()");
         writer.emitStatement(state.assignmentPattern, objectName, "collection");
         state.postCreateChildBlockWriter.writePostCreateCollectionBlock(writer,
                                                                         objectName,
@@ -177,6 +351,8 @@ class CollectionValueAssigner implements ValueAssigner {
         writer.beginControlFlow("if (o instanceof java.util.Collection)",
                                 state.collectionTypeErasure);
         writer.emitStatement("value.addAll((java.util.Collection) o)");
+        writer.nextControlFlow("else if (o instanceof Object[])");
+        writer.emitStatement("value.addAll((java.util.Collection) java.util.Arrays.asList((Object[]) o))");
         writer.nextControlFlow("else if (o instanceof JSONArray)");
         writeParameterList(writer);
         ErrorWriter.surroundWithIoTryCatch(writer, new ErrorWriter.ContentWriter() {
@@ -195,12 +371,27 @@ class CollectionValueAssigner implements ValueAssigner {
         writer.endControlFlow();
 
         // Assign the new collection the instance's field.
+        writeRecordSize(writer, "value");
+        writeFreeze(writer, "value", "context");
         writer.emitStatement(state.assignmentPattern, objectName, "value");
         state.postCreateChildBlockWriter.writePostCreateCollectionBlock(writer,
                                                                         objectName,
                                                                         "value");
     }
 
+    private void writeRecordSize(JavaWriter writer, String collectionName) throws IOException {
+        if (state.sizeHint != null) {
+            writer.emitStatement("%s.record(%s.size())", state.sizeHint, collectionName);
+        }
+    }
+
+    private void writeFreeze(JavaWriter writer, String collectionName, String contextExpression)
+            throws IOException {
+        if (state.freezer != null) {
+            state.freezer.writeFreeze(writer, collectionName, contextExpression);
+        }
+    }
+
     private void writeParameterList(JavaWriter writer) throws IOException {
         // TODO: make this a constant in the class
         if (state.nestedCollectionParameters.size() > 1) {
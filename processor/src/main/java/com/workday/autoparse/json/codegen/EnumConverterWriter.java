@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.annotations.JsonEnumDefault;
+import com.workday.autoparse.json.annotations.JsonEnumValue;
+import com.workday.autoparse.json.parser.Converter;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Writes the {@link Converter}s that a generated parser uses for the enums it parses. Each
+ * converter is a nested class that switches over the names of the constants of its enum, including
+ * the names given by {@link JsonEnumValue}. A string that matches no name is converted into the
+ * constant marked with {@link JsonEnumDefault}, or null if there is none.
+ * <p/>
+ * The parser registers its converters with {@link com.workday.autoparse.json.parser.JsonParserUtils}
+ * when it is loaded, so that enums nested in collections and maps are converted the same way.
+ *
+ * @since 2026-10-19.
+ */
+class EnumConverterWriter {
+
+    private static final String CLASS_NAME_PREFIX = "EnumConverter";
+
+    private final ProcessingEnvironment processingEnv;
+
+    public EnumConverterWriter(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Write a constant for each converter, and the static initializer that registers them.
+     *
+     * @param enumConverters The enums to write converters for, mapped to the names of their
+     * constants.
+     */
+    public void writeConverterConstants(JavaWriter writer, Map<TypeElement, String> enumConverters)
+            throws IOException {
+        if (enumConverters.isEmpty()) {
+            return;
+        }
+        int index = 0;
+        for (Map.Entry<TypeElement, String> entry : enumConverters.entrySet()) {
+            String enumName = writer.compressType(entry.getKey().getQualifiedName().toString());
+            writer.emitField(JavaWriter.type(Converter.class, enumName), entry.getValue(), Modifiers.PRIVATE_CONSTANT,
+                             String.format("new %s%d()", CLASS_NAME_PREFIX, index++));
+        }
+        writer.emitEmptyLine();
+
+        writer.beginInitializer(true);
+        for (Map.Entry<TypeElement, String> entry : enumConverters.entrySet()) {
+            writer.emitStatement("JsonParserUtils.registerConverter(%s.class, %s)",
+                                 writer.compressType(entry.getKey().getQualifiedName().toString()),
+                                 entry.getValue());
+        }
+        writer.endInitializer();
+        writer.emitEmptyLine();
+    }
+
+    /**
+     * Write the nested class of each converter.
+     *
+     * @see #writeConverterConstants(JavaWriter, Map)
+     */
+    public void writeConverterClasses(JavaWriter writer, Map<TypeElement, String> enumConverters)
+            throws IOException {
+        int index = 0;
+        for (TypeElement enumElement : enumConverters.keySet()) {
+            writer.emitEmptyLine();
+            writeConverterClass(writer, enumElement, CLASS_NAME_PREFIX + index++);
+        }
+    }
+
+    private void writeConverterClass(JavaWriter writer, TypeElement enumElement, String className)
+            throws IOException {
+        String enumName = writer.compressType(enumElement.getQualifiedName().toString());
+        writer.beginType(className, "class", EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL), null,
+                         JavaWriter.type(Converter.class, enumName));
+        writer.emitEmptyLine();
+
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod(enumName, "convert", Modifiers.PUBLIC, "String", "value");
+        writer.beginControlFlow("if (value == null)");
+        writer.emitStatement("return null");
+        writer.endControlFlow();
+
+        Set<String> names = new HashSet<>();
+        Element defaultConstant = null;
+        writer.beginControlFlow("switch (value)");
+        for (Element constant : getConstants(enumElement)) {
+            List<String> constantNames = new ArrayList<>();
+            constantNames.add(constant.getSimpleName().toString());
+            JsonEnumValue enumValue = constant.getAnnotation(JsonEnumValue.class);
+            if (enumValue != null) {
+                for (String alias : enumValue.value()) {
+                    constantNames.add(alias);
+                }
+            }
+
+            for (String name : constantNames) {
+                if (!names.add(name)) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR,
+                            String.format("The name \"%s\" is used by more than one constant of %s.", name,
+                                          enumElement.getQualifiedName()),
+                            constant);
+                    continue;
+                }
+                writer.beginControlFlow("case %s:", JavaWriter.stringLiteral(name));
+                writer.emitStatement("return %s.%s", enumName, constant.getSimpleName());
+                writer.endControlFlow();
+            }
+
+            if (constant.getAnnotation(JsonEnumDefault.class) != null) {
+                if (defaultConstant != null) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR,
+                            String.format("Only one constant of %s may be annotated with @%s.",
+                                          enumElement.getQualifiedName(), JsonEnumDefault.class.getSimpleName()),
+                            constant);
+                } else {
+                    defaultConstant = constant;
+                }
+            }
+        }
+        writer.endControlFlow();
+
+        if (defaultConstant != null) {
+            writer.emitStatement("return %s.%s", enumName, defaultConstant.getSimpleName());
+        } else {
+            writer.emitStatement("return null");
+        }
+        writer.endMethod();
+
+        writer.endType();
+    }
+
+    private List<Element> getConstants(TypeElement enumElement) {
+        List<Element> results = new ArrayList<>();
+        for (Element element : enumElement.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                results.add(element);
+            }
+        }
+        return results;
+    }
+}
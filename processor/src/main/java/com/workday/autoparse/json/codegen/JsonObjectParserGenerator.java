@@ -9,6 +9,7 @@ package com.workday.autoparse.json.codegen;
 
 import com.squareup.javawriter.JavaWriter;
 import com.workday.autoparse.json.annotations.DiscrimValue;
+import com.workday.autoparse.json.annotations.JsonCreator;
 import com.workday.autoparse.json.annotations.JsonObject;
 import com.workday.autoparse.json.annotations.JsonPostCreateChild;
 import com.workday.autoparse.json.annotations.JsonSelfValues;
@@ -17,11 +18,19 @@ import com.workday.autoparse.json.annotations.codegen.JsonParser;
 import com.workday.autoparse.json.context.ContextHolder;
 import com.workday.autoparse.json.context.GeneratedClassNames;
 import com.workday.autoparse.json.context.JsonParserContext;
+import com.workday.autoparse.json.parser.BigNumbers;
+import com.workday.autoparse.json.parser.Converter;
+import com.workday.autoparse.json.parser.DiscriminationCache;
 import com.workday.autoparse.json.parser.JsonObjectParser;
 import com.workday.autoparse.json.parser.JsonParserUtils;
+import com.workday.autoparse.json.parser.PrimitiveArrays;
+import com.workday.autoparse.json.parser.RecyclingJsonObjectParser;
+import com.workday.autoparse.json.parser.SizeHint;
+import com.workday.autoparse.json.parser.StringPool;
 import com.workday.autoparse.json.updater.InstanceUpdater;
 import com.workday.autoparse.json.updater.MapValueGetter;
 import com.workday.autoparse.json.utils.CollectionUtils;
+import com.workday.autoparse.json.utils.FrozenCollections;
 import com.workday.meta.CodeAnalysisUtils;
 import com.workday.meta.Initializers;
 import com.workday.meta.InvalidTypeException;
@@ -31,12 +40,14 @@ import com.workday.meta.Modifiers;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
@@ -47,9 +58,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -66,19 +79,41 @@ import java.util.function.Function;
 class JsonObjectParserGenerator {
 
     private static final String SELF_VALUE_NAME_SUFFIX = "$$Value";
+    private static final String CREATOR_VALUES_CLASS_NAME = "CreatorValues";
+
+    /**
+     * Switches over the names of the members that are estimated to be larger than this are split into helper
+     * methods. It leaves room for the estimate to be off, and for the rest of the method.
+     */
+    private static final int MAX_DISPATCH_SIZE = MethodSizeEstimator.HUGE_METHOD_LIMIT / 2;
+
+    /**
+     * The largest estimated size of the cases in each helper method of a split switch.
+     */
+    private static final int MAX_CASE_GROUP_SIZE = MethodSizeEstimator.HUGE_METHOD_LIMIT / 4;
 
     private final ProcessingEnvironment processingEnv;
     private final MetaTypes metaTypes;
     private final Initializers initializers;
+    private final MapInitializers mapInitializers;
     private final TypeElement classElement;
     private final Map<String, String> classNameToParserNameMap;
     private List<AssignmentInfo> assignments;
     private String parsedClassName;
+    private ExecutableElement creator;
+    /**
+     * The type of the object that parsed values are assigned to. This is the parsed class, unless it has a {@link
+     * JsonCreator}, in which case the values are collected into a nested class until they can be passed to it.
+     */
+    private String outClassName;
     private List<TypeElement> elementHierarchy;
     private Collection<String> discriminationValueAssignmentPatterns;
+    private List<Element> discriminationValueMembers;
     private PostCreateChildBlockWriter postCreateChildBlockWriter;
     private List<ExecutableElement> postCreateChildMethods;
     private SelfValueAssignmentInfo selfValueAssignmentInfo;
+    private ValueAssignerFactory valueAssignerFactory;
+    private MethodSizeEstimator methodSizeEstimator;
 
     /**
      * @param classElement The class element for which we are generating the parser.
@@ -91,6 +126,7 @@ class JsonObjectParserGenerator {
         this.processingEnv = processingEnv;
         metaTypes = new MetaTypes(processingEnv);
         initializers = new Initializers(metaTypes);
+        mapInitializers = new MapInitializers(metaTypes, initializers);
         this.classElement = classElement;
         this.classNameToParserNameMap = classNameToParserNameMap;
     }
@@ -108,21 +144,27 @@ class JsonObjectParserGenerator {
         elementHierarchy = generateElementHierarchy(classElement);
         List<? extends Element> allMembers = processingEnv.getElementUtils().getAllMembers(classElement);
         postCreateChildMethods = getPostCreateChildMethods(allMembers);
+        if (creator != null) {
+            assertNoMembersBesideCreator(allMembers);
+            postCreateChildMethods = Collections.emptyList();
+        }
+        outClassName = creator == null ? parsedClassName : CREATOR_VALUES_CLASS_NAME;
         postCreateChildBlockWriter = postCreateChildMethods.isEmpty()
                 ? DoNothingPostCreateChildBlockWriter.INSTANCE
                 : new StandardPostCreateChildBlockWriter(parsedClassName, postCreateChildMethods);
 
-        ValueAssignerFactory valueAssignerFactory = new ValueAssignerFactory(processingEnv, classNameToParserNameMap,
-                                                                             writer, postCreateChildBlockWriter);
-        assignments = getAssignments(valueAssignerFactory, allMembers);
+        valueAssignerFactory = new ValueAssignerFactory(processingEnv, classNameToParserNameMap, writer,
+                                                        postCreateChildBlockWriter, parsedClassName);
+        assignments = getAssignments(valueAssignerFactory, creator == null ? allMembers : creator.getParameters());
         discriminationValueAssignmentPatterns = getDiscriminationValueAssignmentPatterns(valueAssignerFactory,
                                                                                          allMembers);
-        selfValueAssignmentInfo = getSelfValueAssignmentInfo(valueAssignerFactory, allMembers);
+        selfValueAssignmentInfo = creator == null ? getSelfValueAssignmentInfo(valueAssignerFactory, allMembers) : null;
     }
 
     private Collection<String> getDiscriminationValueAssignmentPatterns(ValueAssignerFactory valueAssignerFactory,
                                                                         List<? extends Element> allMembers) {
         Collection<String> results = new ArrayList<>();
+        discriminationValueMembers = new ArrayList<>();
 
         for (Element member : allMembers) {
             DiscrimValue annotation = member.getAnnotation(DiscrimValue.class);
@@ -137,12 +179,42 @@ class JsonObjectParserGenerator {
                 }
 
                 results.add(valueAssignerFactory.getAssignmentPattern(member));
+                discriminationValueMembers.add(member);
             }
         }
 
         return results;
     }
 
+    /**
+     * The members that are assigned from named values, each mapped to the first name it is assigned from, in the
+     * order in which they are parsed. Only available after {@link #generateParser()}.
+     */
+    Map<Element, String> getMemberToKeyMap() {
+        Map<Element, String> result = new LinkedHashMap<>();
+        for (AssignmentInfo assignmentInfo : assignments) {
+            if (!result.containsKey(assignmentInfo.member)) {
+                result.put(assignmentInfo.member, assignmentInfo.name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The members annotated with {@link DiscrimValue}. Only available after {@link #generateParser()}.
+     */
+    List<Element> getDiscriminationValueMembers() {
+        return Collections.unmodifiableList(discriminationValueMembers);
+    }
+
+    /**
+     * The member annotated with {@link JsonSelfValues}, or null if there is none. Only available after {@link
+     * #generateParser()}.
+     */
+    Element getSelfValuesMember() {
+        return selfValueAssignmentInfo == null ? null : selfValueAssignmentInfo.member;
+    }
+
     public void generateParser() throws IOException {
         String parserName = MetaTypeNames.constructTypeName(classElement, GeneratedClassNames.PARSER_SUFFIX);
 
@@ -150,7 +222,9 @@ class JsonObjectParserGenerator {
 
         JavaWriter writer = new JavaWriter(sourceFile.openWriter());
         writer.setIndent("    ");
-        writer.emitPackage(processingEnv.getElementUtils().getPackageOf(classElement).getQualifiedName().toString());
+        String packageName = processingEnv.getElementUtils().getPackageOf(classElement).getQualifiedName().toString();
+        writer.emitPackage(packageName);
+        methodSizeEstimator = new MethodSizeEstimator(packageName);
         writer.emitImports(getStandardImports());
         writer.emitEmptyLine();
 
@@ -169,25 +243,41 @@ class JsonObjectParserGenerator {
         }
 
         parsedClassName = writer.compressType(classElement.getQualifiedName().toString());
-        String jsonObjectParserInterfaceName = JavaWriter.type(JsonObjectParser.class, parsedClassName);
+        creator = getCreator();
+        // Instances made through a creator cannot be filled in or reset, so their parsers are not recycling.
+        Class<?> jsonObjectParserInterface = creator == null ? RecyclingJsonObjectParser.class : JsonObjectParser.class;
+        String jsonObjectParserInterfaceName = JavaWriter.type(jsonObjectParserInterface, parsedClassName);
         String fromMapUpdaterInterfaceName = JavaWriter.type(InstanceUpdater.class, parsedClassName);
         writer.beginType(parserName, "class", EnumSet.of(Modifier.PUBLIC, Modifier.FINAL), null,
                          jsonObjectParserInterfaceName, fromMapUpdaterInterfaceName);
         writer.emitEmptyLine();
 
+        initializeAssignments(writer);
+
         writer.emitField(parserName, "INSTANCE", Modifiers.PUBLIC_CONSTANT,
                          String.format("new %s()", writer.compressType(parserName)));
         writer.emitEmptyLine();
 
+        writeDiscriminationCaches(writer);
+        writeSizeHints(writer);
+        EnumConverterWriter enumConverterWriter = new EnumConverterWriter(processingEnv);
+        enumConverterWriter.writeConverterConstants(writer, valueAssignerFactory.getEnumConverters());
+        LazyValueBinderWriter lazyValueBinderWriter = new LazyValueBinderWriter();
+        lazyValueBinderWriter.writeBinderConstants(writer, valueAssignerFactory.getLazyBinders());
+
         // Constructor
         writer.beginMethod(null, parserName, Modifiers.PRIVATE);
         writer.endMethod();
         writer.emitEmptyLine();
 
-        initializeAssignments(writer);
-
         writePublicParseJsonObjectMethod(writer);
         writer.emitEmptyLine();
+        if (creator == null) {
+            writeParseJsonObjectIntoMethod(writer);
+            writer.emitEmptyLine();
+            writeResetMethod(writer);
+            writer.emitEmptyLine();
+        }
         writeParseFromJsonObjectMethod(writer);
         writer.emitEmptyLine();
         writeParseFromReaderMethod(writer);
@@ -211,16 +301,85 @@ class JsonObjectParserGenerator {
             postCreateChildBlockWriter.writePostCreateMapMethod(writer);
         }
 
+        enumConverterWriter.writeConverterClasses(writer, valueAssignerFactory.getEnumConverters());
+        lazyValueBinderWriter.writeBinderClasses(writer, valueAssignerFactory.getLazyBinders());
+
+        if (creator != null) {
+            writer.emitEmptyLine();
+            writeCreatorValuesClass(writer);
+        }
+
         writer.endType();
         writer.close();
     }
 
+    /**
+     * Write the class that collects the arguments of the {@link JsonCreator} while the object is parsed. It has a
+     * field for each parameter, named after the parameter, so that the arguments are assigned like the fields of any
+     * other parsed class.
+     */
+    private void writeCreatorValuesClass(JavaWriter writer) throws IOException {
+        writer.beginType(CREATOR_VALUES_CLASS_NAME, "class", EnumSet.of(Modifier.PRIVATE, Modifier.STATIC,
+                                                                        Modifier.FINAL));
+        writer.emitEmptyLine();
+        for (VariableElement parameter : creator.getParameters()) {
+            writer.emitField(parameter.asType().toString(), parameter.getSimpleName().toString(), Modifiers.NONE);
+        }
+        writer.endType();
+    }
+
+    private String getCreatorInvocation() {
+        StringBuilder arguments = new StringBuilder();
+        for (VariableElement parameter : creator.getParameters()) {
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+            arguments.append("values.").append(parameter.getSimpleName());
+        }
+        if (creator.getKind() == ElementKind.CONSTRUCTOR) {
+            return String.format("new %s(%s)", parsedClassName, arguments);
+        }
+        return String.format("%s.%s(%s)", parsedClassName, creator.getSimpleName(), arguments);
+    }
+
+    private void writeDiscriminationCaches(JavaWriter writer) throws IOException {
+        Map<String, String> discriminationCaches = valueAssignerFactory.getDiscriminationCaches();
+        if (discriminationCaches.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : discriminationCaches.entrySet()) {
+            writer.emitField(DiscriminationCache.class.getSimpleName(), entry.getKey(), Modifiers.PRIVATE_CONSTANT,
+                             String.format("new %s(%s)", DiscriminationCache.class.getSimpleName(),
+                                           JavaWriter.stringLiteral(entry.getValue())));
+        }
+        writer.emitEmptyLine();
+    }
+
+    private void writeSizeHints(JavaWriter writer) throws IOException {
+        Map<String, Integer> sizeHints = valueAssignerFactory.getSizeHints();
+        if (sizeHints.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : sizeHints.entrySet()) {
+            int expectedSize = entry.getValue();
+            writer.emitField(SizeHint.class.getSimpleName(), entry.getKey(), Modifiers.PRIVATE_CONSTANT,
+                             String.format("new %s(%s)", SizeHint.class.getSimpleName(),
+                                           expectedSize == -1 ? "" : String.valueOf(expectedSize)));
+        }
+        writer.emitEmptyLine();
+    }
+
     private Set<String> getStandardImports() {
         Set<String> results = new HashSet<>();
         results.add(AndroidNames.JSON_ARRAY_FULL);
         results.add(AndroidNames.JSON_OBJECT_FULL);
         results.add(AndroidNames.JSON_READER_FULL);
+        results.add(AndroidNames.JSON_TOKEN_FULL);
+        results.add(BigNumbers.class.getCanonicalName());
         results.add(ContextHolder.class.getCanonicalName());
+        results.add(Converter.class.getCanonicalName());
+        results.add(DiscriminationCache.class.getCanonicalName());
+        results.add(FrozenCollections.class.getCanonicalName());
         results.add(JsonObjectParser.class.getCanonicalName());
         results.add(JsonParserContext.class.getCanonicalName());
         results.add(JsonParserUtils.class.getCanonicalName());
@@ -228,6 +387,9 @@ class JsonObjectParserGenerator {
         results.add(Map.class.getCanonicalName());
         results.add(MapValueGetter.class.getCanonicalName());
         results.add(JsonParser.class.getCanonicalName());
+        results.add(PrimitiveArrays.class.getCanonicalName());
+        results.add(SizeHint.class.getCanonicalName());
+        results.add(StringPool.class.getCanonicalName());
         return results;
     }
 
@@ -239,7 +401,47 @@ class JsonObjectParserGenerator {
                                                         "discriminationName", "String", "discriminationValue"),
                            CollectionUtils.newArrayList(IOException.class.getSimpleName()));
 
-        writer.emitField(parsedClassName, "result", Modifiers.NONE, "new " + parsedClassName + "()");
+        if (creator == null) {
+            writer.emitField(parsedClassName, "result", Modifiers.NONE, "new " + parsedClassName + "()");
+            writer.emitStatement("parseJsonObjectInto(result, jsonObject, reader, discriminationName, "
+                                         + "discriminationValue)");
+        } else {
+            writer.emitField(outClassName, "values", Modifiers.NONE, "new " + outClassName + "()");
+            writeParseBody(writer, "values", false);
+            writer.emitField(parsedClassName, "result", Modifiers.NONE, getCreatorInvocation());
+            if (selfValueAssignmentInfo != null) {
+                writer.emitStatement(selfValueAssignmentInfo.assignmentPattern, "result", getSelfValuesMapName());
+            }
+        }
+
+        writer.emitStatement("return result");
+        writer.endMethod();
+    }
+
+    private void writeParseJsonObjectIntoMethod(JavaWriter writer) throws IOException {
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod("void", "parseJsonObjectInto", Modifiers.PUBLIC,
+                           CollectionUtils.newArrayList(parsedClassName, "result",
+                                                        AndroidNames.JSON_OBJECT, "jsonObject",
+                                                        AndroidNames.JSON_READER, "reader", "String",
+                                                        "discriminationName", "String", "discriminationValue"),
+                           CollectionUtils.newArrayList(IOException.class.getSimpleName()));
+
+        writeParseBody(writer, "result", true);
+        if (selfValueAssignmentInfo != null) {
+            writer.emitStatement(selfValueAssignmentInfo.assignmentPattern, "result", getSelfValuesMapName());
+        }
+        writer.endMethod();
+    }
+
+    /**
+     * Write the statements that assign the discrimination value, and then the values from the JSONObject and the
+     * reader, to {@code out}. If the class has self values, they are collected into a map that is left for the caller
+     * to assign.
+     *
+     * @param reuseSelfValues Whether to fill the map of self values already held by {@code out}, if it can be reused.
+     */
+    private void writeParseBody(JavaWriter writer, String out, boolean reuseSelfValues) throws IOException {
         if (!discriminationValueAssignmentPatterns.isEmpty()) {
             writer.beginControlFlow("if (discriminationValue != null)");
             for (String assignmentPattern : discriminationValueAssignmentPatterns) {
@@ -252,43 +454,142 @@ class JsonObjectParserGenerator {
         if (selfValueAssignmentInfo != null) {
             Element member = selfValueAssignmentInfo.member;
             String initializer = null;
-            selfValuesMapName = member.getSimpleName().toString() + SELF_VALUE_NAME_SUFFIX;
+            selfValuesMapName = getSelfValuesMapName();
 
             try {
-                initializer = initializers.findMapInitializer((DeclaredType) member.asType());
+                initializer = mapInitializers.findMapInitializer((DeclaredType) member.asType());
             } catch (InvalidTypeException e) {
                 processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), member);
             }
 
-            writer.emitField(member.asType().toString(), selfValuesMapName, Modifiers.NONE, initializer);
+            ReusableField reusableField = reuseSelfValues && member.getKind() == ElementKind.FIELD
+                    ? ReusableField.create(member.getSimpleName().toString(), initializer)
+                    : null;
+            if (reusableField != null) {
+                reusableField.writeDeclaration(writer, member.asType().toString(), out, selfValuesMapName);
+            } else {
+                writer.emitField(member.asType().toString(), selfValuesMapName, Modifiers.NONE, initializer);
+            }
 
         }
         writer.beginControlFlow("if (jsonObject != null)");
         if (selfValueAssignmentInfo != null) {
-            writer.emitStatement("parseFromJsonObject(result, jsonObject, discriminationName, %s)", selfValuesMapName);
+            writer.emitStatement("parseFromJsonObject(%s, jsonObject, discriminationName, %s)", out, selfValuesMapName);
         } else {
-            writer.emitStatement("parseFromJsonObject(result, jsonObject, discriminationName)");
+            writer.emitStatement("parseFromJsonObject(%s, jsonObject, discriminationName)", out);
         }
         writer.endControlFlow();
         writer.beginControlFlow("if (reader != null)");
+        StringBuilder arguments = new StringBuilder(out).append(", reader, discriminationName");
+        if (valueAssignerFactory.usesStringPool()) {
+            // Look up whether all strings are pooled once per object rather than once per string.
+            arguments.append(", JsonParserUtils.getStringPoolIfEnabled()");
+        }
         if (selfValueAssignmentInfo != null) {
-            writer.emitStatement("parseFromReader(result, reader, discriminationName, %s)", selfValuesMapName);
-        } else {
-            writer.emitStatement("parseFromReader(result, reader, discriminationName)");
+            arguments.append(", ").append(selfValuesMapName);
         }
+        writer.emitStatement("parseFromReader(%s)", arguments);
         writer.endControlFlow();
+    }
+
+    private String getSelfValuesMapName() {
+        return selfValueAssignmentInfo.member.getSimpleName().toString() + SELF_VALUE_NAME_SUFFIX;
+    }
 
+    /**
+     * Resets the fields that the parser assigns: collections and maps are cleared in place, and all other fields are
+     * set to their Java defaults. Setters are left alone, since there is no telling what a setter does with a null.
+     */
+    private void writeResetMethod(JavaWriter writer) throws IOException {
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod("void", "reset", Modifiers.PUBLIC, parsedClassName, "instance");
+
+        Set<Element> fields = new LinkedHashSet<>();
+        for (AssignmentInfo assignmentInfo : assignments) {
+            fields.add(assignmentInfo.member);
+        }
+        fields.addAll(discriminationValueMembers);
         if (selfValueAssignmentInfo != null) {
-            writer.emitStatement(selfValueAssignmentInfo.assignmentPattern, "result", selfValuesMapName);
+            fields.add(selfValueAssignmentInfo.member);
         }
 
-        writer.emitStatement("return result");
+        List<Element> resetFields = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        for (final Element field : fields) {
+            if (field.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            resetFields.add(field);
+            sizes.add(methodSizeEstimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+                @Override
+                public void writeCode(JavaWriter writer) throws IOException {
+                    writeResetField(writer, field);
+                }
+            }));
+        }
+
+        List<List<Element>> groups = groupBySize(resetFields, sizes);
+        if (groups.size() == 1) {
+            for (Element field : resetFields) {
+                writeResetField(writer, field);
+            }
+            writer.endMethod();
+            return;
+        }
+
+        for (int i = 0; i < groups.size(); i++) {
+            writer.emitStatement("reset%d(instance)", i);
+        }
         writer.endMethod();
+        for (int i = 0; i < groups.size(); i++) {
+            writer.emitEmptyLine();
+            writer.beginMethod("void", "reset" + i, Modifiers.PRIVATE, parsedClassName, "instance");
+            for (Element field : groups.get(i)) {
+                writeResetField(writer, field);
+            }
+            writer.endMethod();
+        }
+    }
+
+    private void writeResetField(JavaWriter writer, Element field) throws IOException {
+        TypeMirror type = field.asType();
+        String name = "instance." + field.getSimpleName();
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            writer.emitStatement("%s = false", name);
+        } else if (type.getKind().isPrimitive()) {
+            writer.emitStatement("%s = 0", name);
+        } else if (metaTypes.isSubtypeErasure(type, Collection.class)
+                || metaTypes.isSubtypeErasure(type, Map.class)) {
+            if (metaTypes.isSameType(type, Collection.class)
+                    || metaTypes.isSameType(type, List.class)
+                    || metaTypes.isSameType(type, Set.class)
+                    || metaTypes.isSameType(type, Map.class)) {
+                // Frozen collections cannot be cleared, so the next parse creates a new one.
+                writer.beginControlFlow("if (%s.isFrozen(%s))",
+                                        writer.compressType(FrozenCollections.class.getCanonicalName()), name);
+                writer.emitStatement("%s = null", name);
+                writer.nextControlFlow("else if (%s != null)", name);
+            } else {
+                writer.beginControlFlow("if (%s != null)", name);
+            }
+            writer.emitStatement("%s.clear()", name);
+            writer.endControlFlow();
+        } else {
+            writer.emitStatement("%s = null", name);
+        }
+    }
+
+    private void writeUnsupportedForCreator(JavaWriter writer, String action) throws IOException {
+        writer.emitStatement("throw new UnsupportedOperationException(%s)",
+                             JavaWriter.stringLiteral(String.format("%s is created through its @%s and cannot be %s.",
+                                                                    parsedClassName,
+                                                                    JsonCreator.class.getSimpleName(),
+                                                                    action)));
     }
 
     private void writeParseFromJsonObjectMethod(JavaWriter writer) throws IOException {
         writer.emitAnnotation(SuppressWarnings.class, JavaWriter.stringLiteral("rawtypes"));
-        List<String> parameters = CollectionUtils.newArrayList(parsedClassName, "out", AndroidNames.JSON_OBJECT,
+        List<String> parameters = CollectionUtils.newArrayList(outClassName, "out", AndroidNames.JSON_OBJECT,
                                                                "jsonObject", "String", "discriminationName");
         if (selfValueAssignmentInfo != null) {
             parameters.add("java.util.Map<String, Object>");
@@ -298,38 +599,73 @@ class JsonObjectParserGenerator {
         writer.beginMethod("void", "parseFromJsonObject", Modifiers.PRIVATE, parameters,
                            CollectionUtils.newArrayList(IOException.class.getSimpleName()));
 
-        for (AssignmentInfo assignmentInfo : assignments) {
-            writer.beginControlFlow("if (jsonObject.has(\"%s\"))", assignmentInfo.name);
-            assignmentInfo.assigner.writeFromJsonObjectAssignment(writer, "out", "jsonObject", assignmentInfo.name);
-            writer.emitStatement("jsonObject.remove(\"%s\")", assignmentInfo.name);
-            writer.endControlFlow();
+        if (assignments.isEmpty() && discriminationValueAssignmentPatterns.isEmpty()
+                && selfValueAssignmentInfo == null) {
+            writer.endMethod();
+            return;
         }
 
+        // Visit only the names that are present, so that sparse objects do not pay for every declared member.
+        writer.emitAnnotation(SuppressWarnings.class, JavaWriter.stringLiteral("unchecked"));
+        writer.emitField(JavaWriter.type(Iterator.class, "String"), "names", Modifiers.NONE, "jsonObject.keys()");
+        writer.beginControlFlow("while (names.hasNext())");
+        writer.emitField("String", "name", Modifiers.NONE, "names.next()");
+
         if (!discriminationValueAssignmentPatterns.isEmpty()) {
-            writer.beginControlFlow("if (jsonObject.has(discriminationName))");
-            writer.emitField("String", "discriminationValue", Modifiers.FINAL,
-                             "jsonObject.optString(discriminationName)");
-            writer.emitStatement("jsonObject.remove(discriminationName)");
+            writer.beginControlFlow("if (name.equals(discriminationName) && !jsonObject.isNull(name))");
+            writer.emitField("String", "discriminationValue", Modifiers.FINAL, "jsonObject.optString(name)");
             for (String assignmentPattern : discriminationValueAssignmentPatterns) {
                 writer.emitStatement(assignmentPattern, "out", "discriminationValue");
             }
+            writer.emitStatement("continue");
+            writer.endControlFlow();
+        }
+
+        CaseWriter caseWriter = new CaseWriter() {
+            @Override
+            public void writeAssignment(JavaWriter writer, AssignmentInfo assignmentInfo) throws IOException {
+                assignmentInfo.assigner.writeFromJsonObjectAssignment(writer, "out", "jsonObject",
+                                                                      assignmentInfo.name);
+            }
+        };
+        List<List<AssignmentInfo>> caseGroups = groupCases(assignments, caseWriter);
+        if (caseGroups.size() > 1) {
+            writeCaseGroupCalls(writer, "parseFromJsonObject", caseGroups.size(),
+                                "out, jsonObject, name, discriminationName");
+            writeParseFromJsonObjectDefault(writer);
+        } else {
+            writer.beginControlFlow("switch (name)");
+            for (AssignmentInfo assignmentInfo : assignments) {
+                writeCase(writer, assignmentInfo, caseWriter, "break");
+            }
+            writer.beginControlFlow("default:");
+            writeParseFromJsonObjectDefault(writer);
+            writer.emitStatement("break");
+            writer.endControlFlow();
             writer.endControlFlow();
         }
 
+        writer.endControlFlow();
+        writer.endMethod();
+
+        if (caseGroups.size() > 1) {
+            writeCaseGroupMethods(writer, "parseFromJsonObject", caseGroups, caseWriter, "name",
+                                  CollectionUtils.newArrayList(outClassName, "out", AndroidNames.JSON_OBJECT,
+                                                               "jsonObject", "String", "name", "String",
+                                                               "discriminationName"),
+                                  CollectionUtils.newArrayList(IOException.class.getSimpleName()));
+        }
+    }
+
+    private void writeParseFromJsonObjectDefault(JavaWriter writer) throws IOException {
         if (selfValueAssignmentInfo != null) {
-            writer.emitAnnotation(SuppressWarnings.class, JavaWriter.stringLiteral("unchecked"));
-            writer.emitField(JavaWriter.type(Iterator.class, "String"), "keys", Modifiers.NONE, "jsonObject.keys()");
-            writer.beginControlFlow("while (keys.hasNext())");
-            writer.emitField("String", "key", Modifiers.NONE, "keys.next()");
             if (selfValueAssignmentInfo.convertJsonTypes) {
-                writer.emitStatement(
-                        "selfValuesMap.put(key, JsonParserUtils.getAndConvertValue(jsonObject, " + "key))");
+                writer.emitStatement("selfValuesMap.put(name, JsonParserUtils.getAndConvertValue(jsonObject, name))");
             } else {
-                writer.emitStatement("selfValuesMap.put(key, jsonObject.opt(key))");
+                writer.emitStatement(
+                        "selfValuesMap.put(name, JsonParserUtils.toUnconvertedValue(jsonObject.opt(name)))");
             }
-            writer.endControlFlow();
         }
-        writer.endMethod();
     }
 
     private void writeUpdateFromMapMethod(JavaWriter writer) throws IOException {
@@ -341,20 +677,76 @@ class JsonObjectParserGenerator {
 
         writer.beginMethod("void", "updateInstanceFromMap", Modifiers.PUBLIC, parameters, null);
 
-        writeUpdateAssignmentsBlock(writer);
+        if (creator != null) {
+            writeUnsupportedForCreator(writer, "updated");
+            writer.endMethod();
+            return;
+        }
+
+        CaseWriter caseWriter = new CaseWriter() {
+            @Override
+            public void writeAssignment(JavaWriter writer, AssignmentInfo assignmentInfo) throws IOException {
+                assignmentInfo.assigner.writeFromMapAssignment(writer, "instance", "map", assignmentInfo.name);
+            }
+        };
+        List<List<AssignmentInfo>> caseGroups = groupCases(assignments, caseWriter);
+        writeUpdateAssignmentsBlock(writer, caseWriter, caseGroups);
         if (selfValueAssignmentInfo != null) {
             writeUpdateSelfValuesBlock(writer);
         }
         writer.endMethod();
+
+        if (caseGroups.size() > 1) {
+            writeCaseGroupMethods(writer, "updateInstanceFromMap", caseGroups, caseWriter, "key",
+                                  CollectionUtils.newArrayList(parsedClassName, "instance",
+                                                               JavaWriter.type(Map.class, "String", "Object"), "map",
+                                                               "String", "key",
+                                                               JsonParserContext.class.getSimpleName(), "context"),
+                                  null);
+        }
     }
 
-    private void writeUpdateAssignmentsBlock(JavaWriter writer) throws IOException {
-        for (AssignmentInfo assignmentInfo : assignments) {
-            writer.beginControlFlow("if (map.containsKey(\"%s\"))", assignmentInfo.name);
-            assignmentInfo.assigner.writeFromMapAssignment(writer, "instance", "map", assignmentInfo.name);
-            writer.emitStatement("map.remove(\"%s\")", assignmentInfo.name);
+    /**
+     * Assigns the members named by the keys of the map in a single pass over it. If the class has self values, the
+     * entries that were not assigned are collected into {@code unassignedMap} for {@link
+     * #writeUpdateSelfValuesBlock(JavaWriter)}.
+     */
+    private void writeUpdateAssignmentsBlock(JavaWriter writer,
+                                             CaseWriter caseWriter,
+                                             List<List<AssignmentInfo>> caseGroups) throws IOException {
+        if (selfValueAssignmentInfo != null) {
+            writer.emitField(JavaWriter.type(Map.class, "String", "Object"), "unassignedMap", Modifiers.NONE,
+                             MapInitializers.COMPACT_MAP_INITIALIZER);
+        } else if (assignments.isEmpty()) {
+            return;
+        }
+
+        writer.beginControlFlow("for (%s entry : map.entrySet())",
+                                JavaWriter.type(Map.Entry.class, "String", "Object"));
+        if (caseGroups.size() > 1) {
+            writeCaseGroupCalls(writer, "updateInstanceFromMap", caseGroups.size(),
+                                "instance, map, entry.getKey(), context");
+            if (selfValueAssignmentInfo != null) {
+                writer.emitStatement("unassignedMap.put(entry.getKey(), entry.getValue())");
+            }
+        } else {
+            writer.beginControlFlow("switch (entry.getKey())");
+            for (AssignmentInfo assignmentInfo : assignments) {
+                writeCase(writer, assignmentInfo, caseWriter, "break");
+            }
+            writer.beginControlFlow("default:");
+            if (selfValueAssignmentInfo != null) {
+                writer.emitStatement("unassignedMap.put(entry.getKey(), entry.getValue())");
+            }
+            writer.emitStatement("break");
+            writer.endControlFlow();
             writer.endControlFlow();
         }
+        writer.endControlFlow();
+
+        if (selfValueAssignmentInfo != null) {
+            writer.emitStatement("map = unassignedMap");
+        }
     }
 
     private void writeUpdateSelfValuesBlock(final JavaWriter writer) throws IOException {
@@ -375,7 +767,7 @@ class JsonObjectParserGenerator {
 
             String mapInitializer = null;
             try {
-                mapInitializer = initializers.findMapInitializer(
+                mapInitializer = mapInitializers.findMapInitializer(
                         (DeclaredType) selfValueAssignmentInfo.member.asType());
             } catch (InvalidTypeException e) {
                 processingEnv.getMessager()
@@ -402,24 +794,71 @@ class JsonObjectParserGenerator {
         writer.endMethod();
     }
 
+    /**
+     * If the switch over the names of the fields is too large for one method, each method handles one group of them
+     * and passes any other name on to the method of the next group.
+     * <p/>
+     * The parameters of a {@link JsonCreator} are read back the way the serializer reads them, as described in {@link
+     * MemberReaders}. Parameters that cannot be read are left to the default case.
+     */
     private void writeDoInitializeAndGetFieldMethod(JavaWriter writer) throws IOException {
-        writer.beginMethod("Object", "doInitializeAndGetField", Modifiers.PRIVATE, parsedClassName, "instance",
-                           "String", "name", "boolean", "initializeCollections");
-        writer.beginControlFlow("switch (name)");
+        final MemberReaders memberReaders = creator == null ? null : new MemberReaders(processingEnv, classElement);
+        final Map<AssignmentInfo, String> readExpressions = new HashMap<>();
+        List<AssignmentInfo> fieldAssignments = new ArrayList<>();
         for (AssignmentInfo assignmentInfo : assignments) {
-            if (assignmentInfo.member instanceof VariableElement) {
-                writeInitializeAndGetBlock(writer, (VariableElement) assignmentInfo.member, assignmentInfo.name);
+            if (assignmentInfo.member.getKind() == ElementKind.FIELD) {
+                fieldAssignments.add(assignmentInfo);
+            } else if (memberReaders != null) {
+                String readExpression = memberReaders.getReadExpression(assignmentInfo.member, "instance");
+                if (readExpression != null) {
+                    readExpressions.put(assignmentInfo, readExpression);
+                    fieldAssignments.add(assignmentInfo);
+                }
             }
         }
-        writer.beginControlFlow("default:");
-        writer.emitStatement("return null");
-        writer.endControlFlow();
-        writer.endControlFlow();
-        writer.endMethod();
+        CaseWriter caseWriter = new CaseWriter() {
+            @Override
+            public void writeAssignment(JavaWriter writer, AssignmentInfo assignmentInfo) throws IOException {
+                if (readExpressions.containsKey(assignmentInfo)) {
+                    // A value passed to a creator can only be read back, not initialized.
+                    writer.emitStatement("return %s", readExpressions.get(assignmentInfo));
+                } else {
+                    writeInitializeAndGet(writer, (VariableElement) assignmentInfo.member);
+                }
+            }
+        };
+        List<List<AssignmentInfo>> caseGroups = groupCases(fieldAssignments, caseWriter);
+
+        for (int i = 0; i < caseGroups.size(); i++) {
+            if (i > 0) {
+                writer.emitEmptyLine();
+            }
+            writer.beginMethod("Object", getDoInitializeAndGetFieldName(i), Modifiers.PRIVATE, parsedClassName,
+                               "instance", "String", "name", "boolean", "initializeCollections");
+            writer.beginControlFlow("switch (name)");
+            for (AssignmentInfo assignmentInfo : caseGroups.get(i)) {
+                writer.beginControlFlow("case (\"%s\"):", assignmentInfo.name);
+                caseWriter.writeAssignment(writer, assignmentInfo);
+                writer.endControlFlow();
+            }
+            writer.beginControlFlow("default:");
+            if (i + 1 < caseGroups.size()) {
+                writer.emitStatement("return %s(instance, name, initializeCollections)",
+                                     getDoInitializeAndGetFieldName(i + 1));
+            } else {
+                writer.emitStatement("return null");
+            }
+            writer.endControlFlow();
+            writer.endControlFlow();
+            writer.endMethod();
+        }
+    }
+
+    private static String getDoInitializeAndGetFieldName(int group) {
+        return group == 0 ? "doInitializeAndGetField" : "doInitializeAndGetField" + group;
     }
 
-    private void writeInitializeAndGetBlock(JavaWriter writer, VariableElement field, String name) throws IOException {
-        writer.beginControlFlow("case (\"%s\"):", name);
+    private void writeInitializeAndGet(JavaWriter writer, VariableElement field) throws IOException {
         if (metaTypes.isSubtypeErasure(field.asType(), Collection.class) || metaTypes.isSubtypeErasure(field.asType(),
                                                                                                        Map.class)) {
             writer.beginControlFlow("if (initializeCollections && instance.%s == null)", field.getSimpleName());
@@ -427,7 +866,6 @@ class JsonObjectParserGenerator {
             writer.endControlFlow();
         }
         writer.emitStatement("return instance.%s", field.getSimpleName());
-        writer.endControlFlow();
     }
 
     private void writeInitializeField(JavaWriter writer, VariableElement field) throws IOException {
@@ -437,7 +875,7 @@ class JsonObjectParserGenerator {
             if (metaTypes.isSubtypeErasure(type, Collection.class)) {
                 initialization = initializers.findCollectionInitializer(type);
             } else if (metaTypes.isSubtypeErasure(type, Map.class)) {
-                initialization = initializers.findMapInitializer(type);
+                initialization = mapInitializers.findMapInitializer(type);
             } else {
                 throw new IllegalArgumentException("Expected field to be of type Collection or Map, but found " + type);
             }
@@ -449,8 +887,20 @@ class JsonObjectParserGenerator {
 
     private void writeParseFromReaderMethod(JavaWriter writer) throws IOException {
         writer.emitAnnotation(SuppressWarnings.class, "{ \"rawtypes\", \"unchecked\"}");
-        ArrayList<String> parameters = CollectionUtils.newArrayList(parsedClassName, "out", AndroidNames.JSON_READER,
+        ArrayList<String> parameters = CollectionUtils.newArrayList(outClassName, "out", AndroidNames.JSON_READER,
                                                                     "reader", "String", "discriminationName");
+        ArrayList<String> groupParameters = CollectionUtils.newArrayList(outClassName, "out",
+                                                                         AndroidNames.JSON_READER, "reader",
+                                                                         "String", "name", "String",
+                                                                         "discriminationName");
+        String groupArguments = "out, reader, name, discriminationName";
+        if (valueAssignerFactory.usesStringPool()) {
+            parameters.add("StringPool");
+            parameters.add(ValueAssignerFactory.STRING_POOL_NAME);
+            groupParameters.add("StringPool");
+            groupParameters.add(ValueAssignerFactory.STRING_POOL_NAME);
+            groupArguments += ", " + ValueAssignerFactory.STRING_POOL_NAME;
+        }
 
         if (selfValueAssignmentInfo != null) {
             parameters.add("java.util.Map<String, Object>");
@@ -474,26 +924,144 @@ class JsonObjectParserGenerator {
             writer.endControlFlow();
         }
 
-        writer.beginControlFlow("switch (name)");
-
-        for (AssignmentInfo assignmentInfo : assignments) {
-            writer.beginControlFlow("case \"%s\":", assignmentInfo.name);
-            assignmentInfo.assigner.writeFromReaderAssignment(writer, "out", "reader", assignmentInfo.name);
-            writer.emitStatement("break");
+        CaseWriter caseWriter = new CaseWriter() {
+            @Override
+            public void writeAssignment(JavaWriter writer, AssignmentInfo assignmentInfo) throws IOException {
+                assignmentInfo.assigner.writeFromReaderAssignment(writer, "out", "reader", assignmentInfo.name);
+            }
+        };
+        List<List<AssignmentInfo>> caseGroups = groupCases(assignments, caseWriter);
+        if (caseGroups.size() > 1) {
+            writeCaseGroupCalls(writer, "parseFromReader", caseGroups.size(), groupArguments);
+            writeParseFromReaderDefault(writer);
+        } else {
+            writer.beginControlFlow("switch (name)");
+            for (AssignmentInfo assignmentInfo : assignments) {
+                writeCase(writer, assignmentInfo, caseWriter, "break");
+            }
+            writer.beginControlFlow("default:");
+            writeParseFromReaderDefault(writer);
+            writer.endControlFlow();
             writer.endControlFlow();
         }
-        writer.beginControlFlow("default:");
+
+        writer.endControlFlow();
+        writer.endMethod();
+
+        if (caseGroups.size() > 1) {
+            writeCaseGroupMethods(writer, "parseFromReader", caseGroups, caseWriter, "name", groupParameters,
+                                  CollectionUtils.newArrayList(IOException.class.getSimpleName()));
+        }
+    }
+
+    private void writeParseFromReaderDefault(JavaWriter writer) throws IOException {
         if (selfValueAssignmentInfo != null) {
-            writer.emitStatement("selfValuesMap.put(name, JsonParserUtils.parseNextValue(reader, %s))",
-                                 selfValueAssignmentInfo.convertJsonTypes);
+            if (selfValueAssignmentInfo.convertJsonTypes) {
+                writer.emitStatement("selfValuesMap.put(name, JsonParserUtils.parseNextValue(reader, true))");
+            } else {
+                writer.emitStatement("selfValuesMap.put(name, JsonParserUtils.parseNextUnconvertedValue(reader))");
+            }
         } else {
             writer.emitStatement("reader.skipValue()");
         }
-        writer.endControlFlow();
+    }
 
+    /**
+     * Split {@code cases} into the groups of cases of a switch over their names, each small enough for the JIT. There
+     * is only one group unless the whole switch is estimated to be too large to leave in one method.
+     */
+    private List<List<AssignmentInfo>> groupCases(List<AssignmentInfo> cases, final CaseWriter caseWriter)
+            throws IOException {
+        List<Integer> sizes = new ArrayList<>(cases.size());
+        for (final AssignmentInfo assignmentInfo : cases) {
+            sizes.add(methodSizeEstimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+                @Override
+                public void writeCode(JavaWriter writer) throws IOException {
+                    writeCase(writer, assignmentInfo, caseWriter, "break");
+                }
+            }));
+        }
+        return groupBySize(cases, sizes);
+    }
+
+    /**
+     * Split {@code items} into groups whose estimated sizes each fit in {@link #MAX_CASE_GROUP_SIZE}, keeping their
+     * order. There is only one group if all of them together fit in {@link #MAX_DISPATCH_SIZE}.
+     *
+     * @param sizes The estimated size of each item.
+     */
+    private static <T> List<List<T>> groupBySize(List<T> items, List<Integer> sizes) {
+        int totalSize = 0;
+        for (int size : sizes) {
+            totalSize += size;
+        }
+        if (totalSize <= MAX_DISPATCH_SIZE) {
+            return Collections.singletonList(items);
+        }
+
+        List<List<T>> groups = new ArrayList<>();
+        List<T> group = new ArrayList<>();
+        int groupSize = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (!group.isEmpty() && groupSize + sizes.get(i) > MAX_CASE_GROUP_SIZE) {
+                groups.add(group);
+                group = new ArrayList<>();
+                groupSize = 0;
+            }
+            group.add(items.get(i));
+            groupSize += sizes.get(i);
+        }
+        groups.add(group);
+        return groups;
+    }
+
+    private void writeCase(JavaWriter writer, AssignmentInfo assignmentInfo, CaseWriter caseWriter, String exit)
+            throws IOException {
+        writer.beginControlFlow("case \"%s\":", assignmentInfo.name);
+        caseWriter.writeAssignment(writer, assignmentInfo);
+        writer.emitStatement(exit);
         writer.endControlFlow();
-        writer.endControlFlow();
-        writer.endMethod();
+    }
+
+    /**
+     * Call the helper method of each group of cases in turn, moving on to the next name as soon as one of them has
+     * assigned it. A name that no group assigns falls through to the statements that follow.
+     *
+     * @param arguments The arguments of the helper methods.
+     */
+    private void writeCaseGroupCalls(JavaWriter writer, String methodName, int groupCount, String arguments)
+            throws IOException {
+        for (int i = 0; i < groupCount; i++) {
+            writer.beginControlFlow("if (%s%d(%s))", methodName, i, arguments);
+            writer.emitStatement("continue");
+            writer.endControlFlow();
+        }
+    }
+
+    /**
+     * Write a helper method for each group of cases. Each one returns whether it assigned the name it was given.
+     *
+     * @param nameParameter The parameter of the helper methods that holds the name to switch over.
+     */
+    private void writeCaseGroupMethods(JavaWriter writer,
+                                       String methodName,
+                                       List<List<AssignmentInfo>> caseGroups,
+                                       CaseWriter caseWriter,
+                                       String nameParameter,
+                                       List<String> parameters,
+                                       List<String> throwsTypes) throws IOException {
+        for (int i = 0; i < caseGroups.size(); i++) {
+            writer.emitEmptyLine();
+            writer.emitAnnotation(SuppressWarnings.class, "{ \"rawtypes\", \"unchecked\"}");
+            writer.beginMethod("boolean", methodName + i, Modifiers.PRIVATE, parameters, throwsTypes);
+            writer.beginControlFlow("switch (%s)", nameParameter);
+            for (AssignmentInfo assignmentInfo : caseGroups.get(i)) {
+                writeCase(writer, assignmentInfo, caseWriter, "return true");
+            }
+            writer.endControlFlow();
+            writer.emitStatement("return false");
+            writer.endMethod();
+        }
     }
 
     private List<AssignmentInfo> getAssignments(ValueAssignerFactory valueAssignerFactory,
@@ -502,6 +1070,84 @@ class JsonObjectParserGenerator {
         return createAssignerListFromMembers(valueAssignerFactory, keyToMemberMap);
     }
 
+    /**
+     * @return The constructor or static factory method of the parsed class annotated with {@link JsonCreator}, or null
+     * if there is none.
+     */
+    private ExecutableElement getCreator() {
+        ExecutableElement result = null;
+        for (Element element : classElement.getEnclosedElements()) {
+            if (element.getAnnotation(JsonCreator.class) == null) {
+                continue;
+            }
+            ExecutableElement candidate = (ExecutableElement) element;
+            if (result != null) {
+                processingEnv.getMessager()
+                             .printMessage(Diagnostic.Kind.ERROR,
+                                           String.format("Only one constructor or method of a class may be annotated "
+                                                                 + "with @%s.", JsonCreator.class.getSimpleName()),
+                                           candidate);
+                continue;
+            }
+            if (CodeAnalysisUtils.isPrivate(candidate)) {
+                processingEnv.getMessager()
+                             .printMessage(Diagnostic.Kind.ERROR,
+                                           String.format("Constructors and methods annotated with @%s must be "
+                                                                 + "non-private.", JsonCreator.class.getSimpleName()),
+                                           candidate);
+            }
+            if (candidate.getKind() == ElementKind.METHOD
+                    && (!CodeAnalysisUtils.isStatic(candidate)
+                    || !processingEnv.getTypeUtils().isSameType(candidate.getReturnType(), classElement.asType()))) {
+                processingEnv.getMessager()
+                             .printMessage(Diagnostic.Kind.ERROR,
+                                           String.format("Methods annotated with @%s must be static and return %s.",
+                                                         JsonCreator.class.getSimpleName(),
+                                                         classElement.getSimpleName()),
+                                           candidate);
+            }
+            for (VariableElement parameter : candidate.getParameters()) {
+                if (parameter.getAnnotation(JsonValue.class) == null) {
+                    processingEnv.getMessager()
+                                 .printMessage(Diagnostic.Kind.ERROR,
+                                               String.format("Every parameter of a @%s must be annotated with @%s.",
+                                                             JsonCreator.class.getSimpleName(),
+                                                             JsonValue.class.getSimpleName()),
+                                               parameter);
+                }
+            }
+            result = candidate;
+        }
+        return result;
+    }
+
+    /**
+     * A class with a {@link JsonCreator} receives all of its values through it, so nothing may be assigned to the
+     * instance that it creates.
+     */
+    private void assertNoMembersBesideCreator(List<? extends Element> allMembers) {
+        for (Element member : allMembers) {
+            Class<?> annotation = null;
+            if (member.getAnnotation(JsonValue.class) != null) {
+                annotation = JsonValue.class;
+            } else if (member.getAnnotation(DiscrimValue.class) != null) {
+                annotation = DiscrimValue.class;
+            } else if (member.getAnnotation(JsonPostCreateChild.class) != null) {
+                annotation = JsonPostCreateChild.class;
+            } else if (member.getAnnotation(JsonSelfValues.class) != null) {
+                annotation = JsonSelfValues.class;
+            }
+            if (annotation != null) {
+                processingEnv.getMessager()
+                             .printMessage(Diagnostic.Kind.ERROR,
+                                           String.format("Classes with a @%s may not have members annotated with @%s.",
+                                                         JsonCreator.class.getSimpleName(),
+                                                         annotation.getSimpleName()),
+                                           member);
+            }
+        }
+    }
+
     private List<ExecutableElement> getPostCreateChildMethods(List<? extends Element> allMembers) {
         List<ExecutableElement> results = new ArrayList<>();
         for (Element element : allMembers) {
@@ -738,6 +1384,10 @@ class JsonObjectParserGenerator {
 
     private MemberInfo createMemberInfo(Element member) {
         Element enclosingElement = member.getEnclosingElement();
+        if (member.getKind() == ElementKind.PARAMETER) {
+            // The parameter of a creator belongs to the class of the creator.
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
         int hierarchicalPosition = elementHierarchy.indexOf(enclosingElement);
         if (hierarchicalPosition < 0) {
             processingEnv.getMessager()
@@ -819,6 +1469,14 @@ class JsonObjectParserGenerator {
         }
     }
 
+    /**
+     * Writes the assignment in one case of a switch over the names of the members.
+     */
+    private interface CaseWriter {
+
+        void writeAssignment(JavaWriter writer, AssignmentInfo assignmentInfo) throws IOException;
+    }
+
     private static class AssignmentInfo {
 
         public final Element member;
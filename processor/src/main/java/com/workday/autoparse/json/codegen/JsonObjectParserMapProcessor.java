@@ -129,18 +129,46 @@ public class JsonObjectParserMapProcessor extends AbstractProcessor {
         }
     }
 
+    /**
+     * Partitions that share a discrimination value cannot be combined in one context. Whether they
+     * will be is only known at runtime, so this is reported as a warning rather than an error.
+     */
+    private void warnAboutCrossPartitionCollisions() {
+        Map<String, TypeElement> discrimValueToFirstClassMap = new HashMap<>();
+        for (PartitionComponentInfo partitionComponentInfo : partitionComponents.values()) {
+            for (Map.Entry<String, TypeElement> entry : partitionComponentInfo.getDiscrimValueToClassMap().entrySet()) {
+                TypeElement previousValue = discrimValueToFirstClassMap.put(entry.getKey(), entry.getValue());
+                if (previousValue != null && !previousValue.equals(entry.getValue())) {
+                    String message = String.format("%s and %s both map to discrimination value \"%s\" in different "
+                                    + "partitions. These partitions cannot be used together in one "
+                                    + "JsonParserContext.",
+                            entry.getValue().getQualifiedName(), previousValue.getQualifiedName(),
+                            entry.getKey());
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, entry.getValue());
+                }
+            }
+        }
+    }
+
     private void generateParserMaps() {
+        warnAboutCrossPartitionCollisions();
         for (Map.Entry<PackageElement, PartitionComponentInfo> packageMapEntry : partitionComponents.entrySet()) {
             final PackageElement packageElement = packageMapEntry.getKey();
             final PartitionComponentInfo partitionComponentInfo = packageMapEntry.getValue();
             try {
+                new JsonObjectParserTableManifestGenerator(processingEnv,
+                        partitionComponentInfo.getDiscrimValueToClassMap(),
+                        packageElement).generateManifest();
                 new InstanceUpdaterTableGenerator(processingEnv, partitionComponentInfo.codeClassNameToParserNameMap,
                         packageElement).generateTable();
+                new JsonObjectSerializerTableGenerator(processingEnv,
+                        partitionComponentInfo.codeClassNameToParserNameMap, packageElement).generateTable();
                 new JsonObjectParserTableGenerator(processingEnv,
                         partitionComponentInfo
                                 .discrimValueToClassRequiringGeneratedParserMap,
                         partitionComponentInfo.discrimValueToClassWithCustomParserMap,
                         packageElement).generateParserMap();
+                new PartitionRegistryGenerator(processingEnv, packageElement).generateRegistry();
             } catch (IOException e) {
                 processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
             }
@@ -129,8 +129,8 @@ class JsonObjectParserTableGenerator {
             String discriminationValue = entry.getKey();
             String parserQualifiedName = MetaTypeNames.constructTypeName(entry.getValue(),
                     GeneratedClassNames.PARSER_SUFFIX);
-            writer.emitStatement("MAP.put(\"%s\", %s.INSTANCE)",
-                                 discriminationValue,
+            writer.emitStatement("MAP.put(%s, %s.INSTANCE)",
+                                 JavaWriter.stringLiteral(discriminationValue),
                                  parserQualifiedName);
         }
 
@@ -146,8 +146,8 @@ class JsonObjectParserTableGenerator {
                     });
 
             String customParserCanonicalName = parserClassMirror.toString();
-            writer.emitStatement("MAP.put(\"%s\", %s.INSTANCE)",
-                                 entry.getKey(),
+            writer.emitStatement("MAP.put(%s, %s.INSTANCE)",
+                                 JavaWriter.stringLiteral(entry.getKey()),
                                  customParserCanonicalName);
 
         }
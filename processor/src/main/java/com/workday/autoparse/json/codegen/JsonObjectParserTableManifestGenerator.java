@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.context.GeneratedClassNames;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.parser.JsonObjectParserTableManifest;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates an implementation of {@link JsonObjectParserTableManifest}. The generated class only
+ * holds names, so loading it does not load any models or parsers.
+ *
+ * @since 2026-10-19.
+ */
+class JsonObjectParserTableManifestGenerator {
+
+    private static final String MAP_TYPE = "Map<String, String>";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Map<String, TypeElement> discrimValueToClassMap;
+    private final PackageElement packageElement;
+
+    public JsonObjectParserTableManifestGenerator(ProcessingEnvironment processingEnv,
+                                                  Map<String, TypeElement> discrimValueToClassMap,
+                                                  PackageElement packageElement) {
+        this.processingEnv = processingEnv;
+        this.discrimValueToClassMap = discrimValueToClassMap;
+        this.packageElement = packageElement;
+    }
+
+    public void generateManifest() throws IOException {
+        String packageName = packageElement != null
+                             ? packageElement.getQualifiedName().toString()
+                             : JsonParserSettingsBuilder.DEFAULT_OBJECT_PARSER_PACKAGE;
+
+        String qualifiedClassName = GeneratedClassNames.getQualifiedName(
+                packageName, GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE_MANIFEST);
+
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(
+                qualifiedClassName,
+                discrimValueToClassMap.values().toArray(new TypeElement[discrimValueToClassMap.size()]));
+
+        JavaWriter writer = new JavaWriter(sourceFile.openWriter());
+        writer.emitPackage(packageName);
+        writer.emitEmptyLine();
+        writer.emitImports(getImports());
+        writer.emitEmptyLine();
+
+        writer.beginType(GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE_MANIFEST, "class",
+                         EnumSet.of(Modifier.PUBLIC, Modifier.FINAL), null,
+                         JsonObjectParserTableManifest.class.getCanonicalName());
+        writer.emitEmptyLine();
+
+        writeMapField(writer);
+        writer.emitEmptyLine();
+        writeKeySet(writer);
+        writer.emitEmptyLine();
+        writeGetModelName(writer);
+        writer.endType();
+        writer.close();
+    }
+
+    private Collection<String> getImports() {
+        Set<String> results = new HashSet<>();
+        results.add(HashMap.class.getCanonicalName());
+        results.add(Map.class.getCanonicalName());
+        results.add(Set.class.getCanonicalName());
+        if (packageElement != null) {
+            results.add(JsonObjectParserTableManifest.class.getCanonicalName());
+        }
+        return results;
+    }
+
+    private void writeMapField(JavaWriter writer) throws IOException {
+        writer.emitField(MAP_TYPE, "MAP", Modifiers.PRIVATE_CONSTANT,
+                         "new HashMap<String, String>()");
+
+        writer.beginInitializer(true);
+        for (Map.Entry<String, TypeElement> entry : discrimValueToClassMap.entrySet()) {
+            writer.emitStatement("MAP.put(%s, %s)",
+                                 JavaWriter.stringLiteral(entry.getKey()),
+                                 JavaWriter.stringLiteral(entry.getValue().getQualifiedName().toString()));
+        }
+        writer.endInitializer();
+    }
+
+    private void writeKeySet(JavaWriter writer) throws IOException {
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod(JavaWriter.type(Set.class, "String"), "keySet", Modifiers.PUBLIC);
+        writer.emitStatement("return MAP.keySet()");
+        writer.endMethod();
+    }
+
+    private void writeGetModelName(JavaWriter writer) throws IOException {
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod("String",
+                           "getModelName",
+                           Modifiers.PUBLIC,
+                           "String",
+                           "discriminationValue");
+        writer.emitStatement("return MAP.get(discriminationValue)");
+        writer.endMethod();
+    }
+}
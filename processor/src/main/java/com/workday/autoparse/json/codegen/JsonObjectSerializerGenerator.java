@@ -0,0 +1,401 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.annotations.JsonObject;
+import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.context.GeneratedClassNames;
+import com.workday.autoparse.json.parser.NoJsonObjectParser;
+import com.workday.autoparse.json.serializer.JsonObjectSerializer;
+import com.workday.autoparse.json.serializer.JsonSerializerUtils;
+import com.workday.autoparse.json.serializer.Utf8JsonObjectSerializer;
+import com.workday.autoparse.json.serializer.Utf8JsonWriter;
+import com.workday.autoparse.json.utils.CollectionUtils;
+import com.workday.meta.AnnotationUtils;
+import com.workday.meta.CodeAnalysisUtils;
+import com.workday.meta.InvalidTypeException;
+import com.workday.meta.MetaTypeNames;
+import com.workday.meta.MetaTypes;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@link JsonObjectSerializer} for a class that has a generated {@link
+ * com.workday.autoparse.json.parser.JsonObjectParser}. The serializer writes every member that the parser assigns,
+ * under the first name it is assigned from, so that the output parses back into an equal object.
+ * <p/>
+ * Members are read as described in {@link MemberReaders}. A setter or creator parameter without a getter cannot be
+ * read, so it is skipped with a warning.
+ * <p/>
+ * The serializer implements {@link Utf8JsonObjectSerializer}, so it can also write to a {@link Utf8JsonWriter}. For
+ * that, the name of each member is encoded once into a {@code byte[]} constant of the generated class.
+ *
+ * @since 2026-10-19.
+ */
+class JsonObjectSerializerGenerator {
+
+    private static final String NO_SERIALIZER = "null";
+    private static final String ENCODED_NAME_PREFIX = "NAME_";
+    private static final String LOCAL_VALUE_PREFIX = "value";
+
+    private final ProcessingEnvironment processingEnv;
+    private final MetaTypes metaTypes;
+    private final TypeElement classElement;
+    private final Map<String, String> classNameToParserNameMap;
+    private final Map<Element, String> memberToKeyMap;
+    private final List<Element> discriminationValueMembers;
+    private final Element selfValuesMember;
+    private MemberReaders memberReaders;
+    private String serializedClassName;
+
+    /**
+     * @param memberToKeyMap The members assigned by the parser of this class, each mapped to the name to write it
+     * under.
+     * @param selfValuesMember The member annotated with {@link com.workday.autoparse.json.annotations.JsonSelfValues},
+     * or null.
+     */
+    public JsonObjectSerializerGenerator(ProcessingEnvironment processingEnv,
+                                         TypeElement classElement,
+                                         Map<String, String> classNameToParserNameMap,
+                                         Map<Element, String> memberToKeyMap,
+                                         List<Element> discriminationValueMembers,
+                                         Element selfValuesMember) {
+        this.processingEnv = processingEnv;
+        this.metaTypes = new MetaTypes(processingEnv);
+        this.classElement = classElement;
+        this.classNameToParserNameMap = classNameToParserNameMap;
+        this.memberToKeyMap = memberToKeyMap;
+        this.discriminationValueMembers = discriminationValueMembers;
+        this.selfValuesMember = selfValuesMember;
+    }
+
+    public void generateSerializer() throws IOException {
+        String serializerName = MetaTypeNames.constructTypeName(classElement, GeneratedClassNames.SERIALIZER_SUFFIX);
+        memberReaders = new MemberReaders(processingEnv, classElement);
+        List<SerializedMember> serializedMembers = getSerializedMembers();
+
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(serializerName, classElement);
+
+        JavaWriter writer = new JavaWriter(sourceFile.openWriter());
+        writer.setIndent("    ");
+        writer.emitPackage(processingEnv.getElementUtils().getPackageOf(classElement).getQualifiedName().toString());
+        writer.emitImports(getStandardImports());
+        writer.emitEmptyLine();
+
+        serializedClassName = writer.compressType(classElement.getQualifiedName().toString());
+        writer.beginType(serializerName, "class", EnumSet.of(Modifier.PUBLIC, Modifier.FINAL), null,
+                         JavaWriter.type(Utf8JsonObjectSerializer.class, serializedClassName));
+        writer.emitEmptyLine();
+
+        writer.emitField(serializerName, "INSTANCE", Modifiers.PUBLIC_CONSTANT,
+                         String.format("new %s()", writer.compressType(serializerName)));
+        writer.emitEmptyLine();
+
+        writeEncodedNames(writer, serializedMembers);
+
+        // Constructor
+        writer.beginMethod(null, serializerName, Modifiers.PRIVATE);
+        writer.endMethod();
+        writer.emitEmptyLine();
+
+        writeSerializeJsonObjectMethod(writer, serializedMembers, false);
+        writer.emitEmptyLine();
+        writeSerializeJsonObjectMethod(writer, serializedMembers, true);
+
+        writer.endType();
+        writer.close();
+    }
+
+    private Set<String> getStandardImports() {
+        Set<String> results = new HashSet<>();
+        results.add(AndroidNames.JSON_WRITER_FULL);
+        results.add(IOException.class.getCanonicalName());
+        results.add(JsonSerializerUtils.class.getCanonicalName());
+        results.add(Utf8JsonObjectSerializer.class.getCanonicalName());
+        results.add(Utf8JsonWriter.class.getCanonicalName());
+        return results;
+    }
+
+    private List<SerializedMember> getSerializedMembers() {
+        List<SerializedMember> results = new ArrayList<>();
+        for (Map.Entry<Element, String> entry : memberToKeyMap.entrySet()) {
+            Element member = entry.getKey();
+            if (CodeAnalysisUtils.isStatic(member)) {
+                continue;
+            }
+            String valueExpression = getValueExpression(member, true);
+            if (valueExpression != null) {
+                results.add(new SerializedMember(member, entry.getValue(), valueExpression, results.size()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Names are written to a {@link Utf8JsonWriter} from constants that already hold their quoted UTF-8 bytes.
+     */
+    private void writeEncodedNames(JavaWriter writer, List<SerializedMember> serializedMembers) throws IOException {
+        if (serializedMembers.isEmpty()) {
+            return;
+        }
+        for (SerializedMember serializedMember : serializedMembers) {
+            writer.emitField("byte[]", serializedMember.encodedNameConstant, Modifiers.PRIVATE_CONSTANT,
+                             String.format("Utf8JsonWriter.encodeName(%s)",
+                                           JavaWriter.stringLiteral(serializedMember.key)));
+        }
+        writer.emitEmptyLine();
+    }
+
+    /**
+     * @param utf8 Whether to write the method that takes a {@link Utf8JsonWriter} rather than an {@link
+     * android.util.JsonWriter}.
+     */
+    private void writeSerializeJsonObjectMethod(JavaWriter writer,
+                                                List<SerializedMember> serializedMembers,
+                                                boolean utf8) throws IOException {
+        writer.emitAnnotation(Override.class);
+        String writerType = utf8 ? Utf8JsonWriter.class.getSimpleName() : AndroidNames.JSON_WRITER;
+        writer.beginMethod("void", "serializeJsonObject", Modifiers.PUBLIC,
+                           CollectionUtils.newArrayList(serializedClassName, "object", writerType,
+                                                        "writer", "String", "discriminationName"),
+                           CollectionUtils.newArrayList(IOException.class.getSimpleName()));
+        writer.emitStatement("writer.beginObject()");
+        writeDiscriminationValue(writer);
+
+        for (SerializedMember serializedMember : serializedMembers) {
+            String name = utf8
+                    ? serializedMember.encodedNameConstant
+                    : JavaWriter.stringLiteral(serializedMember.key);
+            writeMember(writer, serializedMember, name, utf8);
+        }
+
+        if (selfValuesMember != null) {
+            String valueExpression = getValueExpression(selfValuesMember, true);
+            if (valueExpression != null) {
+                writer.emitStatement("JsonSerializerUtils.writeMembers(writer, %s, discriminationName)",
+                                     valueExpression);
+            }
+        }
+
+        writer.emitStatement("writer.endObject()");
+        writer.endMethod();
+    }
+
+    /**
+     * Writes the value of the first readable {@link com.workday.autoparse.json.annotations.DiscrimValue} member, or the
+     * first value of the {@link JsonObject} annotation if that member is null or there is none.
+     */
+    private void writeDiscriminationValue(JavaWriter writer) throws IOException {
+        String memberExpression = null;
+        for (Element member : discriminationValueMembers) {
+            // The discrimination value of the class is written if none of these can be read, so do not warn.
+            memberExpression = getValueExpression(member, false);
+            if (memberExpression != null) {
+                break;
+            }
+        }
+
+        String[] values = classElement.getAnnotation(JsonObject.class).value();
+        String defaultValue = values.length > 0 ? JavaWriter.stringLiteral(values[0]) : null;
+        if (memberExpression == null && defaultValue == null) {
+            return;
+        }
+
+        writer.beginControlFlow("if (discriminationName != null)");
+        writer.emitField("String", "discriminationValue", Modifiers.NONE,
+                         memberExpression != null ? memberExpression : defaultValue);
+        if (memberExpression != null && defaultValue != null) {
+            writer.beginControlFlow("if (discriminationValue == null)");
+            writer.emitStatement("discriminationValue = %s", defaultValue);
+            writer.endControlFlow();
+        }
+        if (defaultValue == null) {
+            writer.beginControlFlow("if (discriminationValue != null)");
+            writer.emitStatement("writer.name(discriminationName).value(discriminationValue)");
+            writer.endControlFlow();
+        } else {
+            writer.emitStatement("writer.name(discriminationName).value(discriminationValue)");
+        }
+        writer.endControlFlow();
+    }
+
+    /**
+     * Null Collections and Maps are left out rather than written as null, because the parser would read a null
+     * back as an empty one.
+     *
+     * @param key The argument to pass to {@code writer.name()}.
+     */
+    private void writeMember(JavaWriter writer, SerializedMember serializedMember, String key, boolean utf8)
+            throws IOException {
+        Element member = serializedMember.member;
+        String value = serializedMember.valueExpression;
+        TypeMirror type = getMemberType(member);
+        String name = String.format("writer.name(%s)", key);
+
+        if (type.getKind().isPrimitive()) {
+            if (utf8 && !metaTypes.isChar(type)) {
+                // Utf8JsonWriter writes non-finite numbers itself.
+                writer.emitStatement("%s.value(%s)", name, value);
+            } else if (metaTypes.isDouble(type)) {
+                writer.emitStatement("JsonSerializerUtils.writeDouble(%s, %s)", name, value);
+            } else if (metaTypes.isFloat(type)) {
+                writer.emitStatement("JsonSerializerUtils.writeFloat(%s, %s)", name, value);
+            } else if (metaTypes.isChar(type)) {
+                writer.emitStatement("%s.value(String.valueOf(%s))", name, value);
+            } else {
+                writer.emitStatement("%s.value(%s)", name, value);
+            }
+        } else if (metaTypes.isString(type)) {
+            writer.emitStatement("%s.value(%s)", name, value);
+        } else if (metaTypes.isSameType(type, CharSequence.class)) {
+            writer.emitStatement("JsonSerializerUtils.writeValue(%s, %s, discriminationName)", name, value);
+        } else if (metaTypes.isSubtypeErasure(type, Collection.class)) {
+            String local = serializedMember.localName;
+            writer.emitField("java.util.Collection<?>", local, Modifiers.NONE, value);
+            writer.beginControlFlow("if (%s != null)", local);
+            writer.emitStatement("JsonSerializerUtils.writeCollection(%s, %s, %s, discriminationName)", name, local,
+                                 getSerializerInstance(member, getNestedValueType(member, type)));
+            writer.endControlFlow();
+        } else if (metaTypes.isSubtypeErasure(type, Map.class)) {
+            String local = serializedMember.localName;
+            writer.emitField("java.util.Map<String, ?>", local, Modifiers.NONE, value);
+            writer.beginControlFlow("if (%s != null)", local);
+            writer.emitStatement("JsonSerializerUtils.writeMap(%s, %s, %s, discriminationName)", name, local,
+                                 getSerializerInstance(member, getNestedValueType(member, type)));
+            writer.endControlFlow();
+        } else {
+            String serializer = getSerializerInstance(member, type);
+            if (NO_SERIALIZER.equals(serializer)) {
+                writer.emitStatement("JsonSerializerUtils.writeValue(%s, %s, discriminationName)", name, value);
+            } else {
+                writer.emitStatement("JsonSerializerUtils.writeJsonObject(%s, %s, %s, discriminationName)", name,
+                                     value, serializer);
+            }
+        }
+    }
+
+    private TypeMirror getMemberType(Element member) {
+        if (member instanceof ExecutableElement) {
+            return ((ExecutableElement) member).getParameters().get(0).asType();
+        }
+        return member.asType();
+    }
+
+    /**
+     * @return The type of the values in the innermost Collection or Map of a (possibly nested) Collection or Map, or
+     * null if it cannot be determined.
+     */
+    private TypeMirror getNestedValueType(Element member, TypeMirror type) {
+        try {
+            DeclaredType valueType = (DeclaredType) type;
+            while (true) {
+                if (metaTypes.isSubtypeErasure(valueType, Collection.class)) {
+                    valueType = metaTypes.getFirstParameterType(valueType);
+                } else if (metaTypes.isSubtypeErasure(valueType, Map.class)) {
+                    valueType = metaTypes.getParameterType(valueType, 1);
+                } else {
+                    return valueType;
+                }
+            }
+        } catch (InvalidTypeException | ClassCastException e) {
+            // Wildcards and type variables are written with whatever serializer is registered for the runtime class.
+            return null;
+        }
+    }
+
+    /**
+     * A serializer is only chosen at compile time when it is certain to match the runtime class of the value: either
+     * the member names a parser that is also a serializer, or the value type is a final model class. Otherwise the
+     * serializer is found at runtime by the class of each value.
+     */
+    private String getSerializerInstance(final Element member, TypeMirror valueType) {
+        TypeMirror memberParserType = AnnotationUtils.getClassTypeMirrorFromAnnotationValue(
+                new AnnotationUtils.Getter() {
+                    @Override
+                    public void get() {
+                        member.getAnnotation(JsonValue.class).parser();
+                    }
+                });
+        String memberParserName = memberParserType.toString();
+        if (!NoJsonObjectParser.class.getCanonicalName().equals(memberParserName)) {
+            return isSerializer(memberParserName) ? memberParserName + ".INSTANCE" : NO_SERIALIZER;
+        }
+
+        if (valueType == null || valueType.getKind() != TypeKind.DECLARED) {
+            return NO_SERIALIZER;
+        }
+        TypeElement valueElement = (TypeElement) processingEnv.getTypeUtils().asElement(valueType);
+        if (!valueElement.getModifiers().contains(Modifier.FINAL)) {
+            return NO_SERIALIZER;
+        }
+        String parserName = classNameToParserNameMap.get(MetaTypeNames.constructTypeName(valueElement));
+        if (parserName == null) {
+            return NO_SERIALIZER;
+        }
+        if (parserName.endsWith(GeneratedClassNames.PARSER_SUFFIX)) {
+            return MetaTypeNames.constructTypeName(valueElement, GeneratedClassNames.SERIALIZER_SUFFIX) + ".INSTANCE";
+        }
+        return isSerializer(parserName) ? parserName + ".INSTANCE" : NO_SERIALIZER;
+    }
+
+    private boolean isSerializer(String className) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(className);
+        return element != null && metaTypes.isSubtypeErasure(element.asType(), JsonObjectSerializer.class);
+    }
+
+    /**
+     * @return An expression that reads {@code member} from {@code object}, or null if it cannot be read.
+     */
+    private String getValueExpression(Element member, boolean warnIfUnreadable) {
+        String expression = memberReaders.getReadExpression(member, "object");
+        if (expression == null && warnIfUnreadable) {
+            String message = String.format("No getter found for %s. It will not be serialized. Add a non-private "
+                                                   + "getter that takes no arguments to serialize it.",
+                                           member.getSimpleName());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, member);
+        }
+        return expression;
+    }
+
+    private static class SerializedMember {
+
+        public final Element member;
+        public final String key;
+        public final String valueExpression;
+        public final String encodedNameConstant;
+        public final String localName;
+
+        private SerializedMember(Element member, String key, String valueExpression, int index) {
+            this.member = member;
+            this.key = key;
+            this.valueExpression = valueExpression;
+            this.encodedNameConstant = ENCODED_NAME_PREFIX + index;
+            this.localName = LOCAL_VALUE_PREFIX + index;
+        }
+    }
+}
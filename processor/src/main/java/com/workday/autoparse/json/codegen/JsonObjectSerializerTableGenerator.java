@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.context.GeneratedClassNames;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.serializer.JsonObjectSerializer;
+import com.workday.autoparse.json.serializer.JsonObjectSerializerTable;
+import com.workday.meta.MetaTypes;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates an implementation of {@link JsonObjectSerializerTable}. Classes with generated parsers map to their
+ * generated serializers, and classes with custom parsers map to the parser if it is also a {@link
+ * JsonObjectSerializer}.
+ *
+ * @since 2026-10-19.
+ */
+class JsonObjectSerializerTableGenerator {
+
+    private static final String MAP_TYPE =
+            String.format("Map<Class<?>, %s<?>>", JsonObjectSerializer.class.getSimpleName());
+
+    private final ProcessingEnvironment processingEnv;
+    private final Map<String, String> classNameToParserNameMap;
+    private final PackageElement packageElement;
+    private final MetaTypes metaTypes;
+
+    public JsonObjectSerializerTableGenerator(ProcessingEnvironment processingEnv,
+                                              Map<String, String> classNameToParserNameMap,
+                                              PackageElement packageElement) {
+        this.processingEnv = processingEnv;
+        this.classNameToParserNameMap = classNameToParserNameMap;
+        this.packageElement = packageElement;
+        this.metaTypes = new MetaTypes(processingEnv);
+    }
+
+    public void generateTable() throws IOException {
+        String packageName = packageElement != null
+                             ? packageElement.getQualifiedName().toString()
+                             : JsonParserSettingsBuilder.DEFAULT_OBJECT_PARSER_PACKAGE;
+
+        String qualifiedClassName = GeneratedClassNames.getQualifiedName(packageName,
+                                                                         GeneratedClassNames
+                                                                                 .CLASS_JSON_OBJECT_SERIALIZER_TABLE);
+
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedClassName);
+
+        JavaWriter writer = new JavaWriter(sourceFile.openWriter());
+        writer.emitPackage(packageName);
+        writer.emitEmptyLine();
+        writer.emitImports(getImports());
+        writer.emitEmptyLine();
+
+        writer.beginType(GeneratedClassNames.CLASS_JSON_OBJECT_SERIALIZER_TABLE, "class",
+                         EnumSet.of(Modifier.PUBLIC, Modifier.FINAL),
+                         null, JsonObjectSerializerTable.class.getCanonicalName());
+        writer.emitEmptyLine();
+
+        writeMapField(writer);
+        writer.emitEmptyLine();
+        writeGetter(writer);
+
+        writer.endType();
+        writer.close();
+    }
+
+    private Collection<String> getImports() {
+        Set<String> results = new HashSet<>();
+        results.add(HashMap.class.getCanonicalName());
+        results.add(Map.class.getCanonicalName());
+        results.add(JsonObjectSerializer.class.getCanonicalName());
+        results.add(JsonObjectSerializerTable.class.getCanonicalName());
+        return results;
+    }
+
+    private void writeMapField(JavaWriter writer) throws IOException {
+        writer.emitField(MAP_TYPE, "MAP", Modifiers.PRIVATE_CONSTANT,
+                         String.format("new HashMap<Class<?>, %s<?>>()",
+                                       JsonObjectSerializer.class.getSimpleName()));
+
+        writer.beginInitializer(true);
+
+        for (Map.Entry<String, String> entry : classNameToParserNameMap.entrySet()) {
+            String className = entry.getKey();
+            String parserQualifiedName = entry.getValue();
+            if (parserQualifiedName.endsWith(GeneratedClassNames.PARSER_SUFFIX)) {
+                String serializerQualifiedName =
+                        parserQualifiedName.substring(0, parserQualifiedName.length()
+                                - GeneratedClassNames.PARSER_SUFFIX.length())
+                                + GeneratedClassNames.SERIALIZER_SUFFIX;
+                writer.emitStatement("MAP.put(%s.class, %s.INSTANCE)", className, serializerQualifiedName);
+                continue;
+            }
+            TypeElement parserType = processingEnv.getElementUtils().getTypeElement(parserQualifiedName);
+            if (parserType != null && metaTypes.isSubtypeErasure(parserType.asType(), JsonObjectSerializer.class)) {
+                writer.emitStatement("MAP.put(%s.class, %s.INSTANCE)", className, parserQualifiedName);
+            }
+        }
+
+        writer.endInitializer();
+    }
+
+    private void writeGetter(JavaWriter writer) throws IOException {
+        writer.emitAnnotation(Override.class);
+        writer.emitAnnotation(SuppressWarnings.class, JavaWriter.stringLiteral("unchecked"));
+        writer.beginMethod("<T>" + JavaWriter.type(JsonObjectSerializer.class, "T"),
+                           "getSerializerForClass",
+                           Modifiers.PUBLIC,
+                           "Class<T>",
+                           "clazz");
+        writer.emitStatement("return (JsonObjectSerializer<T>) MAP.get(clazz)");
+        writer.endMethod();
+    }
+}
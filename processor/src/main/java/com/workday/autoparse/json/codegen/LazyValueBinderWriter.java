@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.parser.LazyValue;
+import com.workday.autoparse.json.utils.CollectionUtils;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * Writes the {@link LazyValue.Binder}s that a generated parser uses for its members with {@link
+ * com.workday.autoparse.json.annotations.JsonValue#lazy()}. Each binder is a nested class that reads
+ * the value into a local variable with the same {@link ValueAssigner} the member would have had if it
+ * were not lazy. {@link LazyValue} binds with the context of the parse that read the value, so the
+ * binder finds it in {@link com.workday.autoparse.json.context.ContextHolder}.
+ *
+ * @since 2026-10-19.
+ */
+class LazyValueBinderWriter {
+
+    private static final String CLASS_NAME_PREFIX = "LazyBinder";
+
+    /**
+     * What is needed to write one binder.
+     */
+    static class Binder {
+
+        private final String valueType;
+        private final String key;
+        private final ValueAssigner assigner;
+        private final boolean usesStringPool;
+
+        /**
+         * @param valueType The type the value is bound to.
+         * @param key The name of the value, for error messages.
+         * @param assigner Assigns the value with the pattern {@code %1$s = %2$s}.
+         * @param usesStringPool Whether {@code assigner} refers to {@link
+         * ValueAssignerFactory#STRING_POOL_NAME}.
+         */
+        Binder(String valueType, String key, ValueAssigner assigner, boolean usesStringPool) {
+            this.valueType = valueType;
+            this.key = key;
+            this.assigner = assigner;
+            this.usesStringPool = usesStringPool;
+        }
+    }
+
+    /**
+     * Write a constant for each binder.
+     *
+     * @param binders The binders to write, mapped from the names of their constants.
+     */
+    public void writeBinderConstants(JavaWriter writer, Map<String, Binder> binders) throws IOException {
+        if (binders.isEmpty()) {
+            return;
+        }
+        int index = 0;
+        for (Map.Entry<String, Binder> entry : binders.entrySet()) {
+            String valueType = writer.compressType(entry.getValue().valueType);
+            writer.emitField(JavaWriter.type(LazyValue.Binder.class, valueType), entry.getKey(),
+                             Modifiers.PRIVATE_CONSTANT, String.format("new %s%d()", CLASS_NAME_PREFIX, index++));
+        }
+        writer.emitEmptyLine();
+    }
+
+    /**
+     * Write the nested class of each binder.
+     *
+     * @see #writeBinderConstants(JavaWriter, Map)
+     */
+    public void writeBinderClasses(JavaWriter writer, Map<String, Binder> binders) throws IOException {
+        int index = 0;
+        for (Binder binder : binders.values()) {
+            writer.emitEmptyLine();
+            writeBinderClass(writer, binder, CLASS_NAME_PREFIX + index++);
+        }
+    }
+
+    private void writeBinderClass(JavaWriter writer, Binder binder, String className) throws IOException {
+        String valueType = writer.compressType(binder.valueType);
+        writer.beginType(className, "class", EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL), null,
+                         JavaWriter.type(LazyValue.Binder.class, valueType));
+        writer.emitEmptyLine();
+
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod(valueType, "bind", Modifiers.PUBLIC,
+                           CollectionUtils.newArrayList(AndroidNames.JSON_READER, "reader"),
+                           CollectionUtils.newArrayList(IOException.class.getSimpleName()));
+        // The assigners of parsed objects read the discrimination name from the parser's arguments.
+        writer.emitField("String", "discriminationName", Modifiers.NONE,
+                         "ContextHolder.getContext().getSettings().getDiscriminationName()");
+        if (binder.usesStringPool) {
+            writer.emitField("StringPool", ValueAssignerFactory.STRING_POOL_NAME, Modifiers.NONE,
+                             "JsonParserUtils.getStringPoolIfEnabled()");
+        }
+        writer.emitField(valueType, "result", Modifiers.NONE, "null");
+        binder.assigner.writeFromReaderAssignment(writer, "result", "reader", binder.key);
+        writer.emitStatement("return result");
+        writer.endMethod();
+
+        writer.endType();
+    }
+}
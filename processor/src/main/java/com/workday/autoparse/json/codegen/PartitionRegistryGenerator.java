@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.context.GeneratedClassNames;
+import com.workday.autoparse.json.context.JsonParserSettingsBuilder;
+import com.workday.autoparse.json.context.PartitionRegistry;
+import com.workday.autoparse.json.parser.JsonObjectParserTable;
+import com.workday.autoparse.json.parser.JsonObjectParserTableManifest;
+import com.workday.autoparse.json.serializer.JsonObjectSerializerTable;
+import com.workday.autoparse.json.updater.InstanceUpdaterTable;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates the {@link PartitionRegistry} of a partition. It refers to the other generated tables
+ * of the partition directly, so that they can be reached without reflection.
+ *
+ * @since 2026-10-19.
+ */
+class PartitionRegistryGenerator {
+
+    private final ProcessingEnvironment processingEnv;
+    private final PackageElement packageElement;
+
+    public PartitionRegistryGenerator(ProcessingEnvironment processingEnv, PackageElement packageElement) {
+        this.processingEnv = processingEnv;
+        this.packageElement = packageElement;
+    }
+
+    public void generateRegistry() throws IOException {
+        String packageName;
+        String instanceUpdaterPackageName;
+        if (packageElement != null) {
+            packageName = packageElement.getQualifiedName().toString();
+            instanceUpdaterPackageName = packageName;
+        } else {
+            packageName = JsonParserSettingsBuilder.DEFAULT_OBJECT_PARSER_PACKAGE;
+            instanceUpdaterPackageName = JsonParserSettingsBuilder.DEFAULT_INSTANCE_UPDATER_PACKAGE;
+        }
+
+        String className = GeneratedClassNames.CLASS_PARTITION_REGISTRY;
+        JavaFileObject sourceFile = processingEnv.getFiler()
+                                                 .createSourceFile(GeneratedClassNames.getQualifiedName(packageName,
+                                                                                                        className));
+
+        JavaWriter writer = new JavaWriter(sourceFile.openWriter());
+        writer.emitPackage(packageName);
+        writer.emitEmptyLine();
+        writer.emitImports(InstanceUpdaterTable.class.getCanonicalName(),
+                           JsonObjectParserTable.class.getCanonicalName(),
+                           JsonObjectParserTableManifest.class.getCanonicalName(),
+                           JsonObjectSerializerTable.class.getCanonicalName(),
+                           PartitionRegistry.class.getCanonicalName());
+        writer.emitEmptyLine();
+
+        writer.beginType(className, "class", EnumSet.of(Modifier.PUBLIC, Modifier.FINAL), null,
+                         PartitionRegistry.class.getCanonicalName());
+        writer.emitEmptyLine();
+        writer.emitField(className, "INSTANCE", Modifiers.PUBLIC_CONSTANT, "new " + className + "()");
+        writer.emitEmptyLine();
+
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod("String", "getPackageName", Modifiers.PUBLIC);
+        writer.emitStatement("return %s", JavaWriter.stringLiteral(packageName));
+        writer.endMethod();
+        writer.emitEmptyLine();
+
+        writeNewInstanceMethod(writer, JsonObjectParserTableManifest.class, "getParserTableManifest",
+                               GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE_MANIFEST);
+        writeNewInstanceMethod(writer, JsonObjectParserTable.class, "newParserTable",
+                               GeneratedClassNames.CLASS_JSON_OBJECT_PARSER_TABLE);
+        writeNewInstanceMethod(writer, JsonObjectSerializerTable.class, "newSerializerTable",
+                               GeneratedClassNames.CLASS_JSON_OBJECT_SERIALIZER_TABLE);
+        writeNewInstanceMethod(writer, InstanceUpdaterTable.class, "newInstanceUpdaterTable",
+                               GeneratedClassNames.getQualifiedName(instanceUpdaterPackageName,
+                                                                    GeneratedClassNames.CLASS_INSTANCE_UPDATER_TABLE));
+
+        writer.endType();
+        writer.close();
+    }
+
+    private void writeNewInstanceMethod(JavaWriter writer, Class<?> returnType, String methodName, String className)
+            throws IOException {
+        writer.emitAnnotation(Override.class);
+        writer.beginMethod(returnType.getSimpleName(), methodName, Modifiers.PUBLIC);
+        writer.emitStatement("return new %s()", className);
+        writer.endMethod();
+        writer.emitEmptyLine();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+import com.workday.meta.Modifiers;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A field holding a collection or map that is filled in place, rather than replaced with a new one,
+ * if it already holds an empty one of the class the parser would create. See {@link
+ * com.workday.autoparse.json.parser.JsonParserUtils#isReusable(Object, Class)}.
+ *
+ * @since 2026-10-19.
+ */
+class ReusableField {
+
+    /**
+     * Matches initializers of the form {@code new java.util.ArrayList<>()}, capturing the class. The
+     * constructor may be passed a size, as in {@code new java.util.ArrayList<>(SIZE_HINT_0.get())}.
+     */
+    private static final Pattern INITIALIZER_PATTERN = Pattern.compile("new ([\\w.$]+)(<.*?>)?\\(.*\\)");
+
+    private final String fieldPattern;
+    private final String createdClass;
+    private final String initializer;
+
+    private ReusableField(String fieldPattern, String createdClass, String initializer) {
+        this.fieldPattern = fieldPattern;
+        this.createdClass = createdClass;
+        this.initializer = initializer;
+    }
+
+    /**
+     * @param fieldName The name of the field.
+     * @param initializer The expression that creates the collections or maps that the parser
+     * assigns to the field. May be null.
+     *
+     * @return The field, or null if the class created by {@code initializer} is unknown.
+     */
+    static ReusableField create(String fieldName, String initializer) {
+        if (initializer == null) {
+            return null;
+        }
+        Matcher matcher = INITIALIZER_PATTERN.matcher(initializer);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new ReusableField("%1$s." + fieldName, matcher.group(1), initializer);
+    }
+
+    /**
+     * Declare {@code variableName} as the collection or map to fill: the one in the field of {@code
+     * objectName} if it can be reused, or a new one otherwise.
+     *
+     * @param type The declared type of the field.
+     */
+    void writeDeclaration(JavaWriter writer, String type, String objectName, String variableName)
+            throws IOException {
+        writer.emitField(type, variableName, Modifiers.NONE, String.format(fieldPattern, objectName));
+        writer.beginControlFlow("if (!JsonParserUtils.isReusable(%s, %s.class))", variableName, createdClass);
+        writer.emitStatement("%s = %s", variableName, initializer);
+        writer.endControlFlow();
+    }
+}
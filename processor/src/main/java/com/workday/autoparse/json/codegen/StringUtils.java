@@ -29,4 +29,14 @@ class StringUtils {
 
         return true;
     }
+
+    /**
+     * @return {@code s} with its first character in upper case, e.g. "int" becomes "Int".
+     */
+    public static String capitalize(String s) {
+        if (s.isEmpty()) {
+            return s;
+        }
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
 }
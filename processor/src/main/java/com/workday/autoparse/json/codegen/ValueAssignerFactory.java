@@ -8,8 +8,14 @@
 package com.workday.autoparse.json.codegen;
 
 import com.squareup.javawriter.JavaWriter;
+import com.workday.autoparse.json.annotations.JsonCreator;
 import com.workday.autoparse.json.annotations.JsonValue;
+import com.workday.autoparse.json.parser.LazyValue;
 import com.workday.autoparse.json.parser.NoJsonObjectParser;
+import com.workday.autoparse.json.parser.SizeHint;
+import com.workday.autoparse.json.tree.LazyJsonArray;
+import com.workday.autoparse.json.tree.LazyJsonObject;
+import com.workday.autoparse.json.utils.CompactMap;
 import com.workday.meta.AnnotationUtils;
 import com.workday.meta.CodeAnalysisUtils;
 import com.workday.meta.Initializers;
@@ -20,16 +26,28 @@ import com.workday.meta.MetaTypes;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
@@ -43,19 +61,87 @@ import javax.tools.Diagnostic;
  */
 class ValueAssignerFactory {
 
+    private static final String DISCRIMINATION_CACHE_PREFIX = "DISCRIMINATION_CACHE_";
+    private static final String ENUM_CONVERTER_PREFIX = "ENUM_CONVERTER_";
+    private static final String LAZY_BINDER_PREFIX = "LAZY_BINDER_";
+    private static final String SIZE_HINT_PREFIX = "SIZE_HINT_";
+
+    /**
+     * The variable that holds the {@link com.workday.autoparse.json.parser.StringPool} for members
+     * without {@link JsonValue#poolStrings()}, or null if pooling of all strings is disabled.
+     */
+    static final String STRING_POOL_NAME = "stringPool";
+
+    /**
+     * Matches initializers of the form {@code new java.util.ArrayList<>()}, capturing the class and
+     * its type arguments.
+     */
+    private static final Pattern INITIALIZER_PATTERN = Pattern.compile("new ([\\w.$]+)(<.*>)?\\(\\)");
+
+    /**
+     * Classes whose constructors take the number of elements to make room for.
+     */
+    private static final Set<String> SIZED_CLASSES = new HashSet<>(Arrays.asList(
+            ArrayList.class.getCanonicalName(),
+            CompactMap.class.getCanonicalName()));
+
+    /**
+     * Classes whose constructors take the capacity of their hash table.
+     */
+    private static final Set<String> HASHED_CLASSES = new HashSet<>(Arrays.asList(
+            HashSet.class.getCanonicalName(),
+            LinkedHashSet.class.getCanonicalName(),
+            HashMap.class.getCanonicalName(),
+            LinkedHashMap.class.getCanonicalName()));
+
+    /**
+     * Types that are never parsed from an object, so members of these types have no use for a
+     * discrimination cache.
+     */
+    private static final Set<String> NON_OBJECT_TYPES = new HashSet<>(Arrays.asList(
+            String.class.getCanonicalName(),
+            CharSequence.class.getCanonicalName(),
+            Boolean.class.getCanonicalName(),
+            Byte.class.getCanonicalName(),
+            Character.class.getCanonicalName(),
+            Double.class.getCanonicalName(),
+            Float.class.getCanonicalName(),
+            Integer.class.getCanonicalName(),
+            Long.class.getCanonicalName(),
+            Short.class.getCanonicalName(),
+            BigDecimal.class.getCanonicalName(),
+            BigInteger.class.getCanonicalName(),
+            AndroidNames.JSON_OBJECT_FULL,
+            AndroidNames.JSON_ARRAY_FULL,
+            LazyJsonObject.class.getCanonicalName(),
+            LazyJsonArray.class.getCanonicalName()));
+
     private final ProcessingEnvironment processingEnv;
     private final JavaWriter writer;
     private final PostCreateChildBlockWriter postCreateChildBlockWriter;
     private final MetaTypes metaTypes;
     private final Initializers initializers;
+    private final MapInitializers mapInitializers;
     private final Map<String, String> classNameToParserNameMap;
     private final Types typeUtils;
+    private final String parsedClassName;
+    private final Map<String, String> discriminationCaches = new LinkedHashMap<>();
+    private final Map<TypeElement, String> enumConverters = new LinkedHashMap<>();
+    private final Map<String, LazyValueBinderWriter.Binder> lazyBinders = new LinkedHashMap<>();
+    private final Map<String, Integer> sizeHints = new LinkedHashMap<>();
+    private boolean usesStringPool;
 
+    /**
+     * @param parsedClassName The name of the class whose parser is being generated. This is used to
+     * name the discrimination caches of its members.
+     */
     ValueAssignerFactory(ProcessingEnvironment processingEnv,
                          Map<String, String> classNameToParserNameMap,
                          JavaWriter writer,
-                         PostCreateChildBlockWriter postCreateChildBlockWriter) {
+                         PostCreateChildBlockWriter postCreateChildBlockWriter,
+                         String parsedClassName) {
         this.processingEnv = processingEnv;
+        this.parsedClassName = parsedClassName;
         this.writer = writer;
         this.postCreateChildBlockWriter = postCreateChildBlockWriter;
         typeUtils = processingEnv.getTypeUtils();
@@ -63,11 +149,57 @@ class ValueAssignerFactory {
 
         metaTypes = new MetaTypes(processingEnv);
         initializers = new Initializers(metaTypes);
+        mapInitializers = new MapInitializers(metaTypes, initializers);
+    }
+
+    /**
+     * The {@link com.workday.autoparse.json.parser.DiscriminationCache}s that the created {@link
+     * ValueAssigner}s refer to, as a map of constant names to cache names. The generated parser must
+     * declare a constant for each of these.
+     */
+    public Map<String, String> getDiscriminationCaches() {
+        return Collections.unmodifiableMap(discriminationCaches);
+    }
+
+    /**
+     * The enums that the created {@link ValueAssigner}s convert strings into, mapped to the names of
+     * the constants holding their converters. The generated parser must declare these with {@link
+     * EnumConverterWriter}.
+     */
+    public Map<TypeElement, String> getEnumConverters() {
+        return Collections.unmodifiableMap(enumConverters);
     }
 
     /**
-     * Returns the type that an element takes. If this is a field, then it is the type of the field.
-     * If this is a method, then it is the type of the first argument.
+     * Whether the reader patterns of the created {@link ValueAssigner}s, other than those of lazy
+     * binders, refer to {@link #STRING_POOL_NAME}. The generated parser must then declare it
+     * wherever values are read from a reader.
+     */
+    public boolean usesStringPool() {
+        return usesStringPool;
+    }
+
+    /**
+     * The binders of the lazy members, mapped from the names of the constants holding them. The
+     * generated parser must declare these with {@link LazyValueBinderWriter}.
+     */
+    public Map<String, LazyValueBinderWriter.Binder> getLazyBinders() {
+        return Collections.unmodifiableMap(lazyBinders);
+    }
+
+    /**
+     * The {@link SizeHint}s that the created {@link ValueAssigner}s refer to, as a map of constant
+     * names to the expected sizes given with {@link JsonValue#expectedSize()}, which are -1 for
+     * hints that estimate the size. The generated parser must declare a constant for each of these.
+     */
+    public Map<String, Integer> getSizeHints() {
+        return Collections.unmodifiableMap(sizeHints);
+    }
+
+    /**
+     * Returns the type that an element takes. If this is a field or a parameter of a {@link
+     * JsonCreator}, then it is the type of the field or parameter. If this is a method, then it is
+     * the type of the first argument.
      */
     public TypeMirror getAssignmentType(Element element) {
         if (element instanceof ExecutableElement) {
@@ -83,7 +215,9 @@ class ValueAssignerFactory {
 
     /**
      * Creates an appropriate assignment pattern for an element, based on whether it is a field or a
-     * method. The will take two arguments: 1) objectName and 2) value.
+     * method. The will take two arguments: 1) objectName and 2) value. The parameters of a {@link
+     * JsonCreator} are assigned like fields, to the object that collects the arguments of the
+     * creator.
      */
     public String getAssignmentPattern(Element element) {
         if (element instanceof ExecutableElement) {
@@ -103,11 +237,25 @@ class ValueAssignerFactory {
 
         TypeMirror type = getAssignmentType(element);
         assertViableAccessLevel(element);
-        assertAnnotationIsConsistent(element, type);
 
         // First argument: objectName; second argument: value
         String assignmentPattern = getAssignmentPattern(element);
 
+        if (element.getAnnotation(JsonValue.class).lazy() || metaTypes.isSameType(type, LazyValue.class)) {
+            return getLazyValueAssigner(element, type, assignmentPattern);
+        }
+        return createValueAssigner(element, type, assignmentPattern, postCreateChildBlockWriter);
+    }
+
+    private ValueAssigner createValueAssigner(Element element,
+                                              TypeMirror type,
+                                              String assignmentPattern,
+                                              PostCreateChildBlockWriter postCreateChildBlockWriter) {
+        assertAnnotationIsConsistent(element, type);
+        assertStringsCanBePooled(element, type);
+        assertCollectionCanBeFrozen(element, type);
+        assertExpectedSizeIsUsable(element, type);
+
         String readerValuePattern;
         String jsonObjectValuePattern;
         String mapValuePattern;
@@ -115,50 +263,86 @@ class ValueAssignerFactory {
         final String jsonObjectGetStringValue =
                 "%2$s.optString(" + keyPattern + ")"; // jsonObject.getString("name")
 
-        // Basic types
+        // Basic types. Primitive members are read with methods that return primitives, so that
+        // nothing is boxed on the way to the member.
+        final boolean primitive = type.getKind().isPrimitive();
         if (metaTypes.isBoolean(type)) {
-            readerValuePattern = "JsonParserUtils.nextBoolean(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Boolean.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextBooleanValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Boolean.parseBoolean(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextBoolean(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Boolean.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsBoolean(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
         } else if (metaTypes.isDouble(type)) {
-            readerValuePattern = "JsonParserUtils.nextDouble(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Double.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextDoubleValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Double.parseDouble(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextDouble(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Double.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsDouble(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
         } else if (metaTypes.isInt(type)) {
-            readerValuePattern = "JsonParserUtils.nextInt(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Integer.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextIntValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Integer.parseInt(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextInt(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Integer.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsInt(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
         } else if (metaTypes.isLong(type)) {
-            readerValuePattern = "JsonParserUtils.nextLong(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Long.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextLongValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Long.parseLong(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextLong(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Long.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsLong(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
-        } else if (metaTypes.isString(type)) {
-            readerValuePattern = "JsonParserUtils.nextString(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = jsonObjectGetStringValue;
-            mapValuePattern = "MapValueGetter.getAsString(map, " + keyPattern + ")";
+        } else if (isText(type)) {
+            if (isPoolStrings(element)) {
+                readerValuePattern = "JsonParserUtils.nextPooledString(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "JsonParserUtils.poolString(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextString(%2$s, \"%3$s\", " + STRING_POOL_NAME + ")";
+                jsonObjectValuePattern = jsonObjectGetStringValue;
+                usesStringPool = true;
+            }
+            // Values that are already text, such as views from a LazyJsonObject, are kept as they are.
+            mapValuePattern = metaTypes.isString(type)
+                    ? "MapValueGetter.getAsString(map, " + keyPattern + ")"
+                    : "MapValueGetter.getAsCharSequence(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
         } else if (metaTypes.isByte(type)) {
-            readerValuePattern = "JsonParserUtils.nextByte(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Byte.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextByteValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Byte.parseByte(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextByte(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Byte.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsByte(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
@@ -166,7 +350,7 @@ class ValueAssignerFactory {
                                                mapValuePattern);
         } else if (metaTypes.isSameType(type, BigDecimal.class)) {
             readerValuePattern = "JsonParserUtils.nextBigDecimal(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "new java.math.BigDecimal(" + jsonObjectGetStringValue + ")";
+            jsonObjectValuePattern = "BigNumbers.parseBigDecimal(" + jsonObjectGetStringValue + ")";
             mapValuePattern = "MapValueGetter.getAsBigDecimal(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
@@ -174,23 +358,33 @@ class ValueAssignerFactory {
                                                mapValuePattern);
         } else if (metaTypes.isSameType(type, BigInteger.class)) {
             readerValuePattern = "JsonParserUtils.nextBigInteger(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "new java.math.BigInteger(" + jsonObjectGetStringValue + ")";
+            jsonObjectValuePattern = "BigNumbers.parseBigInteger(" + jsonObjectGetStringValue + ")";
             mapValuePattern = "MapValueGetter.getAsBigInteger(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
         } else if (metaTypes.isFloat(type)) {
-            readerValuePattern = "JsonParserUtils.nextFloat(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Float.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextFloatValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Float.parseFloat(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextFloat(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Float.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsFloat(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
                                                jsonObjectValuePattern,
                                                mapValuePattern);
         } else if (metaTypes.isShort(type)) {
-            readerValuePattern = "JsonParserUtils.nextShort(%2$s, \"%3$s\")";
-            jsonObjectValuePattern = "Short.valueOf(" + jsonObjectGetStringValue + ")";
+            if (primitive) {
+                readerValuePattern = "JsonParserUtils.nextShortValue(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Short.parseShort(" + jsonObjectGetStringValue + ")";
+            } else {
+                readerValuePattern = "JsonParserUtils.nextShort(%2$s, \"%3$s\")";
+                jsonObjectValuePattern = "Short.valueOf(" + jsonObjectGetStringValue + ")";
+            }
             mapValuePattern = "MapValueGetter.getAsShort(map, " + keyPattern + ")";
             return new SingleLineValueAssigner(assignmentPattern,
                                                readerValuePattern,
@@ -206,25 +400,100 @@ class ValueAssignerFactory {
                                                jsonObjectValuePattern,
                                                mapValuePattern);
 
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            return getArrayValueAssigner(element, (ArrayType) type, assignmentPattern, postCreateChildBlockWriter);
+
+        } else if (isEnum(type)) {
+            TypeElement enumElement = (TypeElement) typeUtils.asElement(type);
+            String converter = getEnumConverter(enumElement);
+            readerValuePattern = converter + ".convert(JsonParserUtils.nextString(%2$s, \"%3$s\"))";
+            jsonObjectValuePattern = converter + ".convert(" + jsonObjectGetStringValue + ")";
+            mapValuePattern = String.format("MapValueGetter.getAsEnum(map, %s, %s.class, %s)",
+                                            keyPattern,
+                                            writer.compressType(enumElement.getQualifiedName().toString()),
+                                            converter);
+            return new SingleLineValueAssigner(assignmentPattern,
+                                               readerValuePattern,
+                                               jsonObjectValuePattern,
+                                               mapValuePattern);
+
         } else if (metaTypes.isSubtypeErasure(type, Collection.class)) {
-            return getCollectionValueAssigner(element, type, assignmentPattern);
+            return getCollectionValueAssigner(element, type, assignmentPattern, postCreateChildBlockWriter);
 
         } else if (metaTypes.isSubtypeErasure(type, Map.class)) {
-            return getMapValueAssigner(element, type, assignmentPattern);
+            return getMapValueAssigner(element, type, assignmentPattern, postCreateChildBlockWriter);
 
         } else {
-            return getFallbackObjectValueAssigner(element, type, assignmentPattern);
+            return getFallbackObjectValueAssigner(element, type, assignmentPattern, postCreateChildBlockWriter);
+        }
+    }
+
+    /**
+     * Lazy members keep the text of their value in a {@link LazyValue}, which is bound on first
+     * access by a generated {@link LazyValue.Binder}. The binder reads the value into a local
+     * variable with the assigner the member would have had if it were not lazy.
+     */
+    private ValueAssigner getLazyValueAssigner(Element element, TypeMirror type, String assignmentPattern) {
+        TypeMirror valueType = null;
+        if (!element.getAnnotation(JsonValue.class).lazy()) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR,
+                                       "Fields and setters that take a LazyValue must specify 'lazy=true'.",
+                                       element);
+        } else if (!metaTypes.isSameType(type, LazyValue.class)) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR,
+                                       "Specifying 'lazy=true' on a field or setter that does not take a "
+                                               + LazyValue.class.getCanonicalName() + " is illegal.",
+                                       element);
+        } else {
+            List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+            if (typeArguments.size() == 1 && (typeArguments.get(0).getKind() == TypeKind.DECLARED
+                    || typeArguments.get(0).getKind() == TypeKind.ARRAY)) {
+                valueType = typeArguments.get(0);
+            } else {
+                processingEnv.getMessager()
+                             .printMessage(Diagnostic.Kind.ERROR,
+                                           "A LazyValue must have a concrete type argument.",
+                                           element);
+            }
+        }
+        if (valueType == null) {
+            valueType = processingEnv.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
         }
+
+        String key = element.getAnnotation(JsonValue.class).value()[0];
+        // The binder reads its value on its own, so whether it needs the string pool is kept apart.
+        boolean parserUsesStringPool = usesStringPool;
+        usesStringPool = false;
+        ValueAssigner binderAssigner = createValueAssigner(element, valueType, "%1$s = %2$s",
+                                                           DoNothingPostCreateChildBlockWriter.INSTANCE);
+        String constantName = LAZY_BINDER_PREFIX + lazyBinders.size();
+        lazyBinders.put(constantName, new LazyValueBinderWriter.Binder(valueType.toString(), key, binderAssigner,
+                                                                       usesStringPool));
+        usesStringPool = parserUsesStringPool;
+
+        return new SingleLineValueAssigner(
+                assignmentPattern,
+                "JsonParserUtils.nextLazyValue(%2$s, \"%3$s\", " + constantName + ")",
+                "JsonParserUtils.toLazyValue(%2$s.opt(\"%3$s\"), " + constantName + ")",
+                "MapValueGetter.getAsLazyValue(map, \"%3$s\", " + constantName + ", context)");
     }
 
     private ValueAssigner getCollectionValueAssigner(Element element,
                                                      TypeMirror type,
-                                                     String assignmentPattern) {
+                                                     String assignmentPattern,
+                                                     PostCreateChildBlockWriter postCreateChildBlockWriter) {
         DeclaredType nextNestedClassType = (DeclaredType) type;
         List<String> nestedCollectionParameters = new ArrayList<>();
+        List<String> innerCollectionDeclarationPatterns = new ArrayList<>();
+        String innerMapDeclarationPattern = null;
 
         // Extract the parameter of each nested collection as a flattened list.
         do {
+            if (nextNestedClassType != type) {
+                innerCollectionDeclarationPatterns.add(getCollectionDeclarationPattern(element, nextNestedClassType));
+            }
             try {
                 nextNestedClassType = metaTypes.getFirstParameterType(nextNestedClassType);
             } catch (InvalidTypeException e) {
@@ -240,6 +509,7 @@ class ValueAssignerFactory {
         } while (metaTypes.isSubtypeErasure(nextNestedClassType, Collection.class));
 
         if (metaTypes.isSubtypeErasure(nextNestedClassType, Map.class)) {
+            innerMapDeclarationPattern = getMapDeclarationPattern(element, nextNestedClassType);
             try {
                 nextNestedClassType = metaTypes.getParameterType(nextNestedClassType, 1);
             } catch (InvalidTypeException e) {
@@ -254,14 +524,10 @@ class ValueAssignerFactory {
             nestedCollectionParameters.add(typeUtils.erasure(nextNestedClassType).toString());
         }
 
-        String collectionInitializer = null;
-        try {
-            collectionInitializer = initializers.findCollectionInitializer((DeclaredType) type);
-        } catch (InvalidTypeException e) {
-            processingEnv.getMessager()
-                         .printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
-        }
-        String collectionInitializerPattern = type.toString() + " %s" + " = " + collectionInitializer;
+        String collectionInitializer = getCollectionInitializer(element, (DeclaredType) type);
+        String sizeHint = getSizeHint(element, collectionInitializer);
+        collectionInitializer = presize(collectionInitializer, sizeHint);
+        String collectionInitializerPattern = type.toString() + " %s = " + collectionInitializer;
         // TODO: assert that parser type matches field type
         String parserInstance = getParserInstance(element, nextNestedClassType);
         return new CollectionValueAssigner.Builder()
@@ -270,14 +536,251 @@ class ValueAssignerFactory {
                 .withAssignmentPattern(assignmentPattern)
                 .withCollectionDeclarationPattern(collectionInitializerPattern)
                 .withParser(parserInstance)
+                .withDiscriminationCache(getDiscriminationCache(element,
+                                                                nextNestedClassType,
+                                                                parserInstance))
                 .withPostCreateChildBlockWriter(postCreateChildBlockWriter)
                 .withNestedCollectionParameters(nestedCollectionParameters)
+                .withInnerCollectionDeclarationPatterns(innerCollectionDeclarationPatterns)
+                .withInnerMapDeclarationPattern(innerMapDeclarationPattern)
+                .withItemReaderPattern(getItemReaderPattern(element, nextNestedClassType))
+                .withReusableField(getReusableField(element, assignmentPattern, collectionInitializer))
+                .withFreezer(getCollectionFreezer(element, type))
+                .withSizeHint(sizeHint)
                 .build();
     }
 
+    /**
+     * Arrays of primitives are read with {@link com.workday.autoparse.json.parser.PrimitiveArrays},
+     * without boxing any items. Arrays of objects are read like a {@code List} of their component
+     * type, which is then copied into an array of the right length.
+     */
+    private ValueAssigner getArrayValueAssigner(Element element,
+                                                ArrayType type,
+                                                String assignmentPattern,
+                                                PostCreateChildBlockWriter postCreateChildBlockWriter) {
+        TypeMirror componentType = type.getComponentType();
+        if (componentType.getKind().isPrimitive()) {
+            String arrayName = StringUtils.capitalize(componentType.toString()) + "Array";
+            return new SingleLineValueAssigner(assignmentPattern,
+                                               "PrimitiveArrays.next" + arrayName + "(%2$s, \"%3$s\")",
+                                               "PrimitiveArrays.to" + arrayName + "(%2$s.opt(\"%3$s\"), \"%3$s\")",
+                                               "PrimitiveArrays.to" + arrayName + "(map.get(\"%3$s\"), \"%3$s\")");
+        }
+
+        if (componentType.getKind() != TypeKind.DECLARED
+                || !((DeclaredType) componentType).getTypeArguments().isEmpty()) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR,
+                                       "Autoparse only supports arrays of primitives and of non-generic classes.",
+                                       element);
+            componentType = processingEnv.getElementUtils()
+                                         .getTypeElement(Object.class.getCanonicalName())
+                                         .asType();
+        }
+
+        String componentName = componentType.toString();
+        String arrayAssignmentPattern = String.format(Locale.US, assignmentPattern, "%1$s",
+                                                      "%2$s.toArray(new " + componentName + "[%2$s.size()])");
+        String listInitializer = "new " + ArrayList.class.getCanonicalName() + "<>()";
+        String sizeHint = getSizeHint(element, listInitializer);
+        String parserInstance = getParserInstance(element, componentType);
+        return new CollectionValueAssigner.Builder()
+                .withCollectionType(type.toString())
+                .withCollectionTypeErasure(ArrayList.class.getCanonicalName())
+                .withAssignmentPattern(arrayAssignmentPattern)
+                .withCollectionDeclarationPattern(String.format("%s<%s> %%s = %s",
+                                                                ArrayList.class.getCanonicalName(),
+                                                                componentName,
+                                                                presize(listInitializer, sizeHint)))
+                .withParser(parserInstance)
+                .withDiscriminationCache(getDiscriminationCache(element, componentType, parserInstance))
+                .withPostCreateChildBlockWriter(postCreateChildBlockWriter)
+                .withNestedCollectionParameters(Collections.singletonList(componentName))
+                .withItemReaderPattern(getItemReaderPattern(element, componentType))
+                .withSizeHint(sizeHint)
+                .build();
+    }
+
+    private String getCollectionDeclarationPattern(Element element, DeclaredType type) {
+        return type.toString() + " %s" + " = " + getCollectionInitializer(element, type);
+    }
+
+    private String getCollectionInitializer(Element element, DeclaredType type) {
+        String collectionInitializer = null;
+        try {
+            collectionInitializer = initializers.findCollectionInitializer(type);
+        } catch (InvalidTypeException e) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+        }
+        return collectionInitializer;
+    }
+
+    /**
+     * Collections and maps are only filled in place when they are assigned straight to a field of
+     * the parsed object, and not when they are passed to a setter, a {@link JsonCreator} or a lazy
+     * binder.
+     *
+     * @return The field, or null if the member is not such a field or the class of its initializer
+     * is unknown.
+     */
+    private ReusableField getReusableField(Element element, String assignmentPattern, String initializer) {
+        if (element.getKind() != ElementKind.FIELD || !assignmentPattern.equals(getAssignmentPattern(element))) {
+            return null;
+        }
+        return ReusableField.create(element.getSimpleName().toString(), initializer);
+    }
+
+    /**
+     * Only members declared as one of the interfaces that frozen copies implement can be frozen.
+     *
+     * @return The freezer for the member, or null if it cannot be frozen.
+     */
+    private CollectionFreezer getCollectionFreezer(Element element, TypeMirror type) {
+        if (!isFreezable(type)) {
+            return null;
+        }
+        return element.getAnnotation(JsonValue.class).freeze()
+                ? CollectionFreezer.ALWAYS
+                : CollectionFreezer.IF_ENABLED;
+    }
+
+    private boolean isFreezable(TypeMirror type) {
+        return metaTypes.isSameType(type, Collection.class)
+                || metaTypes.isSameType(type, List.class)
+                || metaTypes.isSameType(type, Set.class)
+                || metaTypes.isSameType(type, Map.class);
+    }
+
+    /**
+     * Give each member whose collections or maps can be created with room for their elements its
+     * own {@link SizeHint}.
+     *
+     * @param initializer The expression that creates the collections or maps of the member. May be
+     * null.
+     *
+     * @return The name of the constant holding the hint, or null if the class created by {@code
+     * initializer} cannot be presized.
+     */
+    private String getSizeHint(Element element, String initializer) {
+        int expectedSize = element.getAnnotation(JsonValue.class).expectedSize();
+        Matcher matcher = initializer == null ? null : INITIALIZER_PATTERN.matcher(initializer);
+        if (matcher == null || !matcher.matches()
+                || !SIZED_CLASSES.contains(matcher.group(1)) && !HASHED_CLASSES.contains(matcher.group(1))) {
+            if (expectedSize != -1) {
+                warnExpectedSizeHasNoEffect(element);
+            }
+            return null;
+        }
+        String constantName = SIZE_HINT_PREFIX + sizeHints.size();
+        sizeHints.put(constantName, expectedSize);
+        return constantName;
+    }
+
+    /**
+     * @return {@code initializer}, passing the size from {@code sizeHint} to the constructor.
+     */
+    private String presize(String initializer, String sizeHint) {
+        if (sizeHint == null) {
+            return initializer;
+        }
+        Matcher matcher = INITIALIZER_PATTERN.matcher(initializer);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Cannot presize " + initializer);
+        }
+        String createdClass = matcher.group(1);
+        String typeArguments = matcher.group(2) == null ? "" : matcher.group(2);
+        String size = SIZED_CLASSES.contains(createdClass) ? sizeHint + ".get()" : sizeHint + ".getHashCapacity()";
+        return "new " + createdClass + typeArguments + "(" + size + ")";
+    }
+
+    private String getMapDeclarationPattern(Element element, DeclaredType type) {
+        String mapInitializer = null;
+        try {
+            mapInitializer = mapInitializers.findMapInitializer(type);
+        } catch (InvalidTypeException e) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+        }
+        return type.toString() + " %s = " + mapInitializer;
+    }
+
+    /**
+     * Items of these types are read with the same methods as members of these types, so that no
+     * converter has to be looked up for them at runtime.
+     *
+     * @return A pattern that accepts (1) readerName and (2) key, or null if items of this type are
+     * not read directly.
+     */
+    private String getItemReaderPattern(Element element, TypeMirror itemType) {
+        final String arguments = "(%1$s, \"%2$s\")";
+        if (isText(itemType)) {
+            if (isPoolStrings(element)) {
+                return "JsonParserUtils.nextPooledString" + arguments;
+            }
+            usesStringPool = true;
+            return "JsonParserUtils.nextString(%1$s, \"%2$s\", " + STRING_POOL_NAME + ")";
+        } else if (metaTypes.isBoolean(itemType)) {
+            return "JsonParserUtils.nextBoolean" + arguments;
+        } else if (metaTypes.isInt(itemType)) {
+            return "JsonParserUtils.nextInt" + arguments;
+        } else if (metaTypes.isLong(itemType)) {
+            return "JsonParserUtils.nextLong" + arguments;
+        } else if (metaTypes.isDouble(itemType)) {
+            return "JsonParserUtils.nextDouble" + arguments;
+        } else if (metaTypes.isFloat(itemType)) {
+            return "JsonParserUtils.nextFloat" + arguments;
+        } else if (metaTypes.isShort(itemType)) {
+            return "JsonParserUtils.nextShort" + arguments;
+        } else if (metaTypes.isByte(itemType)) {
+            return "JsonParserUtils.nextByte" + arguments;
+        } else if (metaTypes.isChar(itemType)) {
+            return "JsonParserUtils.nextChar" + arguments;
+        } else if (metaTypes.isSameType(itemType, BigDecimal.class)) {
+            return "JsonParserUtils.nextBigDecimal" + arguments;
+        } else if (metaTypes.isSameType(itemType, BigInteger.class)) {
+            return "JsonParserUtils.nextBigInteger" + arguments;
+        } else if (isEnum(itemType)) {
+            return getEnumConverter((TypeElement) typeUtils.asElement(itemType))
+                    + ".convert(JsonParserUtils.nextString" + arguments + ")";
+        }
+        return null;
+    }
+
+    private boolean isPoolStrings(Element element) {
+        return element.getAnnotation(JsonValue.class).poolStrings();
+    }
+
+    /**
+     * Members declared as CharSequence are read exactly like Strings, since the String that the reader returns for a
+     * value is already a CharSequence.
+     */
+    private boolean isText(TypeMirror type) {
+        return metaTypes.isString(type) || metaTypes.isSameType(type, CharSequence.class);
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    /**
+     * @return The name of the constant holding the converter for {@code enumElement}.
+     */
+    private String getEnumConverter(TypeElement enumElement) {
+        String constantName = enumConverters.get(enumElement);
+        if (constantName == null) {
+            constantName = ENUM_CONVERTER_PREFIX + enumConverters.size();
+            enumConverters.put(enumElement, constantName);
+        }
+        return constantName;
+    }
+
     private ValueAssigner getMapValueAssigner(Element element,
                                               TypeMirror type,
-                                              String assignmentPattern) {
+                                              String assignmentPattern,
+                                              PostCreateChildBlockWriter postCreateChildBlockWriter) {
         DeclaredType valueType;
         try {
             valueType = metaTypes.getParameterType((DeclaredType) type, 1);
@@ -292,12 +795,14 @@ class ValueAssignerFactory {
 
         String mapInitializer = null;
         try {
-            mapInitializer = initializers.findMapInitializer((DeclaredType) type);
+            mapInitializer = mapInitializers.findMapInitializer((DeclaredType) type);
         } catch (InvalidTypeException e) {
             processingEnv.getMessager()
                          .printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
         }
 
+        String sizeHint = getSizeHint(element, mapInitializer);
+        mapInitializer = presize(mapInitializer, sizeHint);
         String mapInitializerPattern = type.toString() + " %s = " + mapInitializer;
         String parserInstance = getParserInstance(element, valueType);
 
@@ -308,25 +813,51 @@ class ValueAssignerFactory {
                 .withAssignmentPattern(assignmentPattern)
                 .withValueParameterTypeErasure(typeUtils.erasure(valueType).toString())
                 .withParserInstance(parserInstance)
+                .withDiscriminationCache(getDiscriminationCache(element, valueType, parserInstance))
                 .withPostCreateChildBlockWriter(postCreateChildBlockWriter)
+                .withReusableField(getReusableField(element, assignmentPattern, mapInitializer))
+                .withFreezer(getCollectionFreezer(element, type))
+                .withSizeHint(sizeHint)
                 .build();
     }
 
     private ValueAssigner getFallbackObjectValueAssigner(Element element,
                                                          TypeMirror type,
-                                                         String assignmentPattern) {
+                                                         String assignmentPattern,
+                                                         PostCreateChildBlockWriter postCreateChildBlockWriter) {
         // TODO: assert that parser type matches field type
         String parserInstance = getParserInstance(element, type);
         JsonValue annotation = element.getAnnotation(JsonValue.class);
+        String discriminationCache = annotation.convertJsonTypes()
+                ? getDiscriminationCache(element, type, parserInstance)
+                : "null";
         ObjectValueAssigner.Info info = new ObjectValueAssigner.Info()
                 .withObjectType(type)
                 .withAssignmentPattern(assignmentPattern)
                 .withParserInstance(parserInstance)
+                .withDiscriminationCache(discriminationCache)
                 .withPostCreateChildBlockWriter(postCreateChildBlockWriter)
                 .withConvertJsonTypes(annotation.convertJsonTypes());
         return new ObjectValueAssigner(processingEnv, info);
     }
 
+    /**
+     * Parsers for values whose type is not known at compile time are found by discrimination value
+     * at runtime. Give each such member its own cache for these lookups.
+     *
+     * @return The name of the constant holding the cache, or "null" if the member needs none.
+     */
+    private String getDiscriminationCache(Element member, TypeMirror valueType, String parserInstance) {
+        if (!"null".equals(parserInstance)
+                || NON_OBJECT_TYPES.contains(typeUtils.erasure(valueType).toString())
+                || isEnum(valueType)) {
+            return "null";
+        }
+        String constantName = DISCRIMINATION_CACHE_PREFIX + discriminationCaches.size();
+        discriminationCaches.put(constantName, parsedClassName + "." + member.getSimpleName());
+        return constantName;
+    }
+
     private String getParserInstance(final Element member, TypeMirror parsedClassType) {
         TypeMirror typeMirror =
                 AnnotationUtils.getClassTypeMirrorFromAnnotationValue(new AnnotationUtils.Getter() {
@@ -363,7 +894,7 @@ class ValueAssignerFactory {
             viable = false;
         }
 
-        if (element instanceof VariableElement && CodeAnalysisUtils.isFinal(element)) {
+        if (element.getKind() == ElementKind.FIELD && CodeAnalysisUtils.isFinal(element)) {
             processingEnv.getMessager()
                          .printMessage(Diagnostic.Kind.ERROR,
                                        "Autoparse cannot assign final fields.",
@@ -371,7 +902,7 @@ class ValueAssignerFactory {
             viable = false;
         }
 
-        if (element instanceof VariableElement && CodeAnalysisUtils.isStatic(element)) {
+        if (element.getKind() == ElementKind.FIELD && CodeAnalysisUtils.isStatic(element)) {
             processingEnv.getMessager()
                          .printMessage(Diagnostic.Kind.WARNING,
                                        "Autoparse will assign a value to a static field when "
@@ -383,6 +914,87 @@ class ValueAssignerFactory {
         return viable;
     }
 
+    /**
+     * Strings are only pooled where they are read as Strings: by members that take a String, or an
+     * array or (possibly nested) collection of Strings.
+     */
+    private boolean assertStringsCanBePooled(Element element, TypeMirror type) {
+        if (!isPoolStrings(element)) {
+            return true;
+        }
+
+        TypeMirror itemType = type;
+        if (itemType.getKind() == TypeKind.ARRAY) {
+            itemType = ((ArrayType) itemType).getComponentType();
+        }
+        try {
+            while (metaTypes.isSubtypeErasure(itemType, Collection.class)) {
+                itemType = metaTypes.getFirstParameterType((DeclaredType) itemType);
+            }
+        } catch (InvalidTypeException e) {
+            // Reported when the assigner is created.
+        }
+        if (isText(itemType)) {
+            return true;
+        }
+
+        processingEnv.getMessager()
+                     .printMessage(Diagnostic.Kind.WARNING,
+                                   "Specifying 'poolStrings=true' on a field or setter that does not take a String or "
+                                           + "CharSequence, or an array or collection of them, has no effect.",
+                                   element);
+        return false;
+    }
+
+    private boolean assertCollectionCanBeFrozen(Element element, TypeMirror type) {
+        if (!element.getAnnotation(JsonValue.class).freeze() || isFreezable(type)) {
+            return true;
+        }
+
+        processingEnv.getMessager()
+                     .printMessage(Diagnostic.Kind.WARNING,
+                                   "Specifying 'freeze=true' on a field or setter that does not take a Collection, "
+                                           + "List, Set or Map has no effect.",
+                                   element);
+        return false;
+    }
+
+    /**
+     * Only collections, maps and arrays of objects are presized. Whether the class that is created
+     * for them can be presized is checked when their assigners are created.
+     */
+    private boolean assertExpectedSizeIsUsable(Element element, TypeMirror type) {
+        int expectedSize = element.getAnnotation(JsonValue.class).expectedSize();
+        if (expectedSize < -1) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR,
+                                       "'expectedSize' must be nonnegative, or -1 to estimate the size.",
+                                       element);
+            return false;
+        }
+        if (expectedSize == -1) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.DECLARED && (metaTypes.isSubtypeErasure(type, Collection.class)
+                || metaTypes.isSubtypeErasure(type, Map.class))) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY && !((ArrayType) type).getComponentType().getKind().isPrimitive()) {
+            return true;
+        }
+        warnExpectedSizeHasNoEffect(element);
+        return false;
+    }
+
+    private void warnExpectedSizeHasNoEffect(Element element) {
+        processingEnv.getMessager()
+                     .printMessage(Diagnostic.Kind.WARNING,
+                                   "Specifying 'expectedSize' on a field or setter that does not take a collection, "
+                                           + "map or array of objects that can be created with room for its "
+                                           + "elements has no effect.",
+                                   element);
+    }
+
     private boolean assertAnnotationIsConsistent(Element element, TypeMirror type) {
         JsonValue annotation = element.getAnnotation(JsonValue.class);
 
@@ -392,7 +1004,9 @@ class ValueAssignerFactory {
 
         if (AndroidNames.JSON_OBJECT_FULL.equals(type.toString())
                 || AndroidNames.JSON_ARRAY_FULL.equals(
-                type.toString())) {
+                type.toString())
+                || metaTypes.isSameType(type, LazyJsonObject.class)
+                || metaTypes.isSameType(type, LazyJsonArray.class)) {
             return true;
         }
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Runs the processor on small sources with the system Java compiler and checks the errors it reports.
+ *
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class AutoparseJsonProcessorTest {
+
+    private static final String CREATOR_WITH_SELF_VALUES = "package com.example;\n"
+            + "\n"
+            + "import com.workday.autoparse.json.annotations.JsonCreator;\n"
+            + "import com.workday.autoparse.json.annotations.JsonObject;\n"
+            + "import com.workday.autoparse.json.annotations.JsonSelfValues;\n"
+            + "import com.workday.autoparse.json.annotations.JsonValue;\n"
+            + "\n"
+            + "import java.util.Map;\n"
+            + "\n"
+            + "@JsonObject(\"creatorModel\")\n"
+            + "public class CreatorModel {\n"
+            + "\n"
+            + "    public final String name;\n"
+            + "\n"
+            + "    %s\n"
+            + "    public Map<String, Object> others;\n"
+            + "\n"
+            + "    @JsonCreator\n"
+            + "    public CreatorModel(@JsonValue(\"name\") String name) {\n"
+            + "        this.name = name;\n"
+            + "    }\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testCreatorWithSelfValuesIsAnError() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors =
+                process("com.example.CreatorModel", String.format(Locale.US, CREATOR_WITH_SELF_VALUES,
+                                                                  "@JsonSelfValues"));
+        assertEquals(errors.toString(), 1, errors.size());
+        assertEquals("Classes with a @JsonCreator may not have members annotated with @JsonSelfValues.",
+                     errors.get(0).getMessage(Locale.US));
+        // The error is reported on the declaration of the field.
+        assertEquals(16, errors.get(0).getLineNumber());
+    }
+
+    @Test
+    public void testCreatorWithoutSelfValuesIsNotAnError() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors =
+                process("com.example.CreatorModel", String.format(Locale.US, CREATOR_WITH_SELF_VALUES, ""));
+        assertEquals(errors.toString(), Collections.emptyList(), errors);
+    }
+
+    /**
+     * Run only annotation processing on {@code source}.
+     *
+     * @return The errors that were reported.
+     */
+    private List<Diagnostic<? extends JavaFileObject>> process(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("A JDK is needed to run this test", compiler);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        File output = temporaryFolder.newFolder();
+        List<String> options = Arrays.asList("-proc:only",
+                                             "-classpath", System.getProperty("java.class.path"),
+                                             "-d", output.getPath(),
+                                             "-s", output.getPath());
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.US, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                                 fileManager,
+                                                                 diagnostics,
+                                                                 options,
+                                                                 null,
+                                                                 Collections.singletonList(
+                                                                         new SourceFile(className, source)));
+            task.setProcessors(Collections.singletonList(new AutoparseJsonProcessor()));
+            task.call();
+        }
+
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
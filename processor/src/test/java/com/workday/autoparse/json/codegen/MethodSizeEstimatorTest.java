@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Workday, Inc.
+ *
+ * This software is available under the MIT license.
+ * Please see the LICENSE.txt file in this project.
+ */
+
+package com.workday.autoparse.json.codegen;
+
+import com.squareup.javawriter.JavaWriter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19.
+ */
+@RunWith(JUnit4.class)
+public class MethodSizeEstimatorTest {
+
+    private MethodSizeEstimator estimator;
+
+    @Before
+    public void setUp() {
+        estimator = new MethodSizeEstimator("com.example");
+    }
+
+    @Test
+    public void testNothingIsEstimatedAsZero() throws IOException {
+        assertEquals(0, estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) {
+            }
+        }));
+    }
+
+    @Test
+    public void testBlankLinesAreNotCounted() throws IOException {
+        int withoutBlankLines = estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) throws IOException {
+                writer.emitStatement("int a = 1");
+                writer.emitStatement("int b = 2");
+            }
+        });
+        int withBlankLines = estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) throws IOException {
+                writer.emitStatement("int a = 1");
+                writer.emitEmptyLine();
+                writer.emitEmptyLine();
+                writer.emitStatement("int b = 2");
+            }
+        });
+        assertTrue(withoutBlankLines > 0);
+        assertEquals(withoutBlankLines, withBlankLines);
+    }
+
+    @Test
+    public void testSizeGrowsWithLines() throws IOException {
+        int oneStatement = estimate("int a = 1");
+        int controlFlow = estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) throws IOException {
+                writer.beginControlFlow("if (a)");
+                writer.emitStatement("int a = 1");
+                writer.endControlFlow();
+            }
+        });
+        assertTrue(controlFlow > 3 * oneStatement);
+    }
+
+    @Test
+    public void testCallsAndArgumentsAreWeighted() throws IOException {
+        int assignment = estimate("a = b");
+        int call = estimate("a = f(b)");
+        int callWithArguments = estimate("a = f(b, c, d)");
+        assertTrue(assignment < call);
+        assertTrue(call < callWithArguments);
+    }
+
+    @Test
+    public void testPunctuationInStringsIsIgnored() throws IOException {
+        assertEquals(estimate("f(\"a\")"), estimate("f(\"(a, b), \\\"c\\\"\")"));
+    }
+
+    @Test
+    public void testCasesOfStringSwitchesAreWeighted() throws IOException {
+        int block = estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) throws IOException {
+                writer.beginControlFlow("if (a)");
+                writer.emitStatement("break");
+                writer.endControlFlow();
+            }
+        });
+        int switchCase = estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) throws IOException {
+                writer.beginControlFlow("case \"a\":");
+                writer.emitStatement("break");
+                writer.endControlFlow();
+            }
+        });
+        assertTrue(switchCase > 2 * block);
+    }
+
+    private int estimate(final String statement) throws IOException {
+        return estimator.estimateSize(new MethodSizeEstimator.CodeWriter() {
+            @Override
+            public void writeCode(JavaWriter writer) throws IOException {
+                writer.emitStatement(statement);
+            }
+        });
+    }
+}